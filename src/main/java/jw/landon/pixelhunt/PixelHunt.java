@@ -3,14 +3,44 @@ package jw.landon.pixelhunt;
 import com.google.inject.Inject;
 import com.pixelmonmod.pixelmon.Pixelmon;
 import jw.landon.pixelhunt.api.hunts.HuntAPI;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import jw.landon.pixelhunt.api.placeholders.PlaceholderService;
+import jw.landon.pixelhunt.implementation.audit.AuditLog;
+import jw.landon.pixelhunt.implementation.commands.AuditCommand;
 import jw.landon.pixelhunt.implementation.commands.AddCommand;
 import jw.landon.pixelhunt.implementation.commands.BaseCommand;
+import jw.landon.pixelhunt.implementation.commands.ForecastCommand;
 import jw.landon.pixelhunt.implementation.commands.ReloadCommand;
 import jw.landon.pixelhunt.implementation.commands.RemoveCommand;
+import jw.landon.pixelhunt.implementation.commands.SidebarCommand;
+import jw.landon.pixelhunt.implementation.commands.SimulateCommand;
+import jw.landon.pixelhunt.implementation.commands.UpcomingCommand;
+import jw.landon.pixelhunt.implementation.commands.elements.TrieElement;
+import jw.landon.pixelhunt.implementation.completion.CompletionDispatcher;
 import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import jw.landon.pixelhunt.implementation.config.ConfigWatcher;
+import jw.landon.pixelhunt.implementation.display.SidebarManager;
+import jw.landon.pixelhunt.implementation.events.HuntEvents;
+import jw.landon.pixelhunt.implementation.executors.BackPressurePolicy;
+import jw.landon.pixelhunt.implementation.executors.ManagedExecutors;
 import jw.landon.pixelhunt.implementation.hunts.BaseHuntAPI;
+import jw.landon.pixelhunt.implementation.hunts.HuntBoardPage;
+import jw.landon.pixelhunt.implementation.hunts.HuntGenerator;
+import jw.landon.pixelhunt.implementation.hunts.RotationPlanner;
+import jw.landon.pixelhunt.implementation.idle.IdleMonitor;
 import jw.landon.pixelhunt.implementation.listeners.PixelmonMoveListener;
-import jw.landon.pixelhunt.implementation.listeners.PokemonCaptureListener;
+import jw.landon.pixelhunt.implementation.locale.LocaleNames;
+import jw.landon.pixelhunt.implementation.permissions.EligibilityCache;
+import jw.landon.pixelhunt.implementation.placeholders.BasePlaceholderService;
+import jw.landon.pixelhunt.implementation.rewards.EconomyCache;
+import jw.landon.pixelhunt.implementation.rewards.RewardExecutor;
+import jw.landon.pixelhunt.implementation.scheduling.HuntClock;
+import jw.landon.pixelhunt.implementation.scheduling.TickClock;
+import jw.landon.pixelhunt.implementation.scheduling.TickScheduler;
+import jw.landon.pixelhunt.implementation.scheduling.WorkPriority;
+import jw.landon.pixelhunt.implementation.startup.StartupGraph;
+import jw.landon.pixelhunt.implementation.status.StatusEndpoint;
+import ninja.leaping.configurate.commented.CommentedConfigurationNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spongepowered.api.Sponge;
@@ -21,6 +51,8 @@ import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.game.state.GameInitializationEvent;
 import org.spongepowered.api.event.game.state.GamePostInitializationEvent;
 import org.spongepowered.api.event.game.state.GamePreInitializationEvent;
+import org.spongepowered.api.event.game.state.GameStartedServerEvent;
+import org.spongepowered.api.event.game.state.GameStoppingServerEvent;
 import org.spongepowered.api.event.service.ChangeServiceProviderEvent;
 import org.spongepowered.api.plugin.Dependency;
 import org.spongepowered.api.plugin.Plugin;
@@ -29,6 +61,8 @@ import org.spongepowered.api.service.economy.EconomyService;
 import org.spongepowered.api.text.Text;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 @Plugin(id = PixelHunt.PLUGIN_ID,
         name = PixelHunt.PLUGIN_NAME,
@@ -54,6 +88,42 @@ public class PixelHunt {
 
     /** The active Hunt API. */
     private static HuntAPI huntAPI;
+    /** The executors running all of the plugin's work off the server thread. */
+    private static ManagedExecutors executors;
+    /** The clock timing hunts, updated once per tick. */
+    private static TickClock huntClock;
+    /** The scheduler running all of the plugin's work on the server thread. */
+    private static TickScheduler tickScheduler;
+    /** The executor distributing rewards in isolation from one another. */
+    private static RewardExecutor rewardExecutor;
+    /** The tracker posting hunt events to the listeners registered for them. */
+    private static HuntEvents huntEvents;
+    /** The cache of economy accounts and currencies used to pay out currency rewards. */
+    private static EconomyCache economyCache;
+    /** The log of every hunt completion and reward payout. */
+    private static AuditLog auditLog;
+    /** The generator for random hunts from the configured tiers. */
+    private static HuntGenerator huntGenerator;
+    /** The planner generating the next hunts of every registered board ahead of time. */
+    private static RotationPlanner rotationPlanner;
+    /** The dispatcher completing hunts from every completion source. */
+    private static CompletionDispatcher completionDispatcher;
+    /** The cache of which permission-scoped hunt boards each player is eligible for. */
+    private static EligibilityCache eligibilityCache;
+    /** The watcher reloading configuration files when they are edited. */
+    private static ConfigWatcher configWatcher;
+    /** The manager showing active hunts in players' sidebars. */
+    private static SidebarManager sidebarManager;
+    /** The service providing the values of placeholders for other plugins. */
+    private static BasePlaceholderService placeholderService;
+    /** The monitor suspending hunt boards while no players are online. */
+    private static IdleMonitor idleMonitor;
+    /** The endpoint serving hunt boards and metrics as JSON on the loopback address. */
+    private static StatusEndpoint statusEndpoint;
+    /** The stages of startup still running in parallel. Null once startup has finished. */
+    private static StartupGraph startupGraph;
+    /** The pool running the stages of startup. Null once startup has finished. */
+    private static ExecutorService startupPool;
 
     /** The plugin directory for configurations to be created. */
     @Inject
@@ -64,7 +134,8 @@ public class PixelHunt {
     private static EconomyService economyService;
 
     /**
-     * Initializes the plugin and loads the configuration.
+     * Initializes the plugin, loads the configuration and registers the hunt board from configuration.
+     * Startup work that nothing else needs straight away is started in parallel, and joined once the server has started.
      *
      * @param event the event called when the server is in the preinitialization phase
      */
@@ -73,33 +144,96 @@ public class PixelHunt {
         instance = this;
         container = Sponge.getPluginManager().getPlugin(PLUGIN_ID).get();
 
-        ConfigManager.setup(dir);
+        startupGraph = new StartupGraph();
+        ConfigManager.locate(dir);
+        startupGraph.runInline("config", ConfigManager::loadConfig);
+        executors = new ManagedExecutors();
+        huntClock = new TickClock();
+        tickScheduler = new TickScheduler(
+                ConfigManager.getConfigNode("General", "Tick-Budget-Millis").getLong(5), TimeUnit.MILLISECONDS,
+                huntClock);
+        auditLog = new AuditLog(dir.resolve("audit"));
+        rewardExecutor = new RewardExecutor();
+        economyCache = new EconomyCache();
+        huntEvents = new HuntEvents();
+        eligibilityCache = new EligibilityCache();
+        huntGenerator = new HuntGenerator();
+        ConfigManager.addListener(huntGenerator);
+        rotationPlanner = new RotationPlanner();
+        ConfigManager.addListener(rotationPlanner);
+        ConfigManager.addListener((diff) -> {
+            if(diff.hasMessageChanges("Messages.Hunt-Board")){
+                HuntBoardPage.invalidateTexts();
+            }
+        });
+        sidebarManager = new SidebarManager();
+        ConfigManager.addListener(sidebarManager);
+        idleMonitor = new IdleMonitor();
+        ConfigManager.addListener(idleMonitor);
+        configWatcher = new ConfigWatcher();
         huntAPI = new BaseHuntAPI();
         Sponge.getServiceManager().setProvider(this, HuntAPI.class, huntAPI);
+        completionDispatcher = new CompletionDispatcher(huntAPI.getHuntBoardRegistry());
+        statusEndpoint = new StatusEndpoint();
+        placeholderService = new BasePlaceholderService();
+        Sponge.getServiceManager().setProvider(this, PlaceholderService.class, placeholderService);
+
+        CommentedConfigurationNode generalNode = ConfigManager.getConfigNode("General");
+        HuntBoard huntBoard = huntAPI.createHuntBoard(
+                generalNode.getNode("Hunt-Board-Name").getString("Pixelmon Hunts"),
+                generalNode.getNode("Hunt-Listing-Amount").getInt(4),
+                generalNode.getNode("Shared-Completion").getBoolean(false),
+                generalNode.getNode("Hunt-Board-World").getString(""),
+                generalNode.getNode("Hunt-Board-Permission").getString(""));
+        huntAPI.getHuntBoardRegistry().addHuntBoard(huntBoard);
+
+        startupGraph.addStage("messages", ConfigManager::loadMessages);
+        startupGraph.addStage("tiers", () -> {
+            huntGenerator.compileTiers();
+            rotationPlanner.compileTiers();
+        }, "config");
+        startupGraph.addStage("audit", auditLog::open, "config");
+        startupGraph.addStage("locale", LocaleNames::server);
+        startupPool = executors.createPool("startup", 4, 16, BackPressurePolicy.CALLER_RUNS, false);
+        startupGraph.start(startupPool);
     }
 
     /**
-     * Creates and registers all commands and events.
+     * Creates and registers all commands and events, and starts the tick scheduler, sidebar manager,
+     * placeholder service and status endpoint.
      *
      * @param event the event called when the server is in the initialization phase
      */
     @Listener
     public void init(GameInitializationEvent event){
+        tickScheduler.start();
+        sidebarManager.start();
+        placeholderService.start();
+        statusEndpoint.start();
+
         CommandSpec remove = CommandSpec.builder()
                 .description(Text.of("Removes an active hunt"))
                 .permission("pixelhunt.admin.commands.remove")
                 .arguments(
-                        GenericArguments.optional(GenericArguments.integer(Text.of("slot")))
+                        GenericArguments.optional(GenericArguments.integer(Text.of("slot"))),
+                        GenericArguments.optional(GenericArguments.remainingJoinedStrings(Text.of("board")))
                 )
                 .executor(new RemoveCommand())
                 .build();
 
         CommandSpec add = CommandSpec.builder()
                 .description(Text.of("Adds an active hunt"))
-                .permission("pixelmon.admin.commands.add")
+                .extendedDescription(Text.of("Replaces the hunt in the slot given with -s, otherwise fills "
+                        + "an empty slot or replaces the hunt expiring soonest. Use -b to pick a board."))
+                .permission("pixelhunt.admin.commands.add")
                 .arguments(
-                        GenericArguments.optional(GenericArguments.string(Text.of("species"))),
-                        GenericArguments.optional(GenericArguments.remainingJoinedStrings(Text.of("natures")))
+                        GenericArguments.flags()
+                                .valueFlag(GenericArguments.integer(Text.of("slot")), "s")
+                                .valueFlag(GenericArguments.string(Text.of("board")), "b")
+                                .buildWith(GenericArguments.seq(
+                                        GenericArguments.optional(TrieElement.species(Text.of("species"))),
+                                        GenericArguments.allOf(TrieElement.nature(Text.of("natures")))
+                                ))
                 )
                 .executor(new AddCommand())
                 .build();
@@ -110,6 +244,55 @@ public class PixelHunt {
                 .executor(new ReloadCommand())
                 .build();
 
+        CommandSpec audit = CommandSpec.builder()
+                .description(Text.of("Searches hunt completions and reward payouts"))
+                .permission("pixelhunt.commands.admin.audit")
+                .arguments(
+                        GenericArguments.flags()
+                                .valueFlag(GenericArguments.user(Text.of("player")), "p")
+                                .valueFlag(TrieElement.species(Text.of("species")), "s")
+                                .valueFlag(GenericArguments.integer(Text.of("since")), "-since")
+                                .valueFlag(GenericArguments.integer(Text.of("until")), "-until")
+                                .valueFlag(GenericArguments.integer(Text.of("limit")), "l")
+                                .buildWith(GenericArguments.none())
+                )
+                .executor(new AuditCommand())
+                .build();
+
+        CommandSpec sidebar = CommandSpec.builder()
+                .description(Text.of("Toggles the hunt sidebar"))
+                .permission("pixelhunt.commands.sidebar")
+                .arguments(GenericArguments.optional(GenericArguments.remainingJoinedStrings(Text.of("board"))))
+                .executor(new SidebarCommand())
+                .build();
+
+        CommandSpec simulate = CommandSpec.builder()
+                .description(Text.of("Simulates days of hunt rotation"))
+                .permission("pixelhunt.commands.admin.simulate")
+                .arguments(
+                        GenericArguments.optional(GenericArguments.integer(Text.of("days"))),
+                        GenericArguments.optional(GenericArguments.integer(Text.of("slots")))
+                )
+                .executor(new SimulateCommand())
+                .build();
+
+        CommandSpec forecast = CommandSpec.builder()
+                .description(Text.of("Forecasts daily reward payouts over many seasons"))
+                .permission("pixelhunt.commands.admin.forecast")
+                .arguments(
+                        GenericArguments.optional(GenericArguments.integer(Text.of("seasons"))),
+                        GenericArguments.optional(GenericArguments.integer(Text.of("days")))
+                )
+                .executor(new ForecastCommand())
+                .build();
+
+        CommandSpec upcoming = CommandSpec.builder()
+                .description(Text.of("Shows the hunts planned for a board"))
+                .permission("pixelhunt.commands.admin.upcoming")
+                .arguments(GenericArguments.optional(GenericArguments.remainingJoinedStrings(Text.of("board"))))
+                .executor(new UpcomingCommand())
+                .build();
+
         CommandSpec base = CommandSpec.builder()
                 .description(Text.of("List hunted pokemon!"))
                 .permission("pixelhunt.commands.base")
@@ -117,12 +300,22 @@ public class PixelHunt {
                 .child(remove, "remove")
                 .child(add, "add")
                 .child(reload, "reload")
+                .child(audit, "audit")
+                .child(sidebar, "sidebar")
+                .child(simulate, "simulate")
+                .child(forecast, "forecast")
+                .child(upcoming, "upcoming")
                 .build();
 
         Sponge.getCommandManager().register(this, base, "pixelhunt", "hunts", "hunt");
 
         Sponge.getEventManager().registerListeners(this, new PixelmonMoveListener());
-        Pixelmon.EVENT_BUS.register(new PokemonCaptureListener());
+        Sponge.getEventManager().registerListeners(this, sidebarManager);
+        Sponge.getEventManager().registerListeners(this, idleMonitor);
+        Sponge.getEventManager().registerListeners(this, economyCache);
+        Sponge.getEventManager().registerListeners(this, eligibilityCache);
+        Sponge.getEventManager().registerListeners(this, placeholderService);
+        Sponge.getEventManager().registerListeners(this, huntAPI.getHuntBoardRegistry());
     }
 
     /**
@@ -136,6 +329,7 @@ public class PixelHunt {
         Optional<EconomyService> maybeEconomy = Sponge.getServiceManager().provide(EconomyService.class);
         if (maybeEconomy.isPresent()) {
             economyService = maybeEconomy.get();
+            economyCache.setEconomyService(economyService);
             logger.info("Economy loaded.");
         }
         else {
@@ -143,15 +337,72 @@ public class PixelHunt {
         }
     }
 
+    /**
+     * Waits for the rest of startup, then fills every registered hunt board with hunts once the server has started.
+     * Then starts planning upcoming hunts, listening for hunt completions and watching the configuration,
+     * and suspends boards if nobody is online.
+     *
+     * <p>Reward tables are compiled and hunts planned only once the economy service is known,
+     * so currency rewards can be resolved.
+     * The configuration is only watched once startup has finished, so a reload can't race the tiers being built.</p>
+     *
+     * @param event the event called when the server has started
+     */
+    @Listener
+    public void onServerStart(GameStartedServerEvent event){
+        startupGraph.join();
+        startupPool.shutdown();
+        startupGraph = null;
+        startupPool = null;
+
+        // The clock hasn't been ticked while worlds were loading, so bring it up to date before hunts are timed.
+        huntClock.tick();
+        huntGenerator.compileRewardTables();
+        huntAPI.getHuntBoardRegistry().forEachHuntBoard(HuntBoard::fillHunts);
+        rotationPlanner.start();
+        completionDispatcher.start();
+        idleMonitor.start();
+        configWatcher.start();
+    }
+
+    /**
+     * Stops watching the configuration, flushes work still waiting on the server thread, then drains
+     * the executors so no pending work is lost. The audit log is closed last, once no more payouts can happen.
+     *
+     * @param event the event called when the server is stopping
+     */
+    @Listener
+    public void onServerStopping(GameStoppingServerEvent event){
+        configWatcher.stop();
+        completionDispatcher.stop();
+        sidebarManager.stop();
+        placeholderService.stop();
+        statusEndpoint.stop();
+        tickScheduler.stop();
+        tickScheduler.runDueWork();
+        executors.shutdown();
+        auditLog.close();
+    }
+
     /**
      * Changes the economy service for the plugin if the server's economy service is to change.
      *
+     * <p>Reward tables hold the currencies of the service they were compiled with, and leave out currency
+     * rewards if there was no service, so every reward table is compiled again on the server thread and
+     * upcoming hunts are planned again.</p>
+     *
      * @param event the event fired when a service provider changes
      */
     @Listener
     public void onChangeEconomy(ChangeServiceProviderEvent event){
         if (event.getService().equals(EconomyService.class)) {
             economyService = (EconomyService) event.getNewProviderRegistration().getProvider();
+            economyCache.setEconomyService(economyService);
+            tickScheduler.submit(WorkPriority.NORMAL, () -> {
+                huntGenerator.invalidateRewardTables();
+                huntGenerator.compileRewardTables();
+                rotationPlanner.replan();
+            });
         }
     }
 
@@ -191,6 +442,123 @@ public class PixelHunt {
         return Optional.ofNullable(economyService);
     }
 
+    /**
+     * Gets the executors running all of the plugin's work off the server thread.
+     *
+     * @return the executors running all of the plugin's work off the server thread
+     */
+    public static ManagedExecutors getExecutors(){
+        return executors;
+    }
+
+    /**
+     * Gets the scheduler running all of the plugin's work on the server thread.
+     *
+     * @return the scheduler running all of the plugin's work on the server thread
+     */
+    public static TickScheduler getTickScheduler(){
+        return tickScheduler;
+    }
+
+    /**
+     * Gets the clock timing hunts.
+     *
+     * @return the clock timing hunts
+     */
+    public static HuntClock getHuntClock(){
+        return huntClock;
+    }
+
+    /**
+     * Gets the executor distributing rewards in isolation from one another.
+     *
+     * @return the executor distributing rewards in isolation from one another
+     */
+    public static RewardExecutor getRewardExecutor(){
+        return rewardExecutor;
+    }
+
+    /**
+     * Gets the tracker posting hunt events to the listeners registered for them.
+     *
+     * @return the tracker posting hunt events to the listeners registered for them
+     */
+    public static HuntEvents getHuntEvents(){
+        return huntEvents;
+    }
+
+    /**
+     * Gets the cache of economy accounts and currencies used to pay out currency rewards.
+     *
+     * @return the cache of economy accounts and currencies used to pay out currency rewards
+     */
+    public static EconomyCache getEconomyCache(){
+        return economyCache;
+    }
+
+    /**
+     * Gets the log of every hunt completion and reward payout.
+     *
+     * @return the log of every hunt completion and reward payout
+     */
+    public static AuditLog getAuditLog(){
+        return auditLog;
+    }
+
+    /**
+     * Gets the generator for random hunts from the configured tiers.
+     *
+     * @return the generator for random hunts from the configured tiers
+     */
+    public static HuntGenerator getHuntGenerator(){
+        return huntGenerator;
+    }
+
+    /**
+     * Gets the planner generating the next hunts of every registered board ahead of time.
+     *
+     * @return the planner generating the next hunts of every registered board ahead of time
+     */
+    public static RotationPlanner getRotationPlanner(){
+        return rotationPlanner;
+    }
+
+    /**
+     * Gets the dispatcher completing hunts from every completion source.
+     *
+     * @return the dispatcher completing hunts from every completion source
+     */
+    public static CompletionDispatcher getCompletionDispatcher(){
+        return completionDispatcher;
+    }
+
+    /**
+     * Gets the cache of which permission-scoped hunt boards each player is eligible for.
+     *
+     * @return the cache of which permission-scoped hunt boards each player is eligible for
+     */
+    public static EligibilityCache getEligibilityCache(){
+        return eligibilityCache;
+    }
+
+    /**
+     * Gets the manager showing active hunts in players' sidebars.
+     *
+     * @return the manager showing active hunts in players' sidebars
+     */
+    public static SidebarManager getSidebarManager(){
+        return sidebarManager;
+    }
+
+    /**
+     * Gets the monitor suspending hunt boards while no players are online.
+     *
+     * @return the monitor suspending hunt boards while no players are online
+     */
+    public static IdleMonitor getIdleMonitor(){
+        return idleMonitor;
+    }
+
     /**
      * Gets the hunt API.
      *
@@ -0,0 +1,114 @@
+package jw.landon.pixelhunt.api.events;
+
+import com.pixelmonmod.pixelmon.enums.EnumNature;
+import jw.landon.pixelhunt.api.hunts.CompletionSource;
+import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import jw.landon.pixelhunt.api.hunts.rewards.Reward;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.cause.Cause;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Posted when a player captures, defeats, hatches, evolves or fishes up a Pokemon that completes a hunt,
+ * before the hunt is completed and rewards are given.
+ *
+ * <p>Cancelling the event stops the completion. The hunt is left as it was, nothing is recorded, and no
+ * rewards are given, so the player may complete the hunt later. The rewards given to the player can be
+ * changed through {@link #getRewards()}, without changing the rewards of the hunt for other players. If a
+ * listener removes the hunt from its board, it isn't completed.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class HuntCompleteEvent extends HuntEvent implements Cancellable {
+
+    /** The player that completed the hunt. */
+    private final Player player;
+    /** The nature of the Pokemon. */
+    private final EnumNature nature;
+    /** The way the player completed the hunt. */
+    private final CompletionSource source;
+    /** The rewards to give the player. */
+    private final List<Reward> rewards;
+    /** If the completion is stopped. */
+    private boolean cancelled;
+
+    /**
+     * Constructor for the hunt complete event.
+     *
+     * @param cause     the cause of the event
+     * @param huntBoard the board the hunt is on
+     * @param hunt      the hunt that was completed
+     * @param player    the player that completed the hunt
+     * @param nature    the nature of the Pokemon
+     * @param source    the way the player completed the hunt
+     * @throws NullPointerException if the cause is null
+     * @throws NullPointerException if the board is null
+     * @throws NullPointerException if the hunt is null
+     * @throws NullPointerException if the player is null
+     * @throws NullPointerException if the source is null
+     */
+    public HuntCompleteEvent(Cause cause, HuntBoard huntBoard, Hunt hunt, Player player, EnumNature nature,
+                             CompletionSource source){
+        super(cause, huntBoard, hunt);
+        this.player = Objects.requireNonNull(player, "player must not be null");
+        this.nature = nature;
+        this.source = Objects.requireNonNull(source, "source must not be null");
+        this.rewards = new ArrayList<>(hunt.getRewardsView());
+    }
+
+    /**
+     * Gets the player that completed the hunt.
+     *
+     * @return the player that completed the hunt
+     */
+    public Player getPlayer(){
+        return player;
+    }
+
+    /**
+     * Gets the nature of the Pokemon.
+     *
+     * @return the nature of the Pokemon
+     */
+    public EnumNature getNature(){
+        return nature;
+    }
+
+    /**
+     * Gets the way the player completed the hunt.
+     *
+     * @return the way the player completed the hunt
+     */
+    public CompletionSource getSource(){
+        return source;
+    }
+
+    /**
+     * Gets the rewards to give the player, starting as the rewards of the hunt.
+     * The list can be changed to add, remove or replace rewards for this completion only.
+     *
+     * @return the rewards to give the player
+     */
+    public List<Reward> getRewards(){
+        return rewards;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isCancelled(){
+        return cancelled;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setCancelled(boolean cancelled){
+        this.cancelled = cancelled;
+    }
+
+}
@@ -0,0 +1,71 @@
+package jw.landon.pixelhunt.api.events;
+
+import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.api.hunts.HuntAPI;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.impl.AbstractEvent;
+
+import java.util.Objects;
+
+/**
+ * The base of every event posted when something happens to a {@link Hunt} on a registered {@link HuntBoard}.
+ *
+ * <p>Hunt events are posted to Sponge's event bus like any other event, so listeners may be registered directly
+ * with Sponge's event manager. Listeners registered through {@link HuntAPI#registerEventListeners(Object, Object)}
+ * or {@link HuntAPI#registerEventListener} are tracked, so if the server enables General.Events.Only-Tracked-Listeners,
+ * events are only built and posted while a tracked listener is listening for them.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public abstract class HuntEvent extends AbstractEvent {
+
+    /** The cause of the event. */
+    private final Cause cause;
+    /** The board the hunt is on. */
+    private final HuntBoard huntBoard;
+    /** The hunt the event is for. */
+    private final Hunt hunt;
+
+    /**
+     * Constructor for the hunt event.
+     *
+     * @param cause     the cause of the event
+     * @param huntBoard the board the hunt is on
+     * @param hunt      the hunt the event is for
+     * @throws NullPointerException if the cause is null
+     * @throws NullPointerException if the board is null
+     * @throws NullPointerException if the hunt is null
+     */
+    protected HuntEvent(Cause cause, HuntBoard huntBoard, Hunt hunt){
+        this.cause = Objects.requireNonNull(cause, "cause must not be null");
+        this.huntBoard = Objects.requireNonNull(huntBoard, "hunt board must not be null");
+        this.hunt = Objects.requireNonNull(hunt, "hunt must not be null");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Cause getCause(){
+        return cause;
+    }
+
+    /**
+     * Gets the board the hunt is on.
+     *
+     * @return the board the hunt is on
+     */
+    public HuntBoard getHuntBoard(){
+        return huntBoard;
+    }
+
+    /**
+     * Gets the hunt the event is for.
+     *
+     * @return the hunt the event is for
+     */
+    public Hunt getHunt(){
+        return hunt;
+    }
+
+}
@@ -0,0 +1,29 @@
+package jw.landon.pixelhunt.api.events;
+
+import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import org.spongepowered.api.event.cause.Cause;
+
+/**
+ * Posted when a hunt runs out of time and has been removed from its board.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class HuntExpireEvent extends HuntEvent {
+
+    /**
+     * Constructor for the hunt expire event.
+     *
+     * @param cause     the cause of the event
+     * @param huntBoard the board the hunt was removed from
+     * @param hunt      the hunt that expired
+     * @throws NullPointerException if the cause is null
+     * @throws NullPointerException if the board is null
+     * @throws NullPointerException if the hunt is null
+     */
+    public HuntExpireEvent(Cause cause, HuntBoard huntBoard, Hunt hunt){
+        super(cause, huntBoard, hunt);
+    }
+
+}
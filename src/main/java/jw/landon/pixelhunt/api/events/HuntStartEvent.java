@@ -0,0 +1,29 @@
+package jw.landon.pixelhunt.api.events;
+
+import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import org.spongepowered.api.event.cause.Cause;
+
+/**
+ * Posted when a hunt is placed on a board and becomes active.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class HuntStartEvent extends HuntEvent {
+
+    /**
+     * Constructor for the hunt start event.
+     *
+     * @param cause     the cause of the event
+     * @param huntBoard the board the hunt was placed on
+     * @param hunt      the hunt that started
+     * @throws NullPointerException if the cause is null
+     * @throws NullPointerException if the board is null
+     * @throws NullPointerException if the hunt is null
+     */
+    public HuntStartEvent(Cause cause, HuntBoard huntBoard, Hunt hunt){
+        super(cause, huntBoard, hunt);
+    }
+
+}
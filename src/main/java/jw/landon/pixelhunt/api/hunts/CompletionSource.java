@@ -0,0 +1,61 @@
+package jw.landon.pixelhunt.api.hunts;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The ways a player can complete a {@link Hunt}, by obtaining or encountering the hunted Pokemon.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public enum CompletionSource {
+
+    /** Capturing the Pokemon. */
+    CAPTURE("Capture"),
+    /** Defeating the Pokemon in a wild battle. */
+    DEFEAT("Defeat"),
+    /** Hatching the Pokemon from an egg. */
+    HATCH("Hatch"),
+    /** Evolving a Pokemon into the Pokemon. */
+    EVOLVE("Evolve"),
+    /** Fishing up the Pokemon. */
+    FISH("Fish");
+
+    /** The name of the source in configuration. */
+    private final String configName;
+
+    /**
+     * Constructor for the completion source.
+     *
+     * @param configName the name of the source in configuration
+     */
+    CompletionSource(String configName){
+        this.configName = configName;
+    }
+
+    /**
+     * Gets the name of the source in configuration.
+     *
+     * @return the name of the source in configuration
+     */
+    public String getConfigName(){
+        return configName;
+    }
+
+    /**
+     * Finds a completion source by its name in configuration, ignoring case.
+     *
+     * @param name the name of the source
+     * @return the completion source, or empty if no source has the name
+     */
+    public static Optional<CompletionSource> fromName(String name){
+        for(CompletionSource source : values()){
+            if(source.configName.equalsIgnoreCase(name) || source.name().equals(name.toUpperCase(Locale.ROOT))){
+                return Optional.of(source);
+            }
+        }
+        return Optional.empty();
+    }
+
+}
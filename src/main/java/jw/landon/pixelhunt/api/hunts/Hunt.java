@@ -5,7 +5,9 @@ import com.pixelmonmod.pixelmon.enums.EnumSpecies;
 import jw.landon.pixelhunt.PixelHunt;
 import jw.landon.pixelhunt.api.hunts.rewards.Reward;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -24,12 +26,21 @@ public interface Hunt {
     EnumSpecies getHuntedSpecies();
 
     /**
-     * Gets a list of natures that are being hunted.
+     * Gets a list of natures that are being hunted. The list is a copy, and may be modified.
      *
      * @return a list of natures that are being hunted
      */
     List<EnumNature> getHuntedNatures();
 
+    /**
+     * Gets an unmodifiable view of the natures that are being hunted, without copying them.
+     *
+     * @return unmodifiable list of natures that are being hunted
+     */
+    default List<EnumNature> getHuntedNaturesView(){
+        return Collections.unmodifiableList(getHuntedNatures());
+    }
+
     /**
      * Checks if a specific nature is being hunted.
      *
@@ -40,12 +51,21 @@ public interface Hunt {
     boolean isHuntedNature(EnumNature nature);
 
     /**
-     * Gets a list of rewards to be given upon completion of the hunt.
+     * Gets a list of rewards to be given upon completion of the hunt. The list is a copy, and may be modified.
      *
      * @return list of reward to be given upon completion of the hunt
      */
     List<Reward> getRewards();
 
+    /**
+     * Gets an unmodifiable view of the rewards to be given upon completion of the hunt, without copying them.
+     *
+     * @return unmodifiable list of rewards to be given upon completion of the hunt
+     */
+    default List<Reward> getRewardsView(){
+        return Collections.unmodifiableList(getRewards());
+    }
+
     /**
      * Gets the amount of time the hunt is active for.
      *
@@ -55,6 +75,15 @@ public interface Hunt {
      */
     long getHuntDuration(TimeUnit unit);
 
+    /**
+     * Gets the ways the hunt can be completed.
+     *
+     * @return unmodifiable set of the ways the hunt can be completed
+     */
+    default Set<CompletionSource> getCompletionSources(){
+        return Collections.singleton(CompletionSource.CAPTURE);
+    }
+
     /**
      * Gets a builder responsible for creating a hunt.
      *
@@ -107,6 +136,16 @@ public interface Hunt {
          */
         Builder setHuntDuration(long duration, TimeUnit unit);
 
+        /**
+         * Sets the ways the hunt can be completed. Hunts can only be completed by capturing the Pokemon if this isn't set.
+         *
+         * @param sources the ways the hunt can be completed
+         * @return builder with the completion sources set
+         * @throws IllegalArgumentException if a source is null
+         * @throws IllegalArgumentException if no sources are given
+         */
+        Builder setCompletionSources(CompletionSource... sources);
+
         /**
          * Generates a hunt with a random species, random natures, duration from configuration and random rewards.
          *
@@ -1,5 +1,8 @@
 package jw.landon.pixelhunt.api.hunts;
 
+import jw.landon.pixelhunt.api.events.HuntEvent;
+import org.spongepowered.api.event.EventListener;
+
 /**
  * The base of the Hunt API.
  *
@@ -33,4 +36,78 @@ public interface HuntAPI {
      */
     HuntBoard createHuntBoard(String huntBoardName, int numSlots);
 
+    /**
+     * Creates a new hunt board with a certain name.
+     *
+     * @param huntBoardName    the name to give the hunt board
+     * @param numSlots         the number of slots to maintain active hunts in
+     * @param sharedCompletion if hunts can be completed once by every player before they expire
+     * @return new hunt board with the given name
+     * @throws NullPointerException     if the name is null
+     * @throws IllegalArgumentException if the number of slots is less than 0
+     */
+    HuntBoard createHuntBoard(String huntBoardName, int numSlots, boolean sharedCompletion);
+
+    /**
+     * Creates a new hunt board with a certain name, whose hunts can only be completed in one world.
+     *
+     * @param huntBoardName    the name to give the hunt board
+     * @param numSlots         the number of slots to maintain active hunts in
+     * @param sharedCompletion if hunts can be completed once by every player before they expire
+     * @param worldName        the name of the world hunts can be completed in, or null for every world
+     * @return new hunt board with the given name
+     * @throws NullPointerException     if the name is null
+     * @throws IllegalArgumentException if the number of slots is less than 0
+     */
+    HuntBoard createHuntBoard(String huntBoardName, int numSlots, boolean sharedCompletion, String worldName);
+
+    /**
+     * Creates a new hunt board with a certain name, whose hunts can only be completed in one world,
+     * and can only be completed and viewed by players with a permission.
+     *
+     * @param huntBoardName    the name to give the hunt board
+     * @param numSlots         the number of slots to maintain active hunts in
+     * @param sharedCompletion if hunts can be completed once by every player before they expire
+     * @param worldName        the name of the world hunts can be completed in, or null for every world
+     * @param permission       the permission a player needs to complete and view hunts, or null for every player
+     * @return new hunt board with the given name
+     * @throws NullPointerException     if the name is null
+     * @throws IllegalArgumentException if the number of slots is less than 0
+     */
+    HuntBoard createHuntBoard(String huntBoardName, int numSlots, boolean sharedCompletion, String worldName,
+                              String permission);
+
+    /**
+     * Registers every method annotated with {@link org.spongepowered.api.event.Listener} in an object with Sponge's
+     * event manager, tracking the hunt events it listens for. Hunt events are posted to listeners registered
+     * directly with Sponge as well, unless the server only posts them while a tracked listener is listening.
+     *
+     * @param plugin   the plugin registering the listener
+     * @param listener the object containing listener methods
+     * @throws NullPointerException if the plugin is null
+     * @throws NullPointerException if the listener is null
+     */
+    void registerEventListeners(Object plugin, Object listener);
+
+    /**
+     * Registers a listener for a type of hunt event with Sponge's event manager, tracking that it listens for it.
+     *
+     * @param plugin     the plugin registering the listener
+     * @param eventClass the type of hunt event to listen for
+     * @param listener   the listener
+     * @param <T>        the type of hunt event to listen for
+     * @throws NullPointerException if the plugin is null
+     * @throws NullPointerException if the event class is null
+     * @throws NullPointerException if the listener is null
+     */
+    <T extends HuntEvent> void registerEventListener(Object plugin, Class<T> eventClass, EventListener<? super T> listener);
+
+    /**
+     * Unregisters a listener registered through {@link #registerEventListeners} or {@link #registerEventListener}.
+     *
+     * @param listener the listener, or object containing listener methods
+     * @throws NullPointerException if the listener is null
+     */
+    void unregisterEventListeners(Object listener);
+
 }
\ No newline at end of file
@@ -5,11 +5,19 @@ import com.pixelmonmod.pixelmon.enums.EnumSpecies;
 import jw.landon.pixelhunt.PixelHunt;
 import org.spongepowered.api.service.pagination.PaginationList;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Contains a list of active {@link Hunt}.
  *
+ * <p>Hunts are held in a fixed number of slots, numbered from 0. A hunt keeps
+ * the same slot for as long as it is active on the board.</p>
+ *
  * @author landonjw
  * @since  2.0.0
  */
@@ -23,21 +31,116 @@ public interface HuntBoard {
     String getHuntBoardName();
 
     /**
-     * Adds hunts to the manager, making them active.
+     * Gets the name of the world the board's hunts can be completed in.
+     *
+     * @return the name of the world the board's hunts can be completed in, or empty if they can be completed in any world
+     */
+    default Optional<String> getWorldScope(){
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the permission a player needs to complete and view the board's hunts.
+     *
+     * @return the permission a player needs to complete and view the board's hunts, or empty if anyone can
+     */
+    default Optional<String> getPermission(){
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the version of the hunt board, which changes whenever a hunt is added to or removed from a slot.
+     * Used to tell if anything built from the board's hunts needs to be rebuilt.
+     *
+     * @return the version of the hunt board
+     */
+    long getVersion();
+
+    /**
+     * Gets the number of slots on the hunt board.
+     *
+     * @return the number of slots on the hunt board
+     */
+    int getNumSlots();
+
+    /**
+     * Adds hunts to the manager, making them active. Each hunt is placed in the first empty slot.
      *
      * @param hunts hunts to add
      * @throws IllegalArgumentException if a hunt is null
+     * @throws IllegalStateException    if there is no empty slot for a hunt
      */
     void addHunts(Hunt... hunts);
 
     /**
-     * Removes hunts from the manager.
+     * Removes hunts from the manager. Emptied slots are filled with new random hunts on a following tick.
      *
      * @param hunts hunts to remove
      * @throws IllegalArgumentException if a hunt is null
      */
     void removeHunts(Hunt... hunts);
 
+    /**
+     * Gets the hunt in a slot.
+     *
+     * @param slot the slot to get hunt from
+     * @return the hunt in the slot, or empty if the slot is empty
+     * @throws IndexOutOfBoundsException if the slot is below 0 or greater than or equal to the number of slots
+     */
+    Optional<Hunt> getHunt(int slot);
+
+    /**
+     * Gets the slot an active hunt is in.
+     *
+     * @param hunt the hunt to get slot for
+     * @return the slot the hunt is in, or -1 if the hunt isn't active
+     * @throws NullPointerException if the hunt is null
+     */
+    int getSlot(Hunt hunt);
+
+    /**
+     * Gets the time the hunt in a slot became active.
+     *
+     * @param slot the slot to get start time for
+     * @return the time the hunt in the slot became active, or empty if the slot is empty
+     * @throws IndexOutOfBoundsException if the slot is below 0 or greater than or equal to the number of slots
+     */
+    Optional<Instant> getStartTime(int slot);
+
+    /**
+     * Gets the time the hunt in a slot will expire.
+     *
+     * @param slot the slot to get expiry time for
+     * @return the time the hunt in the slot will expire, or empty if the slot is empty
+     * @throws IndexOutOfBoundsException if the slot is below 0 or greater than or equal to the number of slots
+     */
+    Optional<Instant> getExpiryTime(int slot);
+
+    /**
+     * Sets the hunt in a slot, replacing any hunt already in the slot.
+     *
+     * @param slot the slot to set hunt in
+     * @param hunt the hunt to set
+     * @throws IndexOutOfBoundsException if the slot is below 0 or greater than or equal to the number of slots
+     * @throws NullPointerException      if the hunt is null
+     * @throws IllegalArgumentException  if the hunt is already active in another slot
+     */
+    void setHunt(int slot, Hunt hunt);
+
+    /**
+     * Removes the hunt in a slot. The slot is then filled with a new random hunt on a following tick.
+     *
+     * @param slot the slot to remove hunt from
+     * @return the hunt that was removed, or empty if the slot was empty
+     * @throws IndexOutOfBoundsException if the slot is below 0 or greater than or equal to the number of slots
+     */
+    Optional<Hunt> removeHunt(int slot);
+
+    /**
+     * Fills any empty slots on the hunt board with new random hunts.
+     */
+    void fillHunts();
+
     /**
      * Gets a list of all active hunts.
      *
@@ -65,6 +168,83 @@ public interface HuntBoard {
      */
     List<Hunt> getActiveHunts(EnumSpecies species, EnumNature nature);
 
+    /**
+     * Visits every active hunt, in slot order, without copying them into a list.
+     *
+     * <p>The visitor may complete or remove the hunt it is given. Hunts added while visiting may not be visited.</p>
+     *
+     * @param visitor the visitor to call for each active hunt
+     * @throws NullPointerException if the visitor is null
+     */
+    void forEachActiveHunt(Consumer<Hunt> visitor);
+
+    /**
+     * Visits every active hunt of a specific species and nature, in slot order, without copying them into a list.
+     *
+     * <p>The visitor may complete or remove the hunt it is given. Hunts added while visiting may not be visited.</p>
+     *
+     * @param species the species to visit active hunts for
+     * @param nature  the nature to visit active hunts for
+     * @param visitor the visitor to call for each matching hunt
+     * @throws NullPointerException if species is null
+     * @throws NullPointerException if nature is null
+     * @throws NullPointerException if the visitor is null
+     */
+    void forEachActiveHunt(EnumSpecies species, EnumNature nature, Consumer<Hunt> visitor);
+
+    /**
+     * Gets an immutable snapshot of the board's slots at its current version.
+     * The snapshot is cached until the board's version changes, so repeated calls do not copy the board.
+     *
+     * @return snapshot of the board's slots
+     */
+    HuntBoardSnapshot getSnapshot();
+
+    /**
+     * Checks if hunts on the board can be completed once by every player before they expire,
+     * instead of being removed after their first completion.
+     *
+     * @return true if hunts can be completed by every player, false if they are removed on first completion
+     */
+    boolean isSharedCompletion();
+
+    /**
+     * Records a player's completion of an active hunt.
+     *
+     * <p>If the board has shared completion, the hunt stays active and the player is recorded as
+     * having completed it. Otherwise the hunt is removed from the board.</p>
+     *
+     * @param hunt       the hunt that was completed
+     * @param playerUUID the UUID of the player that completed the hunt
+     * @return true if the completion was recorded, false if the hunt isn't active
+     *         or the player has already completed it
+     * @throws NullPointerException if the hunt is null
+     * @throws NullPointerException if the UUID is null
+     */
+    boolean completeHunt(Hunt hunt, UUID playerUUID);
+
+    /**
+     * Checks if a player has completed an active hunt.
+     * This is always false for boards without shared completion, as hunts are removed upon completion.
+     *
+     * @param hunt       the hunt to check
+     * @param playerUUID the UUID of the player to check
+     * @return true if the player has completed the hunt, false if they haven't
+     * @throws NullPointerException if the hunt is null
+     * @throws NullPointerException if the UUID is null
+     */
+    boolean hasCompleted(Hunt hunt, UUID playerUUID);
+
+    /**
+     * Gets the number of players that have completed an active hunt.
+     * This is always 0 for boards without shared completion, as hunts are removed upon completion.
+     *
+     * @param hunt the hunt to get number of completions for
+     * @return the number of players that have completed the hunt
+     * @throws NullPointerException if the hunt is null
+     */
+    int getCompletionCount(Hunt hunt);
+
     /**
      * Gets a page containing the information on all active hunts.
      *
@@ -72,6 +252,18 @@ public interface HuntBoard {
      */
     PaginationList getHuntBoardPage();
 
+    /**
+     * Gets a page containing the information on all active hunts, in the language of a locale where possible.
+     * Boards that can't render in other languages return the same page as {@link #getHuntBoardPage()}.
+     *
+     * @param locale the locale of the viewer
+     * @return page containing the information on all active hunts
+     * @throws NullPointerException if the locale is null
+     */
+    default PaginationList getHuntBoardPage(Locale locale){
+        return getHuntBoardPage();
+    }
+
     /**
      * Creates a new hunt board with a certain name.
      *
@@ -85,4 +277,18 @@ public interface HuntBoard {
         return PixelHunt.getHuntAPI().createHuntBoard(huntBoardName, numSlots);
     }
 
+    /**
+     * Creates a new hunt board with a certain name.
+     *
+     * @param huntBoardName    the name to give the hunt board
+     * @param numSlots         the number of slots to maintain active hunts in
+     * @param sharedCompletion if hunts can be completed once by every player before they expire
+     * @return new hunt board with the given name
+     * @throws NullPointerException     if the name is null
+     * @throws IllegalArgumentException if the number of slots is less than 0
+     */
+    static HuntBoard create(String huntBoardName, int numSlots, boolean sharedCompletion){
+        return PixelHunt.getHuntAPI().createHuntBoard(huntBoardName, numSlots, sharedCompletion);
+    }
+
 }
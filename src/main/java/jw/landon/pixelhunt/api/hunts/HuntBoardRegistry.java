@@ -1,7 +1,10 @@
 package jw.landon.pixelhunt.api.hunts;
 
+import org.spongepowered.api.world.World;
+
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Registry that contains all hunt boards.
@@ -16,12 +19,39 @@ import java.util.Set;
 public interface HuntBoardRegistry {
 
     /**
-     * Gets all registered hunt boards.
+     * Gets all registered hunt boards. The set is a copy, and may be modified.
      *
      * @return all registered hunt boards
      */
     Set<HuntBoard> getHuntBoards();
 
+    /**
+     * Visits every registered hunt board, without copying them into a set.
+     *
+     * @param visitor the visitor to call for each hunt board
+     * @throws NullPointerException if the visitor is null
+     */
+    default void forEachHuntBoard(Consumer<HuntBoard> visitor){
+        getHuntBoards().forEach(visitor);
+    }
+
+    /**
+     * Visits every registered hunt board whose hunts can be completed in a world, which are the boards scoped
+     * to that world and the boards without a world scope.
+     *
+     * @param world   the world
+     * @param visitor the visitor to call for each hunt board
+     * @throws NullPointerException if the world is null
+     * @throws NullPointerException if the visitor is null
+     */
+    default void forEachHuntBoard(World world, Consumer<HuntBoard> visitor){
+        forEachHuntBoard((huntBoard) -> {
+            if(!huntBoard.getWorldScope().isPresent() || huntBoard.getWorldScope().get().equalsIgnoreCase(world.getName())){
+                visitor.accept(huntBoard);
+            }
+        });
+    }
+
     /**
      * Gets a hunt board if one is found with the given name.
      *
@@ -48,4 +78,13 @@ public interface HuntBoardRegistry {
      */
     void removeHuntBoard(HuntBoard huntBoard);
 
+    /**
+     * Gets the version of the registry, which changes whenever a hunt board is added or removed, or the boards
+     * visited for a world may have changed. Used to tell if anything built from the registered boards needs
+     * to be rebuilt.
+     *
+     * @return the version of the registry
+     */
+    long getVersion();
+
 }
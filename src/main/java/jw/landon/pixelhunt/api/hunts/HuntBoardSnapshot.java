@@ -0,0 +1,91 @@
+package jw.landon.pixelhunt.api.hunts;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * An immutable view of a {@link HuntBoard}'s slots at a single version of the board.
+ *
+ * <p>Snapshots are cached by the board until its version changes, so they can be taken and shared freely
+ * without copying the board's hunts, and may be read from any thread.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public interface HuntBoardSnapshot {
+
+    /**
+     * Gets the name of the hunt board the snapshot was taken of.
+     *
+     * @return name of the hunt board
+     */
+    String getHuntBoardName();
+
+    /**
+     * Gets the version of the hunt board the snapshot was taken of.
+     *
+     * @return the version of the hunt board
+     */
+    long getVersion();
+
+    /**
+     * Gets the number of slots on the hunt board.
+     *
+     * @return the number of slots on the hunt board
+     */
+    int getNumSlots();
+
+    /**
+     * Gets the hunt in a slot.
+     *
+     * @param slot the slot to get the hunt from
+     * @return the hunt in the slot, or empty if the slot was empty
+     * @throws IndexOutOfBoundsException if the slot is below 0 or greater than or equal to the number of slots
+     */
+    Optional<Hunt> getHunt(int slot);
+
+    /**
+     * Gets the time the hunt in a slot became active.
+     *
+     * @param slot the slot to get the start time of
+     * @return the time the slot's hunt became active, or empty if the slot was empty
+     * @throws IndexOutOfBoundsException if the slot is below 0 or greater than or equal to the number of slots
+     */
+    Optional<Instant> getStartTime(int slot);
+
+    /**
+     * Gets the time the hunt in a slot expires.
+     *
+     * @param slot the slot to get the expiry time of
+     * @return the time the slot's hunt expires, or empty if the slot was empty
+     * @throws IndexOutOfBoundsException if the slot is below 0 or greater than or equal to the number of slots
+     */
+    Optional<Instant> getExpiryTime(int slot);
+
+    /**
+     * Gets the time the hunt in a slot expires, in epoch milliseconds.
+     *
+     * @param slot the slot to get the expiry time of
+     * @return the time the slot's hunt expires in epoch milliseconds, or 0 if the slot was empty
+     * @throws IndexOutOfBoundsException if the slot is below 0 or greater than or equal to the number of slots
+     */
+    long getExpiryMillis(int slot);
+
+    /**
+     * Gets an unmodifiable list of all active hunts, in slot order. The list is shared and is not copied.
+     *
+     * @return unmodifiable list of all active hunts
+     */
+    List<Hunt> getActiveHunts();
+
+    /**
+     * Visits every active hunt, in slot order.
+     *
+     * @param visitor the visitor to call for each active hunt
+     * @throws NullPointerException if the visitor is null
+     */
+    void forEachActiveHunt(Consumer<Hunt> visitor);
+
+}
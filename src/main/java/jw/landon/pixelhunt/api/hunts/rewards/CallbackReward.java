@@ -2,6 +2,7 @@ package jw.landon.pixelhunt.api.hunts.rewards;
 
 import jw.landon.pixelhunt.api.hunts.Hunt;
 import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.plugin.PluginContainer;
 
 import java.util.Objects;
 import java.util.function.Consumer;
@@ -16,6 +17,10 @@ public class CallbackReward extends RewardBase {
 
     /** The consumer to invoke when the reward is distributed. */
     private Consumer<Player> consumer;
+    /** The ID of the provider of the callback. */
+    private String providerId;
+    /** If the callback can be invoked off the server thread. */
+    private boolean asyncSafe;
 
     /**
      * Constructor for the callback reward.
@@ -23,17 +28,38 @@ public class CallbackReward extends RewardBase {
      * @param callback    the callback to invoke when the reward is distributed
      * @param description the description for the reward, shown on the hunt board,
      *                    accepts colour codes
+     * @param provider    the plugin providing the callback
+     * @param asyncSafe   if the callback can be invoked off the server thread
+     * @throws NullPointerException if callback is null
+     * @throws NullPointerException if description is null
+     * @throws NullPointerException if provider is null
+     */
+    public CallbackReward(Consumer<Player> callback, String description, PluginContainer provider, boolean asyncSafe){
+        this(callback, description, Objects.requireNonNull(provider, "provider must not be null").getId(), asyncSafe);
+    }
+
+    /**
+     * Constructor for the callback reward.
+     *
+     * <p>The callback is invoked on the server thread, and its provider is identified
+     * by the class that declared the callback.</p>
+     *
+     * @param callback    the callback to invoke when the reward is distributed
+     * @param description the description for the reward, shown on the hunt board,
+     *                    accepts colour codes
      * @throws NullPointerException if callback is null
      * @throws NullPointerException if description is null
      */
     public CallbackReward(Consumer<Player> callback, String description){
-        super(description);
-        this.consumer = Objects.requireNonNull(callback, "callback must not be null");
+        this(callback, description, getDeclaringClassName(callback), false);
     }
 
     /**
      * Constructor for the callback reward.
      *
+     * <p>The callback is invoked on the server thread, and its provider is identified
+     * by the class that declared the callback.</p>
+     *
      * @param callback    the callback to invoke when the reward is distributed
      * @param description the description for the reward, shown on the hunt board,
      *                    accepts colour codes
@@ -41,7 +67,25 @@ public class CallbackReward extends RewardBase {
      * @throws NullPointerException if description is null
      */
     public CallbackReward(Runnable callback, String description){
-        this((player) -> callback.run(), description);
+        this((player) -> callback.run(), description, getDeclaringClassName(callback), false);
+    }
+
+    /**
+     * Constructor for the callback reward.
+     *
+     * @param callback    the callback to invoke when the reward is distributed
+     * @param description the description for the reward, shown on the hunt board,
+     *                    accepts colour codes
+     * @param providerId  the ID of the provider of the callback
+     * @param asyncSafe   if the callback can be invoked off the server thread
+     * @throws NullPointerException if callback is null
+     * @throws NullPointerException if description is null
+     */
+    private CallbackReward(Consumer<Player> callback, String description, String providerId, boolean asyncSafe){
+        super(description);
+        this.consumer = Objects.requireNonNull(callback, "callback must not be null");
+        this.providerId = providerId;
+        this.asyncSafe = asyncSafe;
     }
 
     /** {@inheritDoc} */
@@ -50,4 +94,29 @@ public class CallbackReward extends RewardBase {
         consumer.accept(player);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isAsyncSafe(){
+        return asyncSafe;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getProviderId(){
+        return providerId;
+    }
+
+    /**
+     * Gets the name of the class that declared a callback, stripping any lambda suffix.
+     *
+     * @param callback the callback to get declaring class for
+     * @return the name of the class that declared the callback
+     * @throws NullPointerException if callback is null
+     */
+    private static String getDeclaringClassName(Object callback){
+        String className = Objects.requireNonNull(callback, "callback must not be null").getClass().getName();
+        int lambdaIndex = className.indexOf("$$Lambda");
+        return (lambdaIndex != -1) ? className.substring(0, lambdaIndex) : className;
+    }
+
 }
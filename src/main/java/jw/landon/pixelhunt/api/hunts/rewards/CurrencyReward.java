@@ -2,13 +2,12 @@ package jw.landon.pixelhunt.api.hunts.rewards;
 
 import jw.landon.pixelhunt.PixelHunt;
 import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.implementation.rewards.EconomyCache;
 import org.spongepowered.api.entity.living.player.Player;
-import org.spongepowered.api.event.cause.Cause;
-import org.spongepowered.api.event.cause.EventContext;
-import org.spongepowered.api.event.cause.EventContextKeys;
 import org.spongepowered.api.service.economy.Currency;
-import org.spongepowered.api.service.economy.EconomyService;
 import org.spongepowered.api.service.economy.account.UniqueAccount;
+import org.spongepowered.api.service.economy.transaction.ResultType;
+import org.spongepowered.api.service.economy.transaction.TransactionResult;
 
 import java.math.BigDecimal;
 import java.util.Optional;
@@ -16,6 +15,9 @@ import java.util.Optional;
 /**
  * An amount of money given to a player that completed a {@link Hunt}.
  *
+ * <p>The player's account is taken from the {@link EconomyCache}, so it is usually already looked up.
+ * If the player has no account, or the deposit doesn't succeed, it is logged.</p>
+ *
  * @author landonjw
  * @since  2.0.0
  */
@@ -33,17 +35,16 @@ public class CurrencyReward extends RewardBase {
      * @param currency    the type of currency to reward, null treated as default currency
      * @param description the description for the reward, shown on the hunt board,
      *                    accepts colour codes
-     * @throws IllegalStateException if there isn't an economy service loaded
+     * @throws IllegalStateException if the currency is null and there isn't an economy service loaded
      * @throws NullPointerException if the description is null
      */
     public CurrencyReward(double amount, Currency currency, String description){
         super(description);
-        if(!PixelHunt.getEconomyService().isPresent()){
-            throw new IllegalStateException("no economy service is loaded");
-        }
-
         this.amount = amount;
         if(currency == null){
+            if(!PixelHunt.getEconomyService().isPresent()){
+                throw new IllegalStateException("no economy service is loaded");
+            }
             this.currency = PixelHunt.getEconomyService().get().getDefaultCurrency();
         }
         else{
@@ -73,21 +74,50 @@ public class CurrencyReward extends RewardBase {
     /** {@inheritDoc} */
     @Override
     public void distributeReward(Player player) {
-        if(PixelHunt.getEconomyService().isPresent()){
-            EconomyService economyService = PixelHunt.getEconomyService().get();
-            Optional<UniqueAccount> maybeAccount = economyService.getOrCreateAccount(player.getUniqueId());
-
-            if(maybeAccount.isPresent()){
-                UniqueAccount account = maybeAccount.get();
+        distribute(player);
+    }
 
-                EventContext eventContext = EventContext.builder()
-                        .add(EventContextKeys.PLUGIN, PixelHunt.getContainer()).build();
+    /**
+     * Deposits the reward into a player's account.
+     *
+     * @param player the player to distribute the reward to
+     * @return the amount deposited, or 0 if the player has no account or the deposit didn't succeed
+     */
+    @Override
+    public double distribute(Player player){
+        EconomyCache economyCache = PixelHunt.getEconomyCache();
+        Optional<UniqueAccount> maybeAccount = economyCache.getAccount(player.getUniqueId());
+        if(!maybeAccount.isPresent()){
+            PixelHunt.getLogger().warn("PixelHunt could not give {} {} to {} as they have no economy account.",
+                    amount, currency.getId(), player.getName());
+            return 0;
+        }
+        TransactionResult result = maybeAccount.get()
+                .deposit(currency, BigDecimal.valueOf(amount), economyCache.getDepositCause());
+        if(result.getResult() != ResultType.SUCCESS){
+            PixelHunt.getLogger().warn("PixelHunt could not give {} {} to {}: {}.",
+                    amount, currency.getId(), player.getName(), result.getResult());
+            return 0;
+        }
+        return amount;
+    }
 
-                Cause cause = Cause.of(eventContext, PixelHunt.getContainer());
+    /**
+     * Gets the amount of money to reward.
+     *
+     * @return the amount of money to reward
+     */
+    public double getAmount(){
+        return amount;
+    }
 
-                account.deposit(currency, BigDecimal.valueOf(amount), cause);
-            }
-        }
+    /**
+     * Gets the type of currency to reward.
+     *
+     * @return the type of currency to reward
+     */
+    public Currency getCurrency(){
+        return currency;
     }
 
 }
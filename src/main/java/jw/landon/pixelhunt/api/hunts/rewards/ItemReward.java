@@ -1,26 +1,43 @@
 package jw.landon.pixelhunt.api.hunts.rewards;
 
+import jw.landon.pixelhunt.PixelHunt;
 import jw.landon.pixelhunt.api.hunts.Hunt;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.item.ItemType;
+import org.spongepowered.api.item.inventory.Inventory;
 import org.spongepowered.api.item.inventory.ItemStack;
+import org.spongepowered.api.item.inventory.ItemStackSnapshot;
+import org.spongepowered.api.item.inventory.transaction.InventoryTransactionResult;
 
 import java.util.Objects;
 
 /**
  * An item to be given to a player that completed a {@link Hunt}.
  *
+ * <p>The item is kept as an immutable {@link ItemStackSnapshot} template, so the same reward can be given to
+ * any number of players without a shared stack being changed by an inventory. The quantity may be larger than
+ * the item's maximum stack size. It is split into full stacks and one partial stack, and stacks are only
+ * created as they are offered, stopping at the first stack the player's inventory can't take. Each stack is
+ * offered to the inventory separately, under a cause frame with the plugin as its cause.</p>
+ *
  * @author landonjw
  * @since  2.0.0
  */
 public class ItemReward extends RewardBase {
 
-    /** The item to reward. */
-    private ItemStack item;
+    /** The item to reward. Its quantity is ignored in favour of the reward's quantity. */
+    private ItemStackSnapshot template;
+    /** The number of items to reward. */
+    private int quantity;
 
     /**
      * Constructor for the item reward.
      *
-     * @param item the item to reward
+     * <p>An empty item is accepted, and gives nothing when the reward is distributed.</p>
+     *
+     * @param item the item to reward, which is copied
      * @param description the description for the reward, shown on the hunt board,
      *                    accepts colour codes
      * @throws NullPointerException if item is null
@@ -28,13 +45,112 @@ public class ItemReward extends RewardBase {
      */
     public ItemReward(ItemStack item, String description){
         super(description);
-        this.item = Objects.requireNonNull(item, "item must not be null");
+        Objects.requireNonNull(item, "item must not be null");
+        this.template = item.createSnapshot();
+        this.quantity = Math.max(0, item.getQuantity());
+    }
+
+    /**
+     * Constructor for the item reward.
+     *
+     * @param template    the item to reward. Its quantity is ignored
+     * @param quantity    the number of items to reward, which may be larger than the item's maximum stack size
+     * @param description the description for the reward, shown on the hunt board,
+     *                    accepts colour codes
+     * @throws NullPointerException     if template is null
+     * @throws NullPointerException     if description is null
+     * @throws IllegalArgumentException if quantity is less than 1
+     */
+    public ItemReward(ItemStackSnapshot template, int quantity, String description){
+        super(description);
+        this.template = Objects.requireNonNull(template, "template must not be null");
+        if(quantity < 1){
+            throw new IllegalArgumentException("quantity must be greater than 0");
+        }
+        this.quantity = quantity;
     }
 
     /** {@inheritDoc} */
     @Override
     public void distributeReward(Player player) {
-        player.getInventory().offer(item);
+        distribute(player);
+    }
+
+    /**
+     * Distributes the reward to a player, stopping at the first stack their inventory can't take.
+     *
+     * @param player the player to distribute the reward to
+     * @return the number of items given to the player
+     */
+    @Override
+    public double distribute(Player player){
+        int maxStackSize = Math.max(1, template.getType().getMaxStackQuantity());
+        int fullStacks = quantity / maxStackSize;
+        int partialStack = quantity % maxStackSize;
+        int numStacks = fullStacks + ((partialStack > 0) ? 1 : 0);
+
+        Inventory inventory = player.getInventory();
+        int given = 0;
+        try(CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()){
+            frame.pushCause(PixelHunt.getContainer());
+            for(int i = 0; i < numStacks; i++){
+                int stackSize = (i < fullStacks) ? maxStackSize : partialStack;
+                ItemStack stack = template.createStack();
+                stack.setQuantity(stackSize);
+                int rejected = getRejectedQuantity(inventory.offer(stack));
+                given += stackSize - rejected;
+                if(rejected > 0){
+                    break;
+                }
+            }
+        }
+
+        if(given < quantity){
+            PixelHunt.getLogger().warn("PixelHunt could only give {} of {} {} to {} as their inventory is full.",
+                    given, quantity, template.getType().getId(), player.getName());
+        }
+        return given;
+    }
+
+    /**
+     * Gets the number of items an inventory didn't take from an offer.
+     *
+     * @param result the result of the offer
+     * @return the number of items that were rejected
+     */
+    private static int getRejectedQuantity(InventoryTransactionResult result){
+        int rejected = 0;
+        for(ItemStackSnapshot snapshot : result.getRejectedItems()){
+            rejected += snapshot.getQuantity();
+        }
+        return rejected;
+    }
+
+    /**
+     * Gets the item to reward. Its quantity is ignored in favour of {@link #getQuantity()}.
+     *
+     * @return the item to reward
+     */
+    public ItemStackSnapshot getTemplate(){
+        return template;
+    }
+
+    /**
+     * Gets the type of item to reward.
+     *
+     * @return the type of item to reward
+     */
+    public ItemType getItemType(){
+        return template.getType();
+    }
+
+    /**
+     * Gets the number of items to reward.
+     *
+     * @return the number of items to reward
+     */
+    public int getQuantity(){
+        return quantity;
     }
 
 }
@@ -13,9 +13,24 @@ public interface Reward {
 
     /**
      * Distributes the reward to a player.
+     *
+     * @param player the player to distribute the reward to
      */
     void distributeReward(Player player);
 
+    /**
+     * Distributes the reward to a player, reporting how much of it was delivered. This is what is recorded
+     * when the reward is paid out, so rewards that can be delivered in part, or not at all, should override it.
+     * By default, the reward is distributed with {@link #distributeReward(Player)} and counted as delivered once.
+     *
+     * @param player the player to distribute the reward to
+     * @return the amount delivered, such as the number of items or amount of money, or 0 if nothing was delivered
+     */
+    default double distribute(Player player){
+        distributeReward(player);
+        return 1;
+    }
+
     /**
      * Gets a description of the reward. This is displayed on the hunt board.
      *
@@ -23,4 +38,26 @@ public interface Reward {
      */
     String getDescription();
 
+    /**
+     * Checks if the reward can be distributed off the server thread.
+     * Rewards that are async safe are distributed on a worker thread with a time limit.
+     *
+     * @return true if the reward can be distributed off the server thread, false if it can't
+     */
+    default boolean isAsyncSafe(){
+        return false;
+    }
+
+    /**
+     * Gets the ID of the provider of the reward, such as the plugin that supplied it.
+     * If rewards from a provider keep failing or running slowly, rewards from that provider
+     * will stop being distributed for a period of time. The plugin's own {@link CurrencyReward} and
+     * {@link ItemReward} are exempt, and are retried instead of being stopped.
+     *
+     * @return the ID of the provider of the reward
+     */
+    default String getProviderId(){
+        return getClass().getName();
+    }
+
 }
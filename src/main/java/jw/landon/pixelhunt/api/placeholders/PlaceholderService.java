@@ -0,0 +1,79 @@
+package jw.landon.pixelhunt.api.placeholders;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service providing the values of PixelHunt's placeholders to other plugins. It is registered with Sponge's
+ * service manager, and may be used from any thread.
+ *
+ * <p>The placeholders are not registered with any placeholder plugin, so text such as
+ * {@code %pixelhunt_active_hunts%} is only filled in by plugins that look it up through this service.</p>
+ *
+ * <p>Placeholders may be given with or without the surrounding percent signs. Values are cached and
+ * refreshed when a hunt board changes or a countdown ticks over, so they are cheap to look up every tick.
+ * Values are for the configured hunt board, unless the name of a registered board is given. The following
+ * placeholders are provided, where slots are numbered from 1:</p>
+ * <ul>
+ *     <li>{@code pixelhunt_board_<slot>_species} - the species hunted in a slot</li>
+ *     <li>{@code pixelhunt_board_<slot>_natures} - the natures hunted in a slot</li>
+ *     <li>{@code pixelhunt_board_<slot>_expiry} - the time remaining on the hunt in a slot</li>
+ *     <li>{@code pixelhunt_board_<slot>_completions} - the number of players that have completed a slot's hunt</li>
+ *     <li>{@code pixelhunt_active_hunts} - the number of active hunts</li>
+ *     <li>{@code pixelhunt_next_expiry} - the time remaining on the hunt expiring soonest</li>
+ *     <li>{@code pixelhunt_next_species} - the species hunted by the hunt expiring soonest</li>
+ *     <li>{@code pixelhunt_player_completions} - the number of hunts a player has completed since they joined</li>
+ * </ul>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public interface PlaceholderService {
+
+    /**
+     * Gets the value of a placeholder for the configured hunt board that does not depend on a player.
+     *
+     * @param placeholder the placeholder to get the value of
+     * @return the value of the placeholder, or empty if it isn't a PixelHunt placeholder or has no value
+     * @throws NullPointerException if the placeholder is null
+     */
+    Optional<String> getValue(String placeholder);
+
+    /**
+     * Gets the value of a placeholder for the configured hunt board and a player.
+     *
+     * @param placeholder the placeholder to get the value of
+     * @param playerUUID  the UUID of the player to get the value for
+     * @return the value of the placeholder, or empty if it isn't a PixelHunt placeholder or has no value
+     * @throws NullPointerException if the placeholder is null
+     * @throws NullPointerException if the UUID is null
+     */
+    Optional<String> getValue(String placeholder, UUID playerUUID);
+
+    /**
+     * Gets the value of a placeholder for a hunt board that does not depend on a player.
+     *
+     * @param placeholder   the placeholder to get the value of
+     * @param huntBoardName the name of the hunt board to get the value for
+     * @return the value of the placeholder, or empty if it isn't a PixelHunt placeholder, has no value,
+     *         or no board is registered with the name
+     * @throws NullPointerException if the placeholder is null
+     * @throws NullPointerException if the board name is null
+     */
+    Optional<String> getValue(String placeholder, String huntBoardName);
+
+    /**
+     * Gets the value of a placeholder for a hunt board and a player.
+     *
+     * @param placeholder   the placeholder to get the value of
+     * @param huntBoardName the name of the hunt board to get the value for
+     * @param playerUUID    the UUID of the player to get the value for
+     * @return the value of the placeholder, or empty if it isn't a PixelHunt placeholder, has no value,
+     *         or no board is registered with the name
+     * @throws NullPointerException if the placeholder is null
+     * @throws NullPointerException if the board name is null
+     * @throws NullPointerException if the UUID is null
+     */
+    Optional<String> getValue(String placeholder, String huntBoardName, UUID playerUUID);
+
+}
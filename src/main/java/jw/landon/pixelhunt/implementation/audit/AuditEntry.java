@@ -0,0 +1,131 @@
+package jw.landon.pixelhunt.implementation.audit;
+
+import com.pixelmonmod.pixelmon.enums.EnumNature;
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * A record read back from the audit log.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class AuditEntry {
+
+    /** The time the record was written, in epoch milliseconds. */
+    private long timestamp;
+    /** The player that completed the hunt or received the payout. */
+    private UUID player;
+    /** The name of the hunt board the hunt was on. */
+    private String board;
+    /** The species of the hunt, or null if it is not known to this version of Pixelmon. */
+    private EnumSpecies species;
+    /** The nature of the Pokemon that completed the hunt, or null if it is not known. */
+    private EnumNature nature;
+    /** The type of the record. */
+    private AuditRecordType type;
+    /** The amount paid out, or 0 for completions. */
+    private double amount;
+    /** The item ID, currency ID or provider ID of the payout, or empty for completions. */
+    private String target;
+
+    /**
+     * Constructor for the audit entry.
+     *
+     * @param timestamp the time the record was written, in epoch milliseconds
+     * @param player    the player that completed the hunt or received the payout
+     * @param board     the name of the hunt board the hunt was on
+     * @param species   the species of the hunt, or null if not known
+     * @param nature    the nature of the Pokemon that completed the hunt, or null if not known
+     * @param type      the type of the record
+     * @param amount    the amount paid out
+     * @param target    the item ID, currency ID or provider ID of the payout
+     */
+    AuditEntry(long timestamp, UUID player, String board, EnumSpecies species, EnumNature nature,
+               AuditRecordType type, double amount, String target){
+        this.timestamp = timestamp;
+        this.player = player;
+        this.board = board;
+        this.species = species;
+        this.nature = nature;
+        this.type = type;
+        this.amount = amount;
+        this.target = target;
+    }
+
+    /**
+     * Gets the time the record was written.
+     *
+     * @return the time the record was written, in epoch milliseconds
+     */
+    public long getTimestamp(){
+        return timestamp;
+    }
+
+    /**
+     * Gets the player that completed the hunt or received the payout.
+     *
+     * @return the player that completed the hunt or received the payout
+     */
+    public UUID getPlayer(){
+        return player;
+    }
+
+    /**
+     * Gets the name of the hunt board the hunt was on.
+     *
+     * @return the name of the hunt board the hunt was on, truncated to fit the record
+     */
+    public String getBoard(){
+        return board;
+    }
+
+    /**
+     * Gets the species of the hunt.
+     *
+     * @return the species of the hunt, or empty if it is not known to this version of Pixelmon
+     */
+    public Optional<EnumSpecies> getSpecies(){
+        return Optional.ofNullable(species);
+    }
+
+    /**
+     * Gets the nature of the Pokemon that completed the hunt.
+     *
+     * @return the nature of the Pokemon that completed the hunt, or empty if it is not known
+     */
+    public Optional<EnumNature> getNature(){
+        return Optional.ofNullable(nature);
+    }
+
+    /**
+     * Gets the type of the record.
+     *
+     * @return the type of the record
+     */
+    public AuditRecordType getType(){
+        return type;
+    }
+
+    /**
+     * Gets the amount paid out.
+     *
+     * @return the amount paid out, or 0 for completions
+     */
+    public double getAmount(){
+        return amount;
+    }
+
+    /**
+     * Gets the item ID, currency ID or provider ID of the payout.
+     *
+     * @return the item ID, currency ID or provider ID of the payout, truncated to fit the record,
+     *         or an empty string for completions
+     */
+    public String getTarget(){
+        return target;
+    }
+
+}
@@ -0,0 +1,625 @@
+package jw.landon.pixelhunt.implementation.audit;
+
+import com.pixelmonmod.pixelmon.enums.EnumNature;
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.api.hunts.rewards.CallbackReward;
+import jw.landon.pixelhunt.api.hunts.rewards.CurrencyReward;
+import jw.landon.pixelhunt.api.hunts.rewards.ItemReward;
+import jw.landon.pixelhunt.api.hunts.rewards.Reward;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import jw.landon.pixelhunt.implementation.executors.ExecutorPool;
+import ninja.leaping.configurate.commented.CommentedConfigurationNode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Append-only log of every hunt completion and reward payout, kept for staff to investigate reward abuse.
+ *
+ * <p>Records are fixed width and written into memory-mapped segment files in the audit directory.
+ * The segment after the one being written to is mapped ahead of time on the IO pool, so when a segment is full
+ * the log moves straight on to it. Flushing the full segment to disk, deleting the oldest segments once there
+ * are more than the configured maximum, and mapping the following segment are then left to the IO pool, so
+ * writing a record never waits on the disk unless the IO pool has fallen a whole segment behind. Writing a
+ * record does not allocate, apart from the first time a board name or reward target is seen and when moving
+ * to a new segment. Payouts record the amount that was delivered, which may be less than the reward's amount.
+ * Text fields are truncated to their length on a UTF-8 character boundary.</p>
+ *
+ * <p>Each record is laid out as follows, with the timestamp written last so a record is only
+ * visible to readers once it is complete:</p>
+ * <pre>
+ *  0  long   timestamp, in epoch milliseconds (0 marks an unwritten record)
+ *  8  long   player UUID, most significant bits
+ * 16  long   player UUID, least significant bits
+ * 24  short  species ordinal, -1 if unknown
+ * 26  byte   nature ordinal, -1 if unknown
+ * 27  byte   record type ordinal
+ * 28  int    reserved
+ * 32  double amount paid out
+ * 40  24 bytes board name, UTF-8, zero padded
+ * 64  32 bytes item, currency or provider ID, UTF-8, zero padded
+ * </pre>
+ *
+ * <p>Settings are loaded from the Audit section of the configuration.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class AuditLog {
+
+    /** The size of each record, in bytes. */
+    static final int RECORD_SIZE = 96;
+    /** The number of records in each segment if it isn't configured. */
+    public static final int DEFAULT_SEGMENT_RECORDS = 65536;
+    /** The largest number of records a segment can hold, as a segment is mapped as a single buffer. */
+    public static final int MAX_SEGMENT_RECORDS = Integer.MAX_VALUE / RECORD_SIZE;
+    /** The offset of each field within a record. */
+    private static final int TIMESTAMP = 0, PLAYER_MOST = 8, PLAYER_LEAST = 16, SPECIES = 24, NATURE = 26,
+            TYPE = 27, AMOUNT = 32, BOARD = 40, TARGET = 64;
+    /** The length of each text field within a record, in bytes. */
+    private static final int BOARD_LENGTH = 24, TARGET_LENGTH = 32;
+    /** The prefix and suffix of segment file names, around the segment number. */
+    private static final String SEGMENT_PREFIX = "audit-", SEGMENT_SUFFIX = ".log";
+
+    /** The largest number of encoded text fields kept before they are all dropped. */
+    private static final int MAX_ENCODED = 1024;
+
+    /** Text fields encoded as UTF-8, so repeated board names and reward targets are only encoded once. */
+    private static Map<String, byte[]> encoded = new ConcurrentHashMap<>();
+
+    /** The directory the segments are written to. */
+    private Path dir;
+    /** The number of records in each segment. */
+    private int segmentRecords;
+    /** The maximum number of segments to keep before deleting the oldest. */
+    private int maxSegments;
+    /** If the log is enabled in configuration. */
+    private boolean enabled;
+
+    /** The channel of the segment being written to. Null if the log is disabled or closed. */
+    private FileChannel channel;
+    /** The mapped contents of the segment being written to. Null if the log is disabled or closed. */
+    private MappedByteBuffer buffer;
+    /** The number of the segment being written to. */
+    private long segmentNumber;
+    /** The number of records written to the current segment. */
+    private int position;
+    /** The channel of the segment after the current one, or null if it hasn't been mapped ahead of time. */
+    private FileChannel nextChannel;
+    /** The mapped contents of the segment after the current one, or null if it hasn't been mapped ahead of time. */
+    private MappedByteBuffer nextBuffer;
+
+    /**
+     * Constructor for the audit log, loading settings from configuration.
+     * Nothing is recorded until the latest segment is opened with {@link #open()}.
+     *
+     * @param dir the directory to write segments to
+     */
+    public AuditLog(Path dir){
+        this.dir = Objects.requireNonNull(dir, "directory must not be null");
+        CommentedConfigurationNode auditNode = ConfigManager.getConfigNode("General", "Audit");
+        segmentRecords = Math.max(1, auditNode.getNode("Segment-Records").getInt(DEFAULT_SEGMENT_RECORDS));
+        maxSegments = Math.max(1, auditNode.getNode("Max-Segments").getInt(16));
+        enabled = auditNode.getNode("Enabled").getBoolean(true);
+    }
+
+    /**
+     * Opens the latest segment, counting the records already written to it, if the log is enabled.
+     * Counting records reads the whole segment, so this may be called off the server thread during startup.
+     */
+    public void open(){
+        if(!enabled){
+            return;
+        }
+
+        try{
+            Files.createDirectories(dir);
+            List<Long> segments = listSegments();
+            if(segments.isEmpty()){
+                openSegment(1);
+            }
+            else{
+                openSegment(segments.get(segments.size() - 1));
+                position = countRecords(buffer, segmentRecords);
+            }
+        }
+        catch(IOException e){
+            PixelHunt.getLogger().error("PixelHunt could not open its audit log. Payouts will not be recorded.", e);
+            channel = null;
+            buffer = null;
+            return;
+        }
+        submitIo(this::prepareNextSegment);
+    }
+
+    /**
+     * Records a player completing a hunt.
+     *
+     * @param player    the player that completed the hunt
+     * @param boardName the name of the hunt board the hunt was on
+     * @param hunt      the hunt that was completed
+     * @param nature    the nature of the Pokemon that completed the hunt
+     */
+    public void recordCompletion(UUID player, String boardName, Hunt hunt, EnumNature nature){
+        append(player, boardName, hunt, nature, AuditRecordType.COMPLETION, 0, "");
+    }
+
+    /**
+     * Records a reward being paid out to a player.
+     *
+     * @param player    the player that received the reward
+     * @param boardName the name of the hunt board the hunt was on
+     * @param hunt      the hunt that was completed
+     * @param nature    the nature of the Pokemon that completed the hunt
+     * @param reward    the reward that was paid out
+     * @param delivered the amount of the reward that was delivered, from {@link Reward#distribute}
+     */
+    public void recordPayout(UUID player, String boardName, Hunt hunt, EnumNature nature, Reward reward,
+                             double delivered){
+        if(reward instanceof ItemReward){
+            append(player, boardName, hunt, nature, AuditRecordType.ITEM,
+                    delivered, ((ItemReward) reward).getItemType().getId());
+        }
+        else if(reward instanceof CurrencyReward){
+            append(player, boardName, hunt, nature, AuditRecordType.CURRENCY,
+                    delivered, ((CurrencyReward) reward).getCurrency().getId());
+        }
+        else if(reward instanceof CallbackReward){
+            append(player, boardName, hunt, nature, AuditRecordType.CALLBACK, delivered, reward.getProviderId());
+        }
+        else{
+            append(player, boardName, hunt, nature, AuditRecordType.OTHER, delivered, reward.getProviderId());
+        }
+    }
+
+    /**
+     * Writes a record to the current segment, moving on to a new segment if it is full.
+     *
+     * @param player    the player the record is for
+     * @param boardName the name of the hunt board the hunt was on
+     * @param hunt      the hunt the record is for
+     * @param nature    the nature of the Pokemon that completed the hunt, may be null
+     * @param type      the type of the record
+     * @param amount    the amount paid out
+     * @param target    the item, currency or provider ID of the payout
+     */
+    private synchronized void append(UUID player, String boardName, Hunt hunt, EnumNature nature,
+                                     AuditRecordType type, double amount, String target){
+        if(buffer == null){
+            return;
+        }
+        if(position == segmentRecords && !rotate()){
+            return;
+        }
+
+        int base = position * RECORD_SIZE;
+        buffer.putLong(base + PLAYER_MOST, player.getMostSignificantBits());
+        buffer.putLong(base + PLAYER_LEAST, player.getLeastSignificantBits());
+        buffer.putShort(base + SPECIES, (short) hunt.getHuntedSpecies().ordinal());
+        buffer.put(base + NATURE, (byte) ((nature != null) ? nature.ordinal() : -1));
+        buffer.put(base + TYPE, (byte) type.ordinal());
+        buffer.putDouble(base + AMOUNT, amount);
+        putText(base + BOARD, BOARD_LENGTH, boardName);
+        putText(base + TARGET, TARGET_LENGTH, target);
+        buffer.putLong(base + TIMESTAMP, System.currentTimeMillis());
+        position++;
+    }
+
+    /**
+     * Writes a text field into the current segment, truncating or zero padding it to the field's length.
+     *
+     * @param offset the offset of the field in the segment
+     * @param length the length of the field, in bytes
+     * @param text   the text to write
+     */
+    private void putText(int offset, int length, String text){
+        byte[] bytes = encoded.get(text);
+        if(bytes == null){
+            if(encoded.size() >= MAX_ENCODED){
+                encoded.clear();
+            }
+            bytes = encoded.computeIfAbsent(text, AuditLog::encode);
+        }
+        int textLength = truncatedLength(bytes, length);
+        for(int i = 0; i < length; i++){
+            buffer.put(offset + i, (i < textLength) ? bytes[i] : 0);
+        }
+    }
+
+    /**
+     * Encodes a text field as UTF-8, truncated to the longest text field.
+     *
+     * @param text the text to encode
+     * @return the encoded text
+     */
+    private static byte[] encode(String text){
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        return Arrays.copyOf(bytes, truncatedLength(bytes, TARGET_LENGTH));
+    }
+
+    /**
+     * Gets the number of bytes of UTF-8 text that fit in a field, without splitting a character.
+     *
+     * @param bytes  the encoded text
+     * @param length the length of the field, in bytes
+     * @return the number of bytes of the text to write, ending on a character boundary
+     */
+    private static int truncatedLength(byte[] bytes, int length){
+        if(bytes.length <= length){
+            return bytes.length;
+        }
+        int end = length;
+        // Back off over continuation bytes, so the character the field cuts through is left out whole.
+        while(end > 0 && (bytes[end] & 0xC0) == 0x80){
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Moves on to the next segment, mapping it now if it wasn't mapped ahead of time. Flushing and closing the
+     * full segment, deleting the oldest segments and mapping the segment after are left to the IO pool.
+     *
+     * @return true if the new segment was opened, false if it could not be and the log is now disabled
+     */
+    private boolean rotate(){
+        FileChannel fullChannel = channel;
+        MappedByteBuffer fullBuffer = buffer;
+        if(nextBuffer != null){
+            channel = nextChannel;
+            buffer = nextBuffer;
+            nextChannel = null;
+            nextBuffer = null;
+            segmentNumber++;
+            position = 0;
+        }
+        else{
+            try{
+                openSegment(segmentNumber + 1);
+            }
+            catch(IOException e){
+                PixelHunt.getLogger().error("PixelHunt could not start a new audit log segment. " +
+                        "Payouts will no longer be recorded.", e);
+                channel = null;
+                buffer = null;
+                closeSegment(fullChannel, fullBuffer);
+                return false;
+            }
+        }
+
+        submitIo(() -> {
+            closeSegment(fullChannel, fullBuffer);
+            deleteOldSegments();
+            prepareNextSegment();
+        });
+        return true;
+    }
+
+    /**
+     * Maps the segment after the current one, so the log can move straight on to it once the current segment
+     * is full. Does nothing if it is already mapped or the log is closed. Run on the IO pool.
+     */
+    private void prepareNextSegment(){
+        long number;
+        synchronized(this){
+            if(buffer == null || nextBuffer != null){
+                return;
+            }
+            number = segmentNumber + 1;
+        }
+
+        FileChannel preparedChannel = null;
+        try{
+            preparedChannel = openChannel(number);
+            MappedByteBuffer prepared = map(preparedChannel);
+            synchronized(this){
+                if(buffer != null && nextBuffer == null && segmentNumber + 1 == number){
+                    nextChannel = preparedChannel;
+                    nextBuffer = prepared;
+                    return;
+                }
+            }
+            // The log was closed, or moved on without waiting for this segment.
+            preparedChannel.close();
+        }
+        catch(IOException e){
+            PixelHunt.getLogger().warn("PixelHunt could not map its next audit log segment ahead of time. " +
+                    "It will be mapped once it is needed.", e);
+            if(preparedChannel != null){
+                closeSegment(preparedChannel, null);
+            }
+        }
+    }
+
+    /**
+     * Deletes the oldest segments up to the current one, once there are more than the configured maximum.
+     * Segments mapped ahead of time aren't counted. Run on the IO pool.
+     */
+    private void deleteOldSegments(){
+        long current;
+        synchronized(this){
+            current = segmentNumber;
+        }
+        try{
+            List<Long> segments = listSegments();
+            int written = 0;
+            while(written < segments.size() && segments.get(written) <= current){
+                written++;
+            }
+            for(int i = 0; i < written - maxSegments; i++){
+                Files.deleteIfExists(getSegmentPath(segments.get(i)));
+            }
+        }
+        catch(IOException e){
+            PixelHunt.getLogger().error("PixelHunt could not delete its oldest audit log segments.", e);
+        }
+    }
+
+    /**
+     * Flushes a segment to disk and closes its channel, logging any failure.
+     *
+     * @param segmentChannel the channel of the segment
+     * @param segmentBuffer  the mapped contents of the segment, or null if it needn't be flushed
+     */
+    private static void closeSegment(FileChannel segmentChannel, MappedByteBuffer segmentBuffer){
+        try{
+            if(segmentBuffer != null){
+                segmentBuffer.force();
+            }
+            segmentChannel.close();
+        }
+        catch(IOException e){
+            PixelHunt.getLogger().error("PixelHunt could not close an audit log segment.", e);
+        }
+    }
+
+    /**
+     * Runs work on the IO pool, or on the current thread if the pool won't take it, such as while shutting down.
+     *
+     * @param work the work to run
+     */
+    private static void submitIo(Runnable work){
+        try{
+            PixelHunt.getExecutors().get(ExecutorPool.IO).execute(work);
+        }
+        catch(RejectedExecutionException e){
+            work.run();
+        }
+    }
+
+    /**
+     * Opens a segment for writing, creating it if it doesn't exist.
+     *
+     * @param number the number of the segment
+     * @throws IOException if the segment could not be opened
+     */
+    private void openSegment(long number) throws IOException{
+        channel = openChannel(number);
+        buffer = map(channel);
+        segmentNumber = number;
+        position = 0;
+    }
+
+    /**
+     * Opens the channel of a segment for writing, creating the segment if it doesn't exist.
+     *
+     * @param number the number of the segment
+     * @return the channel of the segment
+     * @throws IOException if the segment could not be opened
+     */
+    private FileChannel openChannel(long number) throws IOException{
+        return FileChannel.open(getSegmentPath(number),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Maps the contents of a segment for writing.
+     *
+     * @param segmentChannel the channel of the segment
+     * @return the mapped contents of the segment
+     * @throws IOException if the segment could not be mapped
+     */
+    private MappedByteBuffer map(FileChannel segmentChannel) throws IOException{
+        return segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, (long) segmentRecords * RECORD_SIZE);
+    }
+
+    /**
+     * Flushes the current segment to disk and stops recording.
+     */
+    public synchronized void close(){
+        if(buffer != null){
+            try{
+                buffer.force();
+                channel.close();
+            }
+            catch(IOException e){
+                PixelHunt.getLogger().error("PixelHunt could not close its audit log.", e);
+            }
+            channel = null;
+            buffer = null;
+        }
+        if(nextChannel != null){
+            closeSegment(nextChannel, null);
+            nextChannel = null;
+            nextBuffer = null;
+        }
+    }
+
+    /**
+     * Finds the most recent records matching a filter, scanning segments from newest to oldest.
+     * Segments are mapped rather than read into memory, and the scan stops once enough records are found
+     * or a segment starts before the time range. Records older than the range within a segment are skipped
+     * rather than ending the scan, in case the clock went back while the segment was written.
+     *
+     * @param player     the player to find records for, or null for any player
+     * @param species    the species to find records for, or null for any species
+     * @param fromMillis the earliest time to find records from, in epoch milliseconds
+     * @param toMillis   the latest time to find records to, in epoch milliseconds
+     * @param limit      the maximum number of records to find
+     * @return the matching records, newest first
+     * @throws IOException if a segment could not be read
+     */
+    public List<AuditEntry> query(UUID player, EnumSpecies species, long fromMillis, long toMillis, int limit)
+            throws IOException{
+        List<AuditEntry> results = new ArrayList<>();
+        List<Long> segments = listSegments();
+        long activeSegment;
+        int activePosition;
+        boolean active;
+        synchronized(this){
+            activeSegment = segmentNumber;
+            activePosition = position;
+            active = buffer != null;
+        }
+
+        for(int s = segments.size() - 1; s >= 0 && results.size() < limit; s--){
+            try(FileChannel readChannel = FileChannel.open(getSegmentPath(segments.get(s)), StandardOpenOption.READ)){
+                int records = (int) Math.min(segmentRecords, readChannel.size() / RECORD_SIZE);
+                ByteBuffer segment = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, (long) records * RECORD_SIZE);
+                int count = (active && segments.get(s) == activeSegment)
+                        ? Math.min(activePosition, records) : countRecords(segment, records);
+
+                for(int i = count - 1; i >= 0 && results.size() < limit; i--){
+                    int base = i * RECORD_SIZE;
+                    long timestamp = segment.getLong(base + TIMESTAMP);
+                    if(timestamp > toMillis || timestamp == 0){
+                        continue;
+                    }
+                    if(timestamp < fromMillis){
+                        continue;
+                    }
+                    if(player != null && (segment.getLong(base + PLAYER_MOST) != player.getMostSignificantBits()
+                            || segment.getLong(base + PLAYER_LEAST) != player.getLeastSignificantBits())){
+                        continue;
+                    }
+                    if(species != null && segment.getShort(base + SPECIES) != species.ordinal()){
+                        continue;
+                    }
+                    results.add(readEntry(segment, base, timestamp));
+                }
+                // Older segments were written before this one started, so they are all older than the range.
+                if(count > 0 && segment.getLong(TIMESTAMP) < fromMillis){
+                    return results;
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Reads a record from a segment.
+     *
+     * @param segment   the contents of the segment
+     * @param base      the offset of the record in the segment
+     * @param timestamp the timestamp of the record
+     * @return the record
+     */
+    private static AuditEntry readEntry(ByteBuffer segment, int base, long timestamp){
+        UUID player = new UUID(segment.getLong(base + PLAYER_MOST), segment.getLong(base + PLAYER_LEAST));
+        EnumSpecies[] allSpecies = EnumSpecies.values();
+        EnumNature[] allNatures = EnumNature.values();
+        int speciesOrdinal = segment.getShort(base + SPECIES);
+        int natureOrdinal = segment.get(base + NATURE);
+        int typeOrdinal = segment.get(base + TYPE);
+
+        return new AuditEntry(timestamp, player, getText(segment, base + BOARD, BOARD_LENGTH),
+                (speciesOrdinal >= 0 && speciesOrdinal < allSpecies.length) ? allSpecies[speciesOrdinal] : null,
+                (natureOrdinal >= 0 && natureOrdinal < allNatures.length) ? allNatures[natureOrdinal] : null,
+                (typeOrdinal >= 0 && typeOrdinal < AuditRecordType.values().length)
+                        ? AuditRecordType.values()[typeOrdinal] : AuditRecordType.OTHER,
+                segment.getDouble(base + AMOUNT), getText(segment, base + TARGET, TARGET_LENGTH));
+    }
+
+    /**
+     * Reads a zero padded text field from a segment.
+     *
+     * @param segment the contents of the segment
+     * @param offset  the offset of the field in the segment
+     * @param length  the length of the field, in bytes
+     * @return the text in the field
+     */
+    private static String getText(ByteBuffer segment, int offset, int length){
+        byte[] bytes = new byte[length];
+        int textLength = 0;
+        for(int i = 0; i < length; i++){
+            bytes[i] = segment.get(offset + i);
+            if(bytes[i] != 0){
+                textLength = i + 1;
+            }
+        }
+        return new String(bytes, 0, textLength, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Counts the records written to a segment. Records are written in order, so this is the index of
+     * the first unwritten record, found with a binary search.
+     *
+     * @param segment the contents of the segment
+     * @param records the number of records the segment can hold
+     * @return the number of records written to the segment
+     */
+    private static int countRecords(ByteBuffer segment, int records){
+        int low = 0;
+        int high = records;
+        while(low < high){
+            int mid = (low + high) >>> 1;
+            if(segment.getLong(mid * RECORD_SIZE + TIMESTAMP) != 0){
+                low = mid + 1;
+            }
+            else{
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Lists the numbers of every segment in the audit directory, oldest first.
+     *
+     * @return the numbers of every segment, oldest first
+     * @throws IOException if the audit directory could not be read
+     */
+    private List<Long> listSegments() throws IOException{
+        List<Long> segments = new ArrayList<>();
+        if(!Files.isDirectory(dir)){
+            return segments;
+        }
+        try(DirectoryStream<Path> stream = Files.newDirectoryStream(dir, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)){
+            for(Path path : stream){
+                String name = path.getFileName().toString();
+                try{
+                    segments.add(Long.parseLong(
+                            name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+                }
+                catch(NumberFormatException e){
+                    // Not a segment written by the audit log.
+                }
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    /**
+     * Gets the path of a segment.
+     *
+     * @param number the number of the segment
+     * @return the path of the segment
+     */
+    private Path getSegmentPath(long number){
+        return dir.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+}
@@ -0,0 +1,44 @@
+package jw.landon.pixelhunt.implementation.audit;
+
+/**
+ * The types of records in the audit log. The ordinal of each type is written to the log,
+ * so new types must only be added to the end.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public enum AuditRecordType {
+
+    /** A player completed a hunt. */
+    COMPLETION("Completion"),
+    /** An item reward was paid out. */
+    ITEM("Item"),
+    /** A currency reward was paid out. */
+    CURRENCY("Currency"),
+    /** A callback or command reward was paid out. */
+    CALLBACK("Callback"),
+    /** A reward of any other type was paid out. */
+    OTHER("Other");
+
+    /** The name of the type shown in audit results. */
+    private final String displayName;
+
+    /**
+     * Constructor for the record type.
+     *
+     * @param displayName the name of the type shown in audit results
+     */
+    AuditRecordType(String displayName){
+        this.displayName = displayName;
+    }
+
+    /**
+     * Gets the name of the type shown in audit results.
+     *
+     * @return the name of the type shown in audit results
+     */
+    public String getDisplayName(){
+        return displayName;
+    }
+
+}
@@ -1,17 +1,108 @@
 package jw.landon.pixelhunt.implementation.commands;
 
+import com.pixelmonmod.pixelmon.enums.EnumNature;
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.CompletionSource;
+import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import jw.landon.pixelhunt.api.hunts.HuntBoardSnapshot;
+import jw.landon.pixelhunt.api.hunts.rewards.Reward;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
 import org.spongepowered.api.command.CommandException;
 import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.command.args.CommandContext;
 import org.spongepowered.api.command.spec.CommandExecutor;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.api.text.serializer.TextSerializers;
 
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds a hunt for a species to a hunt board, with rewards rolled from the species' tier and completed
+ * in the ways set by the tier, as generated hunts are.
+ *
+ * <p>Natures may be given after the species, otherwise random natures are chosen. The hunt replaces the hunt
+ * in the slot given with -s. Otherwise it is placed in the first empty slot, or as boards are kept full,
+ * replaces the hunt that expires soonest. The board is given with -b, otherwise the board from configuration
+ * is used.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
 public class AddCommand implements CommandExecutor {
 
+    /** {@inheritDoc} */
     @Override
     public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
-        //TODO
-        return null;
+        Optional<EnumSpecies> maybeSpecies = args.getOne("species");
+        if(!maybeSpecies.isPresent()){
+            throw new CommandException(Text.of(TextColors.RED, "You must specify a Pokemon to hunt!"));
+        }
+
+        String boardName = args.<String>getOne("board")
+                .orElse(ConfigManager.getConfigNode("General", "Hunt-Board-Name").getString("Pixelmon Hunts"));
+        Optional<HuntBoard> maybeBoard = PixelHunt.getHuntAPI().getHuntBoardRegistry().getHuntBoard(boardName);
+        if(!maybeBoard.isPresent()){
+            throw new CommandException(Text.of(TextColors.RED, "No hunt board found with name " + boardName + "!"));
+        }
+        HuntBoard huntBoard = maybeBoard.get();
+
+        Optional<Integer> maybeSlot = args.getOne("slot");
+        if(maybeSlot.isPresent() && (maybeSlot.get() < 1 || maybeSlot.get() > huntBoard.getNumSlots())){
+            throw new CommandException(Text.of(TextColors.RED, "Slot must be between 1 and "
+                    + huntBoard.getNumSlots() + "!"));
+        }
+
+        EnumSpecies species = maybeSpecies.get();
+        Collection<EnumNature> natures = args.getAll("natures");
+        long huntDuration = ConfigManager.getConfigNode("General", "Hunt-Duration-Minutes").getLong(60);
+        Hunt.Builder builder = PixelHunt.getHuntAPI().getHuntBuilder()
+                .setSpecies(species)
+                .setNatures(natures.toArray(new EnumNature[0]))
+                .setRewards(PixelHunt.getHuntGenerator().rollRewards(species).toArray(new Reward[0]))
+                .setHuntDuration(huntDuration, TimeUnit.MINUTES);
+        CompletionSource[] sources = PixelHunt.getHuntGenerator().getCompletionSources(species);
+        if(sources != null){
+            builder.setCompletionSources(sources);
+        }
+        Hunt hunt = builder.build();
+
+        if(huntBoard.getNumSlots() == 0){
+            throw new CommandException(Text.of(TextColors.RED, "The hunt board has no slots!"));
+        }
+        int slot = maybeSlot.map((slotNumber) -> slotNumber - 1).orElseGet(() -> findSlot(huntBoard));
+        huntBoard.setHunt(slot, hunt);
+
+        String message = ConfigManager.getMessagesNode("Messages", "Commands", "Hunt-Added")
+                .getString("&6Hunt &fA hunt for &a{species} &fhas been added!");
+        message = message.replace("{species}", species.getLocalizedName());
+        src.sendMessage(TextSerializers.FORMATTING_CODE.deserialize(message));
+        return CommandResult.success();
+    }
+
+    /**
+     * Finds the slot to place a hunt in when no slot is given.
+     *
+     * @param huntBoard the board to place the hunt on, with at least one slot
+     * @return the first empty slot, or the slot of the hunt that expires soonest if the board is full
+     */
+    private int findSlot(HuntBoard huntBoard){
+        HuntBoardSnapshot snapshot = huntBoard.getSnapshot();
+        int soonest = 0;
+        for(int i = 0; i < snapshot.getNumSlots(); i++){
+            if(!snapshot.getHunt(i).isPresent()){
+                return i;
+            }
+            if(snapshot.getExpiryMillis(i) < snapshot.getExpiryMillis(soonest)){
+                soonest = i;
+            }
+        }
+        return soonest;
     }
 
 }
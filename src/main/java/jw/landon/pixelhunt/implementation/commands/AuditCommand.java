@@ -0,0 +1,135 @@
+package jw.landon.pixelhunt.implementation.commands;
+
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.implementation.audit.AuditEntry;
+import jw.landon.pixelhunt.implementation.audit.AuditRecordType;
+import jw.landon.pixelhunt.implementation.executors.ExecutorPool;
+import jw.landon.pixelhunt.implementation.scheduling.WorkPriority;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.command.spec.CommandExecutor;
+import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.service.pagination.PaginationList;
+import org.spongepowered.api.service.user.UserStorageService;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.format.TextColors;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shows the most recent hunt completions and reward payouts from the audit log.
+ *
+ * <p>Results can be filtered by player with -p, by species with -s, and by time range with --since and
+ * --until, both given in hours before now. The number of results is set with -l. The log is scanned
+ * on the IO pool, and the results are sent once the scan is finished.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class AuditCommand implements CommandExecutor {
+
+    /** The number of results shown if a limit isn't given. */
+    private static final int DEFAULT_LIMIT = 20;
+    /** The largest number of results that can be shown. */
+    private static final int MAX_LIMIT = 500;
+    /** The format for the time of each result. */
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+
+    /** {@inheritDoc} */
+    @Override
+    public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
+        UUID player = args.<User>getOne("player").map(User::getUniqueId).orElse(null);
+
+        EnumSpecies species = args.<EnumSpecies>getOne("species").orElse(null);
+
+        long now = System.currentTimeMillis();
+        long fromMillis = args.<Integer>getOne("since")
+                .map((hours) -> now - TimeUnit.HOURS.toMillis(hours)).orElse(0L);
+        long toMillis = args.<Integer>getOne("until")
+                .map((hours) -> now - TimeUnit.HOURS.toMillis(hours)).orElse(Long.MAX_VALUE);
+        int limit = Math.max(1, Math.min(MAX_LIMIT, args.<Integer>getOne("limit").orElse(DEFAULT_LIMIT)));
+
+        try{
+            PixelHunt.getExecutors().get(ExecutorPool.IO).execute(() -> {
+                List<AuditEntry> entries;
+                try{
+                    entries = PixelHunt.getAuditLog().query(player, species, fromMillis, toMillis, limit);
+                }
+                catch(IOException e){
+                    PixelHunt.getLogger().error("PixelHunt could not read its audit log.", e);
+                    PixelHunt.getTickScheduler().submit(WorkPriority.NORMAL, () ->
+                            src.sendMessage(Text.of(TextColors.RED, "The audit log could not be read!")));
+                    return;
+                }
+                PixelHunt.getTickScheduler().submit(WorkPriority.NORMAL, () -> sendResults(src, entries));
+            });
+        }
+        catch(RejectedExecutionException e){
+            throw new CommandException(Text.of(TextColors.RED, "The server is too busy to search the audit log!"));
+        }
+
+        src.sendMessage(Text.of(TextColors.GRAY, "Searching the audit log..."));
+        return CommandResult.success();
+    }
+
+    /**
+     * Sends the results of a search to the source that ran the command.
+     *
+     * @param src     the source that ran the command
+     * @param entries the records found, newest first
+     */
+    private void sendResults(CommandSource src, List<AuditEntry> entries){
+        if(entries.isEmpty()){
+            src.sendMessage(Text.of(TextColors.RED, "No audit records found!"));
+            return;
+        }
+
+        Optional<UserStorageService> userStorage = Sponge.getServiceManager().provide(UserStorageService.class);
+        Map<UUID, String> names = new HashMap<>();
+        List<Text> contents = new ArrayList<>();
+        for(AuditEntry entry : entries){
+            String name = names.computeIfAbsent(entry.getPlayer(), (uuid) -> userStorage
+                    .flatMap((storage) -> storage.get(uuid))
+                    .map(User::getName)
+                    .orElse(uuid.toString()));
+
+            String species = entry.getSpecies().map(EnumSpecies::getLocalizedName).orElse("?");
+            String detail = (entry.getType() == AuditRecordType.COMPLETION)
+                    ? species + " (" + entry.getNature().map(Enum::name).orElse("?") + ") on " + entry.getBoard()
+                    : formatAmount(entry.getAmount()) + " " + entry.getTarget() + " for " + species;
+
+            contents.add(Text.of(TextColors.GRAY, TIME_FORMAT.format(Instant.ofEpochMilli(entry.getTimestamp())), " ",
+                    TextColors.AQUA, name, " ",
+                    TextColors.YELLOW, entry.getType().getDisplayName(), " ",
+                    TextColors.WHITE, detail));
+        }
+
+        PaginationList.builder()
+                .title(Text.of(TextColors.GOLD, "Hunt Audit"))
+                .contents(contents)
+                .build()
+                .sendTo(src);
+    }
+
+    /**
+     * Formats an amount, without a decimal point if it is a whole number.
+     *
+     * @param amount the amount to format
+     * @return the formatted amount
+     */
+    private String formatAmount(double amount){
+        return (amount == Math.rint(amount)) ? String.valueOf((long) amount) : String.valueOf(amount);
+    }
+
+}
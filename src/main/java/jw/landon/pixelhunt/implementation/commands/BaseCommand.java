@@ -1,17 +1,43 @@
 package jw.landon.pixelhunt.implementation.commands;
 
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
 import org.spongepowered.api.command.CommandException;
 import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.command.args.CommandContext;
 import org.spongepowered.api.command.spec.CommandExecutor;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.format.TextColors;
 
+import java.util.Optional;
+
+/**
+ * Shows the hunt board from configuration, with species and natures in the language of the source.
+ * Players can only view the board if they are eligible for it.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
 public class BaseCommand implements CommandExecutor {
 
+    /** {@inheritDoc} */
     @Override
     public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
-        //TODO
-        return CommandResult.empty();
+        String boardName = ConfigManager.getConfigNode("General", "Hunt-Board-Name").getString("Pixelmon Hunts");
+        Optional<HuntBoard> maybeBoard = PixelHunt.getHuntAPI().getHuntBoardRegistry().getHuntBoard(boardName);
+        if(!maybeBoard.isPresent()){
+            throw new CommandException(Text.of(TextColors.RED, "No hunt board found with name " + boardName + "!"));
+        }
+
+        if(src instanceof Player && !PixelHunt.getEligibilityCache().isEligible((Player) src, maybeBoard.get())){
+            throw new CommandException(Text.of(TextColors.RED, "You do not have permission to view this hunt board!"));
+        }
+
+        maybeBoard.get().getHuntBoardPage(src.getLocale()).sendTo(src);
+        return CommandResult.success();
     }
 
 }
@@ -0,0 +1,139 @@
+package jw.landon.pixelhunt.implementation.commands;
+
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import jw.landon.pixelhunt.implementation.forecast.EconomyForecast;
+import jw.landon.pixelhunt.implementation.forecast.ForecastProfile;
+import jw.landon.pixelhunt.implementation.forecast.ForecastResult;
+import jw.landon.pixelhunt.implementation.forecast.PayoutHistogram;
+import jw.landon.pixelhunt.implementation.forecast.PayoutModel;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.command.spec.CommandExecutor;
+import org.spongepowered.api.service.pagination.PaginationList;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.format.TextColors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Forecasts the daily payouts of every reward by simulating many seasons of hunts, using the settings from the
+ * Economy-Forecast section of the configuration, and shows the mean and percentiles of each reward per day.
+ * Only one forecast may run at a time.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class ForecastCommand implements CommandExecutor {
+
+    /** The pool forecasts are simulated on, created on first use. */
+    private ForkJoinPool pool;
+    /** If a forecast is currently running. */
+    private boolean running;
+
+    /** {@inheritDoc} */
+    @Override
+    public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
+        if(running){
+            throw new CommandException(Text.of(TextColors.RED, "A forecast is already running!"));
+        }
+        ForecastProfile profile = new ForecastProfile(ConfigManager.getConfigNode("Economy-Forecast"),
+                ConfigManager.getConfigNode("General", "Hunt-Listing-Amount").getInt(4),
+                ConfigManager.getConfigNode("General", "Hunt-Duration-Minutes").getLong(60));
+        if(args.<Integer>getOne("seasons").isPresent()){
+            int seasons = args.<Integer>getOne("seasons").get();
+            if(seasons < 1){
+                throw new CommandException(Text.of(TextColors.RED, "Seasons must be at least 1!"));
+            }
+            profile.setSeasons(seasons);
+        }
+        if(args.<Integer>getOne("days").isPresent()){
+            int days = args.<Integer>getOne("days").get();
+            if(days < 1){
+                throw new CommandException(Text.of(TextColors.RED, "Days must be at least 1!"));
+            }
+            profile.setDays(days);
+        }
+
+        EconomyForecast forecast = new EconomyForecast(profile, (result) -> {
+            running = false;
+            sendResult(src, result, profile.getDays());
+        }, () -> {
+            running = false;
+            src.sendMessage(Text.of(TextColors.RED, "The forecast failed! Check the console for details."));
+        });
+        if(forecast.getModel().getNumKeys() == 0){
+            throw new CommandException(Text.of(TextColors.RED, "No hunt tiers have any rewards to forecast!"));
+        }
+
+        try{
+            if(pool == null){
+                pool = PixelHunt.getExecutors().createForkJoinPool("forecast", profile.getParallelism());
+            }
+            forecast.start(pool);
+        }
+        catch(RejectedExecutionException e){
+            throw new CommandException(Text.of(TextColors.RED, "The server is shutting down!"));
+        }
+        running = true;
+
+        src.sendMessage(Text.of(TextColors.GRAY, "Forecasting " + profile.getSeasons() + " seasons of "
+                + profile.getDays() + " days on " + pool.getParallelism() + " threads..."));
+        return CommandResult.success();
+    }
+
+    /**
+     * Sends the result of a finished forecast to the source that ran the command, and logs a summary.
+     *
+     * @param src    the source that ran the command
+     * @param result the result of the forecast
+     * @param days   the number of days in each season
+     */
+    private void sendResult(CommandSource src, ForecastResult result, int days){
+        PayoutModel model = result.getModel();
+        List<Text> contents = new ArrayList<>();
+        contents.add(Text.of(TextColors.GOLD, "Simulated ", TextColors.WHITE, result.getSeasons(), TextColors.GOLD,
+                " seasons of ", TextColors.WHITE, days, TextColors.GOLD, " days: ",
+                TextColors.WHITE, result.getHunts(), TextColors.GOLD, " hunts, ",
+                TextColors.WHITE, result.getCompletions(), TextColors.GOLD, " completions in ",
+                TextColors.WHITE, formatAmount(result.getElapsedNanos() / (double) TimeUnit.SECONDS.toNanos(1)), "s"));
+        for(int key = 0; key < model.getNumKeys(); key++){
+            PayoutHistogram histogram = result.getHistogram(key);
+            contents.add(Text.of(TextColors.AQUA, model.getKey(key), TextColors.GRAY, " per day: mean ",
+                    TextColors.WHITE, formatAmount(histogram.getMean()),
+                    TextColors.GRAY, " p50 ", TextColors.WHITE, formatAmount(histogram.getPercentile(50)),
+                    TextColors.GRAY, " p90 ", TextColors.WHITE, formatAmount(histogram.getPercentile(90)),
+                    TextColors.GRAY, " p99 ", TextColors.WHITE, formatAmount(histogram.getPercentile(99)),
+                    TextColors.GRAY, " max ", TextColors.WHITE, histogram.getMax()));
+
+            PixelHunt.getLogger().info("PixelHunt forecast {} per day: mean {} p50 {} p90 {} p99 {} max {}.",
+                    model.getKey(key), formatAmount(histogram.getMean()), formatAmount(histogram.getPercentile(50)),
+                    formatAmount(histogram.getPercentile(90)), formatAmount(histogram.getPercentile(99)),
+                    histogram.getMax());
+        }
+
+        PaginationList.builder()
+                .title(Text.of(TextColors.GOLD, "Economy Forecast"))
+                .contents(contents)
+                .build()
+                .sendTo(src);
+    }
+
+    /**
+     * Formats an amount with at most two decimal places.
+     *
+     * @param amount the amount to format
+     * @return the formatted amount
+     */
+    private String formatAmount(double amount){
+        return String.format(Locale.ROOT, "%.2f", amount).replaceAll("\\.?0+$", "");
+    }
+
+}
@@ -1,17 +1,31 @@
 package jw.landon.pixelhunt.implementation.commands;
 
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
 import org.spongepowered.api.command.CommandException;
 import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.command.args.CommandContext;
 import org.spongepowered.api.command.spec.CommandExecutor;
+import org.spongepowered.api.text.serializer.TextSerializers;
 
+/**
+ * Reloads every configuration file. Only what changed is rebuilt, and active hunts are kept.
+ * Edits are also picked up automatically while the configuration is being watched.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
 public class ReloadCommand implements CommandExecutor {
 
+    /** {@inheritDoc} */
     @Override
     public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
-        //TODO
-        return null;
+        ConfigManager.reload();
+
+        String message = ConfigManager.getMessagesNode("Messages", "Commands", "Reload")
+                .getString("&6Hunt &e&lConfig reloaded!");
+        src.sendMessage(TextSerializers.FORMATTING_CODE.deserialize(message));
+        return CommandResult.success();
     }
 
 }
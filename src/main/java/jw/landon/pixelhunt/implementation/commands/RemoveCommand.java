@@ -1,17 +1,61 @@
 package jw.landon.pixelhunt.implementation.commands;
 
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
 import org.spongepowered.api.command.CommandException;
 import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.command.args.CommandContext;
 import org.spongepowered.api.command.spec.CommandExecutor;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.api.text.serializer.TextSerializers;
 
+import java.util.Optional;
+
+/**
+ * Removes the hunt in a slot of a hunt board. Slots are numbered from 1, as shown on the hunt board.
+ * The emptied slot is filled with a new random hunt.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
 public class RemoveCommand implements CommandExecutor {
 
+    /** {@inheritDoc} */
     @Override
     public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
-        //TODO
-        return null;
+        Optional<Integer> maybeSlot = args.getOne("slot");
+        if(!maybeSlot.isPresent()){
+            throw new CommandException(Text.of(TextColors.RED, "You must specify a slot to remove!"));
+        }
+
+        String boardName = args.<String>getOne("board")
+                .orElse(ConfigManager.getConfigNode("General", "Hunt-Board-Name").getString("Pixelmon Hunts"));
+        Optional<HuntBoard> maybeBoard = PixelHunt.getHuntAPI().getHuntBoardRegistry().getHuntBoard(boardName);
+        if(!maybeBoard.isPresent()){
+            throw new CommandException(Text.of(TextColors.RED, "No hunt board found with name " + boardName + "!"));
+        }
+
+        HuntBoard huntBoard = maybeBoard.get();
+        int slot = maybeSlot.get();
+        if(slot < 1 || slot > huntBoard.getNumSlots()){
+            throw new CommandException(Text.of(TextColors.RED, "Slot must be between 1 and "
+                    + huntBoard.getNumSlots() + "!"));
+        }
+
+        Optional<Hunt> removed = huntBoard.removeHunt(slot - 1);
+        if(!removed.isPresent()){
+            throw new CommandException(Text.of(TextColors.RED, "There is no hunt in slot " + slot + "!"));
+        }
+
+        String message = ConfigManager.getMessagesNode("Messages", "Commands", "Hunt-Removed")
+                .getString("&6Hunt &fThe hunt for &a{species} &fhas been removed!");
+        message = message.replace("{species}", removed.get().getHuntedSpecies().getLocalizedName());
+        src.sendMessage(TextSerializers.FORMATTING_CODE.deserialize(message));
+        return CommandResult.success();
     }
 
 }
@@ -0,0 +1,74 @@
+package jw.landon.pixelhunt.implementation.commands;
+
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import jw.landon.pixelhunt.implementation.display.SidebarManager;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.command.spec.CommandExecutor;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.api.text.serializer.TextSerializers;
+
+import java.util.Optional;
+
+/**
+ * Toggles the hunt sidebar for the player running the command. If a board is given, that board is shown
+ * instead of hiding the sidebar, otherwise the board from configuration is used.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class SidebarCommand implements CommandExecutor {
+
+    /** {@inheritDoc} */
+    @Override
+    public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
+        if(!(src instanceof Player)){
+            throw new CommandException(Text.of(TextColors.RED, "Only players can view the hunt sidebar!"));
+        }
+        if(!ConfigManager.getConfigNode("General", "Sidebar", "Enabled").getBoolean(true)){
+            throw new CommandException(Text.of(TextColors.RED, "The hunt sidebar is disabled!"));
+        }
+        Player player = (Player) src;
+        SidebarManager sidebarManager = PixelHunt.getSidebarManager();
+
+        Optional<String> maybeBoardName = args.getOne("board");
+        if(!maybeBoardName.isPresent() && sidebarManager.hide(player)){
+            sendMessage(player, "Sidebar-Hidden", "&6Hunt &fThe hunt sidebar has been hidden!");
+            return CommandResult.success();
+        }
+
+        String boardName = maybeBoardName
+                .orElse(ConfigManager.getConfigNode("General", "Hunt-Board-Name").getString("Pixelmon Hunts"));
+        Optional<HuntBoard> maybeBoard = PixelHunt.getHuntAPI().getHuntBoardRegistry().getHuntBoard(boardName);
+        if(!maybeBoard.isPresent()){
+            throw new CommandException(Text.of(TextColors.RED, "No hunt board found with name " + boardName + "!"));
+        }
+
+        if(!PixelHunt.getEligibilityCache().isEligible(player, maybeBoard.get())){
+            throw new CommandException(Text.of(TextColors.RED, "You do not have permission to view this hunt board!"));
+        }
+
+        sidebarManager.show(player, maybeBoard.get());
+        sendMessage(player, "Sidebar-Shown", "&6Hunt &fThe hunt sidebar has been shown!");
+        return CommandResult.success();
+    }
+
+    /**
+     * Sends a command message from the messages configuration to a player.
+     *
+     * @param player       the player to send the message to
+     * @param key          the key of the message under Messages.Commands
+     * @param defaultValue the message to send if none is configured
+     */
+    private void sendMessage(Player player, String key, String defaultValue){
+        String message = ConfigManager.getMessagesNode("Messages", "Commands", key).getString(defaultValue);
+        player.sendMessage(TextSerializers.FORMATTING_CODE.deserialize(message));
+    }
+
+}
@@ -0,0 +1,98 @@
+package jw.landon.pixelhunt.implementation.commands;
+
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import jw.landon.pixelhunt.implementation.executors.ExecutorPool;
+import jw.landon.pixelhunt.implementation.hunts.HuntSimulation;
+import jw.landon.pixelhunt.implementation.scheduling.WorkPriority;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.command.spec.CommandExecutor;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.format.TextColors;
+
+import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates days of hunt board rotation with the current configuration, and shows which species came up
+ * most often. The real hunt boards are not affected.
+ *
+ * <p>The simulation is run on the compute pool, and its result is sent on the server thread.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class SimulateCommand implements CommandExecutor {
+
+    /** The largest number of days that can be simulated. */
+    private static final int MAX_DAYS = 365;
+    /** The largest number of slots that can be simulated. */
+    private static final int MAX_SLOTS = 64;
+    /** The number of most common species shown. */
+    private static final int TOP_SPECIES = 5;
+
+    /** {@inheritDoc} */
+    @Override
+    public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
+        int days = args.<Integer>getOne("days").orElse(7);
+        if(days < 1 || days > MAX_DAYS){
+            throw new CommandException(Text.of(TextColors.RED, "Days must be between 1 and " + MAX_DAYS + "!"));
+        }
+        int slots = args.<Integer>getOne("slots")
+                .orElse(ConfigManager.getConfigNode("General", "Hunt-Listing-Amount").getInt(4));
+        if(slots < 1 || slots > MAX_SLOTS){
+            throw new CommandException(Text.of(TextColors.RED, "Slots must be between 1 and " + MAX_SLOTS + "!"));
+        }
+
+        HuntSimulation simulation = new HuntSimulation(slots, days, TimeUnit.DAYS);
+        try{
+            PixelHunt.getExecutors().get(ExecutorPool.COMPUTE).execute(() -> {
+                HuntSimulation.Result result;
+                try{
+                    result = simulation.run();
+                }
+                catch(RuntimeException e){
+                    PixelHunt.getLogger().error("PixelHunt could not simulate hunt board rotation.", e);
+                    PixelHunt.getTickScheduler().submit(WorkPriority.NORMAL, () ->
+                            src.sendMessage(Text.of(TextColors.RED, "The simulation failed!")));
+                    return;
+                }
+                PixelHunt.getTickScheduler().submit(WorkPriority.NORMAL, () -> sendResult(src, days, slots, result));
+            });
+        }
+        catch(RejectedExecutionException e){
+            throw new CommandException(Text.of(TextColors.RED, "The server is too busy to run a simulation!"));
+        }
+
+        src.sendMessage(Text.of(TextColors.GRAY, "Simulating..."));
+        return CommandResult.success();
+    }
+
+    /**
+     * Sends the result of a simulation to the source that ran the command.
+     *
+     * @param src    the source that ran the command
+     * @param days   the number of days simulated
+     * @param slots  the number of slots simulated
+     * @param result the result of the simulation
+     */
+    private void sendResult(CommandSource src, int days, int slots, HuntSimulation.Result result){
+        src.sendMessage(Text.of(TextColors.GOLD, "Simulated ", TextColors.WHITE, days, TextColors.GOLD, " days of ",
+                TextColors.WHITE, slots, TextColors.GOLD, " slots in ", TextColors.WHITE, result.getElapsedMillis(),
+                TextColors.GOLD, "ms: ", TextColors.WHITE, result.getHuntsGenerated(), TextColors.GOLD,
+                " hunts of ", TextColors.WHITE, result.getSpeciesCounts().size(), TextColors.GOLD, " species."));
+
+        List<Map.Entry<EnumSpecies, Integer>> counts = new ArrayList<>(result.getSpeciesCounts().entrySet());
+        counts.sort(Map.Entry.<EnumSpecies, Integer>comparingByValue().reversed());
+        for(int i = 0; i < Math.min(TOP_SPECIES, counts.size()); i++){
+            src.sendMessage(Text.of(TextColors.AQUA, counts.get(i).getKey().getLocalizedName(), TextColors.GRAY, ": ",
+                    TextColors.WHITE, counts.get(i).getValue()));
+        }
+    }
+
+}
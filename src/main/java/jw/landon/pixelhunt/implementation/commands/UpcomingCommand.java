@@ -0,0 +1,83 @@
+package jw.landon.pixelhunt.implementation.commands;
+
+import com.pixelmonmod.pixelmon.enums.EnumNature;
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import jw.landon.pixelhunt.api.hunts.rewards.Reward;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import jw.landon.pixelhunt.implementation.locale.LocaleNames;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.command.spec.CommandExecutor;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.api.text.serializer.TextSerializers;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * Shows the hunts planned for a board, in the order they will be placed on it.
+ * If no board is given, the board from configuration is used.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class UpcomingCommand implements CommandExecutor {
+
+    /** {@inheritDoc} */
+    @Override
+    public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
+        if(!ConfigManager.getConfigNode("General", "Planner", "Enabled").getBoolean(true)){
+            throw new CommandException(Text.of(TextColors.RED, "Hunts are not being planned ahead of time!"));
+        }
+        String boardName = args.<String>getOne("board")
+                .orElse(ConfigManager.getConfigNode("General", "Hunt-Board-Name").getString("Pixelmon Hunts"));
+        Optional<HuntBoard> maybeBoard = PixelHunt.getHuntAPI().getHuntBoardRegistry().getHuntBoard(boardName);
+        if(!maybeBoard.isPresent()){
+            throw new CommandException(Text.of(TextColors.RED, "No hunt board found with name " + boardName + "!"));
+        }
+
+        List<Hunt> planned = PixelHunt.getRotationPlanner().getPlanned(maybeBoard.get());
+        if(planned.isEmpty()){
+            src.sendMessage(Text.of(TextColors.GOLD, "No hunts are planned for ", TextColors.WHITE,
+                    maybeBoard.get().getHuntBoardName(), TextColors.GOLD, " yet."));
+            return CommandResult.success();
+        }
+
+        LocaleNames names = LocaleNames.of(src.getLocale());
+        src.sendMessage(Text.of(TextColors.GOLD, "Upcoming hunts for ", TextColors.WHITE,
+                maybeBoard.get().getHuntBoardName(), TextColors.GOLD, ":"));
+        for(int i = 0; i < planned.size(); i++){
+            Hunt hunt = planned.get(i);
+            src.sendMessage(Text.of(TextColors.GRAY, (i + 1) + ". ",
+                    TextColors.AQUA, names.getSpeciesName(hunt.getHuntedSpecies()),
+                    TextColors.GRAY, " (", formatNatures(hunt.getHuntedNatures(), names), ")"));
+            for(Reward reward : hunt.getRewards()){
+                src.sendMessage(Text.of(TextColors.GRAY, "    - ",
+                        TextSerializers.FORMATTING_CODE.deserialize(reward.getDescription())));
+            }
+        }
+        return CommandResult.success();
+    }
+
+    /**
+     * Joins the names of the natures being hunted.
+     *
+     * @param natures the natures being hunted
+     * @param names   the names to use for the natures
+     * @return the names of the natures, separated by commas
+     */
+    private String formatNatures(List<EnumNature> natures, LocaleNames names){
+        StringJoiner joiner = new StringJoiner(", ");
+        for(EnumNature nature : natures){
+            joiner.add(names.getNatureName(nature));
+        }
+        return joiner.toString();
+    }
+
+}
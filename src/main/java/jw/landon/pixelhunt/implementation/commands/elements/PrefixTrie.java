@@ -0,0 +1,201 @@
+package jw.landon.pixelhunt.implementation.commands.elements;
+
+import java.util.*;
+
+/**
+ * Maps names to values for lookup and completion by prefix, in time proportional to the length of the prefix.
+ *
+ * <p>Names are normalized before being stored or looked up, ignoring case and any character that isn't
+ * a letter or digit, so "Mr. Mime" and "mrmime" are the same name. Several names may map to the same value,
+ * such as the English and localized names of a species.</p>
+ *
+ * <p>Every node keeps the completions for names below it, up to a limit, and the single value below it
+ * if there is only one. The trie is built once and must not be modified after it is shared between threads.</p>
+ *
+ * @param <T> the type of values in the trie
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class PrefixTrie<T> {
+
+    /** The maximum number of completions kept at each node. */
+    private static final int MAX_COMPLETIONS = 64;
+
+    /** The root of the trie, matching the empty prefix. */
+    private Node<T> root = new Node<>();
+
+    /**
+     * Adds a name to the trie.
+     *
+     * @param name  the name, also used as its completion with spaces removed
+     * @param value the value of the name
+     * @throws NullPointerException if the name is null
+     * @throws NullPointerException if the value is null
+     */
+    public void put(String name, T value){
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+        String key = normalize(name);
+        if(key.isEmpty()){
+            return;
+        }
+        String completion = name.replace(" ", "");
+
+        Node<T> node = root;
+        node.addBelow(value, completion);
+        for(int i = 0; i < key.length(); i++){
+            node = node.getOrCreateChild(key.charAt(i));
+            node.addBelow(value, completion);
+        }
+        node.value = value;
+    }
+
+    /**
+     * Gets the value of a name, or the value of the only name starting with it.
+     *
+     * @param name the name or prefix to look up
+     * @return the value of the name, or empty if there is no such name or the prefix is ambiguous
+     */
+    public Optional<T> get(String name){
+        Node<T> node = find(normalize(name));
+        if(node == null){
+            return Optional.empty();
+        }
+        return Optional.ofNullable((node.value != null) ? node.value : node.unique);
+    }
+
+    /**
+     * Gets the names starting with a prefix, for tab completion.
+     *
+     * @param prefix the prefix of the names
+     * @return the names starting with the prefix, up to a limit
+     */
+    public List<String> complete(String prefix){
+        Node<T> node = find(normalize(prefix));
+        return (node != null) ? Collections.unmodifiableList(node.completions) : Collections.emptyList();
+    }
+
+    /**
+     * Finds the node for a normalized prefix.
+     *
+     * @param key the normalized prefix
+     * @return the node for the prefix, or null if no name starts with it
+     */
+    private Node<T> find(String key){
+        Node<T> node = root;
+        for(int i = 0; i < key.length() && node != null; i++){
+            node = node.getChild(key.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Normalizes a name, ignoring case and any character that isn't a letter or digit.
+     *
+     * @param name the name to normalize
+     * @return the normalized name
+     */
+    static String normalize(String name){
+        StringBuilder builder = new StringBuilder(name.length());
+        for(int i = 0; i < name.length(); i++){
+            char c = name.charAt(i);
+            if(Character.isLetterOrDigit(c)){
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * A node of the trie, matching a prefix of one or more names.
+     *
+     * @param <T> the type of values in the trie
+     */
+    private static class Node<T> {
+
+        /** The characters leading to each child, kept sorted for binary search. */
+        private char[] keys = new char[0];
+        /** The children of the node, parallel to the keys. */
+        private Node<T>[] children = newArray(0);
+        /** The value of the name ending at this node, or null if no name ends here. */
+        private T value;
+        /** The only value of names below this node, or null if there are none or more than one. */
+        private T unique;
+        /** If any value has been added below this node. */
+        private boolean hasValues;
+        /** The completions for names below this node, up to a limit. */
+        private List<String> completions = new ArrayList<>();
+
+        /**
+         * Records a name below this node.
+         *
+         * @param value      the value of the name
+         * @param completion the completion for the name
+         */
+        private void addBelow(T value, String completion){
+            if(!hasValues){
+                unique = value;
+                hasValues = true;
+            }
+            else if(unique != null && !unique.equals(value)){
+                unique = null;
+            }
+            if(completions.size() < MAX_COMPLETIONS && !completions.contains(completion)){
+                completions.add(completion);
+            }
+        }
+
+        /**
+         * Gets the child for a character.
+         *
+         * @param c the character
+         * @return the child for the character, or null if there isn't one
+         */
+        private Node<T> getChild(char c){
+            int index = Arrays.binarySearch(keys, c);
+            return (index >= 0) ? children[index] : null;
+        }
+
+        /**
+         * Gets the child for a character, creating it if it doesn't exist.
+         *
+         * @param c the character
+         * @return the child for the character
+         */
+        private Node<T> getOrCreateChild(char c){
+            int index = Arrays.binarySearch(keys, c);
+            if(index >= 0){
+                return children[index];
+            }
+
+            int insert = -index - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node<T>[] newChildren = newArray(children.length + 1);
+            System.arraycopy(keys, 0, newKeys, 0, insert);
+            System.arraycopy(children, 0, newChildren, 0, insert);
+            System.arraycopy(keys, insert, newKeys, insert + 1, keys.length - insert);
+            System.arraycopy(children, insert, newChildren, insert + 1, children.length - insert);
+
+            Node<T> child = new Node<>();
+            newKeys[insert] = c;
+            newChildren[insert] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        /**
+         * Creates an array of nodes.
+         *
+         * @param length the length of the array
+         * @param <T>    the type of values in the trie
+         * @return an array of nodes
+         */
+        @SuppressWarnings("unchecked")
+        private static <T> Node<T>[] newArray(int length){
+            return (Node<T>[]) new Node[length];
+        }
+
+    }
+
+}
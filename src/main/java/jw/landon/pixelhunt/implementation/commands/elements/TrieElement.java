@@ -0,0 +1,118 @@
+package jw.landon.pixelhunt.implementation.commands.elements;
+
+import com.pixelmonmod.pixelmon.enums.EnumNature;
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.ArgumentParseException;
+import org.spongepowered.api.command.args.CommandArgs;
+import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.command.args.CommandElement;
+import org.spongepowered.api.text.Text;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Command argument that parses and tab completes a name from a {@link PrefixTrie}.
+ *
+ * <p>A name is accepted if it matches exactly, or if it is a prefix of only one value's names.
+ * Species and nature tries are built once, from both the English and localized names,
+ * the first time they are used.</p>
+ *
+ * @param <T> the type of value parsed
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class TrieElement<T> extends CommandElement {
+
+    /** Supplies the trie to parse names from. */
+    private Supplier<PrefixTrie<T>> trie;
+    /** The kind of value parsed, shown in errors. */
+    private String kind;
+
+    /**
+     * Constructor for the trie element.
+     *
+     * @param key  the key to store the parsed value under
+     * @param trie supplies the trie to parse names from
+     * @param kind the kind of value parsed, shown in errors
+     */
+    public TrieElement(Text key, Supplier<PrefixTrie<T>> trie, String kind){
+        super(key);
+        this.trie = trie;
+        this.kind = kind;
+    }
+
+    /**
+     * Creates an element that parses a species.
+     *
+     * @param key the key to store the parsed species under
+     * @return an element that parses a species
+     */
+    public static TrieElement<EnumSpecies> species(Text key){
+        return new TrieElement<>(key, () -> SpeciesTrie.INSTANCE, "Pokemon");
+    }
+
+    /**
+     * Creates an element that parses a nature.
+     *
+     * @param key the key to store the parsed nature under
+     * @return an element that parses a nature
+     */
+    public static TrieElement<EnumNature> nature(Text key){
+        return new TrieElement<>(key, () -> NatureTrie.INSTANCE, "nature");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
+        String name = args.next();
+        Optional<T> value = trie.get().get(name);
+        if(!value.isPresent()){
+            throw args.createError(Text.of("No " + kind + " found with name " + name + "!"));
+        }
+        return value.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<String> complete(CommandSource src, CommandArgs args, CommandContext context){
+        return trie.get().complete(args.nextIfPresent().orElse(""));
+    }
+
+    /**
+     * Holder for the species trie, built the first time it is used.
+     */
+    private static class SpeciesTrie {
+
+        /** The trie of English and localized species names. */
+        private static final PrefixTrie<EnumSpecies> INSTANCE = new PrefixTrie<>();
+
+        static{
+            for(EnumSpecies species : EnumSpecies.values()){
+                INSTANCE.put(species.getPokemonName(), species);
+                INSTANCE.put(species.getLocalizedName(), species);
+            }
+        }
+
+    }
+
+    /**
+     * Holder for the nature trie, built the first time it is used.
+     */
+    private static class NatureTrie {
+
+        /** The trie of English and localized nature names. */
+        private static final PrefixTrie<EnumNature> INSTANCE = new PrefixTrie<>();
+
+        static{
+            for(EnumNature nature : EnumNature.values()){
+                INSTANCE.put(nature.name(), nature);
+                INSTANCE.put(nature.getLocalizedName(), nature);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,217 @@
+package jw.landon.pixelhunt.implementation.completion;
+
+import java.util.Arrays;
+
+/**
+ * Compressed set of {@link PlayerIndex player indices} that have completed a hunt.
+ *
+ * <p>Indices are split into a high 16 bit key and a low 16 bit value, in the same manner as a
+ * roaring bitmap. Each key owns a container holding its low values, stored as a sorted array
+ * while sparse and converted into a bitmap once it holds more than {@value #ARRAY_LIMIT} values.</p>
+ *
+ * <p>This is not thread safe, and is expected to only be accessed from the server thread.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class CompleterSet {
+
+    /** The maximum number of values an array container holds before being converted to a bitmap. */
+    private static final int ARRAY_LIMIT = 4096;
+    /** The number of words in a bitmap container, enough to hold every 16 bit value. */
+    private static final int BITMAP_WORDS = 1024;
+
+    /** The high 16 bits of each container, sorted. */
+    private char[] keys = new char[1];
+    /** The containers holding the low 16 bits of each index, parallel to the keys. */
+    private Container[] containers = new Container[1];
+    /** The number of containers in use. */
+    private int numContainers;
+    /** The number of indices in the set. */
+    private int cardinality;
+
+    /**
+     * Checks if an index is in the set.
+     *
+     * @param index the index to check
+     * @return true if the index is in the set, false if it isn't
+     */
+    public boolean contains(int index){
+        if(index < 0){
+            return false;
+        }
+        int pos = findKey((char) (index >>> 16));
+        return pos >= 0 && containers[pos].contains((char) index);
+    }
+
+    /**
+     * Adds an index to the set.
+     *
+     * @param index the index to add
+     * @return true if the index was added, false if it was already in the set
+     * @throws IllegalArgumentException if the index is negative
+     */
+    public boolean add(int index){
+        if(index < 0){
+            throw new IllegalArgumentException("index must be greater than or equal to 0");
+        }
+        char key = (char) (index >>> 16);
+        char value = (char) index;
+
+        int pos = findKey(key);
+        if(pos < 0){
+            pos = -pos - 1;
+            insertContainer(pos, key);
+        }
+
+        Container container = containers[pos];
+        if(container.contains(value)){
+            return false;
+        }
+        if(container instanceof ArrayContainer && ((ArrayContainer) container).size == ARRAY_LIMIT){
+            container = ((ArrayContainer) container).toBitmap();
+            containers[pos] = container;
+        }
+        container.add(value);
+        cardinality++;
+        return true;
+    }
+
+    /**
+     * Gets the number of indices in the set.
+     *
+     * @return the number of indices in the set
+     */
+    public int size(){
+        return cardinality;
+    }
+
+    /**
+     * Removes all indices from the set. The key array is kept so the set can be reused.
+     */
+    public void clear(){
+        Arrays.fill(containers, 0, numContainers, null);
+        numContainers = 0;
+        cardinality = 0;
+    }
+
+    /**
+     * Finds the position of a key within the key array.
+     *
+     * @param key the key to find
+     * @return position of the key, or (-(insertion point) - 1) if it is not present
+     */
+    private int findKey(char key){
+        // Indices are dense, so the set almost always has a single container.
+        if(numContainers == 1){
+            return (keys[0] == key) ? 0 : ((key < keys[0]) ? -1 : -2);
+        }
+        return Arrays.binarySearch(keys, 0, numContainers, key);
+    }
+
+    /**
+     * Inserts a new, empty container at a position in the container array.
+     *
+     * @param pos the position to insert at
+     * @param key the key of the container
+     */
+    private void insertContainer(int pos, char key){
+        if(numContainers == keys.length){
+            keys = Arrays.copyOf(keys, numContainers * 2);
+            containers = Arrays.copyOf(containers, numContainers * 2);
+        }
+        System.arraycopy(keys, pos, keys, pos + 1, numContainers - pos);
+        System.arraycopy(containers, pos, containers, pos + 1, numContainers - pos);
+        keys[pos] = key;
+        containers[pos] = new ArrayContainer();
+        numContainers++;
+    }
+
+    /**
+     * Holds the low 16 bits of indices sharing the same high 16 bits.
+     */
+    private interface Container {
+
+        /**
+         * Checks if a value is in the container.
+         *
+         * @param value the value to check
+         * @return true if the value is in the container, false if it isn't
+         */
+        boolean contains(char value);
+
+        /**
+         * Adds a value to the container. The value must not already be present.
+         *
+         * @param value the value to add
+         */
+        void add(char value);
+
+    }
+
+    /**
+     * Container storing values in a sorted array, used while the container is sparse.
+     */
+    private static class ArrayContainer implements Container {
+
+        /** The sorted values in the container. */
+        private char[] values = new char[4];
+        /** The number of values in the container. */
+        private int size;
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean contains(char value){
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void add(char value){
+            int pos = -Arrays.binarySearch(values, 0, size, value) - 1;
+            if(size == values.length){
+                values = Arrays.copyOf(values, Math.min(size * 2, ARRAY_LIMIT));
+            }
+            System.arraycopy(values, pos, values, pos + 1, size - pos);
+            values[pos] = value;
+            size++;
+        }
+
+        /**
+         * Converts the container into a bitmap container holding the same values.
+         *
+         * @return bitmap container holding the same values
+         */
+        private BitmapContainer toBitmap(){
+            BitmapContainer bitmap = new BitmapContainer();
+            for(int i = 0; i < size; i++){
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+
+    }
+
+    /**
+     * Container storing values as bits, used once the container is dense.
+     */
+    private static class BitmapContainer implements Container {
+
+        /** The bits for each value in the container. */
+        private long[] words = new long[BITMAP_WORDS];
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean contains(char value){
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void add(char value){
+            words[value >>> 6] |= (1L << value);
+        }
+
+    }
+
+}
@@ -0,0 +1,89 @@
+package jw.landon.pixelhunt.implementation.completion;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Counts the hunts each online player has completed since they joined.
+ *
+ * <p>Counts are kept in an array addressed by {@link PlayerIndex}, which grows as players are interned, so a
+ * count is never boxed and reading one only looks the player's index up. A player's count is reset when they
+ * leave through {@link #remove}. Counts are only changed from the server thread, but may be read from any
+ * thread.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class CompletionCounter {
+
+    /** The smallest number of players the counts are kept for. */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** The number of hunts each player has completed, indexed by player index. Replaced when it grows. */
+    private static volatile AtomicIntegerArray counts = new AtomicIntegerArray(INITIAL_CAPACITY);
+
+    /**
+     * Increments the number of hunts a player has completed.
+     *
+     * @param playerUUID the UUID of the player
+     * @throws NullPointerException if the UUID is null
+     */
+    public static void increment(UUID playerUUID){
+        Objects.requireNonNull(playerUUID, "player uuid must not be null");
+        int playerIndex = PlayerIndex.of(playerUUID);
+        ensureCapacity(playerIndex);
+        counts.incrementAndGet(playerIndex);
+    }
+
+    /**
+     * Gets the number of hunts a player has completed.
+     *
+     * @param playerUUID the UUID of the player
+     * @return the number of hunts the player has completed
+     * @throws NullPointerException if the UUID is null
+     */
+    public static int get(UUID playerUUID){
+        Objects.requireNonNull(playerUUID, "player uuid must not be null");
+        int playerIndex = PlayerIndex.find(playerUUID);
+        AtomicIntegerArray current = counts;
+        return (playerIndex >= 0 && playerIndex < current.length()) ? current.get(playerIndex) : 0;
+    }
+
+    /**
+     * Resets the number of hunts a player has completed.
+     *
+     * @param playerUUID the UUID of the player
+     * @throws NullPointerException if the UUID is null
+     */
+    public static void remove(UUID playerUUID){
+        Objects.requireNonNull(playerUUID, "player uuid must not be null");
+        int playerIndex = PlayerIndex.find(playerUUID);
+        AtomicIntegerArray current = counts;
+        if(playerIndex >= 0 && playerIndex < current.length()){
+            current.set(playerIndex, 0);
+        }
+    }
+
+    /**
+     * Grows the counts so they can hold a player index, doubling their size until they are large enough.
+     *
+     * @param playerIndex the player index the counts must hold
+     */
+    private static synchronized void ensureCapacity(int playerIndex){
+        AtomicIntegerArray current = counts;
+        if(playerIndex < current.length()){
+            return;
+        }
+        int capacity = current.length();
+        while(capacity <= playerIndex){
+            capacity *= 2;
+        }
+        AtomicIntegerArray grown = new AtomicIntegerArray(capacity);
+        for(int i = 0; i < current.length(); i++){
+            grown.set(i, current.get(i));
+        }
+        counts = grown;
+    }
+
+}
@@ -0,0 +1,415 @@
+package jw.landon.pixelhunt.implementation.completion;
+
+import com.pixelmonmod.pixelmon.Pixelmon;
+import com.pixelmonmod.pixelmon.enums.EnumNature;
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.events.HuntCompleteEvent;
+import jw.landon.pixelhunt.api.hunts.CompletionSource;
+import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import jw.landon.pixelhunt.api.hunts.HuntBoardRegistry;
+import jw.landon.pixelhunt.api.hunts.rewards.Reward;
+import jw.landon.pixelhunt.implementation.events.HuntEvents;
+import jw.landon.pixelhunt.implementation.hunts.BaseHuntBoard;
+import jw.landon.pixelhunt.implementation.hunts.BaseHuntBoardRegistry;
+import jw.landon.pixelhunt.implementation.hunts.HuntBoardListener;
+import jw.landon.pixelhunt.implementation.listeners.EggHatchListener;
+import jw.landon.pixelhunt.implementation.listeners.PokemonCaptureListener;
+import jw.landon.pixelhunt.implementation.listeners.PokemonDefeatListener;
+import jw.landon.pixelhunt.implementation.listeners.PokemonEvolveListener;
+import jw.landon.pixelhunt.implementation.listeners.PokemonFishingListener;
+import jw.landon.pixelhunt.implementation.permissions.EligibilityCache;
+import jw.landon.pixelhunt.implementation.rewards.RewardExecutor;
+import jw.landon.pixelhunt.implementation.scheduling.WorkPriority;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.world.World;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Completes hunts from every {@link CompletionSource}, routing each completion only to the hunts that can be
+ * completed by its source.
+ *
+ * <p>Each source has a listener that turns its Pixelmon event into a call to {@link #dispatch}. Active hunts are
+ * indexed per world by source and species, from the boards the registry's world shards hold for that world, so a
+ * completion only looks at hunts of its species that accept its source and can be completed in the player's
+ * world, rather than every board. A world's index is built the first time it sees a completion after the index
+ * was dropped. The registry tells the dispatcher as soon as a hunt is placed on or removed from one of its boards,
+ * which drops the index, and a completion drops it too if the registry's version has changed, so a completion
+ * never sees a stale index and only pays for a rebuild after a change. Boards that don't report their hunts are
+ * checked for changes every tick through the
+ * {@link jw.landon.pixelhunt.implementation.scheduling.TickScheduler} at low priority instead. A source's listener
+ * is only subscribed to Pixelmon's event bus while an active hunt accepts the source, so events from sources no
+ * hunt cares about are never delivered. A source is subscribed as soon as a hunt accepting it is placed, and
+ * unsubscribed on a later tick once no hunt accepts it. Boards that need a permission
+ * are checked against the {@link EligibilityCache}, so a completion never has to ask the permission service.</p>
+ *
+ * <p>{@link HuntCompleteEvent} is posted before the hunt is completed, and cancelling it stops the completion,
+ * so nothing is counted or written to the audit log. Listeners can also change the rewards given. If the event
+ * shouldn't be posted, as nothing tracked is listening for it, it is never built. The completion is recorded,
+ * and written to the audit log, before rewards are distributed. Rewards are distributed through the
+ * {@link RewardExecutor}, so a failing reward cannot prevent the hunt from being completed.</p>
+ *
+ * <p>Must only be used from the server thread.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class CompletionDispatcher implements HuntBoardListener {
+
+    /** The number of completion sources. */
+    private static final int NUM_SOURCES = CompletionSource.values().length;
+    /** The number of species. */
+    private static final int NUM_SPECIES = EnumSpecies.values().length;
+    /** An empty list of index entries, shared by every species without active hunts. */
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    /** The registry whose boards completions are routed to. */
+    private final HuntBoardRegistry registry;
+    /** The listener of each source, indexed by source ordinal. */
+    private Object[] listeners = new Object[NUM_SOURCES];
+    /** If the listener of each source is subscribed to Pixelmon's event bus, indexed by source ordinal. */
+    private boolean[] subscribed = new boolean[NUM_SOURCES];
+    /**
+     * The active hunts that can be completed in each world, by world UUID, indexed by source ordinal then
+     * species ordinal. Only holds worlds that have seen a completion since the index was last dropped.
+     */
+    private Map<UUID, Entry[][][]> worldIndices = new HashMap<>();
+    /** The number of active hunts on every registered board accepting each source, indexed by source ordinal. */
+    private int[] sourceCounts = new int[NUM_SOURCES];
+    /** If a hunt has been placed or removed since the index was last dropped. */
+    private boolean dirty = true;
+    /** The version of the registry the index was built from. */
+    private long indexedRegistryVersion = Long.MIN_VALUE;
+    /** If the registry tells the dispatcher of hunts placed and removed on its {@link BaseHuntBoard}s. */
+    private final boolean notified;
+    /** The sum of the versions of the boards that don't report their hunts, when they were last checked. */
+    private long checkedBoardVersions = Long.MIN_VALUE;
+    /** The sum of the versions of the boards that don't report their hunts, while they are being summed. */
+    private long boardVersions;
+    /** Adds a board's version to the sum if it doesn't report its hunts, kept so summing doesn't allocate. */
+    private final Consumer<HuntBoard> boardVersionAdder = (huntBoard) -> {
+        if(!isNotifiedOf(huntBoard)){
+            boardVersions += huntBoard.getVersion();
+        }
+    };
+    /** If the dispatcher is started and subscribing sources. */
+    private boolean running;
+
+    /**
+     * Constructor for the completion dispatcher.
+     *
+     * @param registry the registry whose boards completions are routed to
+     * @throws NullPointerException if the registry is null
+     */
+    public CompletionDispatcher(HuntBoardRegistry registry){
+        this.registry = Objects.requireNonNull(registry, "registry must not be null");
+        this.notified = registry instanceof BaseHuntBoardRegistry;
+        if(notified){
+            ((BaseHuntBoardRegistry) registry).addListener(this);
+        }
+        listeners[CompletionSource.CAPTURE.ordinal()] = new PokemonCaptureListener();
+        listeners[CompletionSource.DEFEAT.ordinal()] = new PokemonDefeatListener();
+        listeners[CompletionSource.HATCH.ordinal()] = new EggHatchListener();
+        listeners[CompletionSource.EVOLVE.ordinal()] = new PokemonEvolveListener();
+        listeners[CompletionSource.FISH.ordinal()] = new PokemonFishingListener();
+    }
+
+    /**
+     * Counts the active hunts, subscribes the sources active hunts accept, and starts checking boards that
+     * don't report their hunts every tick.
+     */
+    public void start(){
+        if(!running){
+            running = true;
+            dirty = true;
+            countSources();
+            updateSubscriptions();
+            PixelHunt.getTickScheduler().submit(WorkPriority.LOW, this::tick);
+        }
+    }
+
+    /**
+     * Stops checking for changes and unsubscribes every source.
+     */
+    public void stop(){
+        running = false;
+        for(int i = 0; i < NUM_SOURCES; i++){
+            if(subscribed[i]){
+                Pixelmon.EVENT_BUS.unregister(listeners[i]);
+                subscribed[i] = false;
+            }
+        }
+    }
+
+    /**
+     * Refreshes the dispatcher, then schedules itself for the next tick.
+     */
+    private void tick(){
+        if(!running){
+            return;
+        }
+        refresh();
+        PixelHunt.getTickScheduler().schedule(WorkPriority.LOW, 50, TimeUnit.MILLISECONDS, this::tick);
+    }
+
+    /**
+     * Picks up changes to boards that don't report their hunts, by checking if their versions have changed,
+     * then unsubscribes sources no active hunt accepts any more while the dispatcher is running. Called every
+     * tick once the dispatcher is started, or by a harness driving the dispatcher without starting it.
+     *
+     * <p>Neither is needed for a completion to be seen: reported hunts drop the index and subscribe their
+     * sources as they are placed, and a source left subscribed only delivers events that match nothing.</p>
+     */
+    public void refresh(){
+        boardVersions = 0;
+        registry.forEachHuntBoard(boardVersionAdder);
+        // Versions only grow, so the sum only stays the same while none of the boards has changed. Boards
+        // being added or removed are caught by the registry's version instead.
+        if(boardVersions != checkedBoardVersions){
+            checkedBoardVersions = boardVersions;
+            dirty = true;
+            countSources();
+        }
+        if(running){
+            updateSubscriptions();
+        }
+    }
+
+    /**
+     * Drops the index and subscribes the hunt's sources straight away, so the hunt can be completed by the
+     * next event from any of them.
+     *
+     * @param huntBoard the board the hunt was placed on
+     * @param hunt      the hunt that was placed
+     */
+    @Override
+    public void onHuntPlaced(HuntBoard huntBoard, Hunt hunt){
+        dirty = true;
+        for(CompletionSource source : hunt.getCompletionSources()){
+            int i = source.ordinal();
+            sourceCounts[i]++;
+            if(running && !subscribed[i]){
+                Pixelmon.EVENT_BUS.register(listeners[i]);
+                subscribed[i] = true;
+            }
+        }
+    }
+
+    /**
+     * Drops the index. Sources no longer accepted by an active hunt are unsubscribed by {@link #refresh},
+     * rather than while Pixelmon may be posting to them.
+     *
+     * @param huntBoard the board the hunt was removed from
+     * @param hunt      the hunt that was removed
+     */
+    @Override
+    public void onHuntRemoved(HuntBoard huntBoard, Hunt hunt){
+        dirty = true;
+        for(CompletionSource source : hunt.getCompletionSources()){
+            sourceCounts[source.ordinal()]--;
+        }
+    }
+
+    /**
+     * Checks if the dispatcher is told of hunts placed on and removed from a board as it happens.
+     *
+     * @param huntBoard the board
+     * @return true if the board reports its hunts, false if its version must be checked
+     */
+    private boolean isNotifiedOf(HuntBoard huntBoard){
+        return notified && huntBoard instanceof BaseHuntBoard;
+    }
+
+    /**
+     * Subscribes the sources active hunts accept to Pixelmon's event bus, and unsubscribes the rest.
+     */
+    private void updateSubscriptions(){
+        for(int i = 0; i < NUM_SOURCES; i++){
+            boolean wanted = sourceCounts[i] > 0;
+            if(wanted && !subscribed[i]){
+                Pixelmon.EVENT_BUS.register(listeners[i]);
+            }
+            else if(!wanted && subscribed[i]){
+                Pixelmon.EVENT_BUS.unregister(listeners[i]);
+            }
+            subscribed[i] = wanted;
+        }
+    }
+
+    /**
+     * Counts the active hunts on every registered board accepting each source.
+     */
+    private void countSources(){
+        Arrays.fill(sourceCounts, 0);
+        registry.forEachHuntBoard((huntBoard) ->
+                huntBoard.forEachActiveHunt((hunt) -> {
+                    for(CompletionSource source : hunt.getCompletionSources()){
+                        sourceCounts[source.ordinal()]++;
+                    }
+                }));
+    }
+
+    /**
+     * Gets the index of a world, building it from the boards the registry holds for the world if it hasn't
+     * been built since the index was last dropped.
+     *
+     * @param world the world
+     * @return the active hunts that can be completed in the world, indexed by source ordinal then species ordinal
+     */
+    private Entry[][][] getWorldIndex(World world){
+        Entry[][][] worldIndex = worldIndices.get(world.getUniqueId());
+        if(worldIndex == null){
+            worldIndex = buildWorldIndex(world);
+            worldIndices.put(world.getUniqueId(), worldIndex);
+        }
+        return worldIndex;
+    }
+
+    /**
+     * Builds the index of a world from the active hunts of the boards the registry holds for the world.
+     *
+     * @param world the world
+     * @return the active hunts that can be completed in the world, indexed by source ordinal then species ordinal
+     */
+    private Entry[][][] buildWorldIndex(World world){
+        Map<Long, List<Entry>> bySourceAndSpecies = new HashMap<>();
+        EligibilityCache eligibilityCache = PixelHunt.getEligibilityCache();
+        registry.forEachHuntBoard(world, (huntBoard) -> {
+            int permissionIndex = eligibilityCache.getPermissionIndex(huntBoard);
+            huntBoard.forEachActiveHunt((hunt) -> {
+                Entry entry = new Entry(huntBoard, hunt, permissionIndex);
+                for(CompletionSource source : hunt.getCompletionSources()){
+                    long key = ((long) source.ordinal() << 32) | hunt.getHuntedSpecies().ordinal();
+                    bySourceAndSpecies.computeIfAbsent(key, (k) -> new ArrayList<>()).add(entry);
+                }
+            });
+        });
+
+        Entry[][][] worldIndex = new Entry[NUM_SOURCES][][];
+        for(Map.Entry<Long, List<Entry>> entries : bySourceAndSpecies.entrySet()){
+            int source = (int) (entries.getKey() >>> 32);
+            int species = (int) (long) entries.getKey();
+            if(worldIndex[source] == null){
+                worldIndex[source] = new Entry[NUM_SPECIES][];
+            }
+            worldIndex[source][species] = entries.getValue().toArray(NO_ENTRIES);
+        }
+        return worldIndex;
+    }
+
+    /**
+     * Completes every active hunt that a Pokemon matches and accepts the source, for a player that is eligible
+     * for its board and hasn't already completed it.
+     *
+     * @param source  the way the player obtained or encountered the Pokemon
+     * @param player  the player
+     * @param species the species of the Pokemon
+     * @param nature  the nature of the Pokemon
+     */
+    public void dispatch(CompletionSource source, Player player, EnumSpecies species, EnumNature nature){
+        if(species == null || nature == null){
+            return;
+        }
+        if(dirty || registry.getVersion() != indexedRegistryVersion){
+            worldIndices.clear();
+            dirty = false;
+            indexedRegistryVersion = registry.getVersion();
+        }
+        Entry[][] bySpecies = getWorldIndex(player.getWorld())[source.ordinal()];
+        Entry[] entries = (bySpecies != null) ? bySpecies[species.ordinal()] : null;
+        if(entries == null){
+            return;
+        }
+
+        UUID playerUUID = player.getUniqueId();
+        EligibilityCache eligibilityCache = PixelHunt.getEligibilityCache();
+        HuntEvents huntEvents = PixelHunt.getHuntEvents();
+        boolean observed = huntEvents.isObserved(HuntCompleteEvent.class);
+        for(Entry entry : entries){
+            if(!entry.hunt.isHuntedNature(nature)){
+                continue;
+            }
+            if(!eligibilityCache.isEligible(player, entry.permissionIndex)){
+                continue;
+            }
+            if(entry.huntBoard.hasCompleted(entry.hunt, playerUUID)){
+                continue;
+            }
+            complete(entry.huntBoard, entry.hunt, player, nature, source, huntEvents, observed);
+        }
+    }
+
+    /**
+     * Posts the completion event if it is observed, then, unless it was cancelled, completes a hunt for a player,
+     * records the completion and distributes rewards. Nothing is recorded if a listener removed the hunt, or
+     * the hunt otherwise couldn't be completed.
+     *
+     * @param huntBoard  the board the hunt is on
+     * @param hunt       the hunt to complete
+     * @param player     the player completing the hunt
+     * @param nature     the nature of the Pokemon
+     * @param source     the way the player completed the hunt
+     * @param huntEvents the tracker to post the completion event through
+     * @param observed   if the completion event should be posted
+     */
+    private void complete(HuntBoard huntBoard, Hunt hunt, Player player, EnumNature nature, CompletionSource source,
+                          HuntEvents huntEvents, boolean observed){
+        UUID playerUUID = player.getUniqueId();
+        List<Reward> rewards = hunt.getRewardsView();
+        if(observed){
+            HuntCompleteEvent completeEvent = huntEvents.postComplete(huntBoard, hunt, player, nature, source);
+            if(completeEvent.isCancelled()){
+                return;
+            }
+            rewards = completeEvent.getRewards();
+        }
+        if(!huntBoard.completeHunt(hunt, playerUUID)){
+            return;
+        }
+        CompletionCounter.increment(playerUUID);
+        PixelHunt.getAuditLog().recordCompletion(playerUUID, huntBoard.getHuntBoardName(), hunt, nature);
+        PixelHunt.getRewardExecutor().distributeRewards(huntBoard.getHuntBoardName(), hunt, rewards, player, nature);
+    }
+
+    /**
+     * Checks if a source's listener is subscribed to Pixelmon's event bus.
+     *
+     * @param source the completion source
+     * @return true if the source's listener is subscribed, false if it isn't
+     */
+    public boolean isSubscribed(CompletionSource source){
+        return subscribed[source.ordinal()];
+    }
+
+    /**
+     * An active hunt in the index.
+     */
+    private static class Entry {
+
+        /** The board the hunt is on. */
+        private final HuntBoard huntBoard;
+        /** The active hunt. */
+        private final Hunt hunt;
+        /** The index of the board's permission in the eligibility cache, or {@link EligibilityCache#NO_PERMISSION}. */
+        private final int permissionIndex;
+
+        /**
+         * Constructor for the index entry.
+         *
+         * @param huntBoard       the board the hunt is on
+         * @param hunt            the active hunt
+         * @param permissionIndex the index of the board's permission in the eligibility cache
+         */
+        private Entry(HuntBoard huntBoard, Hunt hunt, int permissionIndex){
+            this.huntBoard = huntBoard;
+            this.hunt = hunt;
+            this.permissionIndex = permissionIndex;
+        }
+
+    }
+
+}
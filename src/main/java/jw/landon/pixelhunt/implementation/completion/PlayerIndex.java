@@ -0,0 +1,58 @@
+package jw.landon.pixelhunt.implementation.completion;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interns player UUIDs into small, dense indices.
+ * Indices are handed out in order starting from 0 and are never reused, so they can be used
+ * to address players in compact structures such as {@link CompleterSet}.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class PlayerIndex {
+
+    /** Map of each interned player and their index. */
+    private static Map<UUID, Integer> indices = new ConcurrentHashMap<>();
+    /** The next index to hand out. */
+    private static AtomicInteger nextIndex = new AtomicInteger();
+
+    /**
+     * Gets the index of a player, interning the player if they do not have one yet.
+     *
+     * @param playerUUID the UUID of the player
+     * @return the index of the player
+     * @throws NullPointerException if the UUID is null
+     */
+    public static int of(UUID playerUUID){
+        Objects.requireNonNull(playerUUID, "player uuid must not be null");
+        return indices.computeIfAbsent(playerUUID, (uuid) -> nextIndex.getAndIncrement());
+    }
+
+    /**
+     * Gets the index of a player without interning them.
+     *
+     * @param playerUUID the UUID of the player
+     * @return the index of the player, or -1 if the player has not been interned
+     * @throws NullPointerException if the UUID is null
+     */
+    public static int find(UUID playerUUID){
+        Objects.requireNonNull(playerUUID, "player uuid must not be null");
+        Integer index = indices.get(playerUUID);
+        return (index == null) ? -1 : index;
+    }
+
+    /**
+     * Gets the number of players that have been interned.
+     *
+     * @return the number of players that have been interned
+     */
+    public static int size(){
+        return nextIndex.get();
+    }
+
+}
@@ -0,0 +1,221 @@
+package jw.landon.pixelhunt.implementation.config;
+
+import java.util.*;
+
+/**
+ * The differences between two versions of the configuration, used to invalidate only what a change affects.
+ *
+ * <p>Differences are tracked at the level of hunt tiers, the reward entries and Pokemon within each tier,
+ * the excluded Pokemon, and individual message keys.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class ConfigDiff {
+
+    /** The names of tiers that were added, removed or changed. */
+    private Set<String> changedTiers = new HashSet<>();
+    /** The keys of reward entries that were added, removed or changed, by the name of their tier. */
+    private Map<String, Set<String>> changedRewards = new HashMap<>();
+    /** The names of tiers whose Pokemon list changed. */
+    private Set<String> changedPokemonLists = new HashSet<>();
+    /** The names of Pokemon that became excluded, in lower case. */
+    private Set<String> addedExclusions = new HashSet<>();
+    /** The names of Pokemon that are no longer excluded, in lower case. */
+    private Set<String> removedExclusions = new HashSet<>();
+    /** The message keys that were added, removed or changed. */
+    private Set<String> changedMessages = new HashSet<>();
+
+    /**
+     * Computes the differences between two versions of the hunt tiers and excluded Pokemon.
+     *
+     * @param oldTiers      the previous tiers, by name
+     * @param newTiers      the current tiers, by name
+     * @param oldExclusions the previous excluded Pokemon
+     * @param newExclusions the current excluded Pokemon
+     * @return the differences between the two versions
+     */
+    static ConfigDiff ofConfig(Map<String, HuntTier> oldTiers, Map<String, HuntTier> newTiers,
+                               Set<String> oldExclusions, Set<String> newExclusions){
+        ConfigDiff diff = new ConfigDiff();
+
+        Set<String> tierNames = new HashSet<>(oldTiers.keySet());
+        tierNames.addAll(newTiers.keySet());
+        for(String tierName : tierNames){
+            HuntTier oldTier = oldTiers.get(tierName);
+            HuntTier newTier = newTiers.get(tierName);
+            Map<String, RewardEntry> oldRewards = (oldTier != null) ? oldTier.getRewards() : Collections.emptyMap();
+            Map<String, RewardEntry> newRewards = (newTier != null) ? newTier.getRewards() : Collections.emptyMap();
+            Set<String> oldPokemon = (oldTier != null) ? oldTier.getPokemon() : Collections.emptySet();
+            Set<String> newPokemon = (newTier != null) ? newTier.getPokemon() : Collections.emptySet();
+
+            Set<String> changedEntries = diffKeys(oldRewards, newRewards);
+            if(!changedEntries.isEmpty()){
+                diff.changedRewards.put(tierName, changedEntries);
+            }
+            if(!oldPokemon.equals(newPokemon)){
+                diff.changedPokemonLists.add(tierName);
+            }
+            if(oldTier == null || newTier == null || !changedEntries.isEmpty() || !oldPokemon.equals(newPokemon)
+                    || !oldTier.getCompletionSources().equals(newTier.getCompletionSources())){
+                diff.changedTiers.add(tierName);
+            }
+        }
+
+        for(String species : newExclusions){
+            if(!oldExclusions.contains(species)){
+                diff.addedExclusions.add(species);
+            }
+        }
+        for(String species : oldExclusions){
+            if(!newExclusions.contains(species)){
+                diff.removedExclusions.add(species);
+            }
+        }
+        return diff;
+    }
+
+    /**
+     * Computes the differences between two versions of the messages.
+     *
+     * @param oldMessages the previous messages, by key
+     * @param newMessages the current messages, by key
+     * @return the differences between the two versions
+     */
+    static ConfigDiff ofMessages(Map<String, String> oldMessages, Map<String, String> newMessages){
+        ConfigDiff diff = new ConfigDiff();
+        diff.changedMessages.addAll(diffKeys(oldMessages, newMessages));
+        return diff;
+    }
+
+    /**
+     * Combines this diff with another, such as when both configuration files are reloaded together.
+     *
+     * @param other the diff to combine with
+     * @return this diff, containing the differences of both
+     */
+    ConfigDiff merge(ConfigDiff other){
+        changedTiers.addAll(other.changedTiers);
+        for(Map.Entry<String, Set<String>> entry : other.changedRewards.entrySet()){
+            changedRewards.computeIfAbsent(entry.getKey(), (key) -> new HashSet<>()).addAll(entry.getValue());
+        }
+        changedPokemonLists.addAll(other.changedPokemonLists);
+        addedExclusions.addAll(other.addedExclusions);
+        removedExclusions.addAll(other.removedExclusions);
+        changedMessages.addAll(other.changedMessages);
+        return this;
+    }
+
+    /**
+     * Gets the keys that were added, removed or had their value changed between two maps.
+     *
+     * @param oldMap the previous map
+     * @param newMap the current map
+     * @param <T>    the type of values in the maps
+     * @return the keys that differ between the maps
+     */
+    private static <T> Set<String> diffKeys(Map<String, T> oldMap, Map<String, T> newMap){
+        Set<String> changed = new HashSet<>();
+        for(Map.Entry<String, T> entry : newMap.entrySet()){
+            if(!entry.getValue().equals(oldMap.get(entry.getKey()))){
+                changed.add(entry.getKey());
+            }
+        }
+        for(String key : oldMap.keySet()){
+            if(!newMap.containsKey(key)){
+                changed.add(key);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Checks if nothing changed.
+     *
+     * @return true if nothing changed, false if something did
+     */
+    public boolean isEmpty(){
+        return changedTiers.isEmpty() && addedExclusions.isEmpty() && removedExclusions.isEmpty()
+                && changedMessages.isEmpty();
+    }
+
+    /**
+     * Gets the names of tiers that were added, removed or changed.
+     *
+     * @return the names of tiers that were added, removed or changed
+     */
+    public Set<String> getChangedTiers(){
+        return Collections.unmodifiableSet(changedTiers);
+    }
+
+    /**
+     * Gets the keys of reward entries that were added, removed or changed within a tier.
+     *
+     * @param tierName the name of the tier
+     * @return the keys of reward entries that changed within the tier
+     */
+    public Set<String> getChangedRewards(String tierName){
+        return Collections.unmodifiableSet(changedRewards.getOrDefault(tierName, Collections.emptySet()));
+    }
+
+    /**
+     * Gets the names of tiers whose rewards changed.
+     *
+     * @return the names of tiers whose rewards changed
+     */
+    public Set<String> getTiersWithChangedRewards(){
+        return Collections.unmodifiableSet(changedRewards.keySet());
+    }
+
+    /**
+     * Checks if the Pokemon list of any tier changed.
+     *
+     * @return true if the Pokemon list of any tier changed, false if none did
+     */
+    public boolean hasPokemonListChanges(){
+        return !changedPokemonLists.isEmpty();
+    }
+
+    /**
+     * Checks if the excluded Pokemon changed.
+     *
+     * @return true if the excluded Pokemon changed, false if they didn't
+     */
+    public boolean hasExclusionChanges(){
+        return !addedExclusions.isEmpty() || !removedExclusions.isEmpty();
+    }
+
+    /**
+     * Gets the names of Pokemon that became excluded, in lower case.
+     *
+     * @return the names of Pokemon that became excluded
+     */
+    public Set<String> getAddedExclusions(){
+        return Collections.unmodifiableSet(addedExclusions);
+    }
+
+    /**
+     * Gets the names of Pokemon that are no longer excluded, in lower case.
+     *
+     * @return the names of Pokemon that are no longer excluded
+     */
+    public Set<String> getRemovedExclusions(){
+        return Collections.unmodifiableSet(removedExclusions);
+    }
+
+    /**
+     * Checks if any message key starting with a prefix changed.
+     *
+     * @param prefix the prefix of the message keys, such as "Messages.Hunt-Board"
+     * @return true if any message key starting with the prefix changed, false if none did
+     */
+    public boolean hasMessageChanges(String prefix){
+        for(String key : changedMessages){
+            if(key.startsWith(prefix)){
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,20 @@
+package jw.landon.pixelhunt.implementation.config;
+
+/**
+ * Notified when the configuration changes, so that anything built from it can be rebuilt.
+ * Listeners are always notified on the server thread.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+@FunctionalInterface
+public interface ConfigListener {
+
+    /**
+     * Called after the configuration has changed.
+     *
+     * @param diff the differences between the previous and current configuration
+     */
+    void onConfigChanged(ConfigDiff diff);
+
+}
@@ -1,19 +1,27 @@
 package jw.landon.pixelhunt.implementation.config;
 
 import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.implementation.audit.AuditLog;
+import jw.landon.pixelhunt.implementation.executors.ExecutorPool;
+import ninja.leaping.configurate.Types;
 import ninja.leaping.configurate.commented.CommentedConfigurationNode;
 import ninja.leaping.configurate.hocon.HoconConfigurationLoader;
 import ninja.leaping.configurate.loader.ConfigurationLoader;
-import org.spongepowered.api.scheduler.Task;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Loads and stores all the configuration settings.
  * It loads from file on server start up. or when a player reloads the plugin.
  *
+ * <p>Alongside the raw nodes, the hunt tiers, excluded Pokemon and messages are kept as a model.
+ * When a file is reloaded, the new model is compared against the current one and {@link ConfigListener}s
+ * are given a {@link ConfigDiff}, so they only rebuild what actually changed.</p>
+ *
  * @uathor landonjw
  * @since  2.0.0
  */
@@ -27,7 +35,16 @@ public class ConfigManager {
     /** Loaders for the configuration files. */
     private static ConfigurationLoader<CommentedConfigurationNode> configLoad, messagesLoad;
     /** Storage for all the configuration settings. */
-    private static CommentedConfigurationNode configNode, messagesNode;
+    private static volatile CommentedConfigurationNode configNode, messagesNode;
+
+    /** The hunt tiers in the configuration, by name. */
+    private static volatile Map<String, HuntTier> tiers = Collections.emptyMap();
+    /** The names of Pokemon that are excluded from hunts, in lower case. */
+    private static volatile Set<String> excludedPokemon = Collections.emptySet();
+    /** Every message in the messages configuration, by its full key such as "Messages.Hunt-Board.Board-Header". */
+    private static volatile Map<String, String> messageValues = Collections.emptyMap();
+    /** Listeners notified when the configuration changes. */
+    private static List<ConfigListener> listeners = new CopyOnWriteArrayList<>();
 
     /**
      * Locates the configuration files and loads them.
@@ -35,31 +52,38 @@ public class ConfigManager {
      * @param folder Folder where the configuration files are located.
      */
     public static void setup(Path folder){
+        locate(folder);
+        load();
+    }
+
+    /**
+     * Locates the configuration files without loading them.
+     * {@link #loadConfig()} and {@link #loadMessages()} must be called before either file is used.
+     *
+     * @param folder Folder where the configuration files are located.
+     */
+    public static void locate(Path folder){
         dir = folder;
         config = dir.resolve(FILE_NAMES[0]);
         messages = dir.resolve(FILE_NAMES[1]);
-        load();
     }
 
     /**
      * Loads the configuration settings into storage.
      */
     public static void load(){
-        //Create directory if it doesn't exist.
-        try{
-            if(!Files.exists(dir)){
-                Files.createDirectory(dir);
-            }
-
-            //Create or locate file and load configuration file into storage.
-            PixelHunt.getContainer().getAsset(FILE_NAMES[0]).get().copyToFile(config, false, true);
-            PixelHunt.getContainer().getAsset(FILE_NAMES[1]).get().copyToFile(messages, false, true);
-
-            configLoad = HoconConfigurationLoader.builder().setPath(config).build();
-            messagesLoad = HoconConfigurationLoader.builder().setPath(messages).build();
+        loadConfig();
+        loadMessages();
+    }
 
-            configNode = configLoad.load();
-            messagesNode = messagesLoad.load();
+    /**
+     * Loads the main configuration file into storage, creating it from the default if it doesn't exist.
+     * The two configuration files may be loaded at the same time from different threads.
+     */
+    public static void loadConfig(){
+        try{
+            configLoad = createLoader(config);
+            setConfigNode(configLoad.load());
         }
         catch (IOException e){
             PixelHunt.getLogger().error("PixelHunt configuration could not load.");
@@ -67,11 +91,225 @@ public class ConfigManager {
         }
     }
 
+    /**
+     * Loads the messages configuration file into storage, creating it from the default if it doesn't exist.
+     * The two configuration files may be loaded at the same time from different threads.
+     */
+    public static void loadMessages(){
+        try{
+            messagesLoad = createLoader(messages);
+            setMessagesNode(messagesLoad.load());
+        }
+        catch (IOException e){
+            PixelHunt.getLogger().error("PixelHunt messages could not load.");
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Copies the default of a configuration file if it doesn't exist, then creates a loader for it.
+     *
+     * @param path the path of the configuration file
+     * @return the loader for the configuration file
+     * @throws IOException if the directory or file could not be created
+     */
+    private static ConfigurationLoader<CommentedConfigurationNode> createLoader(Path path) throws IOException{
+        //Create directory if it doesn't exist.
+        Files.createDirectories(dir);
+
+        //Create or locate file.
+        PixelHunt.getContainer().getAsset(path.getFileName().toString()).get().copyToFile(path, false, true);
+        return HoconConfigurationLoader.builder().setPath(path).build();
+    }
+
+    /**
+     * Reloads both configuration files, then notifies listeners of anything that changed.
+     * Must be called from the server thread.
+     */
+    public static void reload(){
+        Map<String, HuntTier> oldTiers = tiers;
+        Set<String> oldExclusions = excludedPokemon;
+        Map<String, String> oldMessages = messageValues;
+
+        load();
+
+        ConfigDiff diff = ConfigDiff.ofConfig(oldTiers, tiers, oldExclusions, excludedPokemon)
+                .merge(ConfigDiff.ofMessages(oldMessages, messageValues));
+        notifyListeners(diff);
+    }
+
+    /**
+     * Checks if a file name belongs to one of the configuration files.
+     *
+     * @param fileName the name of the file
+     * @return true if the file is a configuration file, false if it isn't
+     */
+    static boolean isConfigFile(Path fileName){
+        String name = fileName.getFileName().toString();
+        return name.equals(FILE_NAMES[0]) || name.equals(FILE_NAMES[1]);
+    }
+
+    /**
+     * Gets the names of every configuration file.
+     *
+     * @return the names of every configuration file
+     */
+    static List<Path> getFileNames(){
+        List<Path> fileNames = new ArrayList<>();
+        for(String fileName : FILE_NAMES){
+            fileNames.add(dir.getFileSystem().getPath(fileName));
+        }
+        return fileNames;
+    }
+
+    /**
+     * Parses a single configuration file from disk without applying it. Safe to call from any thread.
+     *
+     * @param fileName the name of the configuration file
+     * @return the parsed configuration file
+     * @throws IOException if the file could not be read or parsed
+     */
+    static CommentedConfigurationNode loadFile(Path fileName) throws IOException{
+        return getLoader(fileName).load();
+    }
+
+    /**
+     * Replaces a single configuration file with a newly parsed version, then notifies listeners of
+     * anything that changed. Must be called from the server thread.
+     *
+     * @param fileName the name of the configuration file
+     * @param node     the newly parsed configuration file
+     */
+    static void applyFile(Path fileName, CommentedConfigurationNode node){
+        ConfigDiff diff;
+        if(fileName.getFileName().toString().equals(FILE_NAMES[0])){
+            Map<String, HuntTier> oldTiers = tiers;
+            Set<String> oldExclusions = excludedPokemon;
+            setConfigNode(node);
+            diff = ConfigDiff.ofConfig(oldTiers, tiers, oldExclusions, excludedPokemon);
+        }
+        else{
+            Map<String, String> oldMessages = messageValues;
+            setMessagesNode(node);
+            diff = ConfigDiff.ofMessages(oldMessages, messageValues);
+        }
+        notifyListeners(diff);
+    }
+
+    /**
+     * Gets the loader for a configuration file.
+     *
+     * @param fileName the name of the configuration file
+     * @return the loader for the configuration file
+     */
+    private static ConfigurationLoader<CommentedConfigurationNode> getLoader(Path fileName){
+        return fileName.getFileName().toString().equals(FILE_NAMES[0]) ? configLoad : messagesLoad;
+    }
+
+    /**
+     * Stores the configuration settings and rebuilds the tiers and excluded Pokemon from them.
+     *
+     * @param node the configuration settings
+     */
+    private static void setConfigNode(CommentedConfigurationNode node){
+        validate(node);
+        Map<String, HuntTier> newTiers = new LinkedHashMap<>();
+        for(CommentedConfigurationNode tierNode : node.getNode("General", "Hunt-Tiers").getChildrenMap().values()){
+            HuntTier tier = HuntTier.parse(tierNode);
+            newTiers.put(tier.getName(), tier);
+        }
+
+        Set<String> newExclusions = new HashSet<>();
+        for(String species : node.getNode("General", "Excluded-Pokemon").getList(Types::asString, Collections.emptyList())){
+            newExclusions.add(species.toLowerCase(Locale.ROOT));
+        }
+
+        configNode = node;
+        tiers = Collections.unmodifiableMap(newTiers);
+        excludedPokemon = Collections.unmodifiableSet(newExclusions);
+    }
+
+    /**
+     * Replaces settings that can't be used with their defaults, logging each one.
+     *
+     * @param node the configuration settings
+     */
+    private static void validate(CommentedConfigurationNode node){
+        CommentedConfigurationNode segmentRecords = node.getNode("General", "Audit", "Segment-Records");
+        long records = segmentRecords.getLong(AuditLog.DEFAULT_SEGMENT_RECORDS);
+        if(records < 1 || records > AuditLog.MAX_SEGMENT_RECORDS){
+            PixelHunt.getLogger().error("General.Audit.Segment-Records must be between 1 and {}, using {} instead.",
+                    AuditLog.MAX_SEGMENT_RECORDS, AuditLog.DEFAULT_SEGMENT_RECORDS);
+            segmentRecords.setValue(AuditLog.DEFAULT_SEGMENT_RECORDS);
+        }
+    }
+
+    /**
+     * Stores the message settings and rebuilds the flattened messages from them.
+     *
+     * @param node the message settings
+     */
+    private static void setMessagesNode(CommentedConfigurationNode node){
+        Map<String, String> newMessages = new HashMap<>();
+        flattenMessages(node, "", newMessages);
+        messagesNode = node;
+        messageValues = Collections.unmodifiableMap(newMessages);
+    }
+
+    /**
+     * Collects every message below a node, keyed by the full path to the message.
+     *
+     * @param node   the node to collect messages from
+     * @param prefix the path to the node, with a trailing separator if not empty
+     * @param into   the map to collect messages into
+     */
+    private static void flattenMessages(CommentedConfigurationNode node, String prefix,
+                                        Map<String, String> into){
+        if(node.hasMapChildren()){
+            for(Map.Entry<Object, ? extends CommentedConfigurationNode> child : node.getChildrenMap().entrySet()){
+                flattenMessages(child.getValue(), prefix + child.getKey() + ".", into);
+            }
+        }
+        else if(!prefix.isEmpty()){
+            into.put(prefix.substring(0, prefix.length() - 1), node.getString(""));
+        }
+    }
+
+    /**
+     * Notifies listeners of a change to the configuration, if anything changed.
+     *
+     * @param diff the differences between the previous and current configuration
+     */
+    private static void notifyListeners(ConfigDiff diff){
+        if(diff.isEmpty()){
+            return;
+        }
+        for(ConfigListener listener : listeners){
+            try{
+                listener.onConfigChanged(diff);
+            }
+            catch(Exception e){
+                PixelHunt.getLogger().error("PixelHunt could not apply a configuration change.", e);
+            }
+        }
+    }
+
+    /**
+     * Adds a listener to be notified when the configuration changes.
+     *
+     * @param listener the listener to add
+     * @throws NullPointerException if the listener is null
+     */
+    public static void addListener(ConfigListener listener){
+        listeners.add(Objects.requireNonNull(listener, "listener must not be null"));
+    }
+
     /**
      * Saves the configuration settings to configuration files.
+     * The save is done on the IO pool, and is finished before the server stops.
      */
     public static void save(){
-        Task save = Task.builder().execute(() -> {
+        PixelHunt.getExecutors().get(ExecutorPool.IO).execute(() -> {
 
             try{
                 configLoad.save(configNode);
@@ -82,7 +320,34 @@ public class ConfigManager {
                 e.printStackTrace();
             }
 
-        }).async().submit(PixelHunt.getInstance());
+        });
+    }
+
+    /**
+     * Gets the directory the configuration files are located in.
+     *
+     * @return the directory the configuration files are located in
+     */
+    public static Path getDirectory(){
+        return dir;
+    }
+
+    /**
+     * Gets the hunt tiers in the configuration.
+     *
+     * @return the hunt tiers in the configuration, by name
+     */
+    public static Map<String, HuntTier> getTiers(){
+        return tiers;
+    }
+
+    /**
+     * Gets the names of Pokemon that are excluded from hunts.
+     *
+     * @return the names of Pokemon that are excluded from hunts, in lower case
+     */
+    public static Set<String> getExcludedPokemon(){
+        return excludedPokemon;
     }
 
     /**
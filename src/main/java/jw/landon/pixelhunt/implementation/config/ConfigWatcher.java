@@ -0,0 +1,152 @@
+package jw.landon.pixelhunt.implementation.config;
+
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.implementation.executors.BackPressurePolicy;
+import jw.landon.pixelhunt.implementation.executors.ExecutorPool;
+import jw.landon.pixelhunt.implementation.scheduling.WorkPriority;
+import ninja.leaping.configurate.commented.CommentedConfigurationNode;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the configuration directory and reloads a configuration file when it is edited.
+ *
+ * <p>Editors often write a file several times when saving, so each file is only reloaded once it has
+ * gone unchanged for the debounce time. The file is parsed on the IO pool, then applied on the
+ * server thread through {@link ConfigManager}, which notifies listeners of what changed.
+ * If the file can't be parsed, such as while it is half written, the current configuration is kept.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class ConfigWatcher {
+
+    /** The watch service for the configuration directory. Null if the watcher is not started. */
+    private WatchService watchService;
+    /** Reloads waiting for their file to stop changing, by file name. */
+    private Map<Path, ScheduledFuture<?>> pendingReloads = new ConcurrentHashMap<>();
+    /** The amount of time a file must go unchanged before it is reloaded, in milliseconds. */
+    private long debounceMillis;
+
+    /**
+     * Starts watching the configuration directory, if enabled in configuration.
+     */
+    public void start(){
+        CommentedConfigurationNode generalNode = ConfigManager.getConfigNode("General");
+        if(!generalNode.getNode("Watch-Config").getBoolean(true) || watchService != null){
+            return;
+        }
+        debounceMillis = Math.max(0, generalNode.getNode("Watch-Debounce-Millis").getLong(500));
+
+        Path dir = ConfigManager.getDirectory();
+        try{
+            watchService = dir.getFileSystem().newWatchService();
+            dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        }
+        catch(IOException e){
+            PixelHunt.getLogger().error("PixelHunt could not watch its configuration for changes.", e);
+            watchService = null;
+            return;
+        }
+
+        WatchService service = watchService;
+        PixelHunt.getExecutors()
+                .createPool("config-watcher", 1, 1, BackPressurePolicy.ABORT, true)
+                .execute(() -> watch(service));
+    }
+
+    /**
+     * Stops watching the configuration directory. Reloads that are waiting on the debounce are abandoned.
+     */
+    public void stop(){
+        if(watchService != null){
+            try{
+                watchService.close();
+            }
+            catch(IOException e){
+                PixelHunt.getLogger().error("PixelHunt could not stop watching its configuration.", e);
+            }
+            watchService = null;
+        }
+        for(ScheduledFuture<?> pending : pendingReloads.values()){
+            pending.cancel(false);
+        }
+        pendingReloads.clear();
+    }
+
+    /**
+     * Waits for changes to the configuration directory until the watch service is closed.
+     *
+     * @param service the watch service for the configuration directory
+     */
+    private void watch(WatchService service){
+        try{
+            while(true){
+                WatchKey key = service.take();
+                for(WatchEvent<?> event : key.pollEvents()){
+                    if(event.kind() == StandardWatchEventKinds.OVERFLOW){
+                        // Changes were missed, so every configuration file may have changed.
+                        for(Path fileName : ConfigManager.getFileNames()){
+                            scheduleReload(fileName);
+                        }
+                    }
+                    else{
+                        Path fileName = (Path) event.context();
+                        if(ConfigManager.isConfigFile(fileName)){
+                            scheduleReload(fileName);
+                        }
+                    }
+                }
+                if(!key.reset()){
+                    return;
+                }
+            }
+        }
+        catch(ClosedWatchServiceException | InterruptedException e){
+            // The watcher was stopped.
+        }
+    }
+
+    /**
+     * Schedules a configuration file to be reloaded once the debounce time has passed,
+     * replacing any reload already waiting for the file.
+     *
+     * @param fileName the name of the configuration file
+     */
+    private void scheduleReload(Path fileName){
+        pendingReloads.compute(fileName, (key, pending) -> {
+            if(pending != null){
+                pending.cancel(false);
+            }
+            return PixelHunt.getExecutors().getScheduler()
+                    .schedule(() -> reload(fileName), debounceMillis, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    /**
+     * Parses a configuration file on the IO pool, then applies it on the server thread.
+     *
+     * @param fileName the name of the configuration file
+     */
+    private void reload(Path fileName){
+        pendingReloads.remove(fileName);
+        PixelHunt.getExecutors().get(ExecutorPool.IO).execute(() -> {
+            CommentedConfigurationNode node;
+            try{
+                node = ConfigManager.loadFile(fileName);
+            }
+            catch(IOException e){
+                PixelHunt.getLogger().warn("PixelHunt could not reload {}, keeping the current settings: {}",
+                        fileName, e.getMessage());
+                return;
+            }
+            PixelHunt.getTickScheduler().submit(WorkPriority.NORMAL, () -> ConfigManager.applyFile(fileName, node));
+        });
+    }
+
+}
@@ -0,0 +1,131 @@
+package jw.landon.pixelhunt.implementation.config;
+
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.CompletionSource;
+import ninja.leaping.configurate.Types;
+import ninja.leaping.configurate.commented.CommentedConfigurationNode;
+
+import java.util.*;
+
+/**
+ * A tier of hunts in the configuration, with the rewards given for hunts in the tier, the
+ * Pokemon that belong to it and the ways its hunts can be completed. Pokemon that don't belong
+ * to any tier use the Default tier.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class HuntTier {
+
+    /** The name of the tier used by Pokemon that don't belong to any other tier. */
+    public static final String DEFAULT_TIER = "Default";
+
+    /** The name of the tier. */
+    private String name;
+    /** The reward entries of the tier, by their keys. */
+    private Map<String, RewardEntry> rewards;
+    /** The names of the Pokemon belonging to the tier, in lower case. */
+    private Set<String> pokemon;
+    /** The ways hunts in the tier can be completed. */
+    private Set<CompletionSource> completionSources;
+
+    /**
+     * Constructor for the hunt tier, whose hunts can only be completed by capturing the Pokemon.
+     *
+     * @param name    the name of the tier
+     * @param rewards the reward entries of the tier, by their keys
+     * @param pokemon the names of the Pokemon belonging to the tier, in lower case
+     */
+    public HuntTier(String name, Map<String, RewardEntry> rewards, Set<String> pokemon){
+        this(name, rewards, pokemon, EnumSet.of(CompletionSource.CAPTURE));
+    }
+
+    /**
+     * Constructor for the hunt tier.
+     *
+     * @param name              the name of the tier
+     * @param rewards           the reward entries of the tier, by their keys
+     * @param pokemon           the names of the Pokemon belonging to the tier, in lower case
+     * @param completionSources the ways hunts in the tier can be completed, capturing if empty
+     */
+    public HuntTier(String name, Map<String, RewardEntry> rewards, Set<String> pokemon,
+                    Set<CompletionSource> completionSources){
+        this.name = Objects.requireNonNull(name, "name must not be null");
+        this.rewards = Collections.unmodifiableMap(new LinkedHashMap<>(rewards));
+        this.pokemon = Collections.unmodifiableSet(new HashSet<>(pokemon));
+        this.completionSources = Collections.unmodifiableSet(completionSources.isEmpty()
+                ? EnumSet.of(CompletionSource.CAPTURE) : EnumSet.copyOf(completionSources));
+    }
+
+    /**
+     * Parses a hunt tier from its configuration node.
+     *
+     * @param node the node of the tier
+     * @return the parsed hunt tier
+     */
+    static HuntTier parse(CommentedConfigurationNode node){
+        Map<String, RewardEntry> rewards = new LinkedHashMap<>();
+        for(RewardEntry.Type type : RewardEntry.Type.values()){
+            CommentedConfigurationNode typeNode = node.getNode("Rewards", type.getConfigKey());
+            for(CommentedConfigurationNode entryNode : typeNode.getChildrenMap().values()){
+                RewardEntry entry = RewardEntry.parse(type, entryNode);
+                rewards.put(entry.getKey(), entry);
+            }
+        }
+
+        Set<String> pokemon = new HashSet<>();
+        for(String species : node.getNode("Pokemon", "Pokemon-List").getList(Types::asString, Collections.emptyList())){
+            pokemon.add(species.toLowerCase(Locale.ROOT));
+        }
+
+        Set<CompletionSource> completionSources = EnumSet.noneOf(CompletionSource.class);
+        for(String sourceName : node.getNode("Completion-Sources").getList(Types::asString, Collections.emptyList())){
+            Optional<CompletionSource> source = CompletionSource.fromName(sourceName);
+            if(source.isPresent()){
+                completionSources.add(source.get());
+            }
+            else{
+                PixelHunt.getLogger().warn("PixelHunt is ignoring unknown completion source '{}' in tier {}.",
+                        sourceName, node.getKey());
+            }
+        }
+        return new HuntTier(String.valueOf(node.getKey()), rewards, pokemon, completionSources);
+    }
+
+    /**
+     * Gets the name of the tier.
+     *
+     * @return the name of the tier
+     */
+    public String getName(){
+        return name;
+    }
+
+    /**
+     * Gets the reward entries of the tier, by their keys.
+     *
+     * @return the reward entries of the tier, by their keys
+     */
+    public Map<String, RewardEntry> getRewards(){
+        return rewards;
+    }
+
+    /**
+     * Gets the names of the Pokemon belonging to the tier, in lower case.
+     *
+     * @return the names of the Pokemon belonging to the tier
+     */
+    public Set<String> getPokemon(){
+        return pokemon;
+    }
+
+    /**
+     * Gets the ways hunts in the tier can be completed.
+     *
+     * @return the ways hunts in the tier can be completed
+     */
+    public Set<CompletionSource> getCompletionSources(){
+        return completionSources;
+    }
+
+}
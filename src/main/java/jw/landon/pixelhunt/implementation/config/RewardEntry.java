@@ -0,0 +1,172 @@
+package jw.landon.pixelhunt.implementation.config;
+
+import ninja.leaping.configurate.Types;
+import ninja.leaping.configurate.commented.CommentedConfigurationNode;
+
+import java.util.*;
+
+/**
+ * A reward entry within the rewards section of a hunt tier in the configuration.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class RewardEntry {
+
+    /**
+     * The types of reward entries, each with their own section in a tier's rewards.
+     */
+    public enum Type {
+        /** An item given to the player. */
+        ITEMS("Items"),
+        /** Money given to the player. */
+        CURRENCY("Currency"),
+        /** Commands run from console for the player. */
+        COMMANDS("Commands");
+
+        /** The name of the section for the type in a tier's rewards. */
+        private final String configKey;
+
+        /**
+         * Constructor for the type.
+         *
+         * @param configKey the name of the section for the type in a tier's rewards
+         */
+        Type(String configKey){
+            this.configKey = configKey;
+        }
+
+        /**
+         * Gets the name of the section for the type in a tier's rewards.
+         *
+         * @return the name of the section for the type in a tier's rewards
+         */
+        public String getConfigKey(){
+            return configKey;
+        }
+    }
+
+    /** The type of the entry. */
+    private Type type;
+    /** The name of the entry, shown in the reward's description. */
+    private String name;
+    /** The item ID for item entries, the currency ID for currency entries, null otherwise. */
+    private String target;
+    /** The amounts that may be given, one of which is selected at random. */
+    private List<Integer> amounts;
+    /** The commands to run for command entries, empty otherwise. */
+    private List<String> commands;
+
+    /**
+     * Constructor for the reward entry.
+     *
+     * @param type     the type of the entry
+     * @param name     the name of the entry
+     * @param target   the item or currency ID of the entry, null if not applicable
+     * @param amounts  the amounts that may be given
+     * @param commands the commands to run
+     */
+    public RewardEntry(Type type, String name, String target, List<Integer> amounts, List<String> commands){
+        this.type = Objects.requireNonNull(type, "type must not be null");
+        this.name = Objects.requireNonNull(name, "name must not be null");
+        this.target = target;
+        this.amounts = Collections.unmodifiableList(new ArrayList<>(amounts));
+        this.commands = Collections.unmodifiableList(new ArrayList<>(commands));
+    }
+
+    /**
+     * Parses a reward entry from its configuration node.
+     *
+     * @param type the type of the entry
+     * @param node the node of the entry
+     * @return the parsed reward entry
+     */
+    static RewardEntry parse(Type type, CommentedConfigurationNode node){
+        String name = String.valueOf(node.getKey());
+        String target = null;
+        if(type == Type.ITEMS){
+            target = node.getNode("Item").getString();
+        }
+        else if(type == Type.CURRENCY){
+            target = node.getNode("Currency").getString();
+        }
+        List<Integer> amounts = node.getNode("Amounts").getList(Types::asInt, Collections.singletonList(1));
+        List<String> commands = node.getNode("Commands").getList(Types::asString, Collections.emptyList());
+        return new RewardEntry(type, name, target, amounts, commands);
+    }
+
+    /**
+     * Gets a key that uniquely identifies the entry within its tier.
+     *
+     * @return key that uniquely identifies the entry within its tier
+     */
+    public String getKey(){
+        return type.getConfigKey() + "." + name;
+    }
+
+    /**
+     * Gets the type of the entry.
+     *
+     * @return the type of the entry
+     */
+    public Type getType(){
+        return type;
+    }
+
+    /**
+     * Gets the name of the entry, shown in the reward's description.
+     *
+     * @return the name of the entry
+     */
+    public String getName(){
+        return name;
+    }
+
+    /**
+     * Gets the item ID for item entries or the currency ID for currency entries.
+     *
+     * @return the item or currency ID, or empty if not applicable or the default currency should be used
+     */
+    public Optional<String> getTarget(){
+        return Optional.ofNullable(target);
+    }
+
+    /**
+     * Gets the amounts that may be given, one of which is selected at random.
+     *
+     * @return the amounts that may be given
+     */
+    public List<Integer> getAmounts(){
+        return amounts;
+    }
+
+    /**
+     * Gets the commands to run for command entries.
+     *
+     * @return the commands to run, or an empty list for other entries
+     */
+    public List<String> getCommands(){
+        return commands;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(Object o){
+        if(this == o){
+            return true;
+        }
+        if(!(o instanceof RewardEntry)){
+            return false;
+        }
+        RewardEntry other = (RewardEntry) o;
+        return type == other.type && name.equals(other.name) && Objects.equals(target, other.target)
+                && amounts.equals(other.amounts) && commands.equals(other.commands);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode(){
+        return Objects.hash(type, name, target, amounts, commands);
+    }
+
+}
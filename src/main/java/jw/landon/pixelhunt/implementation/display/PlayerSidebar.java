@@ -0,0 +1,119 @@
+package jw.landon.pixelhunt.implementation.display;
+
+import jw.landon.pixelhunt.PixelHunt;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.scoreboard.Scoreboard;
+import org.spongepowered.api.scoreboard.critieria.Criteria;
+import org.spongepowered.api.scoreboard.displayslot.DisplaySlots;
+import org.spongepowered.api.scoreboard.objective.Objective;
+import org.spongepowered.api.text.Text;
+
+/**
+ * The sidebar shown to a single player, remembering the lines the player currently sees so that
+ * only lines that changed are sent.
+ *
+ * <p>The player is given a scoreboard of their own while the sidebar is shown, as the lines can differ
+ * between players. The scoreboard the player had before is given back when the sidebar is removed.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+class PlayerSidebar {
+
+    /** The player viewing the sidebar. */
+    private Player player;
+    /** The lines of the board the player is viewing. */
+    private SidebarLines source;
+    /** The scoreboard given to the player. */
+    private Scoreboard scoreboard;
+    /** The scoreboard the player had before the sidebar was shown. */
+    private Scoreboard previousScoreboard;
+    /** The objective shown in the sidebar. */
+    private Objective objective;
+    /** The lines the player currently sees, with null for lines that aren't shown. */
+    private Text[] shown = new Text[SidebarLines.MAX_LINES];
+    /** The title the player currently sees. */
+    private Text shownTitle;
+    /** The revision of the source lines the player currently sees, or -1 if nothing has been shown. */
+    private long shownRevision = -1;
+
+    /**
+     * Constructor for the player sidebar, giving the player a scoreboard with an empty sidebar.
+     *
+     * @param player the player viewing the sidebar
+     * @param source the lines of the board the player is viewing
+     */
+    PlayerSidebar(Player player, SidebarLines source){
+        this.player = player;
+        this.source = source;
+        scoreboard = Scoreboard.builder().build();
+        objective = Objective.builder()
+                .name(PixelHunt.PLUGIN_ID)
+                .criterion(Criteria.DUMMY)
+                .displayName(Text.EMPTY)
+                .build();
+        scoreboard.addObjective(objective);
+        scoreboard.updateDisplaySlot(objective, DisplaySlots.SIDEBAR);
+        previousScoreboard = player.getScoreboard();
+        player.setScoreboard(scoreboard);
+    }
+
+    /**
+     * Sends the lines that changed since the player was last updated, if the source lines have changed.
+     */
+    void refresh(){
+        if(shownRevision == source.getRevision()){
+            return;
+        }
+        shownRevision = source.getRevision();
+
+        if(!source.getTitle().equals(shownTitle)){
+            shownTitle = source.getTitle();
+            objective.setDisplayName(shownTitle);
+        }
+
+        Text[] lines = source.getLines();
+        for(int i = 0; i < lines.length; i++){
+            if(lines[i] == null ? shown[i] == null : lines[i].equals(shown[i])){
+                continue;
+            }
+            if(shown[i] != null){
+                objective.removeScore(shown[i]);
+            }
+            if(lines[i] != null){
+                objective.getOrCreateScore(lines[i]).setScore(lines.length - i);
+            }
+            shown[i] = lines[i];
+        }
+    }
+
+    /**
+     * Gets the player viewing the sidebar.
+     *
+     * @return the player viewing the sidebar
+     */
+    Player getPlayer(){
+        return player;
+    }
+
+    /**
+     * Gets the lines of the board the player is viewing.
+     *
+     * @return the lines of the board the player is viewing
+     */
+    SidebarLines getSource(){
+        return source;
+    }
+
+    /**
+     * Removes the sidebar, giving the player back the scoreboard they had before it was shown.
+     */
+    void remove(){
+        if(player.getScoreboard() == scoreboard){
+            player.setScoreboard((previousScoreboard != null)
+                    ? previousScoreboard : Sponge.getServer().getServerScoreboard());
+        }
+    }
+
+}
@@ -0,0 +1,185 @@
+package jw.landon.pixelhunt.implementation.display;
+
+import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import jw.landon.pixelhunt.api.hunts.HuntBoardSnapshot;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import jw.landon.pixelhunt.implementation.locale.LocaleNames;
+import ninja.leaping.configurate.commented.CommentedConfigurationNode;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.serializer.TextSerializers;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The rendered sidebar lines for a hunt board in one language, shared by every player viewing the board
+ * in that language.
+ *
+ * <p>Lines are only rendered again when the board's version changes or a countdown on the board would
+ * show a different value. Countdowns show minutes while a hunt has plenty of time left and seconds once
+ * it is close to expiring, so the sidebar refreshes once a minute until the next expiry draws near.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+class SidebarLines {
+
+    /** The maximum number of lines a sidebar can show. */
+    static final int MAX_LINES = 15;
+    /** Colour codes put in front of each line, so lines with the same text are still distinct scores. */
+    private static final String LINE_KEYS = "0123456789abcdef";
+
+    /** The board the lines are rendered from. */
+    private HuntBoard huntBoard;
+    /** The names species are shown with. */
+    private LocaleNames names;
+    /** The title of the sidebar. */
+    private Text title;
+    /** The rendered lines, with null for lines that aren't shown. */
+    private Text[] lines = new Text[MAX_LINES];
+    /** The version of the board the lines were rendered from, or -1 if they haven't been rendered. */
+    private long renderedVersion = -1;
+    /** The time a countdown will next show a different value, in epoch milliseconds. */
+    private long nextChangeMillis;
+    /** Incremented every time the lines change, so viewers can tell if they are up to date. */
+    private long revision;
+
+    /**
+     * Constructor for the sidebar lines.
+     *
+     * @param huntBoard the board to render lines from
+     * @param names     the names to show species with
+     */
+    SidebarLines(HuntBoard huntBoard, LocaleNames names){
+        this.huntBoard = huntBoard;
+        this.names = names;
+    }
+
+    /**
+     * Renders the lines again if the board has changed or a countdown would show a different value.
+     *
+     * @param now the current time, in epoch milliseconds
+     * @return true if the lines were rendered again, false if they are still up to date
+     */
+    boolean update(long now){
+        if(renderedVersion == huntBoard.getVersion() && now < nextChangeMillis){
+            return false;
+        }
+        render(now);
+        return true;
+    }
+
+    /**
+     * Drops the rendered lines, so they are rendered again on the next update.
+     * Called when the sidebar messages change.
+     */
+    void invalidate(){
+        renderedVersion = -1;
+    }
+
+    /**
+     * Renders the title and a line for every active hunt on the board.
+     *
+     * @param now the current time, in epoch milliseconds
+     */
+    private void render(long now){
+        CommentedConfigurationNode sidebarNode = ConfigManager.getMessagesNode("Messages", "Sidebar");
+        String lineFormat = sidebarNode.getNode("Line").getString("&b{species} &f{time}");
+        long secondsBelowMillis = TimeUnit.MINUTES.toMillis(
+                ConfigManager.getConfigNode("General", "Sidebar", "Seconds-Below-Minutes").getLong(5));
+
+        title = TextSerializers.FORMATTING_CODE.deserialize(sidebarNode.getNode("Title").getString("&6&lHunts"));
+        nextChangeMillis = Long.MAX_VALUE;
+
+        HuntBoardSnapshot snapshot = huntBoard.getSnapshot();
+        renderedVersion = snapshot.getVersion();
+        int line = 0;
+        for(int slot = 0; slot < snapshot.getNumSlots() && line < MAX_LINES; slot++){
+            Optional<Hunt> maybeHunt = snapshot.getHunt(slot);
+            if(!maybeHunt.isPresent()){
+                continue;
+            }
+
+            long remaining = Math.max(0, snapshot.getExpiryMillis(slot) - now);
+            boolean showSeconds = remaining < secondsBelowMillis;
+            long precision = showSeconds ? TimeUnit.SECONDS.toMillis(1) : TimeUnit.MINUTES.toMillis(1);
+            if(remaining > 0){
+                nextChangeMillis = Math.min(nextChangeMillis, now + (remaining % precision) + 1);
+            }
+
+            String text = lineFormat
+                    .replace("{slot}", String.valueOf(slot + 1))
+                    .replace("{species}", names.getSpeciesName(maybeHunt.get().getHuntedSpecies()))
+                    .replace("{time}", formatRemaining(remaining, showSeconds));
+            lines[line] = TextSerializers.FORMATTING_CODE.deserialize("&" + LINE_KEYS.charAt(line) + "&r" + text);
+            line++;
+        }
+        for(; line < MAX_LINES; line++){
+            lines[line] = null;
+        }
+        revision++;
+    }
+
+    /**
+     * Formats the time remaining on a hunt.
+     *
+     * @param remaining   the time remaining, in milliseconds
+     * @param showSeconds if seconds should be shown instead of hours
+     * @return the formatted time remaining
+     */
+    private static String formatRemaining(long remaining, boolean showSeconds){
+        long hours = TimeUnit.MILLISECONDS.toHours(remaining);
+        long minutes = TimeUnit.MILLISECONDS.toMinutes(remaining) % 60;
+        if(showSeconds){
+            return minutes + "m " + (TimeUnit.MILLISECONDS.toSeconds(remaining) % 60) + "s";
+        }
+        return (hours > 0) ? hours + "h " + minutes + "m" : minutes + "m";
+    }
+
+    /**
+     * Gets the board the lines are rendered from.
+     *
+     * @return the board the lines are rendered from
+     */
+    HuntBoard getHuntBoard(){
+        return huntBoard;
+    }
+
+    /**
+     * Gets the names species are shown with.
+     *
+     * @return the names species are shown with
+     */
+    LocaleNames getNames(){
+        return names;
+    }
+
+    /**
+     * Gets the title of the sidebar.
+     *
+     * @return the title of the sidebar
+     */
+    Text getTitle(){
+        return title;
+    }
+
+    /**
+     * Gets the rendered lines. The array is reused between renders and must not be modified.
+     *
+     * @return the rendered lines, with null for lines that aren't shown
+     */
+    Text[] getLines(){
+        return lines;
+    }
+
+    /**
+     * Gets the revision of the lines, which changes every time they are rendered.
+     *
+     * @return the revision of the lines
+     */
+    long getRevision(){
+        return revision;
+    }
+
+}
@@ -0,0 +1,221 @@
+package jw.landon.pixelhunt.implementation.display;
+
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import jw.landon.pixelhunt.implementation.config.ConfigDiff;
+import jw.landon.pixelhunt.implementation.config.ConfigListener;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import jw.landon.pixelhunt.implementation.locale.LocaleNames;
+import jw.landon.pixelhunt.implementation.permissions.EligibilityCache;
+import jw.landon.pixelhunt.implementation.scheduling.WorkPriority;
+import ninja.leaping.configurate.commented.CommentedConfigurationNode;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.network.ClientConnectionEvent;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shows active hunts and their countdowns in the sidebar of players that have it enabled.
+ *
+ * <p>Each board's lines are rendered once for each language it is viewed in, with species named in the
+ * viewer's language through {@link LocaleNames}, and shared by every player viewing it in that language.
+ * Each player is only sent the lines that changed since their last update. The manager checks for changes every tick through
+ * the {@link jw.landon.pixelhunt.implementation.scheduling.TickScheduler} at low priority, which is cheap
+ * as lines are only rendered when a board's version changes or a countdown ticks over. Whenever lines change,
+ * viewers that are no longer eligible for their board, according to the
+ * {@link EligibilityCache}, have their sidebar hidden.</p>
+ *
+ * <p>A player viewing a sidebar is given a scoreboard of their own, replacing the one they had until the
+ * sidebar is hidden. As this hides scoreboards from the server and other plugins, boards are only shown on
+ * join if General.Sidebar.Show-On-Join is enabled, which it isn't by default.</p>
+ *
+ * <p>Must only be used from the server thread.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class SidebarManager implements ConfigListener {
+
+    /** The sidebar of each player viewing one, by player UUID. */
+    private Map<UUID, PlayerSidebar> viewers = new HashMap<>();
+    /** The shared lines of each board and language being viewed. */
+    private List<SidebarLines> boardLines = new ArrayList<>();
+    /** If the manager is checking for changes every tick. */
+    private boolean running;
+
+    /**
+     * Starts checking for changes every tick.
+     */
+    public void start(){
+        if(!running){
+            running = true;
+            PixelHunt.getTickScheduler().submit(WorkPriority.LOW, this::tick);
+        }
+    }
+
+    /**
+     * Stops checking for changes and removes every player's sidebar.
+     */
+    public void stop(){
+        running = false;
+        for(PlayerSidebar sidebar : viewers.values()){
+            sidebar.remove();
+        }
+        viewers.clear();
+        boardLines.clear();
+    }
+
+    /**
+     * Shows a board in a player's sidebar, replacing any board already shown.
+     *
+     * @param player    the player to show the board to
+     * @param huntBoard the board to show
+     * @throws NullPointerException if the player is null
+     * @throws NullPointerException if the board is null
+     */
+    public void show(Player player, HuntBoard huntBoard){
+        Objects.requireNonNull(player, "player must not be null");
+        Objects.requireNonNull(huntBoard, "hunt board must not be null");
+        hide(player);
+
+        LocaleNames names = LocaleNames.of(player.getLocale());
+        SidebarLines lines = findLines(huntBoard, names);
+        if(lines == null){
+            lines = new SidebarLines(huntBoard, names);
+            boardLines.add(lines);
+        }
+        lines.update(PixelHunt.getHuntClock().millis());
+
+        PlayerSidebar sidebar = new PlayerSidebar(player, lines);
+        sidebar.refresh();
+        viewers.put(player.getUniqueId(), sidebar);
+    }
+
+    /**
+     * Finds the shared lines of a board in a language.
+     *
+     * @param huntBoard the board
+     * @param names     the names species are shown with
+     * @return the shared lines, or null if the board isn't being viewed in the language
+     */
+    private SidebarLines findLines(HuntBoard huntBoard, LocaleNames names){
+        for(SidebarLines lines : boardLines){
+            if(lines.getHuntBoard() == huntBoard && lines.getNames() == names){
+                return lines;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Hides the sidebar of a player, if they are viewing one.
+     *
+     * @param player the player to hide the sidebar of
+     * @return true if the player was viewing a sidebar, false if they weren't
+     */
+    public boolean hide(Player player){
+        PlayerSidebar sidebar = viewers.remove(player.getUniqueId());
+        if(sidebar == null){
+            return false;
+        }
+        sidebar.remove();
+        removeUnviewedLines(sidebar.getSource());
+        return true;
+    }
+
+    /**
+     * Checks if a player is viewing a sidebar.
+     *
+     * @param player the player to check
+     * @return true if the player is viewing a sidebar, false if they aren't
+     */
+    public boolean isShowing(Player player){
+        return viewers.containsKey(player.getUniqueId());
+    }
+
+    /**
+     * Updates every board being viewed, then sends changed lines to its viewers, and schedules itself for the next tick.
+     */
+    private void tick(){
+        if(!running){
+            return;
+        }
+        long now = PixelHunt.getHuntClock().millis();
+        boolean changed = false;
+        for(SidebarLines lines : boardLines){
+            changed |= lines.update(now);
+        }
+        if(changed){
+            EligibilityCache eligibilityCache = PixelHunt.getEligibilityCache();
+            List<Player> ineligible = new ArrayList<>();
+            for(PlayerSidebar sidebar : viewers.values()){
+                if(eligibilityCache.isEligible(sidebar.getPlayer(), sidebar.getSource().getHuntBoard())){
+                    sidebar.refresh();
+                }
+                else{
+                    ineligible.add(sidebar.getPlayer());
+                }
+            }
+            ineligible.forEach(this::hide);
+        }
+        PixelHunt.getTickScheduler().schedule(WorkPriority.LOW, 50, TimeUnit.MILLISECONDS, this::tick);
+    }
+
+    /**
+     * Drops the shared lines of a board if nobody is viewing it anymore.
+     *
+     * @param lines the lines of the board
+     */
+    private void removeUnviewedLines(SidebarLines lines){
+        for(PlayerSidebar sidebar : viewers.values()){
+            if(sidebar.getSource() == lines){
+                return;
+            }
+        }
+        boardLines.remove(lines);
+    }
+
+    /**
+     * Shows the configured board to players when they join, if enabled in configuration and they are eligible for it.
+     *
+     * @param event the event called when a player joins the server
+     */
+    @Listener
+    public void onJoin(ClientConnectionEvent.Join event){
+        CommentedConfigurationNode sidebarNode = ConfigManager.getConfigNode("General", "Sidebar");
+        if(!sidebarNode.getNode("Enabled").getBoolean(true) || !sidebarNode.getNode("Show-On-Join").getBoolean(false)){
+            return;
+        }
+        String boardName = ConfigManager.getConfigNode("General", "Hunt-Board-Name").getString("Pixelmon Hunts");
+        Player player = event.getTargetEntity();
+        PixelHunt.getHuntAPI().getHuntBoardRegistry().getHuntBoard(boardName)
+                .filter((huntBoard) -> PixelHunt.getEligibilityCache().isEligible(player, huntBoard))
+                .ifPresent((huntBoard) -> show(player, huntBoard));
+    }
+
+    /**
+     * Forgets the sidebar of players when they leave.
+     *
+     * @param event the event called when a player leaves the server
+     */
+    @Listener
+    public void onDisconnect(ClientConnectionEvent.Disconnect event){
+        PlayerSidebar sidebar = viewers.remove(event.getTargetEntity().getUniqueId());
+        if(sidebar != null){
+            removeUnviewedLines(sidebar.getSource());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onConfigChanged(ConfigDiff diff){
+        if(diff.hasMessageChanges("Messages.Sidebar")){
+            for(SidebarLines lines : boardLines){
+                lines.invalidate();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,220 @@
+package jw.landon.pixelhunt.implementation.events;
+
+import com.pixelmonmod.pixelmon.enums.EnumNature;
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.events.HuntCompleteEvent;
+import jw.landon.pixelhunt.api.events.HuntEvent;
+import jw.landon.pixelhunt.api.events.HuntExpireEvent;
+import jw.landon.pixelhunt.api.events.HuntStartEvent;
+import jw.landon.pixelhunt.api.hunts.CompletionSource;
+import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.EventContext;
+import org.spongepowered.api.event.cause.EventContextKeys;
+
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Posts {@link HuntEvent hunt events} to Sponge's event bus, keeping track of which events are being listened for.
+ *
+ * <p>Events are posted for boards in the registry, not for the private boards of simulations, so listeners
+ * registered directly with Sponge's event manager receive them as they would any other event. Every listener
+ * registered through the Hunt API is also registered with Sponge's event manager, and the event types it
+ * listens for are counted. If General.Events.Only-Tracked-Listeners is enabled, an event, and its cause, is
+ * only built and posted if a listener registered through the Hunt API is listening for its type, so hunts
+ * that nobody is watching cost a single lookup. This is off by default, as it hides events from listeners
+ * registered directly with Sponge.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class HuntEvents {
+
+    /** Every type of hunt event that is posted. */
+    private static final List<Class<? extends HuntEvent>> EVENT_TYPES = Arrays.asList(
+            HuntStartEvent.class, HuntCompleteEvent.class, HuntExpireEvent.class);
+
+    /** The event types each registered listener listens for, by listener. */
+    private Map<Object, List<Class<?>>> registrations = new IdentityHashMap<>();
+    /** The hunt event types with at least one listener. Replaced when listeners are registered or unregistered. */
+    private volatile Set<Class<? extends HuntEvent>> observed = Collections.emptySet();
+    /** If events are only posted while a listener registered through the Hunt API is listening for them. */
+    private boolean onlyTrackedListeners;
+
+    /**
+     * Constructor for the hunt event tracker, loading settings from configuration.
+     */
+    public HuntEvents(){
+        onlyTrackedListeners = ConfigManager.getConfigNode("General", "Events", "Only-Tracked-Listeners")
+                .getBoolean(false);
+    }
+
+    /**
+     * Registers every method annotated with {@link Listener} in an object, counting the hunt events they listen for.
+     *
+     * @param plugin   the plugin registering the listener
+     * @param listener the object containing listener methods
+     * @throws NullPointerException if the plugin is null
+     * @throws NullPointerException if the listener is null
+     */
+    public synchronized void registerListeners(Object plugin, Object listener){
+        Objects.requireNonNull(plugin, "plugin must not be null");
+        Objects.requireNonNull(listener, "listener must not be null");
+        List<Class<?>> eventTypes = new ArrayList<>();
+        for(Method method : listener.getClass().getMethods()){
+            if(method.isAnnotationPresent(Listener.class) && method.getParameterCount() > 0){
+                eventTypes.add(method.getParameterTypes()[0]);
+            }
+        }
+        Sponge.getEventManager().registerListeners(plugin, listener);
+        addRegistration(listener, eventTypes);
+    }
+
+    /**
+     * Registers a listener for a type of event, counting it if the type includes hunt events.
+     *
+     * @param plugin     the plugin registering the listener
+     * @param eventClass the type of event to listen for
+     * @param listener   the listener
+     * @param <T>        the type of event to listen for
+     * @throws NullPointerException if the plugin is null
+     * @throws NullPointerException if the event class is null
+     * @throws NullPointerException if the listener is null
+     */
+    public synchronized <T extends HuntEvent> void registerListener(Object plugin, Class<T> eventClass,
+                                                                    EventListener<? super T> listener){
+        Objects.requireNonNull(plugin, "plugin must not be null");
+        Objects.requireNonNull(eventClass, "event class must not be null");
+        Objects.requireNonNull(listener, "listener must not be null");
+        Sponge.getEventManager().registerListener(plugin, eventClass, listener);
+        addRegistration(listener, Collections.singletonList(eventClass));
+    }
+
+    /**
+     * Unregisters a listener registered through either registration method.
+     *
+     * @param listener the listener, or object containing listener methods
+     * @throws NullPointerException if the listener is null
+     */
+    public synchronized void unregisterListeners(Object listener){
+        Objects.requireNonNull(listener, "listener must not be null");
+        Sponge.getEventManager().unregisterListeners(listener);
+        if(registrations.remove(listener) != null){
+            updateObserved();
+        }
+    }
+
+    /**
+     * Records the event types a listener listens for.
+     *
+     * @param listener   the listener
+     * @param eventTypes the event types it listens for
+     */
+    private void addRegistration(Object listener, List<Class<?>> eventTypes){
+        registrations.computeIfAbsent(listener, (key) -> new ArrayList<>()).addAll(eventTypes);
+        updateObserved();
+    }
+
+    /**
+     * Rebuilds the hunt event types with at least one listener. Listening for a supertype, such as
+     * {@link HuntEvent}, counts as listening for every hunt event below it.
+     */
+    private void updateObserved(){
+        Set<Class<? extends HuntEvent>> updated = new HashSet<>();
+        for(List<Class<?>> eventTypes : registrations.values()){
+            for(Class<?> eventType : eventTypes){
+                for(Class<? extends HuntEvent> huntEventType : EVENT_TYPES){
+                    if(eventType.isAssignableFrom(huntEventType)){
+                        updated.add(huntEventType);
+                    }
+                }
+            }
+        }
+        observed = Collections.unmodifiableSet(updated);
+    }
+
+    /**
+     * Checks if a type of hunt event should be posted.
+     *
+     * @param eventType the type of hunt event
+     * @return true if events are posted for every listener, or a tracked listener is listening for the type,
+     *         false if only tracked listeners are posted to and none are listening for the type
+     */
+    public boolean isObserved(Class<? extends HuntEvent> eventType){
+        return !onlyTrackedListeners || observed.contains(eventType);
+    }
+
+    /**
+     * Posts a {@link HuntStartEvent}, if it should be posted and the board is registered.
+     *
+     * @param huntBoard the board the hunt was placed on
+     * @param hunt      the hunt that started
+     */
+    public void postStart(HuntBoard huntBoard, Hunt hunt){
+        if(isObserved(HuntStartEvent.class) && isRegistered(huntBoard)){
+            Sponge.getEventManager().post(new HuntStartEvent(createCause(huntBoard), huntBoard, hunt));
+        }
+    }
+
+    /**
+     * Posts a {@link HuntExpireEvent}, if it should be posted and the board is registered.
+     *
+     * @param huntBoard the board the hunt was removed from
+     * @param hunt      the hunt that expired
+     */
+    public void postExpire(HuntBoard huntBoard, Hunt hunt){
+        if(isObserved(HuntExpireEvent.class) && isRegistered(huntBoard)){
+            Sponge.getEventManager().post(new HuntExpireEvent(createCause(huntBoard), huntBoard, hunt));
+        }
+    }
+
+    /**
+     * Posts a {@link HuntCompleteEvent} for a hunt that is about to be completed. Callers should check
+     * {@link #isObserved} first, so the event isn't built when it shouldn't be posted.
+     *
+     * @param huntBoard the board the hunt is on
+     * @param hunt      the hunt being completed
+     * @param player    the player completing the hunt
+     * @param nature    the nature of the Pokemon
+     * @param source    the way the player is completing the hunt
+     * @return the posted event, which may have been cancelled to stop the completion or had its rewards changed
+     */
+    public HuntCompleteEvent postComplete(HuntBoard huntBoard, Hunt hunt, Player player, EnumNature nature,
+                                          CompletionSource source){
+        HuntCompleteEvent event = new HuntCompleteEvent(createCause(player), huntBoard, hunt, player, nature, source);
+        Sponge.getEventManager().post(event);
+        return event;
+    }
+
+    /**
+     * Creates the cause of an event, with the plugin in its context.
+     *
+     * @param root the root of the cause
+     * @return the cause of the event
+     */
+    private Cause createCause(Object root){
+        EventContext context = EventContext.builder().add(EventContextKeys.PLUGIN, PixelHunt.getContainer()).build();
+        return Cause.of(context, root, PixelHunt.getContainer());
+    }
+
+    /**
+     * Checks if a board is the board registered under its name.
+     *
+     * @param huntBoard the board
+     * @return true if the board is registered, false if it isn't
+     */
+    private boolean isRegistered(HuntBoard huntBoard){
+        return PixelHunt.getHuntAPI().getHuntBoardRegistry()
+                .getHuntBoard(huntBoard.getHuntBoardName())
+                .map((registered) -> registered == huntBoard)
+                .orElse(false);
+    }
+
+}
@@ -0,0 +1,62 @@
+package jw.landon.pixelhunt.implementation.executors;
+
+import jw.landon.pixelhunt.PixelHunt;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * What a pool does with new work once its threads are busy and its queue is full.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public enum BackPressurePolicy {
+
+    /** The submitting thread runs the work itself, slowing down whoever is submitting. */
+    CALLER_RUNS,
+    /** The work is rejected, throwing a {@link java.util.concurrent.RejectedExecutionException}. */
+    ABORT,
+    /** The oldest waiting work is dropped to make room for the new work. */
+    DISCARD_OLDEST;
+
+    /**
+     * Creates the rejection handler that applies this policy to a pool.
+     *
+     * @param poolName the name of the pool, used when logging dropped work
+     * @return the rejection handler that applies this policy
+     */
+    RejectedExecutionHandler createHandler(String poolName){
+        switch(this){
+            case CALLER_RUNS:
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD_OLDEST:
+                return (runnable, executor) -> {
+                    if(!executor.isShutdown()){
+                        executor.getQueue().poll();
+                        PixelHunt.getLogger().warn("PixelHunt {} pool is full, dropped its oldest work.", poolName);
+                        executor.execute(runnable);
+                    }
+                };
+            default:
+                return new ThreadPoolExecutor.AbortPolicy();
+        }
+    }
+
+    /**
+     * Gets a policy from its name, ignoring case.
+     *
+     * @param name         the name of the policy
+     * @param defaultValue the policy to use if no policy has the name
+     * @return the policy with the name, or the default value if none has the name
+     */
+    public static BackPressurePolicy fromName(String name, BackPressurePolicy defaultValue){
+        for(BackPressurePolicy policy : values()){
+            if(policy.name().equalsIgnoreCase(name)){
+                return policy;
+            }
+        }
+        return defaultValue;
+    }
+
+}
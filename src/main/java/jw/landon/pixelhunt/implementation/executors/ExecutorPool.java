@@ -0,0 +1,52 @@
+package jw.landon.pixelhunt.implementation.executors;
+
+/**
+ * The shared pools provided by {@link ManagedExecutors}, each configured in its own section
+ * of the Executors configuration.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public enum ExecutorPool {
+
+    /** Pool for file and database access, such as saving configuration. */
+    IO("IO", "io", 2, 256, BackPressurePolicy.CALLER_RUNS, true),
+    /** Pool for calls into the economy service, which may block on a database. */
+    ECONOMY("Economy", "economy", 4, 512, BackPressurePolicy.CALLER_RUNS, true),
+    /** Pool for CPU bound work, such as generating hunts ahead of time. */
+    COMPUTE("Compute", "compute", 2, 128, BackPressurePolicy.ABORT, false);
+
+    /** The name of the configuration section for the pool. */
+    final String configKey;
+    /** The name given to the pool's threads. */
+    final String threadName;
+    /** The default number of threads in the pool. */
+    final int defaultThreads;
+    /** The default number of tasks that may wait for a thread. */
+    final int defaultQueueSize;
+    /** The default back pressure policy of the pool. */
+    final BackPressurePolicy defaultPolicy;
+    /** If the pool's work blocks, making it suitable for virtual threads. */
+    final boolean blocking;
+
+    /**
+     * Constructor for the executor pool.
+     *
+     * @param configKey        the name of the configuration section for the pool
+     * @param threadName       the name given to the pool's threads
+     * @param defaultThreads   the default number of threads in the pool
+     * @param defaultQueueSize the default number of tasks that may wait for a thread
+     * @param defaultPolicy    the default back pressure policy of the pool
+     * @param blocking         if the pool's work blocks, making it suitable for virtual threads
+     */
+    ExecutorPool(String configKey, String threadName, int defaultThreads, int defaultQueueSize,
+                 BackPressurePolicy defaultPolicy, boolean blocking){
+        this.configKey = configKey;
+        this.threadName = threadName;
+        this.defaultThreads = defaultThreads;
+        this.defaultQueueSize = defaultQueueSize;
+        this.defaultPolicy = defaultPolicy;
+        this.blocking = blocking;
+    }
+
+}
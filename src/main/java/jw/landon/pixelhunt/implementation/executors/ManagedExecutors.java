@@ -0,0 +1,243 @@
+package jw.landon.pixelhunt.implementation.executors;
+
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import ninja.leaping.configurate.commented.CommentedConfigurationNode;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Owns every thread the plugin uses off the server thread.
+ *
+ * <p>Subsystems get their executors from here rather than creating their own, so that all pools are
+ * bounded, have named threads, and are drained together when the server stops. The shared
+ * {@link ExecutorPool pools} are configured in the Executors section of the configuration, and
+ * subsystems that need an isolated pool can create one through {@link #createPool}.</p>
+ *
+ * <p>Pools for blocking work use virtual threads when the runtime supports them and they are enabled.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class ManagedExecutors {
+
+    /** The shared pools, by type. */
+    private Map<ExecutorPool, ThreadPoolExecutor> pools = new EnumMap<>(ExecutorPool.class);
+    /** Every pool created, including shared pools, in the order they were created. */
+    private List<ExecutorService> allPools = new ArrayList<>();
+    /** Scheduler for delayed work off the server thread, such as timeouts. */
+    private ScheduledExecutorService scheduler;
+    /** If blocking pools use virtual threads, which is only when they are supported and enabled. */
+    private boolean useVirtualThreads;
+    /** The maximum amount of time to wait for pools to drain when shutting down, in milliseconds. */
+    private long shutdownTimeoutMillis;
+
+    /**
+     * Constructor for the managed executors, creating the shared pools from configuration.
+     */
+    public ManagedExecutors(){
+        CommentedConfigurationNode executorsNode = ConfigManager.getConfigNode("General", "Executors");
+        shutdownTimeoutMillis = TimeUnit.SECONDS.toMillis(executorsNode.getNode("Shutdown-Timeout-Seconds").getLong(10));
+        if(executorsNode.getNode("Use-Virtual-Threads").getBoolean(true)){
+            useVirtualThreads = createVirtualThreadFactory("probe") != null;
+        }
+
+        for(ExecutorPool pool : ExecutorPool.values()){
+            CommentedConfigurationNode poolNode = executorsNode.getNode(pool.configKey);
+            int threads = Math.max(1, poolNode.getNode("Threads").getInt(pool.defaultThreads));
+            int queueSize = Math.max(1, poolNode.getNode("Queue-Size").getInt(pool.defaultQueueSize));
+            BackPressurePolicy policy = BackPressurePolicy.fromName(
+                    poolNode.getNode("Back-Pressure").getString(""), pool.defaultPolicy);
+            pools.put(pool, newPool(pool.threadName, threads, queueSize, policy,
+                    createThreadFactory(pool.threadName, pool.blocking)));
+        }
+
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, createThreadFactory("scheduler"));
+        // Delayed work such as timeouts is meaningless once stopping, so it shouldn't hold up shutdown.
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        scheduler.setRemoveOnCancelPolicy(true);
+        this.scheduler = scheduler;
+        allPools.add(scheduler);
+    }
+
+    /**
+     * Gets one of the shared pools.
+     *
+     * @param pool the pool to get
+     * @return the shared pool
+     * @throws NullPointerException if the pool is null
+     */
+    public ExecutorService get(ExecutorPool pool){
+        return pools.get(Objects.requireNonNull(pool, "pool must not be null"));
+    }
+
+    /**
+     * Gets the scheduler for delayed work off the server thread.
+     * Work on the scheduler should be short, handing anything longer to a pool.
+     *
+     * @return the scheduler for delayed work off the server thread
+     */
+    public ScheduledExecutorService getScheduler(){
+        return scheduler;
+    }
+
+    /**
+     * Creates a pool for a subsystem that needs to be isolated from the shared pools.
+     * The pool is drained along with every other pool when the server stops.
+     *
+     * @param name      the name given to the pool's threads
+     * @param threads   the number of threads in the pool
+     * @param queueSize the number of tasks that may wait for a thread
+     * @param policy    what the pool does with new work once it is full
+     * @param blocking  if the pool's work blocks, making it suitable for virtual threads
+     * @return the new pool
+     * @throws NullPointerException     if the name is null
+     * @throws NullPointerException     if the policy is null
+     * @throws IllegalArgumentException if the number of threads or queue size is below or equal to 0
+     */
+    public synchronized ExecutorService createPool(String name, int threads, int queueSize,
+                                                   BackPressurePolicy policy, boolean blocking){
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(policy, "policy must not be null");
+        if(threads <= 0 || queueSize <= 0){
+            throw new IllegalArgumentException("threads and queue size must be greater than 0");
+        }
+        return newPool(name, threads, queueSize, policy, createThreadFactory(name, blocking));
+    }
+
+    /**
+     * Creates a fork-join pool for a subsystem that splits CPU bound work recursively.
+     * The pool is drained along with every other pool when the server stops.
+     *
+     * @param name        the name given to the pool's threads
+     * @param parallelism the number of threads in the pool
+     * @return the new pool
+     * @throws NullPointerException     if the name is null
+     * @throws IllegalArgumentException if the parallelism is below or equal to 0
+     */
+    public synchronized ForkJoinPool createForkJoinPool(String name, int parallelism){
+        Objects.requireNonNull(name, "name must not be null");
+        if(parallelism <= 0){
+            throw new IllegalArgumentException("parallelism must be greater than 0");
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(parallelism, (forkJoinPool) -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName(PixelHunt.PLUGIN_ID + "-" + name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, (thread, e) -> PixelHunt.getLogger().error("PixelHunt " + name + " work threw an exception.", e), false);
+        allPools.add(pool);
+        return pool;
+    }
+
+    /**
+     * Stops accepting new work and waits for queued work in every pool to finish, up to the configured
+     * timeout. Work still queued once the timeout has passed is dropped and logged.
+     */
+    public synchronized void shutdown(){
+        for(ExecutorService pool : allPools){
+            pool.shutdown();
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMillis);
+        int dropped = 0;
+        for(ExecutorService pool : allPools){
+            try{
+                long remaining = deadline - System.nanoTime();
+                if(!pool.awaitTermination(Math.max(0, remaining), TimeUnit.NANOSECONDS)){
+                    dropped += pool.shutdownNow().size();
+                }
+            }
+            catch(InterruptedException e){
+                dropped += pool.shutdownNow().size();
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if(dropped > 0){
+            PixelHunt.getLogger().warn("PixelHunt could not finish {} tasks before shutting down.", dropped);
+        }
+    }
+
+    /**
+     * Creates a bounded pool and records it so it is drained on shutdown.
+     *
+     * @param name          the name of the pool
+     * @param threads       the number of threads in the pool
+     * @param queueSize     the number of tasks that may wait for a thread
+     * @param policy        what the pool does with new work once it is full
+     * @param threadFactory the factory creating the pool's threads
+     * @return the new pool
+     */
+    private synchronized ThreadPoolExecutor newPool(String name, int threads, int queueSize,
+                                                    BackPressurePolicy policy, ThreadFactory threadFactory){
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), threadFactory, policy.createHandler(name));
+        pool.allowCoreThreadTimeOut(true);
+        allPools.add(pool);
+        return pool;
+    }
+
+    /**
+     * Creates a factory for a pool's threads, which are virtual threads if the pool blocks and they are in use.
+     * Either way, threads are named after the pool.
+     *
+     * @param name     the name of the threads, which is suffixed with the thread number
+     * @param blocking if the pool's work blocks, making it suitable for virtual threads
+     * @return factory for the pool's threads
+     */
+    private ThreadFactory createThreadFactory(String name, boolean blocking){
+        if(blocking && useVirtualThreads){
+            ThreadFactory virtualThreadFactory = createVirtualThreadFactory(name);
+            if(virtualThreadFactory != null){
+                return virtualThreadFactory;
+            }
+        }
+        return createThreadFactory(name);
+    }
+
+    /**
+     * Creates a factory for named platform threads.
+     *
+     * @param name the name of the threads, which is suffixed with the thread number
+     * @return factory for named platform threads
+     */
+    private static ThreadFactory createThreadFactory(String name){
+        AtomicInteger threadCount = new AtomicInteger();
+        return (runnable) -> {
+            Thread thread = new Thread(runnable, PixelHunt.PLUGIN_ID + "-" + name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Creates a factory for virtual threads if the runtime supports them.
+     * This is done reflectively, as the plugin is compiled against a runtime without virtual threads.
+     *
+     * @param name the name of the threads, which is suffixed with the thread number
+     * @return factory for named virtual threads, or null if the runtime does not support them
+     */
+    private static ThreadFactory createVirtualThreadFactory(String name){
+        try{
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = ofVirtual.invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class)
+                    .invoke(builder, PixelHunt.PLUGIN_ID + "-" + name + "-", 1L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        }
+        catch(ReflectiveOperationException | ClassCastException e){
+            return null;
+        }
+    }
+
+}
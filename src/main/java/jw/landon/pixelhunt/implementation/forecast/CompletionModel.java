@@ -0,0 +1,18 @@
+package jw.landon.pixelhunt.implementation.forecast;
+
+/**
+ * The ways an economy forecast can decide if a hunt is completed.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public enum CompletionModel {
+
+    /** Every hunt has the same chance of being completed before it expires. */
+    FIXED,
+    /** Each tier has its own chance of being completed before it expires, falling back to the fixed chance. */
+    PER_TIER,
+    /** The time taken to complete a hunt follows an exponential distribution, and it is completed if that is before it expires. */
+    EXPONENTIAL
+
+}
@@ -0,0 +1,97 @@
+package jw.landon.pixelhunt.implementation.forecast;
+
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.implementation.scheduling.WorkPriority;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Forecasts the daily payouts of every item, currency and command reward by simulating many seasons of hunts
+ * against the tiers, rewards and excluded Pokemon in the configuration.
+ *
+ * <p>Seasons are simulated in parallel on a fork-join pool. Daily payouts are streamed into histograms
+ * rather than kept, so memory use doesn't grow with the number of seasons. The forecast is built on the
+ * server thread, simulated on the pool, and the result is passed back to the server thread.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class EconomyForecast {
+
+    /** The settings of the forecast. */
+    private ForecastProfile profile;
+    /** The tiers and rewards to simulate. */
+    private PayoutModel model;
+    /** Called on the server thread with the result once the forecast finishes. */
+    private Consumer<ForecastResult> onFinish;
+    /** Called on the server thread if the forecast fails. */
+    private Runnable onFailure;
+
+    /**
+     * Constructor for the economy forecast, copying the tiers and rewards in the configuration.
+     *
+     * @param profile   the settings of the forecast
+     * @param onFinish  called on the server thread with the result once the forecast finishes
+     * @param onFailure called on the server thread if the forecast fails
+     * @throws NullPointerException if any argument is null
+     */
+    public EconomyForecast(ForecastProfile profile, Consumer<ForecastResult> onFinish, Runnable onFailure){
+        this.profile = Objects.requireNonNull(profile, "profile must not be null");
+        this.onFinish = Objects.requireNonNull(onFinish, "finish callback must not be null");
+        this.onFailure = Objects.requireNonNull(onFailure, "failure callback must not be null");
+        this.model = PayoutModel.fromConfig();
+    }
+
+    /**
+     * Starts simulating on a pool.
+     *
+     * @param pool the pool to simulate on
+     * @throws java.util.concurrent.RejectedExecutionException if the pool is shut down
+     */
+    public void start(ForkJoinPool pool){
+        double[] tierChances = new double[model.getNumTiers() + 1];
+        for(int tier = 0; tier < model.getNumTiers(); tier++){
+            tierChances[tier] = profile.getCompletionChance(model.getTierName(tier));
+        }
+        tierChances[model.getNumTiers()] = profile.getCompletionChance(null);
+
+        SplittableRandom random = (profile.getSeed() != 0) ? new SplittableRandom(profile.getSeed()) : new SplittableRandom();
+        SeasonTask task = new SeasonTask(profile, model, tierChances, 0, profile.getSeasons(), random);
+        pool.execute(() -> {
+            long startNanos = System.nanoTime();
+            ForecastResult result;
+            try{
+                result = task.invoke();
+            }
+            catch(RuntimeException e){
+                PixelHunt.getLogger().error("PixelHunt economy forecast failed.", e);
+                PixelHunt.getTickScheduler().submit(WorkPriority.NORMAL, onFailure);
+                return;
+            }
+            result.setElapsedNanos(System.nanoTime() - startNanos);
+            PixelHunt.getTickScheduler().submit(WorkPriority.NORMAL, () -> onFinish.accept(result));
+        });
+    }
+
+    /**
+     * Gets the tiers and rewards being simulated.
+     *
+     * @return the tiers and rewards being simulated
+     */
+    public PayoutModel getModel(){
+        return model;
+    }
+
+    /**
+     * Gets the settings of the forecast.
+     *
+     * @return the settings of the forecast
+     */
+    public ForecastProfile getProfile(){
+        return profile;
+    }
+
+}
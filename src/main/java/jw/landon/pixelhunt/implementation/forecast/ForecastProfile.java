@@ -0,0 +1,219 @@
+package jw.landon.pixelhunt.implementation.forecast;
+
+import ninja.leaping.configurate.commented.CommentedConfigurationNode;
+
+import java.util.Locale;
+
+/**
+ * The settings of an {@link EconomyForecast}, loaded from the Economy-Forecast section of the configuration.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class ForecastProfile {
+
+    /** The number of seasons to simulate. */
+    private int seasons;
+    /** The number of days in each season. */
+    private int days;
+    /** The number of slots on the simulated board. */
+    private int slots;
+    /** The duration of each hunt, in minutes. */
+    private double huntDurationMinutes;
+    /** If hunts can be completed by every player. */
+    private boolean sharedCompletion;
+    /** The number of players trying to complete each hunt when hunts are shared. */
+    private int activePlayers;
+    /** The way hunts are decided to be completed. */
+    private CompletionModel completionModel;
+    /** The chance a hunt is completed before it expires. */
+    private double completionChance;
+    /** The node holding the completion chance of each tier. */
+    private CommentedConfigurationNode tierChancesNode;
+    /** The mean time taken to complete a hunt, in minutes. */
+    private double meanMinutesToComplete;
+    /** The number of threads to simulate with. */
+    private int parallelism;
+    /** The seed for random hunts, or 0 for a random seed. */
+    private long seed;
+
+    /**
+     * Constructor for the forecast profile, loading it from configuration.
+     *
+     * @param forecastNode        the Economy-Forecast configuration node
+     * @param defaultSlots        the number of slots to use if none are configured
+     * @param huntDurationMinutes the duration of each hunt, in minutes
+     */
+    public ForecastProfile(CommentedConfigurationNode forecastNode, int defaultSlots, long huntDurationMinutes){
+        seasons = Math.max(1, forecastNode.getNode("Seasons").getInt(1000));
+        days = Math.max(1, forecastNode.getNode("Days").getInt(90));
+        slots = Math.max(1, forecastNode.getNode("Slots").getInt(defaultSlots));
+        this.huntDurationMinutes = Math.max(1, huntDurationMinutes);
+        sharedCompletion = forecastNode.getNode("Shared-Completion").getBoolean(false);
+        activePlayers = Math.max(1, forecastNode.getNode("Active-Players").getInt(50));
+        completionChance = clamp(forecastNode.getNode("Completion-Chance").getDouble(0.5));
+        tierChancesNode = forecastNode.getNode("Tier-Completion-Chances");
+        meanMinutesToComplete = Math.max(1, forecastNode.getNode("Mean-Minutes-To-Complete").getDouble(45));
+        seed = forecastNode.getNode("Seed").getLong(0);
+
+        String modelName = forecastNode.getNode("Completion-Model").getString(CompletionModel.FIXED.name());
+        try{
+            completionModel = CompletionModel.valueOf(modelName.toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+        catch(IllegalArgumentException e){
+            completionModel = CompletionModel.FIXED;
+        }
+
+        int configuredParallelism = forecastNode.getNode("Parallelism").getInt(0);
+        parallelism = (configuredParallelism > 0)
+                ? configuredParallelism
+                : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    }
+
+    /**
+     * Clamps a chance between 0 and 1.
+     *
+     * @param chance the chance to clamp
+     * @return the chance clamped between 0 and 1
+     */
+    private static double clamp(double chance){
+        return Math.max(0, Math.min(1, chance));
+    }
+
+    /**
+     * Sets the number of seasons to simulate.
+     *
+     * @param seasons the number of seasons to simulate
+     * @throws IllegalArgumentException if the number of seasons is below 1
+     */
+    public void setSeasons(int seasons){
+        if(seasons < 1){
+            throw new IllegalArgumentException("seasons must be greater than 0");
+        }
+        this.seasons = seasons;
+    }
+
+    /**
+     * Sets the number of days in each season.
+     *
+     * @param days the number of days in each season
+     * @throws IllegalArgumentException if the number of days is below 1
+     */
+    public void setDays(int days){
+        if(days < 1){
+            throw new IllegalArgumentException("days must be greater than 0");
+        }
+        this.days = days;
+    }
+
+    /**
+     * Gets the chance a hunt of a tier is completed before it expires, according to the completion model.
+     *
+     * @param tierName the name of the tier, or null if the hunt has no tier
+     * @return the chance a hunt of the tier is completed before it expires, between 0 and 1
+     */
+    public double getCompletionChance(String tierName){
+        switch(completionModel){
+            case PER_TIER:
+                if(tierName == null){
+                    return completionChance;
+                }
+                return clamp(tierChancesNode.getNode(tierName).getDouble(completionChance));
+            case EXPONENTIAL:
+                return 1 - Math.exp(-huntDurationMinutes / meanMinutesToComplete);
+            default:
+                return completionChance;
+        }
+    }
+
+    /**
+     * Gets the number of seasons to simulate.
+     *
+     * @return the number of seasons to simulate
+     */
+    public int getSeasons(){
+        return seasons;
+    }
+
+    /**
+     * Gets the number of days in each season.
+     *
+     * @return the number of days in each season
+     */
+    public int getDays(){
+        return days;
+    }
+
+    /**
+     * Gets the number of slots on the simulated board.
+     *
+     * @return the number of slots on the simulated board
+     */
+    public int getSlots(){
+        return slots;
+    }
+
+    /**
+     * Gets the duration of each hunt.
+     *
+     * @return the duration of each hunt, in minutes
+     */
+    public double getHuntDurationMinutes(){
+        return huntDurationMinutes;
+    }
+
+    /**
+     * Checks if hunts can be completed by every player.
+     *
+     * @return true if hunts can be completed by every player, false if they are removed on first completion
+     */
+    public boolean isSharedCompletion(){
+        return sharedCompletion;
+    }
+
+    /**
+     * Gets the number of players trying to complete each hunt when hunts are shared.
+     *
+     * @return the number of players trying to complete each hunt
+     */
+    public int getActivePlayers(){
+        return activePlayers;
+    }
+
+    /**
+     * Gets the way hunts are decided to be completed.
+     *
+     * @return the completion model
+     */
+    public CompletionModel getCompletionModel(){
+        return completionModel;
+    }
+
+    /**
+     * Gets the mean time taken to complete a hunt, used by the exponential completion model.
+     *
+     * @return the mean time taken to complete a hunt, in minutes
+     */
+    public double getMeanMinutesToComplete(){
+        return meanMinutesToComplete;
+    }
+
+    /**
+     * Gets the number of threads to simulate with.
+     *
+     * @return the number of threads to simulate with
+     */
+    public int getParallelism(){
+        return parallelism;
+    }
+
+    /**
+     * Gets the seed for random hunts.
+     *
+     * @return the seed for random hunts, or 0 for a random seed
+     */
+    public long getSeed(){
+        return seed;
+    }
+
+}
@@ -0,0 +1,142 @@
+package jw.landon.pixelhunt.implementation.forecast;
+
+/**
+ * The daily payouts of a range of simulated seasons, which can be merged with the results of other ranges.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class ForecastResult {
+
+    /** The tiers and rewards that were simulated. */
+    private final PayoutModel model;
+    /** The histogram of daily payouts of each payout key. */
+    private final PayoutHistogram[] histograms;
+    /** The number of seasons simulated. */
+    private long seasons;
+    /** The number of hunts generated. */
+    private long hunts;
+    /** The number of times a hunt was completed. */
+    private long completions;
+    /** The time taken to simulate, in nanoseconds. */
+    private long elapsedNanos;
+
+    /**
+     * Constructor for the forecast result, with empty histograms.
+     *
+     * @param model the tiers and rewards being simulated
+     */
+    ForecastResult(PayoutModel model){
+        this.model = model;
+        histograms = new PayoutHistogram[model.getNumKeys()];
+        for(int i = 0; i < histograms.length; i++){
+            histograms[i] = new PayoutHistogram();
+        }
+    }
+
+    /**
+     * Adds the results of another range of seasons to this result.
+     *
+     * @param other the result to merge into this result
+     */
+    void merge(ForecastResult other){
+        for(int i = 0; i < histograms.length; i++){
+            histograms[i].merge(other.histograms[i]);
+        }
+        seasons += other.seasons;
+        hunts += other.hunts;
+        completions += other.completions;
+    }
+
+    /**
+     * Gets the tiers and rewards that were simulated, which name the payout keys.
+     *
+     * @return the tiers and rewards that were simulated
+     */
+    public PayoutModel getModel(){
+        return model;
+    }
+
+    /**
+     * Gets the histogram of daily payouts of a payout key.
+     *
+     * @param key the index of the payout key
+     * @return the histogram of daily payouts of the key
+     */
+    public PayoutHistogram getHistogram(int key){
+        return histograms[key];
+    }
+
+    /**
+     * Adds to the number of seasons simulated.
+     *
+     * @param seasons the number of seasons simulated
+     */
+    void addSeasons(long seasons){
+        this.seasons += seasons;
+    }
+
+    /**
+     * Adds to the number of hunts generated.
+     *
+     * @param hunts the number of hunts generated
+     */
+    void addHunts(long hunts){
+        this.hunts += hunts;
+    }
+
+    /**
+     * Adds to the number of times a hunt was completed.
+     *
+     * @param completions the number of times a hunt was completed
+     */
+    void addCompletions(long completions){
+        this.completions += completions;
+    }
+
+    /**
+     * Sets the time taken to simulate.
+     *
+     * @param elapsedNanos the time taken to simulate, in nanoseconds
+     */
+    void setElapsedNanos(long elapsedNanos){
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the number of seasons simulated.
+     *
+     * @return the number of seasons simulated
+     */
+    public long getSeasons(){
+        return seasons;
+    }
+
+    /**
+     * Gets the number of hunts generated.
+     *
+     * @return the number of hunts generated
+     */
+    public long getHunts(){
+        return hunts;
+    }
+
+    /**
+     * Gets the number of times a hunt was completed.
+     *
+     * @return the number of times a hunt was completed
+     */
+    public long getCompletions(){
+        return completions;
+    }
+
+    /**
+     * Gets the time taken to simulate.
+     *
+     * @return the time taken to simulate, in nanoseconds
+     */
+    public long getElapsedNanos(){
+        return elapsedNanos;
+    }
+
+}
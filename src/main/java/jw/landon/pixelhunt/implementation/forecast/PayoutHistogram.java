@@ -0,0 +1,142 @@
+package jw.landon.pixelhunt.implementation.forecast;
+
+/**
+ * A histogram of payout amounts that can be merged with other histograms, so each simulation thread
+ * can record into its own histogram without locking.
+ *
+ * <p>Amounts below 16 are counted exactly. Larger amounts are counted in 16 buckets for every power of
+ * two, so percentiles are accurate to within about 3% while the histogram stays a fixed, small size
+ * no matter how many amounts are recorded.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class PayoutHistogram {
+
+    /** The number of buckets for each power of two. */
+    private static final int SUB_BUCKETS = 16;
+    /** The number of bits needed to index a sub bucket. */
+    private static final int SUB_BUCKET_BITS = 4;
+    /** The total number of buckets, enough for every positive long. */
+    private static final int NUM_BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /** The number of amounts recorded in each bucket. */
+    private final long[] counts = new long[NUM_BUCKETS];
+    /** The number of amounts recorded. */
+    private long count;
+    /** The sum of the amounts recorded. */
+    private double sum;
+    /** The smallest amount recorded. */
+    private long min = Long.MAX_VALUE;
+    /** The largest amount recorded. */
+    private long max;
+
+    /**
+     * Records an amount.
+     *
+     * @param amount the amount to record, negative amounts are recorded as 0
+     */
+    public void record(long amount){
+        amount = Math.max(0, amount);
+        counts[getBucket(amount)]++;
+        count++;
+        sum += amount;
+        min = Math.min(min, amount);
+        max = Math.max(max, amount);
+    }
+
+    /**
+     * Adds the amounts recorded in another histogram to this histogram.
+     *
+     * @param other the histogram to merge into this histogram
+     */
+    public void merge(PayoutHistogram other){
+        for(int i = 0; i < NUM_BUCKETS; i++){
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Gets the bucket an amount is counted in.
+     *
+     * @param amount the amount, which must not be negative
+     * @return the index of the bucket
+     */
+    private static int getBucket(long amount){
+        if(amount < SUB_BUCKETS){
+            return (int) amount;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(amount);
+        int subBucket = (int) (amount >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the middle of the range of amounts counted in a bucket.
+     *
+     * @param bucket the index of the bucket
+     * @return the middle of the range of amounts counted in the bucket
+     */
+    private static double getBucketMiddle(int bucket){
+        if(bucket < SUB_BUCKETS){
+            return bucket;
+        }
+        int exponent = (bucket - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+        int subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        double width = Math.pow(2, exponent - SUB_BUCKET_BITS);
+        return Math.pow(2, exponent) + (subBucket + 0.5) * width;
+    }
+
+    /**
+     * Gets an amount that a percentage of the recorded amounts are at or below.
+     *
+     * @param percentile the percentage, between 0 and 100
+     * @return the amount at the percentile, or 0 if nothing was recorded
+     */
+    public double getPercentile(double percentile){
+        if(count == 0){
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * Math.max(0, Math.min(100, percentile)) / 100));
+        long seen = 0;
+        for(int i = 0; i < NUM_BUCKETS; i++){
+            seen += counts[i];
+            if(seen >= rank){
+                return Math.max(min, Math.min(max, getBucketMiddle(i)));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Gets the number of amounts recorded.
+     *
+     * @return the number of amounts recorded
+     */
+    public long getCount(){
+        return count;
+    }
+
+    /**
+     * Gets the mean of the amounts recorded.
+     *
+     * @return the mean of the amounts recorded, or 0 if nothing was recorded
+     */
+    public double getMean(){
+        return (count == 0) ? 0 : sum / count;
+    }
+
+    /**
+     * Gets the largest amount recorded.
+     *
+     * @return the largest amount recorded, or 0 if nothing was recorded
+     */
+    public long getMax(){
+        return max;
+    }
+
+}
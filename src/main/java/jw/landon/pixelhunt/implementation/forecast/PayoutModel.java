@@ -0,0 +1,230 @@
+package jw.landon.pixelhunt.implementation.forecast;
+
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import jw.landon.pixelhunt.implementation.config.HuntTier;
+import jw.landon.pixelhunt.implementation.config.RewardEntry;
+
+import java.util.*;
+
+/**
+ * A compact copy of the hunt tiers, rewards and excluded Pokemon in the configuration, which can be
+ * read by many simulation threads at once.
+ *
+ * <p>Species, tiers and payouts are reduced to indices into arrays, so simulating a hunt doesn't touch
+ * the configuration or allocate. Each item, currency and command reward is a separate payout key.
+ * Command rewards pay out an amount of 1, as they are counted rather than measured. Entries without
+ * amounts are left out, as the hunt generator leaves them out, but items and currencies are not checked
+ * against the registry or economy service.</p>
+ *
+ * <p>Must be built on the server thread.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class PayoutModel {
+
+    /** The name of each payout key. */
+    private final String[] keys;
+    /** The name of each tier. */
+    private final String[] tierNames;
+    /** The tier index of each species that may be hunted, or -1 if its tier doesn't exist. */
+    private final int[] speciesTiers;
+    /** The payout key of each reward entry, by tier index and entry index. */
+    private final int[][] entryKeys;
+    /** The amounts of each reward entry, by tier index and entry index. */
+    private final int[][][] entryAmounts;
+
+    /**
+     * Constructor for the payout model.
+     *
+     * @param keys         the name of each payout key
+     * @param tierNames    the name of each tier
+     * @param speciesTiers the tier index of each species that may be hunted
+     * @param entryKeys    the payout key of each reward entry
+     * @param entryAmounts the amounts of each reward entry
+     */
+    private PayoutModel(String[] keys, String[] tierNames, int[] speciesTiers, int[][] entryKeys, int[][][] entryAmounts){
+        this.keys = keys;
+        this.tierNames = tierNames;
+        this.speciesTiers = speciesTiers;
+        this.entryKeys = entryKeys;
+        this.entryAmounts = entryAmounts;
+    }
+
+    /**
+     * Builds a payout model from the current configuration.
+     *
+     * @return a payout model of the current configuration
+     */
+    public static PayoutModel fromConfig(){
+        Map<String, HuntTier> tiers = ConfigManager.getTiers();
+        List<String> tierNames = new ArrayList<>(tiers.keySet());
+        Map<String, Integer> keyIndices = new LinkedHashMap<>();
+        int[][] entryKeys = new int[tierNames.size()][];
+        int[][][] entryAmounts = new int[tierNames.size()][][];
+
+        for(int tierIndex = 0; tierIndex < tierNames.size(); tierIndex++){
+            List<int[]> amounts = new ArrayList<>();
+            List<Integer> entryKeyList = new ArrayList<>();
+            for(RewardEntry entry : tiers.get(tierNames.get(tierIndex)).getRewards().values()){
+                if(entry.getAmounts().isEmpty()){
+                    continue;
+                }
+                String key = getPayoutKey(entry);
+                if(!keyIndices.containsKey(key)){
+                    keyIndices.put(key, keyIndices.size());
+                }
+                entryKeyList.add(keyIndices.get(key));
+                amounts.add((entry.getType() == RewardEntry.Type.COMMANDS)
+                        ? new int[]{1}
+                        : entry.getAmounts().stream().mapToInt(Integer::intValue).toArray());
+            }
+            entryKeys[tierIndex] = entryKeyList.stream().mapToInt(Integer::intValue).toArray();
+            entryAmounts[tierIndex] = amounts.toArray(new int[0][]);
+        }
+
+        return new PayoutModel(keyIndices.keySet().toArray(new String[0]), tierNames.toArray(new String[0]),
+                getSpeciesTiers(tiers, tierNames), entryKeys, entryAmounts);
+    }
+
+    /**
+     * Gets the tier index of every species that may be hunted, in the same way as the hunt generator.
+     *
+     * @param tiers     the tiers in the configuration, by name
+     * @param tierNames the name of each tier, in index order
+     * @return the tier index of every species that may be hunted, or -1 if its tier doesn't exist
+     */
+    private static int[] getSpeciesTiers(Map<String, HuntTier> tiers, List<String> tierNames){
+        int[] tierByOrdinal = new int[EnumSpecies.values().length];
+        Arrays.fill(tierByOrdinal, tierNames.indexOf(HuntTier.DEFAULT_TIER));
+        for(HuntTier tier : tiers.values()){
+            for(String pokemon : tier.getPokemon()){
+                EnumSpecies species = EnumSpecies.getFromNameAnyCase(pokemon);
+                if(species != null){
+                    tierByOrdinal[species.ordinal()] = tierNames.indexOf(tier.getName());
+                }
+            }
+        }
+
+        Set<String> excluded = ConfigManager.getExcludedPokemon();
+        List<Integer> speciesTiers = new ArrayList<>();
+        for(EnumSpecies species : EnumSpecies.values()){
+            if(!excluded.contains(species.getPokemonName().toLowerCase(Locale.ROOT))){
+                speciesTiers.add(tierByOrdinal[species.ordinal()]);
+            }
+        }
+        // The generator falls back to any species if every species is excluded.
+        if(speciesTiers.isEmpty()){
+            return tierByOrdinal;
+        }
+        return speciesTiers.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Gets the payout key a reward entry pays out to.
+     *
+     * @param entry the reward entry
+     * @return the payout key of the entry
+     */
+    private static String getPayoutKey(RewardEntry entry){
+        switch(entry.getType()){
+            case ITEMS:
+                return "item " + entry.getTarget().orElse(entry.getName());
+            case CURRENCY:
+                return "currency " + entry.getTarget().orElse("(default)");
+            default:
+                return "command " + entry.getName();
+        }
+    }
+
+    /**
+     * Gets the number of payout keys.
+     *
+     * @return the number of payout keys
+     */
+    public int getNumKeys(){
+        return keys.length;
+    }
+
+    /**
+     * Gets the name of a payout key.
+     *
+     * @param key the index of the payout key
+     * @return the name of the payout key
+     */
+    public String getKey(int key){
+        return keys[key];
+    }
+
+    /**
+     * Gets the number of species that may be hunted.
+     *
+     * @return the number of species that may be hunted
+     */
+    int getNumSpecies(){
+        return speciesTiers.length;
+    }
+
+    /**
+     * Gets the number of tiers.
+     *
+     * @return the number of tiers
+     */
+    int getNumTiers(){
+        return tierNames.length;
+    }
+
+    /**
+     * Gets the name of a tier.
+     *
+     * @param tier the index of the tier
+     * @return the name of the tier
+     */
+    String getTierName(int tier){
+        return tierNames[tier];
+    }
+
+    /**
+     * Gets the tier of a species that may be hunted.
+     *
+     * @param species the index of the species
+     * @return the index of the species' tier, or -1 if its tier doesn't exist
+     */
+    int getSpeciesTier(int species){
+        return speciesTiers[species];
+    }
+
+    /**
+     * Gets the number of reward entries in a tier.
+     *
+     * @param tier the index of the tier
+     * @return the number of reward entries in the tier
+     */
+    int getNumEntries(int tier){
+        return entryKeys[tier].length;
+    }
+
+    /**
+     * Gets the payout key of a reward entry.
+     *
+     * @param tier  the index of the tier
+     * @param entry the index of the entry in the tier
+     * @return the index of the payout key of the entry
+     */
+    int getEntryKey(int tier, int entry){
+        return entryKeys[tier][entry];
+    }
+
+    /**
+     * Gets the amounts a reward entry may pay out. The array must not be modified.
+     *
+     * @param tier  the index of the tier
+     * @param entry the index of the entry in the tier
+     * @return the amounts the entry may pay out
+     */
+    int[] getEntryAmounts(int tier, int entry){
+        return entryAmounts[tier][entry];
+    }
+
+}
@@ -0,0 +1,197 @@
+package jw.landon.pixelhunt.implementation.forecast;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates a range of seasons, splitting the range in half until it is small enough to simulate directly.
+ *
+ * <p>Each half gets its own random number generator split from its parent's, so a forecast with a seed
+ * gives the same result no matter how many threads run it. Each leaf records the daily payouts of its
+ * seasons into its own histograms, which are merged on the way back up.</p>
+ *
+ * <p>Every slot of the board is simulated as its own timeline. If hunts aren't shared, a hunt is replaced
+ * as soon as it is completed. If they are shared, a hunt stays until it expires, and the number of players
+ * completing it is drawn from a binomial distribution, with its payouts counted on the day of the middle
+ * of the hunt.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+class SeasonTask extends RecursiveTask<ForecastResult> {
+
+    /** The largest number of seasons a task simulates without splitting. */
+    private static final int LEAF_SEASONS = 8;
+    /** The variance above which the number of completions of a shared hunt uses a normal approximation. */
+    private static final double NORMAL_APPROXIMATION_VARIANCE = 25;
+    /** The number of minutes in a day. */
+    private static final double MINUTES_PER_DAY = TimeUnit.DAYS.toMinutes(1);
+
+    /** The settings of the forecast. */
+    private final ForecastProfile profile;
+    /** The tiers and rewards to simulate. */
+    private final PayoutModel model;
+    /** The chance a hunt of each tier is completed before it expires, with the last element for hunts without a tier. */
+    private final double[] tierChances;
+    /** The index of the first season to simulate. */
+    private final int from;
+    /** The index after the last season to simulate. */
+    private final int to;
+    /** The random number generator for the range. */
+    private final SplittableRandom random;
+
+    /**
+     * Constructor for the season task.
+     *
+     * @param profile     the settings of the forecast
+     * @param model       the tiers and rewards to simulate
+     * @param tierChances the chance a hunt of each tier is completed before it expires
+     * @param from        the index of the first season to simulate
+     * @param to          the index after the last season to simulate
+     * @param random      the random number generator for the range
+     */
+    SeasonTask(ForecastProfile profile, PayoutModel model, double[] tierChances, int from, int to,
+               SplittableRandom random){
+        this.profile = profile;
+        this.model = model;
+        this.tierChances = tierChances;
+        this.from = from;
+        this.to = to;
+        this.random = random;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected ForecastResult compute(){
+        if(to - from <= LEAF_SEASONS){
+            return simulate();
+        }
+        int middle = (from + to) >>> 1;
+        SeasonTask left = new SeasonTask(profile, model, tierChances, from, middle, random.split());
+        SeasonTask right = new SeasonTask(profile, model, tierChances, middle, to, random);
+        left.fork();
+        ForecastResult result = right.compute();
+        result.merge(left.join());
+        return result;
+    }
+
+    /**
+     * Simulates every season in the range.
+     *
+     * @return the result of the range
+     */
+    private ForecastResult simulate(){
+        int days = profile.getDays();
+        int numKeys = model.getNumKeys();
+        ForecastResult result = new ForecastResult(model);
+        long[] dailyPayouts = new long[days * numKeys];
+
+        for(int season = from; season < to; season++){
+            Arrays.fill(dailyPayouts, 0);
+            for(int slot = 0; slot < profile.getSlots(); slot++){
+                simulateSlot(dailyPayouts, result);
+            }
+            for(int day = 0; day < days; day++){
+                for(int key = 0; key < numKeys; key++){
+                    result.getHistogram(key).record(dailyPayouts[day * numKeys + key]);
+                }
+            }
+        }
+        result.addSeasons(to - from);
+        return result;
+    }
+
+    /**
+     * Simulates the hunts in one slot of the board for a season.
+     *
+     * @param dailyPayouts the payouts of each day, by day and payout key
+     * @param result       the result to count hunts and completions in
+     */
+    private void simulateSlot(long[] dailyPayouts, ForecastResult result){
+        double seasonMinutes = profile.getDays() * MINUTES_PER_DAY;
+        double duration = profile.getHuntDurationMinutes();
+        int numKeys = model.getNumKeys();
+        long hunts = 0;
+        long completions = 0;
+
+        for(double start = 0; start < seasonMinutes;){
+            hunts++;
+            int tier = model.getSpeciesTier(random.nextInt(model.getNumSpecies()));
+            double chance = tierChances[(tier >= 0) ? tier : tierChances.length - 1];
+
+            int key = -1;
+            int amount = 0;
+            if(tier >= 0 && model.getNumEntries(tier) > 0){
+                int entry = random.nextInt(model.getNumEntries(tier));
+                int[] amounts = model.getEntryAmounts(tier, entry);
+                key = model.getEntryKey(tier, entry);
+                amount = amounts[random.nextInt(amounts.length)];
+            }
+
+            double completedAfter;
+            int completers;
+            if(profile.isSharedCompletion()){
+                completers = sampleBinomial(profile.getActivePlayers(), chance);
+                completedAfter = duration / 2;
+            }
+            else{
+                completedAfter = sampleCompletionTime(chance, duration);
+                completers = (completedAfter < duration) ? 1 : 0;
+            }
+            completions += completers;
+
+            int day = (int) ((start + completedAfter) / MINUTES_PER_DAY);
+            start += (completers > 0 && !profile.isSharedCompletion()) ? completedAfter : duration;
+            if(key >= 0 && completers > 0 && day < profile.getDays()){
+                dailyPayouts[day * numKeys + key] += (long) completers * amount;
+            }
+        }
+        result.addHunts(hunts);
+        result.addCompletions(completions);
+    }
+
+    /**
+     * Samples the time taken to complete a hunt that can only be completed once.
+     *
+     * @param chance   the chance the hunt is completed before it expires
+     * @param duration the duration of the hunt, in minutes
+     * @return the time taken to complete the hunt in minutes, or the duration if it isn't completed
+     */
+    private double sampleCompletionTime(double chance, double duration){
+        if(profile.getCompletionModel() == CompletionModel.EXPONENTIAL){
+            double time = -profile.getMeanMinutesToComplete() * Math.log(1 - random.nextDouble());
+            return Math.min(time, duration);
+        }
+        if(random.nextDouble() >= chance){
+            return duration;
+        }
+        return random.nextDouble() * duration;
+    }
+
+    /**
+     * Samples the number of players out of many that complete a hunt.
+     *
+     * @param players the number of players trying to complete the hunt
+     * @param chance  the chance each player completes the hunt
+     * @return the number of players that complete the hunt
+     */
+    private int sampleBinomial(int players, double chance){
+        double variance = players * chance * (1 - chance);
+        if(variance < NORMAL_APPROXIMATION_VARIANCE){
+            int completers = 0;
+            for(int i = 0; i < players; i++){
+                if(random.nextDouble() < chance){
+                    completers++;
+                }
+            }
+            return completers;
+        }
+        // Box-Muller transform, as SplittableRandom has no gaussian.
+        double gaussian = Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+        long completers = Math.round(players * chance + Math.sqrt(variance) * gaussian);
+        return (int) Math.max(0, Math.min(players, completers));
+    }
+
+}
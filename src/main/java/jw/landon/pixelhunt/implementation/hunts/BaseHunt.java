@@ -3,14 +3,18 @@ package jw.landon.pixelhunt.implementation.hunts;
 import com.pixelmonmod.pixelmon.enums.EnumNature;
 import com.pixelmonmod.pixelmon.enums.EnumSpecies;
 import com.pixelmonmod.pixelmon.util.helpers.ArrayHelper;
+import jw.landon.pixelhunt.api.hunts.CompletionSource;
 import jw.landon.pixelhunt.api.hunts.Hunt;
 import jw.landon.pixelhunt.api.hunts.rewards.Reward;
 import scala.actors.threadpool.Arrays;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -23,12 +27,14 @@ public class BaseHunt implements Hunt {
 
     /** The species being hunted. */
     private EnumSpecies huntedSpecies;
-    /** The natures being hunted. */
+    /** Unmodifiable view of the natures being hunted. */
     private List<EnumNature> huntedNatures;
-    /** The rewards given upon completion of the hunt. */
+    /** Unmodifiable view of the rewards given upon completion of the hunt. */
     private List<Reward> huntRewards;
     /** The duration of the hunt in seconds. */
     private long duration;
+    /** Unmodifiable view of the ways the hunt can be completed. */
+    private Set<CompletionSource> completionSources;
 
     /**
      * Constructor for the hunt.
@@ -40,19 +46,47 @@ public class BaseHunt implements Hunt {
      * @throws NullPointerException     if species is null
      * @throws NullPointerException     if nature list is null
      * @throws IllegalArgumentException if a nature is null
+     * @throws NullPointerException     if reward list is null
      * @throws IllegalArgumentException if duration value is below or equal to 0
      */
     protected BaseHunt(EnumSpecies huntedSpecies, List<EnumNature> huntedNatures,
                        List<Reward> rewards, long durationValue){
+        this(huntedSpecies, huntedNatures, rewards, durationValue, EnumSet.of(CompletionSource.CAPTURE));
+    }
+
+    /**
+     * Constructor for the hunt.
+     *
+     * @param huntedSpecies     the species being hunted
+     * @param huntedNatures     the natures being hunted
+     * @param rewards           the rewards given upon completion of the hunt
+     * @param durationValue     the duration of the hunt in seconds
+     * @param completionSources the ways the hunt can be completed
+     * @throws NullPointerException     if species is null
+     * @throws NullPointerException     if nature list is null
+     * @throws IllegalArgumentException if a nature is null
+     * @throws NullPointerException     if reward list is null
+     * @throws IllegalArgumentException if duration value is below or equal to 0
+     * @throws NullPointerException     if completion sources are null
+     * @throws IllegalArgumentException if there are no completion sources
+     */
+    protected BaseHunt(EnumSpecies huntedSpecies, List<EnumNature> huntedNatures,
+                       List<Reward> rewards, long durationValue, Set<CompletionSource> completionSources){
 
         this.huntedSpecies = Objects.requireNonNull(huntedSpecies, "species must not be null");
         Objects.requireNonNull(huntedNatures, "nature list must not be null");
         ArrayHelper.validateArrayNonNull(huntedNatures.toArray(new EnumNature[0]));
-        this.huntedNatures = huntedNatures;
+        this.huntedNatures = Collections.unmodifiableList(huntedNatures);
+        this.huntRewards = Collections.unmodifiableList(Objects.requireNonNull(rewards, "reward list must not be null"));
         if(durationValue <= 0){
             throw new IllegalArgumentException("duration value must be greater than 0");
         }
         this.duration = durationValue;
+        Objects.requireNonNull(completionSources, "completion sources must not be null");
+        if(completionSources.isEmpty()){
+            throw new IllegalArgumentException("there must be at least one completion source");
+        }
+        this.completionSources = Collections.unmodifiableSet(EnumSet.copyOf(completionSources));
     }
 
     /** {@inheritDoc} */
@@ -64,6 +98,12 @@ public class BaseHunt implements Hunt {
     /** {@inheritDoc} */
     @Override
     public List<EnumNature> getHuntedNatures(){
+        return new ArrayList<>(huntedNatures);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<EnumNature> getHuntedNaturesView(){
         return huntedNatures;
     }
 
@@ -84,12 +124,24 @@ public class BaseHunt implements Hunt {
         return new ArrayList<>(huntRewards);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public List<Reward> getRewardsView(){
+        return huntRewards;
+    }
+
     /** {@inheritDoc} */
     @Override
     public long getHuntDuration(TimeUnit unit) {
         return unit.convert(duration, TimeUnit.SECONDS);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<CompletionSource> getCompletionSources(){
+        return completionSources;
+    }
+
     public static Builder builder(){
         return new Builder();
     }
@@ -107,6 +159,8 @@ public class BaseHunt implements Hunt {
         private List<Reward> rewards = new ArrayList<>();
         /** The duration of the hunt in seconds. */
         private long duration = 3600;
+        /** The ways the hunt can be completed. */
+        private Set<CompletionSource> completionSources = EnumSet.of(CompletionSource.CAPTURE);
 
         /** {@inheritDoc} */
         @Override
@@ -123,7 +177,7 @@ public class BaseHunt implements Hunt {
                 this.natures = Arrays.asList(natures);
             }
             else{
-                this.natures = null;
+                this.natures = new ArrayList<>();
             }
             return this;
         }
@@ -138,7 +192,7 @@ public class BaseHunt implements Hunt {
             else{
                 this.rewards = new ArrayList<>();
             }
-            return null;
+            return this;
         }
 
         /** {@inheritDoc} */
@@ -152,6 +206,18 @@ public class BaseHunt implements Hunt {
             return this;
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public Builder setCompletionSources(CompletionSource... sources){
+            ArrayHelper.validateArrayNonNull(sources);
+            if(sources.length == 0){
+                throw new IllegalArgumentException("there must be at least one completion source");
+            }
+            this.completionSources = EnumSet.noneOf(CompletionSource.class);
+            Collections.addAll(completionSources, sources);
+            return this;
+        }
+
         /** {@inheritDoc} */
         @Override
         public Hunt randomHunt() {
@@ -206,7 +272,7 @@ public class BaseHunt implements Hunt {
 
             List<EnumNature> naturesCopy = new ArrayList<>(natures);
             List<Reward> rewardsCopy = new ArrayList<>(rewards);
-            return new BaseHunt(species, naturesCopy, rewardsCopy, duration);
+            return new BaseHunt(species, naturesCopy, rewardsCopy, duration, completionSources);
         }
 
         /**
@@ -1,8 +1,10 @@
 package jw.landon.pixelhunt.implementation.hunts;
 
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.events.HuntEvent;
 import jw.landon.pixelhunt.api.hunts.HuntAPI;
 import jw.landon.pixelhunt.api.hunts.HuntBoard;
-import jw.landon.pixelhunt.api.hunts.HuntBoardRegistry;
+import org.spongepowered.api.event.EventListener;
 
 /**
  * Implementation for {@link HuntAPI}
@@ -13,11 +15,11 @@ import jw.landon.pixelhunt.api.hunts.HuntBoardRegistry;
 public class BaseHuntAPI implements HuntAPI {
 
     /** The hunt manager containing all active hunts. */
-    private HuntBoardRegistry huntManager = new BaseHuntBoardRegistry();
+    private BaseHuntBoardRegistry huntManager = new BaseHuntBoardRegistry();
 
     /** {@inheritDoc} */
     @Override
-    public HuntBoardRegistry getHuntBoardRegistry() {
+    public BaseHuntBoardRegistry getHuntBoardRegistry() {
         return huntManager;
     }
 
@@ -30,7 +32,46 @@ public class BaseHuntAPI implements HuntAPI {
     /** {@inheritDoc} */
     @Override
     public HuntBoard createHuntBoard(String huntBoardName, int numSlots) {
-        return new BaseHuntBoard(huntBoardName, numSlots);
+        return new BaseHuntBoard(huntBoardName, numSlots, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public HuntBoard createHuntBoard(String huntBoardName, int numSlots, boolean sharedCompletion) {
+        return new BaseHuntBoard(huntBoardName, numSlots, sharedCompletion);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public HuntBoard createHuntBoard(String huntBoardName, int numSlots, boolean sharedCompletion, String worldName) {
+        return new BaseHuntBoard(huntBoardName, numSlots, sharedCompletion, worldName, PixelHunt.getTickScheduler());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public HuntBoard createHuntBoard(String huntBoardName, int numSlots, boolean sharedCompletion, String worldName,
+                                     String permission) {
+        return new BaseHuntBoard(huntBoardName, numSlots, sharedCompletion, worldName, permission,
+                PixelHunt.getTickScheduler());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void registerEventListeners(Object plugin, Object listener) {
+        PixelHunt.getHuntEvents().registerListeners(plugin, listener);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends HuntEvent> void registerEventListener(Object plugin, Class<T> eventClass,
+                                                            EventListener<? super T> listener) {
+        PixelHunt.getHuntEvents().registerListener(plugin, eventClass, listener);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void unregisterEventListeners(Object listener) {
+        PixelHunt.getHuntEvents().unregisterListeners(listener);
     }
 
 }
@@ -5,45 +5,181 @@ import com.pixelmonmod.pixelmon.enums.EnumSpecies;
 import jw.landon.pixelhunt.PixelHunt;
 import jw.landon.pixelhunt.api.hunts.Hunt;
 import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import jw.landon.pixelhunt.api.hunts.HuntBoardSnapshot;
+import jw.landon.pixelhunt.implementation.completion.CompleterSet;
+import jw.landon.pixelhunt.implementation.completion.PlayerIndex;
 import jw.landon.pixelhunt.implementation.config.ConfigManager;
 import ninja.leaping.configurate.commented.CommentedConfigurationNode;
-import org.spongepowered.api.scheduler.Task;
+import jw.landon.pixelhunt.implementation.scheduling.TickScheduler;
+import jw.landon.pixelhunt.implementation.scheduling.WorkPriority;
 import org.spongepowered.api.service.pagination.PaginationList;
 
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
+/**
+ * Implementation for {@link HuntBoard}.
+ *
+ * <p>Hunts are stored in a fixed number of slots, with the time each hunt started and
+ * the time it expires kept in arrays parallel to the slots.</p>
+ *
+ * <p>Expiry and refilling are run through a {@link TickScheduler}, and times are read from the scheduler's
+ * clock. Boards use the plugin's scheduler unless given another, such as one driven by a virtual clock.</p>
+ *
+ * <p>A board can be suspended while nobody is online to see it, which stops expiry and refilling. When it is
+ * resumed, deadlines are either pushed back by the time it was suspended, or fast forwarded by working out
+ * where each slot's rotation would be now and placing a single hunt there, rather than replaying every
+ * rotation that was missed.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
 public class BaseHuntBoard implements HuntBoard {
 
-    /** Map of each hunt and the instant it was added and became active. */
-    private Map<Hunt, Instant> activeHunts = new HashMap<>();
+    /** The hunt in each slot, or null if the slot is empty. */
+    private Hunt[] slots;
+    /** The time each slot's hunt was added and became active, in epoch milliseconds. */
+    private long[] startTimes;
+    /** The time each slot's hunt expires, in epoch milliseconds. */
+    private long[] deadlines;
+    /** The players that have completed each slot's hunt. Only used with shared completion. */
+    private CompleterSet[] completers;
+    /** Number of slots currently holding a hunt. */
+    private int numActive;
     /** Name of the hunt board. */
     private String name;
+    /** The name of the world hunts can be completed in, or null if they can be completed in any world. */
+    private String worldScope;
+    /** The permission a player needs to complete and view hunts, or null if anyone can. */
+    private String permission;
     /** Number of slots to maintain hunts for. */
     private int numSlots;
+    /** If hunts can be completed once by every player, instead of being removed on first completion. */
+    private boolean sharedCompletion;
+    /** If work to refill an empty slot has been submitted to the tick scheduler and hasn't run yet. */
+    private boolean fillPending;
+    /** The time the board was suspended, in epoch milliseconds, or -1 if it isn't suspended. */
+    private long suspendedAt = -1;
+    /** The scheduler running expiry and refilling, whose clock times hunts. */
+    private TickScheduler scheduler;
+    /** The generator of the board's hunts, or null to take planned hunts and use the plugin's generator. */
+    private HuntGenerator huntGenerator;
+    /** The listener told of hunts placed and removed, set by the registry the board is added to. */
+    private HuntBoardListener listener;
+    /** Incremented whenever a hunt is placed in or cleared from a slot. */
+    private volatile long version;
+    /** The latest snapshot of the board. Taken again when it is requested after the version changes. */
+    private volatile HuntBoardSnapshot snapshot;
 
-    protected BaseHuntBoard(String huntBoardName, int numSlots){
+    protected BaseHuntBoard(String huntBoardName, int numSlots, boolean sharedCompletion){
+        this(huntBoardName, numSlots, sharedCompletion, PixelHunt.getTickScheduler());
+    }
+
+    /**
+     * Constructor for a hunt board run by a scheduler other than the plugin's, such as one driven by a virtual clock.
+     *
+     * @param huntBoardName    the name of the hunt board
+     * @param numSlots         the number of slots to maintain active hunts in
+     * @param sharedCompletion if hunts can be completed once by every player before they expire
+     * @param scheduler        the scheduler to run expiry and refilling with
+     * @throws NullPointerException     if the name is null
+     * @throws NullPointerException     if the scheduler is null
+     * @throws IllegalArgumentException if the number of slots is less than 0
+     */
+    public BaseHuntBoard(String huntBoardName, int numSlots, boolean sharedCompletion, TickScheduler scheduler){
+        this(huntBoardName, numSlots, sharedCompletion, null, scheduler);
+    }
+
+    /**
+     * Constructor for a hunt board whose hunts can only be completed in one world.
+     *
+     * @param huntBoardName    the name of the hunt board
+     * @param numSlots         the number of slots to maintain active hunts in
+     * @param sharedCompletion if hunts can be completed once by every player before they expire
+     * @param worldScope       the name of the world hunts can be completed in, or null for every world
+     * @param scheduler        the scheduler to run expiry and refilling with
+     * @throws NullPointerException     if the name is null
+     * @throws NullPointerException     if the scheduler is null
+     * @throws IllegalArgumentException if the number of slots is less than 0
+     */
+    public BaseHuntBoard(String huntBoardName, int numSlots, boolean sharedCompletion, String worldScope,
+                         TickScheduler scheduler){
+        this(huntBoardName, numSlots, sharedCompletion, worldScope, null, scheduler);
+    }
+
+    /**
+     * Constructor for a hunt board whose hunts can only be completed in one world, by players with a permission.
+     *
+     * @param huntBoardName    the name of the hunt board
+     * @param numSlots         the number of slots to maintain active hunts in
+     * @param sharedCompletion if hunts can be completed once by every player before they expire
+     * @param worldScope       the name of the world hunts can be completed in, or null for every world
+     * @param permission       the permission a player needs to complete and view hunts, or null for every player
+     * @param scheduler        the scheduler to run expiry and refilling with
+     * @throws NullPointerException     if the name is null
+     * @throws NullPointerException     if the scheduler is null
+     * @throws IllegalArgumentException if the number of slots is less than 0
+     */
+    public BaseHuntBoard(String huntBoardName, int numSlots, boolean sharedCompletion, String worldScope,
+                         String permission, TickScheduler scheduler){
         this.name = Objects.requireNonNull(huntBoardName, "name must not be null");
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler must not be null");
         if(numSlots < 0){
             throw new IllegalArgumentException("number of slots must be greater than or equal to 0");
         }
         this.numSlots = numSlots;
+        this.sharedCompletion = sharedCompletion;
+        this.worldScope = (worldScope != null && !worldScope.isEmpty()) ? worldScope : null;
+        this.permission = (permission != null && !permission.isEmpty()) ? permission : null;
+        this.slots = new Hunt[numSlots];
+        this.startTimes = new long[numSlots];
+        this.deadlines = new long[numSlots];
+        this.completers = new CompleterSet[numSlots];
     }
 
     public String getHuntBoardName(){
         return name;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Optional<String> getWorldScope(){
+        return Optional.ofNullable(worldScope);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<String> getPermission(){
+        return Optional.ofNullable(permission);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getVersion(){
+        return version;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumSlots(){
+        return numSlots;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void addHunts(Hunt... hunts){
         for(Hunt hunt : hunts){
-        activeHunts.put(hunt, Instant.now());
-                Task.builder()
-                        .execute(() -> removeHunts(hunt))
-                        .delay(hunt.getHuntDuration(TimeUnit.SECONDS), TimeUnit.SECONDS)
-                        .submit(PixelHunt.getInstance());
+            Objects.requireNonNull(hunt, "hunt must not be null");
+            if(getSlot(hunt) != -1){
+                continue;
+            }
+            int slot = findEmptySlot();
+            if(slot == -1){
+                throw new IllegalStateException("hunt board has no empty slots");
+            }
+            placeHunt(slot, hunt);
         }
     }
 
@@ -51,28 +187,372 @@ public class BaseHuntBoard implements HuntBoard {
     @Override
     public void removeHunts(Hunt... hunts){
         for(Hunt hunt : hunts){
-            activeHunts.remove(hunt);
+            int slot = getSlot(Objects.requireNonNull(hunt, "hunt must not be null"));
+            if(slot != -1){
+                clearSlot(slot);
+            }
+        }
+        requestFill();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Hunt> getHunt(int slot){
+        checkSlot(slot);
+        return Optional.ofNullable(slots[slot]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getSlot(Hunt hunt){
+        Objects.requireNonNull(hunt, "hunt must not be null");
+        for(int i = 0; i < numSlots; i++){
+            if(slots[i] == hunt){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Instant> getStartTime(int slot){
+        checkSlot(slot);
+        return (slots[slot] != null) ? Optional.of(Instant.ofEpochMilli(startTimes[slot])) : Optional.empty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Instant> getExpiryTime(int slot){
+        checkSlot(slot);
+        return (slots[slot] != null) ? Optional.of(Instant.ofEpochMilli(deadlines[slot])) : Optional.empty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setHunt(int slot, Hunt hunt){
+        checkSlot(slot);
+        Objects.requireNonNull(hunt, "hunt must not be null");
+        int currentSlot = getSlot(hunt);
+        if(currentSlot != -1 && currentSlot != slot){
+            throw new IllegalArgumentException("hunt is already active in another slot");
+        }
+        if(slots[slot] != null){
+            clearSlot(slot);
+        }
+        placeHunt(slot, hunt);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Hunt> removeHunt(int slot){
+        checkSlot(slot);
+        Hunt hunt = slots[slot];
+        if(hunt != null){
+            clearSlot(slot);
+            requestFill();
+        }
+        return Optional.ofNullable(hunt);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSharedCompletion(){
+        return sharedCompletion;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean completeHunt(Hunt hunt, UUID playerUUID){
+        Objects.requireNonNull(hunt, "hunt must not be null");
+        Objects.requireNonNull(playerUUID, "player uuid must not be null");
+        int slot = getSlot(hunt);
+        if(slot == -1){
+            return false;
+        }
+        if(sharedCompletion){
+            return completers[slot].add(PlayerIndex.of(playerUUID));
+        }
+        removeHunt(slot);
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasCompleted(Hunt hunt, UUID playerUUID){
+        Objects.requireNonNull(hunt, "hunt must not be null");
+        Objects.requireNonNull(playerUUID, "player uuid must not be null");
+        int slot = getSlot(hunt);
+        return slot != -1 && completers[slot] != null && completers[slot].contains(PlayerIndex.find(playerUUID));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getCompletionCount(Hunt hunt){
+        Objects.requireNonNull(hunt, "hunt must not be null");
+        int slot = getSlot(hunt);
+        return (slot != -1 && completers[slot] != null) ? completers[slot].size() : 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillHunts(){
+        if(numActive == numSlots){
+            return;
+        }
+        for(int i = 0; i < numSlots; i++){
+            if(slots[i] == null){
+                placeHunt(i, generateHunt());
+            }
         }
-        fillHunts();
     }
 
     /**
-     * Fills any unfilled spots on the hunt board upon hunt removal.
+     * Submits work to the tick scheduler to refill empty slots, if it hasn't been already.
+     * Slots are refilled one per unit of work, so a burst of expiries is spread across ticks.
      */
-    private void fillHunts(){
+    private void requestFill(){
+        if(!fillPending && suspendedAt == -1 && numActive < numSlots){
+            fillPending = true;
+            scheduler.submit(WorkPriority.NORMAL, this::fillNextSlot);
+        }
+    }
+
+    /**
+     * Fills the first empty slot with a new random hunt, then requests another fill if slots are still empty.
+     */
+    private void fillNextSlot(){
+        fillPending = false;
+        if(suspendedAt != -1){
+            return;
+        }
+        int slot = findEmptySlot();
+        if(slot != -1){
+            placeHunt(slot, generateHunt());
+            requestFill();
+        }
+    }
+
+    /**
+     * Sets the generator of the board's hunts, so they are generated without the plugin's planner or generator,
+     * such as for a simulation run off the server thread or the offline load test.
+     *
+     * @param huntGenerator the generator of the board's hunts, whose reward tables have been compiled
+     * @throws NullPointerException if the generator is null
+     */
+    public void setHuntGenerator(HuntGenerator huntGenerator){
+        this.huntGenerator = Objects.requireNonNull(huntGenerator, "hunt generator must not be null");
+    }
+
+    /**
+     * Sets the listener told whenever a hunt is placed on or removed from the board.
+     * Set by the registry when the board is added, and cleared when it is removed.
+     *
+     * @param listener the listener, or null for none
+     */
+    void setListener(HuntBoardListener listener){
+        this.listener = listener;
+    }
+
+    /**
+     * Takes the next hunt planned for the board, or generates a new random hunt from the configured tiers
+     * if none is ready, with the duration from configuration. Boards with their own generator always
+     * generate a new hunt with it.
+     *
+     * @return new random hunt
+     */
+    private Hunt generateHunt(){
         CommentedConfigurationNode generalNode = ConfigManager.getConfigNode("General");
         long huntDuration = generalNode.getNode("Hunt-Duration-Minutes").getLong(60);
+        if(huntGenerator != null){
+            return huntGenerator.generate(huntDuration, TimeUnit.MINUTES);
+        }
+
+        Optional<Hunt> planned = PixelHunt.getRotationPlanner().poll(this, huntDuration);
+        return planned.orElseGet(() -> PixelHunt.getHuntGenerator().generate(huntDuration, TimeUnit.MINUTES));
+    }
+
+    /**
+     * Places a hunt into an empty slot, making it active and scheduling its expiry.
+     *
+     * @param slot the slot to place the hunt in
+     * @param hunt the hunt to place
+     */
+    private void placeHunt(int slot, Hunt hunt){
+        placeHunt(slot, hunt, scheduler.getClock().millis());
+    }
+
+    /**
+     * Places a hunt into an empty slot as if it became active at a given time, and schedules its expiry.
+     *
+     * @param slot      the slot to place the hunt in
+     * @param hunt      the hunt to place
+     * @param startTime the time the hunt became active, in epoch milliseconds
+     */
+    private void placeHunt(int slot, Hunt hunt, long startTime){
+        slots[slot] = hunt;
+        startTimes[slot] = startTime;
+        deadlines[slot] = startTime + hunt.getHuntDuration(TimeUnit.MILLISECONDS);
+        if(sharedCompletion && completers[slot] == null){
+            completers[slot] = new CompleterSet();
+        }
+        numActive++;
+        version++;
+        scheduleExpiry(slot);
+        if(listener != null){
+            listener.onHuntPlaced(this, hunt);
+        }
+        PixelHunt.getHuntEvents().postStart(this, hunt);
+    }
+
+    /**
+     * Schedules the hunt in a slot to be removed at its deadline. The removal is skipped if the board is
+     * suspended or the slot's hunt or deadline has changed by then.
+     *
+     * @param slot the slot holding the hunt
+     */
+    private void scheduleExpiry(int slot){
+        Hunt hunt = slots[slot];
+        long deadline = deadlines[slot];
+        long delay = Math.max(0, deadline - scheduler.getClock().millis());
+        scheduler.schedule(WorkPriority.HIGH, delay, TimeUnit.MILLISECONDS, () -> {
+            if(suspendedAt == -1 && slots[slot] == hunt && deadlines[slot] == deadline){
+                removeHunt(slot);
+                PixelHunt.getHuntEvents().postExpire(this, hunt);
+            }
+        });
+    }
+
+    /**
+     * Suspends the board, so hunts stop expiring and empty slots stop being refilled until it is resumed.
+     * Does nothing if the board is already suspended.
+     */
+    public void suspend(){
+        if(suspendedAt == -1){
+            suspendedAt = scheduler.getClock().millis();
+            version++;
+        }
+    }
+
+    /**
+     * Checks if the board is suspended.
+     *
+     * @return true if the board is suspended, false if it isn't
+     */
+    public boolean isSuspended(){
+        return suspendedAt != -1;
+    }
+
+    /**
+     * Resumes the board after it was suspended, catching every slot up in a single pass, then fills empty slots.
+     * Does nothing if the board isn't suspended.
+     *
+     * @param fastForward true to expire and rotate hunts as if the board was never suspended,
+     *                    false to push every deadline back by the time the board was suspended
+     */
+    public void resume(boolean fastForward){
+        if(suspendedAt == -1){
+            return;
+        }
+        long now = scheduler.getClock().millis();
+        long suspendedFor = now - suspendedAt;
+        suspendedAt = -1;
+
+        for(int i = 0; i < numSlots; i++){
+            if(slots[i] == null){
+                continue;
+            }
+            if(!fastForward){
+                // The expiry scheduled before the board was suspended is skipped, as the deadline moved.
+                startTimes[i] += suspendedFor;
+                deadlines[i] += suspendedFor;
+                scheduleExpiry(i);
+            }
+            else if(deadlines[i] <= now){
+                fastForwardSlot(i, now);
+            }
+            // Otherwise the expiry scheduled before the board was suspended hasn't run yet, and still applies.
+        }
+        version++;
+        fillHunts();
+    }
+
+    /**
+     * Replaces an expired hunt with the hunt that would be in the slot now had the slot kept rotating,
+     * by skipping every whole rotation missed since the hunt expired.
+     *
+     * @param slot the slot holding the expired hunt
+     * @param now  the current time, in epoch milliseconds
+     */
+    private void fastForwardSlot(int slot, long now){
+        long expiredAt = deadlines[slot];
+        Hunt expired = slots[slot];
+        clearSlot(slot);
+        PixelHunt.getHuntEvents().postExpire(this, expired);
+        Hunt hunt = generateHunt();
+        long duration = hunt.getHuntDuration(TimeUnit.MILLISECONDS);
+        long missedRotations = (duration > 0) ? (now - expiredAt) / duration : 0;
+        placeHunt(slot, hunt, expiredAt + missedRotations * duration);
+    }
 
-        if(activeHunts.size() < numSlots){
-            Hunt hunt = PixelHunt.getHuntAPI().getHuntBuilder()
-                    .randomHunt();
+    /**
+     * Removes the hunt from a slot, leaving the slot empty.
+     * The slot's completer set is cleared and kept to be reused by the next hunt in the slot.
+     *
+     * @param slot the slot to clear
+     */
+    private void clearSlot(int slot){
+        Hunt hunt = slots[slot];
+        slots[slot] = null;
+        startTimes[slot] = 0;
+        deadlines[slot] = 0;
+        if(completers[slot] != null){
+            completers[slot].clear();
+        }
+        numActive--;
+        version++;
+        if(listener != null){
+            listener.onHuntRemoved(this, hunt);
+        }
+    }
+
+    /**
+     * Finds the first empty slot on the board.
+     *
+     * @return the first empty slot, or -1 if every slot holds a hunt
+     */
+    private int findEmptySlot(){
+        for(int i = 0; i < numSlots; i++){
+            if(slots[i] == null){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks that a slot is within the bounds of the board.
+     *
+     * @param slot the slot to check
+     * @throws IndexOutOfBoundsException if the slot is below 0 or greater than or equal to the number of slots
+     */
+    private void checkSlot(int slot){
+        if(slot < 0 || slot >= numSlots){
+            throw new IndexOutOfBoundsException("slot must be between 0 and " + (numSlots - 1));
         }
     }
 
     /** {@inheritDoc} */
     @Override
     public List<Hunt> getActiveHunts(){
-        return new ArrayList<>(activeHunts.keySet());
+        List<Hunt> activeHunts = new ArrayList<>(numActive);
+
+        for(Hunt hunt : slots){
+            if(hunt != null){
+                activeHunts.add(hunt);
+            }
+        }
+        return activeHunts;
     }
 
     /** {@inheritDoc} */
@@ -80,8 +560,8 @@ public class BaseHuntBoard implements HuntBoard {
     public List<Hunt> getActiveHunts(EnumSpecies species, EnumNature nature){
         List<Hunt> validHunts = new ArrayList<>();
 
-        for(Hunt hunt : activeHunts.keySet()){
-            if(hunt.getHuntedSpecies() == species && hunt.isHuntedNature(nature)){
+        for(Hunt hunt : slots){
+            if(hunt != null && hunt.getHuntedSpecies() == species && hunt.isHuntedNature(nature)){
                 validHunts.add(hunt);
             }
         }
@@ -93,18 +573,61 @@ public class BaseHuntBoard implements HuntBoard {
     public List<Hunt> getActiveHunts(EnumSpecies species){
         List<Hunt> validHunts = new ArrayList<>();
 
-        for(Hunt hunt : activeHunts.keySet()){
-            if(hunt.getHuntedSpecies() == species){
+        for(Hunt hunt : slots){
+            if(hunt != null && hunt.getHuntedSpecies() == species){
                 validHunts.add(hunt);
             }
         }
         return validHunts;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void forEachActiveHunt(Consumer<Hunt> visitor){
+        Objects.requireNonNull(visitor, "visitor must not be null");
+        for(int i = 0; i < numSlots; i++){
+            Hunt hunt = slots[i];
+            if(hunt != null){
+                visitor.accept(hunt);
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forEachActiveHunt(EnumSpecies species, EnumNature nature, Consumer<Hunt> visitor){
+        Objects.requireNonNull(species, "species must not be null");
+        Objects.requireNonNull(nature, "nature must not be null");
+        Objects.requireNonNull(visitor, "visitor must not be null");
+        for(int i = 0; i < numSlots; i++){
+            Hunt hunt = slots[i];
+            if(hunt != null && hunt.getHuntedSpecies() == species && hunt.isHuntedNature(nature)){
+                visitor.accept(hunt);
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public HuntBoardSnapshot getSnapshot(){
+        HuntBoardSnapshot current = snapshot;
+        if(current == null || current.getVersion() != version){
+            current = new BaseHuntBoardSnapshot(name, version, slots, startTimes, deadlines);
+            snapshot = current;
+        }
+        return current;
+    }
+
     /** {@inheritDoc} */
     @Override
     public PaginationList getHuntBoardPage() {
-        return HuntBoardPage.of(new HashMap<>(activeHunts));
+        return HuntBoardPage.of(getSnapshot());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public PaginationList getHuntBoardPage(Locale locale) {
+        return HuntBoardPage.of(getSnapshot(), locale);
     }
 
 }
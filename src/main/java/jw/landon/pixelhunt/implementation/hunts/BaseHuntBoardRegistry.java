@@ -1,19 +1,53 @@
 package jw.landon.pixelhunt.implementation.hunts;
 
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.Hunt;
 import jw.landon.pixelhunt.api.hunts.HuntBoard;
 import jw.landon.pixelhunt.api.hunts.HuntBoardRegistry;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.world.LoadWorldEvent;
+import org.spongepowered.api.event.world.UnloadWorldEvent;
+import org.spongepowered.api.world.World;
+
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * Implementation for {@link HuntBoardRegistry}
  *
+ * <p>Boards are kept in an unmodifiable set that is replaced whenever a board is added or removed,
+ * so boards can be visited without copying the set. Boards are rarely added or removed after startup.</p>
+ *
+ * <p>Boards are also sharded by world. Boards without a world scope are kept in one array, and each loaded
+ * world is given an index into an array of shards holding the boards scoped to it, so visiting the boards
+ * for a world never looks at boards scoped to other worlds. A world's shard is built when the world loads
+ * and dropped when it unloads, and every shard is rebuilt when a board is added or removed. The registry's
+ * version is bumped whenever the shards are rebuilt.</p>
+ *
+ * <p>{@link HuntBoardListener}s added to the registry are told whenever a hunt is placed on or removed from a
+ * registered board, including the active hunts of boards as they are added and removed.</p>
+ *
  * @author landonjw
  * @since  2.0.0
  */
-public class BaseHuntBoardRegistry implements HuntBoardRegistry {
+public class BaseHuntBoardRegistry implements HuntBoardRegistry, HuntBoardListener {
 
-    /** All hunt boards registed in the registry. */
-    private Set<HuntBoard> huntBoards = new HashSet<>();
+    /** All hunt boards registed in the registry. Unmodifiable, and replaced when it changes. */
+    private volatile Set<HuntBoard> huntBoards = Collections.emptySet();
+    /** The hunt boards without a world scope. Replaced when it changes. */
+    private volatile HuntBoard[] globalBoards = new HuntBoard[0];
+    /** The hunt boards scoped to each loaded world, indexed by world index. Null for worlds that aren't loaded. */
+    private volatile HuntBoard[][] worldShards = new HuntBoard[0][];
+    /** The index of each world that has been loaded, by world UUID. Indices are kept when worlds unload. */
+    private Map<UUID, Integer> worldIndices = new ConcurrentHashMap<>();
+    /** The name of each loaded world, by world index. */
+    private Map<Integer, String> loadedWorlds = new HashMap<>();
+    /** The version of the registry, bumped whenever the shards are rebuilt. */
+    private volatile long version;
+    /** The listeners told of hunts placed on and removed from registered boards. */
+    private List<HuntBoardListener> listeners = new CopyOnWriteArrayList<>();
 
     /** {@inheritDoc} */
     @Override
@@ -21,6 +55,32 @@ public class BaseHuntBoardRegistry implements HuntBoardRegistry {
         return new HashSet<>(huntBoards);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void forEachHuntBoard(Consumer<HuntBoard> visitor){
+        Objects.requireNonNull(visitor, "visitor must not be null");
+        for(HuntBoard huntBoard : huntBoards){
+            visitor.accept(huntBoard);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forEachHuntBoard(World world, Consumer<HuntBoard> visitor){
+        Objects.requireNonNull(world, "world must not be null");
+        Objects.requireNonNull(visitor, "visitor must not be null");
+        for(HuntBoard huntBoard : globalBoards){
+            visitor.accept(huntBoard);
+        }
+        Integer index = worldIndices.get(world.getUniqueId());
+        HuntBoard[][] shards = worldShards;
+        if(index != null && index < shards.length && shards[index] != null){
+            for(HuntBoard huntBoard : shards[index]){
+                visitor.accept(huntBoard);
+            }
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public Optional<HuntBoard> getHuntBoard(String huntBoardName) {
@@ -34,19 +94,155 @@ public class BaseHuntBoardRegistry implements HuntBoardRegistry {
 
     /** {@inheritDoc} */
     @Override
-    public void addHuntBoard(HuntBoard huntBoard) {
+    public synchronized void addHuntBoard(HuntBoard huntBoard) {
         Objects.requireNonNull(huntBoard, "hunt board must not be null");
         if(getHuntBoard(huntBoard.getHuntBoardName()).isPresent()){
             throw new IllegalArgumentException("hunt board already exists with name");
         }
-        huntBoards.add(huntBoard);
+        Set<HuntBoard> updated = new HashSet<>(huntBoards);
+        updated.add(huntBoard);
+        huntBoards = Collections.unmodifiableSet(updated);
+        rebuildShards();
+        if(huntBoard instanceof BaseHuntBoard){
+            ((BaseHuntBoard) huntBoard).setListener(this);
+        }
+        huntBoard.forEachActiveHunt((hunt) -> onHuntPlaced(huntBoard, hunt));
     }
 
     /** {@inheritDoc} */
     @Override
-    public void removeHuntBoard(HuntBoard huntBoard) {
+    public synchronized void removeHuntBoard(HuntBoard huntBoard) {
         Objects.requireNonNull(huntBoard, "hunt board must not be null");
-        huntBoards.remove(huntBoard);
+        Set<HuntBoard> updated = new HashSet<>(huntBoards);
+        boolean removed = updated.remove(huntBoard);
+        huntBoards = Collections.unmodifiableSet(updated);
+        rebuildShards();
+        if(removed){
+            if(huntBoard instanceof BaseHuntBoard){
+                ((BaseHuntBoard) huntBoard).setListener(null);
+            }
+            huntBoard.forEachActiveHunt((hunt) -> onHuntRemoved(huntBoard, hunt));
+        }
+        RotationPlanner rotationPlanner = PixelHunt.getRotationPlanner();
+        if(rotationPlanner != null){
+            rotationPlanner.evict(huntBoard);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getVersion(){
+        return version;
+    }
+
+    /**
+     * Adds a listener to be told whenever a hunt is placed on or removed from a registered board.
+     *
+     * @param listener the listener to add
+     * @throws NullPointerException if the listener is null
+     */
+    public void addListener(HuntBoardListener listener){
+        listeners.add(Objects.requireNonNull(listener, "listener must not be null"));
+    }
+
+    /**
+     * Removes a listener added with {@link #addListener}.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(HuntBoardListener listener){
+        listeners.remove(listener);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onHuntPlaced(HuntBoard huntBoard, Hunt hunt){
+        for(HuntBoardListener listener : listeners){
+            listener.onHuntPlaced(huntBoard, hunt);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onHuntRemoved(HuntBoard huntBoard, Hunt hunt){
+        for(HuntBoardListener listener : listeners){
+            listener.onHuntRemoved(huntBoard, hunt);
+        }
+    }
+
+    /**
+     * Builds the shard of a world, giving the world an index if it hasn't been loaded before.
+     *
+     * @param world the world that was loaded
+     * @throws NullPointerException if the world is null
+     */
+    public synchronized void loadWorld(World world){
+        Objects.requireNonNull(world, "world must not be null");
+        int index = worldIndices.computeIfAbsent(world.getUniqueId(), (uuid) -> worldIndices.size());
+        loadedWorlds.put(index, world.getName());
+        rebuildShards();
+    }
+
+    /**
+     * Drops the shard of a world. Its index is kept, so the world gets the same index if it loads again.
+     *
+     * @param world the world that was unloaded
+     * @throws NullPointerException if the world is null
+     */
+    public synchronized void unloadWorld(World world){
+        Objects.requireNonNull(world, "world must not be null");
+        Integer index = worldIndices.get(world.getUniqueId());
+        if(index != null && loadedWorlds.remove(index) != null){
+            rebuildShards();
+        }
+    }
+
+    /**
+     * Rebuilds the global boards and the shard of every loaded world from the registered boards,
+     * and bumps the version of the registry.
+     */
+    private void rebuildShards(){
+        List<HuntBoard> global = new ArrayList<>();
+        Map<String, List<HuntBoard>> scoped = new HashMap<>();
+        for(HuntBoard huntBoard : huntBoards){
+            Optional<String> worldScope = huntBoard.getWorldScope();
+            if(worldScope.isPresent()){
+                scoped.computeIfAbsent(worldScope.get().toLowerCase(Locale.ROOT), (name) -> new ArrayList<>())
+                        .add(huntBoard);
+            }
+            else{
+                global.add(huntBoard);
+            }
+        }
+
+        HuntBoard[][] shards = new HuntBoard[worldIndices.size()][];
+        for(Map.Entry<Integer, String> world : loadedWorlds.entrySet()){
+            shards[world.getKey()] = scoped.getOrDefault(world.getValue().toLowerCase(Locale.ROOT),
+                    Collections.emptyList()).toArray(new HuntBoard[0]);
+        }
+        globalBoards = global.toArray(new HuntBoard[0]);
+        worldShards = shards;
+        version++;
+    }
+
+    /**
+     * Builds the shard of a world when it loads.
+     *
+     * @param event the event called when a world is loaded
+     */
+    @Listener
+    public void onWorldLoad(LoadWorldEvent event){
+        loadWorld(event.getTargetWorld());
+    }
+
+    /**
+     * Drops the shard of a world when it unloads.
+     *
+     * @param event the event called when a world is unloaded
+     */
+    @Listener
+    public void onWorldUnload(UnloadWorldEvent event){
+        unloadWorld(event.getTargetWorld());
     }
 
 }
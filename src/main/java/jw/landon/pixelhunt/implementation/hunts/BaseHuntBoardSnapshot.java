@@ -0,0 +1,147 @@
+package jw.landon.pixelhunt.implementation.hunts;
+
+import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoardSnapshot;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Implementation for {@link HuntBoardSnapshot}.
+ *
+ * <p>The board's slots are copied once when the snapshot is taken, with the optionals for each slot
+ * built up front so that reading the snapshot does not allocate.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+class BaseHuntBoardSnapshot implements HuntBoardSnapshot {
+
+    /** Name of the hunt board. */
+    private final String name;
+    /** The version of the board the snapshot was taken of. */
+    private final long version;
+    /** The hunt in each slot. */
+    private final Optional<Hunt>[] hunts;
+    /** The time each slot's hunt became active. */
+    private final Optional<Instant>[] startTimes;
+    /** The time each slot's hunt expires. */
+    private final Optional<Instant>[] expiryTimes;
+    /** The time each slot's hunt expires, in epoch milliseconds, or 0 for empty slots. */
+    private final long[] deadlines;
+    /** Unmodifiable list of the active hunts, in slot order. */
+    private final List<Hunt> activeHunts;
+
+    /**
+     * Constructor for the snapshot, copying the board's slots.
+     *
+     * @param name       the name of the board
+     * @param version    the version of the board
+     * @param slots      the hunt in each slot of the board, null for empty slots
+     * @param startTimes the time each slot's hunt became active, in epoch milliseconds
+     * @param deadlines  the time each slot's hunt expires, in epoch milliseconds
+     */
+    @SuppressWarnings("unchecked")
+    BaseHuntBoardSnapshot(String name, long version, Hunt[] slots, long[] startTimes, long[] deadlines){
+        this.name = name;
+        this.version = version;
+        this.hunts = new Optional[slots.length];
+        this.startTimes = new Optional[slots.length];
+        this.expiryTimes = new Optional[slots.length];
+        this.deadlines = deadlines.clone();
+
+        List<Hunt> active = new ArrayList<>(slots.length);
+        for(int i = 0; i < slots.length; i++){
+            hunts[i] = Optional.ofNullable(slots[i]);
+            if(slots[i] != null){
+                this.startTimes[i] = Optional.of(Instant.ofEpochMilli(startTimes[i]));
+                this.expiryTimes[i] = Optional.of(Instant.ofEpochMilli(deadlines[i]));
+                active.add(slots[i]);
+            }
+            else{
+                this.startTimes[i] = Optional.empty();
+                this.expiryTimes[i] = Optional.empty();
+            }
+        }
+        this.activeHunts = Collections.unmodifiableList(active);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getHuntBoardName(){
+        return name;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getVersion(){
+        return version;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumSlots(){
+        return hunts.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Hunt> getHunt(int slot){
+        checkSlot(slot);
+        return hunts[slot];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Instant> getStartTime(int slot){
+        checkSlot(slot);
+        return startTimes[slot];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Instant> getExpiryTime(int slot){
+        checkSlot(slot);
+        return expiryTimes[slot];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getExpiryMillis(int slot){
+        checkSlot(slot);
+        return deadlines[slot];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Hunt> getActiveHunts(){
+        return activeHunts;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forEachActiveHunt(Consumer<Hunt> visitor){
+        Objects.requireNonNull(visitor, "visitor must not be null");
+        for(int i = 0; i < activeHunts.size(); i++){
+            visitor.accept(activeHunts.get(i));
+        }
+    }
+
+    /**
+     * Checks that a slot is within the bounds of the board.
+     *
+     * @param slot the slot to check
+     * @throws IndexOutOfBoundsException if the slot is below 0 or greater than or equal to the number of slots
+     */
+    private void checkSlot(int slot){
+        if(slot < 0 || slot >= hunts.length){
+            throw new IndexOutOfBoundsException("slot must be between 0 and " + (hunts.length - 1));
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+package jw.landon.pixelhunt.implementation.hunts;
+
+import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+
+/**
+ * Notified when a hunt is placed on or removed from a board in a {@link BaseHuntBoardRegistry}, so that anything
+ * built from the active hunts can be rebuilt straight away. Adding a board counts as placing each of its active
+ * hunts, and removing a board counts as removing them.
+ *
+ * <p>Listeners are notified on the thread that changed the board, which is the server thread for every board
+ * run by the plugin's scheduler. Only {@link BaseHuntBoard}s report hunts placed after they were added.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public interface HuntBoardListener {
+
+    /**
+     * Called after a hunt becomes active on a board.
+     *
+     * @param huntBoard the board the hunt was placed on
+     * @param hunt      the hunt that was placed
+     */
+    void onHuntPlaced(HuntBoard huntBoard, Hunt hunt);
+
+    /**
+     * Called after a hunt stops being active on a board, whether it expired, was completed or was removed.
+     *
+     * @param huntBoard the board the hunt was removed from
+     * @param hunt      the hunt that was removed
+     */
+    void onHuntRemoved(HuntBoard huntBoard, Hunt hunt);
+
+}
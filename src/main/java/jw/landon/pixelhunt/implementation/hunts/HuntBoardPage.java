@@ -1,9 +1,12 @@
 package jw.landon.pixelhunt.implementation.hunts;
 
 import com.pixelmonmod.pixelmon.enums.EnumNature;
+import jw.landon.pixelhunt.PixelHunt;
 import jw.landon.pixelhunt.api.hunts.Hunt;
-import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import jw.landon.pixelhunt.api.hunts.HuntBoardSnapshot;
 import jw.landon.pixelhunt.api.hunts.rewards.Reward;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import jw.landon.pixelhunt.implementation.locale.LocaleNames;
 import ninja.leaping.configurate.commented.CommentedConfigurationNode;
 import org.spongepowered.api.service.pagination.PaginationList;
 import org.spongepowered.api.text.Text;
@@ -13,92 +16,152 @@ import org.spongepowered.api.text.format.TextStyles;
 import org.spongepowered.api.text.serializer.FormattingCodeTextSerializer;
 import org.spongepowered.api.text.serializer.TextSerializers;
 
-import java.time.Duration;
-import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Used to create a hunt board that contains a list of active hunts.
  * The text for these boards are configurable in Messages.conf, and there are several placeholders available.
  *
+ * <p>Species and nature names are shown in the viewer's language. Everything but the expiry of each hunt is
+ * rendered once for each version of a board and language, and reused for every viewer of that language,
+ * as the expiry is the only part that changes while the board doesn't.</p>
+ *
+ * <p>Must only be used from the server thread.</p>
+ *
  * @author landonjw
  * @since  2.0.0
  */
 public class HuntBoardPage {
 
-    /** The configuration node that correlates to the messages for a hunt board. */
-    private static CommentedConfigurationNode boardNode;
     /** The formatter for all text with colour codes. */
     private static FormattingCodeTextSerializer formatter;
+    /** The text for hunt boards parsed from configuration. Null if it needs to be parsed again. */
+    private static BoardTexts texts;
+
+    /** The rendered hunts of each board, by board name and language. */
+    private static Map<String, Map<LocaleNames, RenderedHunts>> renderedBoards = new HashMap<>();
 
     /**
-     * Gets a page with a list of active hunt descriptions.
+     * Gets a page with a list of active hunt descriptions, in the server's language.
+     * Each hunt is numbered by its slot on the hunt board, starting from 1.
      *
-     * @param hunts map of hunts and the times they were started
+     * @param snapshot the snapshot of the board to list hunts from
      * @return a page with a list of active hunt descriptions
-     * @throws NullPointerException if hunt map is null
+     * @throws NullPointerException if the snapshot is null
      */
-    public static PaginationList of(Map<Hunt, Instant> hunts){
-        Objects.requireNonNull(hunts, "hunt map must not be null");
+    public static PaginationList of(HuntBoardSnapshot snapshot){
+        return of(snapshot, LocaleNames.server());
+    }
 
-        boardNode = ConfigManager.getMessagesNode("Messages", "Hunt-Board");
-        formatter = TextSerializers.FORMATTING_CODE;
+    /**
+     * Gets a page with a list of active hunt descriptions, in the language of a locale.
+     * Each hunt is numbered by its slot on the hunt board, starting from 1.
+     *
+     * @param snapshot the snapshot of the board to list hunts from
+     * @param locale   the locale of the viewer
+     * @return a page with a list of active hunt descriptions
+     * @throws NullPointerException if the snapshot is null
+     * @throws NullPointerException if the locale is null
+     */
+    public static PaginationList of(HuntBoardSnapshot snapshot, Locale locale){
+        return of(snapshot, LocaleNames.of(locale));
+    }
 
-        PaginationList.Builder pageBuilder = PaginationList.builder();
+    /**
+     * Gets a page with a list of active hunt descriptions, with names from a language.
+     *
+     * @param snapshot the snapshot of the board to list hunts from
+     * @param names    the names of species and natures in the viewer's language
+     * @return a page with a list of active hunt descriptions
+     * @throws NullPointerException if the snapshot is null
+     */
+    private static PaginationList of(HuntBoardSnapshot snapshot, LocaleNames names){
+        Objects.requireNonNull(snapshot, "snapshot must not be null");
 
-        Text header = formatter.deserialize(boardNode.getNode("Board-Header").getString("Pixelmon Hunts"));
-        pageBuilder.header(header);
+        BoardTexts texts = getTexts();
+        Text[] huntLines = getRenderedHunts(snapshot, names).lines;
 
-        Text padding = formatter.deserialize(boardNode.getNode("Board-Padding").getString("-"));
-        pageBuilder.padding(padding);
+        PaginationList.Builder pageBuilder = PaginationList.builder();
+        pageBuilder.header(texts.header);
+        pageBuilder.padding(texts.padding);
 
         List<Text> contents = new ArrayList<>();
 
-        int numHunts = 0;
-        for(Hunt hunt : hunts.keySet()){
-            numHunts++;
-            Text huntNumber = Text.of(TextColors.WHITE, TextStyles.BOLD, numHunts + " ");
-            contents.add(huntNumber.concat(getHuntDescription(hunt, hunts.get(hunt))));
+        for(int i = 0; i < huntLines.length; i++){
+            if(huntLines[i] != null){
+                contents.add(huntLines[i].concat(getExpiryText(texts, snapshot.getExpiryMillis(i))));
+            }
         }
 
         pageBuilder.contents(contents);
 
-        Text info = formatter.deserialize(boardNode.getNode("Board-Info-Label").getString("?"));
-        Text infoHover = formatter.deserialize(boardNode.getNode("Board-Info-Hover").getString(""));
-        if(!infoHover.toPlain().equalsIgnoreCase("")){
-            info.toBuilder().onHover(TextActions.showText(infoHover));
-        }
-        pageBuilder.footer(info);
+        pageBuilder.footer(texts.footer);
 
         return pageBuilder.build();
     }
 
     /**
-     * Gets the description for a hunt. This is displayed in the body of the hunt board.
+     * Gets the rendered hunts of a board in a language, rendering them if the board has changed since they
+     * were last rendered.
+     *
+     * @param snapshot the snapshot of the board
+     * @param names    the names of species and natures in the viewer's language
+     * @return the rendered hunts of the board
+     */
+    private static RenderedHunts getRenderedHunts(HuntBoardSnapshot snapshot, LocaleNames names){
+        Map<LocaleNames, RenderedHunts> byLanguage =
+                renderedBoards.computeIfAbsent(snapshot.getHuntBoardName(), (name) -> new HashMap<>());
+        RenderedHunts rendered = byLanguage.get(names);
+        if(rendered == null || rendered.snapshot != snapshot){
+            rendered = new RenderedHunts(snapshot, names);
+            byLanguage.put(names, rendered);
+        }
+        return rendered;
+    }
+
+    /**
+     * Drops the text parsed from configuration, so it is parsed again the next time a page is created.
+     * Called when the hunt board messages change.
+     */
+    public static void invalidateTexts(){
+        texts = null;
+        renderedBoards.clear();
+    }
+
+    /**
+     * Gets the text for hunt boards, parsing it from configuration if it isn't cached.
      *
-     * @param hunt        the hunt to get a description of
-     * @param timeStarted the time the hunt was started
+     * @return the text for hunt boards
+     */
+    private static BoardTexts getTexts(){
+        if(texts == null){
+            formatter = TextSerializers.FORMATTING_CODE;
+            texts = new BoardTexts(ConfigManager.getMessagesNode("Messages", "Hunt-Board"));
+        }
+        return texts;
+    }
+
+    /**
+     * Gets the description for a hunt, without its expiry. This is displayed in the body of the hunt board.
+     *
+     * @param hunt  the hunt to get a description of
+     * @param names the names of species and natures in the viewer's language
      * @return text that describes a hunt
      * @throws NullPointerException if the hunt is null
-     * @throws NullPointerException if time started instant is null
      */
-    private static Text getHuntDescription(Hunt hunt, Instant timeStarted){
+    private static Text getHuntDescription(Hunt hunt, LocaleNames names){
         Objects.requireNonNull(hunt, "hunt must not be null");
-        Objects.requireNonNull(timeStarted, "time started instant must not be null");
 
-        Text pokemon = getPokemonText(hunt);
-        Text natures = getNatureText(hunt);
-        Text rewards = getRewardText(hunt);
-        Text expiry = getExpiryText(hunt, timeStarted);
+        BoardTexts texts = getTexts();
+        Text pokemon = getPokemonText(texts, hunt, names);
+        Text natures = getNatureText(texts, hunt, names);
+        Text rewards = getRewardText(texts, hunt);
 
         Text space = Text.of(" ");
 
         Text description = Text.builder()
-                .append(pokemon, space, natures, space, rewards, space, expiry)
+                .append(pokemon, space, natures, space, rewards, space)
                 .build();
 
         return description;
@@ -113,12 +176,13 @@ public class HuntBoardPage {
      *     <li>{species} : The hunted species</li>
      * </ul>
      *
-     * @param hunt the hunt to get pokemon for
+     * @param texts the text for hunt boards
+     * @param hunt  the hunt to get pokemon for
+     * @param names the names of species in the viewer's language
      * @return text that describes which species the hunt is corresponding to
      */
-    private static Text getPokemonText(Hunt hunt){
-        String pokemon = boardNode.getNode("Pokemon-Label").getString("&b{species}");
-        pokemon = pokemon.replace("{species}", hunt.getHuntedSpecies().getLocalizedName());
+    private static Text getPokemonText(BoardTexts texts, Hunt hunt, LocaleNames names){
+        String pokemon = texts.pokemonLabel.replace("{species}", names.getSpeciesName(hunt.getHuntedSpecies()));
         return formatter.deserialize(pokemon);
     }
 
@@ -131,19 +195,18 @@ public class HuntBoardPage {
      *     <li>{nature} : The hunted nature</li>
      * </ul>
      *
-     * @param hunt the hunt to get natures for
+     * @param texts the text for hunt boards
+     * @param hunt  the hunt to get natures for
+     * @param names the names of natures in the viewer's language
      * @return text that can be hovered to view natures to complete a hunt
      */
-    private static Text getNatureText(Hunt hunt){
-        String nature = boardNode.getNode("Nature-Label").getString("&8&l[&aNatures&8&l]");
-        Text natureLabel = formatter.deserialize(nature);
+    private static Text getNatureText(BoardTexts texts, Hunt hunt, LocaleNames names){
         Text natureHover = Text.EMPTY;
-        for(EnumNature huntedNature : hunt.getHuntedNatures()){
-            String natureHoverBody = boardNode.getNode("Nature-Hover").getString("&bNature: &f{nature}");
-            natureHoverBody = natureHoverBody.replace("{nature}", huntedNature.getLocalizedName());
+        for(EnumNature huntedNature : hunt.getHuntedNaturesView()){
+            String natureHoverBody = texts.natureHover.replace("{nature}", names.getNatureName(huntedNature));
             natureHover = natureHover.concat(formatter.deserialize(natureHoverBody));
         }
-        natureLabel = natureLabel.toBuilder()
+        Text natureLabel = texts.natureLabel.toBuilder()
                 .onHover(TextActions.showText(natureHover))
                 .build();
 
@@ -156,17 +219,16 @@ public class HuntBoardPage {
      *
      * No placeholders are available. Descriptions for rewards are done through the {@link Reward} interface.
      *
-     * @param hunt the hunt to get reward text for
+     * @param texts the text for hunt boards
+     * @param hunt  the hunt to get reward text for
      * @return text that can be hovered to view hunt's rewards
      */
-    private static Text getRewardText(Hunt hunt){
-        String reward = boardNode.getNode("Reward-Label").getString("&8&l[&eRewards&8&l]");
-        Text rewardLabel = formatter.deserialize(reward);
+    private static Text getRewardText(BoardTexts texts, Hunt hunt){
         Text rewardHover = Text.EMPTY;
-        for(Reward huntReward : hunt.getRewards()){
+        for(Reward huntReward : hunt.getRewardsView()){
             rewardHover = rewardHover.concat(formatter.deserialize(huntReward.getDescription()));
         }
-        rewardLabel = rewardLabel.toBuilder()
+        Text rewardLabel = texts.rewardLabel.toBuilder()
                 .onHover(TextActions.showText(rewardHover))
                 .build();
 
@@ -185,17 +247,13 @@ public class HuntBoardPage {
      *     <li>{days}    : Days until hunt expires</li>
      * </ul>
      *
-     * @param hunt        the hunt to get expiration text for
-     * @param timeStarted the time the hunt was started
+     * @param texts    the text for hunt boards
+     * @param deadline the time the hunt expires, in epoch milliseconds
      * @return text that can be hovered to view expiration time
      */
-    private static Text getExpiryText(Hunt hunt, Instant timeStarted){
-        String expiry = boardNode.getNode("Expiry-Label").getString("&8&l[&cExpiry&8&l]");
-        Text expiryLabel = formatter.deserialize(expiry);
-        Duration timeElapsed = Duration.between(timeStarted, Instant.now());
-        String plainExpiryHover = boardNode.getNode("Expiry-Hover").getString("&f{days}&bD &f{hours}&bH " +
-                "&f{minutes}&bM &f{seconds}&bS");
-        long timeRemainingSeconds = hunt.getHuntDuration(TimeUnit.SECONDS) - timeElapsed.getSeconds();
+    private static Text getExpiryText(BoardTexts texts, long deadline){
+        String plainExpiryHover = texts.expiryHover;
+        long timeRemainingSeconds = Math.max(0, TimeUnit.MILLISECONDS.toSeconds(deadline - PixelHunt.getHuntClock().millis()));
         plainExpiryHover = plainExpiryHover.replace("{seconds}",
                 "" + timeRemainingSeconds);
         plainExpiryHover = plainExpiryHover.replace("{minutes}",
@@ -205,11 +263,93 @@ public class HuntBoardPage {
         plainExpiryHover = plainExpiryHover.replace("{days}",
                 "" + TimeUnit.DAYS.convert(timeRemainingSeconds, TimeUnit.SECONDS));
         Text expiryHover = formatter.deserialize(plainExpiryHover);
-        expiryLabel = expiryLabel.toBuilder()
+        Text expiryLabel = texts.expiryLabel.toBuilder()
                 .onHover(TextActions.showText(expiryHover))
                 .build();
 
         return expiryLabel;
     }
 
+    /**
+     * The hunts of one version of a board rendered in one language, without their expiry.
+     */
+    private static class RenderedHunts {
+
+        /** The snapshot of the board the hunts were rendered from. */
+        private final HuntBoardSnapshot snapshot;
+        /** The rendered line of each slot, numbered by slot, with null for empty slots. */
+        private final Text[] lines;
+
+        /**
+         * Constructor for the rendered hunts, rendering every hunt on the board.
+         *
+         * @param snapshot the snapshot of the board
+         * @param names    the names of species and natures in the viewer's language
+         */
+        private RenderedHunts(HuntBoardSnapshot snapshot, LocaleNames names){
+            this.snapshot = snapshot;
+            lines = new Text[snapshot.getNumSlots()];
+            for(int i = 0; i < lines.length; i++){
+                Optional<Hunt> maybeHunt = snapshot.getHunt(i);
+                if(maybeHunt.isPresent()){
+                    Text huntNumber = Text.of(TextColors.WHITE, TextStyles.BOLD, (i + 1) + " ");
+                    lines[i] = huntNumber.concat(getHuntDescription(maybeHunt.get(), names));
+                }
+            }
+        }
+
+    }
+
+    /**
+     * The text for hunt boards, parsed from configuration once and reused for every page.
+     * Templates with placeholders are kept as strings, as they are filled in for each hunt.
+     */
+    private static class BoardTexts {
+
+        /** The header of the board. */
+        private final Text header;
+        /** The padding around the header of the board. */
+        private final Text padding;
+        /** The footer of the board, which can be hovered to see how hunts work. */
+        private final Text footer;
+        /** The template for the pokemon text of each hunt. */
+        private final String pokemonLabel;
+        /** The label for the natures of each hunt. */
+        private final Text natureLabel;
+        /** The template for each nature in the nature hover. */
+        private final String natureHover;
+        /** The label for the rewards of each hunt. */
+        private final Text rewardLabel;
+        /** The label for the expiry of each hunt. */
+        private final Text expiryLabel;
+        /** The template for the expiry hover. */
+        private final String expiryHover;
+
+        /**
+         * Constructor for the board text, parsing it from configuration.
+         *
+         * @param boardNode the configuration node that correlates to the messages for a hunt board
+         */
+        private BoardTexts(CommentedConfigurationNode boardNode){
+            header = formatter.deserialize(boardNode.getNode("Board-Header").getString("Pixelmon Hunts"));
+            padding = formatter.deserialize(boardNode.getNode("Board-Padding").getString("-"));
+
+            Text info = formatter.deserialize(boardNode.getNode("Board-Info-Label").getString("?"));
+            Text infoHover = formatter.deserialize(boardNode.getNode("Board-Info-Hover").getString(""));
+            if(!infoHover.toPlain().equalsIgnoreCase("")){
+                info = info.toBuilder().onHover(TextActions.showText(infoHover)).build();
+            }
+            footer = info;
+
+            pokemonLabel = boardNode.getNode("Pokemon-Label").getString("&b{species}");
+            natureLabel = formatter.deserialize(boardNode.getNode("Nature-Label").getString("&8&l[&aNatures&8&l]"));
+            natureHover = boardNode.getNode("Nature-Hover").getString("&bNature: &f{nature}");
+            rewardLabel = formatter.deserialize(boardNode.getNode("Reward-Label").getString("&8&l[&eRewards&8&l]"));
+            expiryLabel = formatter.deserialize(boardNode.getNode("Expiry-Label").getString("&8&l[&cExpiry&8&l]"));
+            expiryHover = boardNode.getNode("Expiry-Hover").getString("&f{days}&bD &f{hours}&bH " +
+                    "&f{minutes}&bM &f{seconds}&bS");
+        }
+
+    }
+
 }
@@ -0,0 +1,238 @@
+package jw.landon.pixelhunt.implementation.hunts;
+
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.CompletionSource;
+import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.api.hunts.rewards.Reward;
+import jw.landon.pixelhunt.implementation.config.ConfigDiff;
+import jw.landon.pixelhunt.implementation.config.ConfigListener;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import jw.landon.pixelhunt.implementation.config.HuntTier;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates random hunts from the hunt tiers and excluded Pokemon in the configuration,
+ * completed in the ways set by the tier of their species.
+ *
+ * <p>The species that may be hunted and the tier of each species are built when first needed and cached.
+ * The reward table and completion sources of each tier are compiled by {@link #compileRewardTables()}, which
+ * must be called from the server thread as rewards are resolved against the item registry and economy service.
+ * Generating a hunt only samples from what was compiled, so it never touches the server, and can be done from
+ * any thread. When the configuration changes, only the caches affected by the change are dropped, and reward
+ * tables that were compiled are compiled again. Hunts that are already active keep the
+ * rewards they were generated with.</p>
+ *
+ * <p>Not thread safe. The generator from {@link PixelHunt#getHuntGenerator()} must only be used from the server
+ * thread, and the {@link RotationPlanner} keeps a generator of its own for planning hunts ahead of time.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class HuntGenerator implements ConfigListener {
+
+    /** Random number generator for species and rewards. */
+    private Random random = new Random();
+    /** The species that may be hunted. Null if it needs to be rebuilt. */
+    private EnumSpecies[] speciesSampler;
+    /** The name of the tier of each species, indexed by ordinal. Null if it needs to be rebuilt. */
+    private String[] speciesTiers;
+    /** The reward table of each tier that has been compiled, by tier name. */
+    private Map<String, RewardTable> rewardTables = new HashMap<>();
+    /** The ways hunts of each tier that has been compiled can be completed, by tier name. */
+    private Map<String, CompletionSource[]> tierSources = new HashMap<>();
+    /** The format of reward descriptions the reward tables were compiled with. */
+    private String descriptionFormat;
+    /** If the reward table of every configured tier has been compiled. */
+    private boolean compiled;
+
+    /**
+     * Generates a random hunt, with rewards rolled from the tier of its species.
+     *
+     * @param duration the duration of the hunt
+     * @param unit     the unit of time for the duration
+     * @return a new random hunt
+     * @throws IllegalStateException if the reward tables haven't been compiled
+     */
+    public Hunt generate(long duration, TimeUnit unit){
+        EnumSpecies species = randomSpecies();
+        Hunt.Builder builder = BaseHunt.builder()
+                .setSpecies(species)
+                .setRewards(rollRewards(species).toArray(new Reward[0]))
+                .setHuntDuration(duration, unit);
+        CompletionSource[] sources = getCompletionSources(species);
+        if(sources != null){
+            builder.setCompletionSources(sources);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Gets a random species that is not excluded from hunts.
+     *
+     * @return a random species that is not excluded from hunts
+     */
+    public EnumSpecies randomSpecies(){
+        if(speciesSampler == null){
+            speciesSampler = buildSpeciesSampler();
+        }
+        if(speciesSampler.length == 0){
+            return EnumSpecies.randomPoke();
+        }
+        return speciesSampler[random.nextInt(speciesSampler.length)];
+    }
+
+    /**
+     * Builds the species that may be hunted and the tier of each species now, rather than when the first
+     * hunt is generated. Reward tables are compiled separately, as they must be built on the server thread.
+     */
+    public void compileTiers(){
+        if(speciesSampler == null){
+            speciesSampler = buildSpeciesSampler();
+        }
+        if(speciesTiers == null){
+            speciesTiers = buildSpeciesTiers();
+        }
+    }
+
+    /**
+     * Builds the species that may be hunted, leaving out excluded Pokemon.
+     *
+     * @return the species that may be hunted
+     */
+    private EnumSpecies[] buildSpeciesSampler(){
+        Set<String> excluded = ConfigManager.getExcludedPokemon();
+        List<EnumSpecies> candidates = new ArrayList<>();
+        for(EnumSpecies species : EnumSpecies.values()){
+            if(!excluded.contains(species.getPokemonName().toLowerCase(Locale.ROOT))){
+                candidates.add(species);
+            }
+        }
+        return candidates.toArray(new EnumSpecies[0]);
+    }
+
+    /**
+     * Builds the name of the tier of each species from the configured tiers.
+     *
+     * @return the name of the tier of each species, indexed by ordinal, with null for species in no tier
+     */
+    private String[] buildSpeciesTiers(){
+        String[] tiers = new String[EnumSpecies.values().length];
+        for(HuntTier tier : ConfigManager.getTiers().values()){
+            for(String pokemon : tier.getPokemon()){
+                EnumSpecies tierSpecies = EnumSpecies.getFromNameAnyCase(pokemon);
+                if(tierSpecies != null){
+                    tiers[tierSpecies.ordinal()] = tier.getName();
+                }
+            }
+        }
+        return tiers;
+    }
+
+    /**
+     * Compiles the reward table and completion sources of every configured tier that hasn't been compiled,
+     * resolving items and currencies. Must be called from the server thread.
+     */
+    public void compileRewardTables(){
+        String format = ConfigManager.getMessagesNode("Messages", "Hunt-Board", "Reward-Hover")
+                .getString("&e&l{reward}: &f&l{reward-amount}");
+        if(!format.equals(descriptionFormat)){
+            rewardTables.clear();
+            descriptionFormat = format;
+        }
+
+        Map<String, RewardTable> tables = new HashMap<>();
+        Map<String, CompletionSource[]> sources = new HashMap<>();
+        for(HuntTier tier : ConfigManager.getTiers().values()){
+            RewardTable table = rewardTables.get(tier.getName());
+            tables.put(tier.getName(), (table != null) ? table : new RewardTable(tier, format));
+            sources.put(tier.getName(), tier.getCompletionSources().toArray(new CompletionSource[0]));
+        }
+        rewardTables = tables;
+        tierSources = sources;
+        compiled = true;
+    }
+
+    /**
+     * Drops every compiled reward table, such as when the economy service changes and currencies
+     * must be resolved again. Tables must be compiled again before the next hunt is generated.
+     */
+    public void invalidateRewardTables(){
+        rewardTables.clear();
+        compiled = false;
+    }
+
+    /**
+     * Checks if the reward table of every configured tier has been compiled, so hunts can be generated.
+     *
+     * @return true if the reward tables have been compiled, false if they need to be compiled
+     */
+    public boolean isCompiled(){
+        return compiled;
+    }
+
+    /**
+     * Rolls the rewards for a hunt of a species.
+     *
+     * @param species the species being hunted
+     * @return the rewards for the hunt, empty if the species' tier has no rewards
+     * @throws IllegalStateException if the reward tables haven't been compiled
+     */
+    public List<Reward> rollRewards(EnumSpecies species){
+        if(!compiled){
+            throw new IllegalStateException("reward tables must be compiled before hunts are generated");
+        }
+        List<Reward> rewards = new ArrayList<>();
+        RewardTable table = rewardTables.get(getTierName(species));
+        if(table != null){
+            table.roll(random).ifPresent(rewards::add);
+        }
+        return rewards;
+    }
+
+    /**
+     * Gets the ways hunts of a species can be completed, from the species' tier.
+     *
+     * @param species the species being hunted
+     * @return the ways hunts of the species can be completed, or null if the species' tier isn't configured
+     */
+    public CompletionSource[] getCompletionSources(EnumSpecies species){
+        CompletionSource[] sources = tierSources.get(getTierName(species));
+        return (sources != null) ? sources.clone() : null;
+    }
+
+    /**
+     * Gets the name of the tier a species belongs to.
+     *
+     * @param species the species
+     * @return the name of the tier the species belongs to, or the default tier if it isn't in any tier
+     */
+    private String getTierName(EnumSpecies species){
+        if(speciesTiers == null){
+            speciesTiers = buildSpeciesTiers();
+        }
+        String tierName = speciesTiers[species.ordinal()];
+        return (tierName != null) ? tierName : HuntTier.DEFAULT_TIER;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onConfigChanged(ConfigDiff diff){
+        if(diff.hasExclusionChanges()){
+            speciesSampler = null;
+        }
+        if(diff.hasPokemonListChanges()){
+            speciesTiers = null;
+        }
+        for(String tierName : diff.getTiersWithChangedRewards()){
+            rewardTables.remove(tierName);
+        }
+        if(compiled && (!diff.getChangedTiers().isEmpty() || diff.hasMessageChanges("Messages.Hunt-Board"))){
+            // Configuration changes are applied on the server thread, so the tables can be compiled again now.
+            compileRewardTables();
+        }
+    }
+
+}
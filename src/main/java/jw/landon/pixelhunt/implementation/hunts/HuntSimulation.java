@@ -0,0 +1,183 @@
+package jw.landon.pixelhunt.implementation.hunts;
+
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoardSnapshot;
+import jw.landon.pixelhunt.implementation.scheduling.TickScheduler;
+import jw.landon.pixelhunt.implementation.scheduling.VirtualClock;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates the rotation of a hunt board over a period of time, using a {@link VirtualClock}.
+ *
+ * <p>The simulated board has its own scheduler, which is never started. Instead of waiting for ticks,
+ * the clock is moved straight to the time the next unit of work is due, so days of expiries and refills
+ * run in moments. Hunts are generated from the configured tiers with the configured duration, exactly as
+ * they are on the real board, but the real boards are not affected.</p>
+ *
+ * <p>The simulation has a {@link HuntGenerator} of its own, whose reward tables are compiled when the simulation
+ * is constructed, so it must be constructed on the server thread. Once constructed, it can be run from any thread,
+ * as it never touches the plugin's generator or the server.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class HuntSimulation {
+
+    /** The number of slots on the simulated board. */
+    private int numSlots;
+    /** The amount of simulated time to run for, in nanoseconds. */
+    private long durationNanos;
+    /** The generator of the simulated board's hunts. */
+    private HuntGenerator huntGenerator;
+
+    /**
+     * Constructor for the hunt simulation. Must be called from the server thread.
+     *
+     * @param numSlots the number of slots on the simulated board
+     * @param duration the amount of simulated time to run for
+     * @param unit     the unit of time for the duration
+     * @throws IllegalArgumentException if the number of slots is below 0
+     * @throws IllegalArgumentException if the duration is below or equal to 0
+     * @throws NullPointerException     if the unit is null
+     */
+    public HuntSimulation(int numSlots, long duration, TimeUnit unit){
+        Objects.requireNonNull(unit, "time unit must not be null");
+        if(numSlots < 0){
+            throw new IllegalArgumentException("number of slots must be greater than or equal to 0");
+        }
+        if(duration <= 0){
+            throw new IllegalArgumentException("duration must be greater than 0");
+        }
+        this.numSlots = numSlots;
+        this.durationNanos = unit.toNanos(duration);
+        this.huntGenerator = new HuntGenerator();
+        huntGenerator.compileTiers();
+        huntGenerator.compileRewardTables();
+    }
+
+    /**
+     * Runs the simulation.
+     *
+     * @return the result of the simulation
+     */
+    public Result run(){
+        long startTime = System.nanoTime();
+        VirtualClock clock = new VirtualClock(System.currentTimeMillis());
+        TickScheduler scheduler = new TickScheduler(1, TimeUnit.MILLISECONDS, clock);
+        BaseHuntBoard huntBoard = new BaseHuntBoard("Simulation", numSlots, false, scheduler);
+        huntBoard.setHuntGenerator(huntGenerator);
+
+        Map<EnumSpecies, Integer> speciesCounts = new EnumMap<>(EnumSpecies.class);
+        Hunt[] seen = new Hunt[numSlots];
+        huntBoard.fillHunts();
+        int huntsGenerated = recordNewHunts(huntBoard.getSnapshot(), seen, speciesCounts);
+
+        long lastVersion = huntBoard.getVersion();
+        long nextDue;
+        while((nextDue = scheduler.getNextDueTime()) <= durationNanos){
+            clock.advanceTo(nextDue);
+            scheduler.runDueWork();
+            if(huntBoard.getVersion() != lastVersion){
+                lastVersion = huntBoard.getVersion();
+                huntsGenerated += recordNewHunts(huntBoard.getSnapshot(), seen, speciesCounts);
+            }
+        }
+
+        return new Result(TimeUnit.NANOSECONDS.toMillis(durationNanos), huntsGenerated, speciesCounts,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    /**
+     * Counts the hunts on the board that weren't there the last time it was checked.
+     *
+     * @param snapshot      the snapshot of the board
+     * @param seen          the hunt seen in each slot the last time the board was checked, updated in place
+     * @param speciesCounts the number of hunts generated for each species, updated in place
+     * @return the number of new hunts
+     */
+    private int recordNewHunts(HuntBoardSnapshot snapshot, Hunt[] seen, Map<EnumSpecies, Integer> speciesCounts){
+        int newHunts = 0;
+        for(int i = 0; i < seen.length; i++){
+            Hunt hunt = snapshot.getHunt(i).orElse(null);
+            if(hunt != null && hunt != seen[i]){
+                speciesCounts.merge(hunt.getHuntedSpecies(), 1, Integer::sum);
+                newHunts++;
+            }
+            seen[i] = hunt;
+        }
+        return newHunts;
+    }
+
+    /**
+     * The result of a simulation.
+     */
+    public static class Result {
+
+        /** The amount of simulated time, in milliseconds. */
+        private final long simulatedMillis;
+        /** The number of hunts generated. */
+        private final int huntsGenerated;
+        /** The number of hunts generated for each species. */
+        private final Map<EnumSpecies, Integer> speciesCounts;
+        /** The amount of real time the simulation took, in milliseconds. */
+        private final long elapsedMillis;
+
+        /**
+         * Constructor for the result.
+         *
+         * @param simulatedMillis the amount of simulated time, in milliseconds
+         * @param huntsGenerated  the number of hunts generated
+         * @param speciesCounts   the number of hunts generated for each species
+         * @param elapsedMillis   the amount of real time the simulation took, in milliseconds
+         */
+        private Result(long simulatedMillis, int huntsGenerated, Map<EnumSpecies, Integer> speciesCounts,
+                       long elapsedMillis){
+            this.simulatedMillis = simulatedMillis;
+            this.huntsGenerated = huntsGenerated;
+            this.speciesCounts = Collections.unmodifiableMap(speciesCounts);
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        /**
+         * Gets the amount of simulated time.
+         *
+         * @return the amount of simulated time, in milliseconds
+         */
+        public long getSimulatedMillis(){
+            return simulatedMillis;
+        }
+
+        /**
+         * Gets the number of hunts generated.
+         *
+         * @return the number of hunts generated
+         */
+        public int getHuntsGenerated(){
+            return huntsGenerated;
+        }
+
+        /**
+         * Gets the number of hunts generated for each species.
+         *
+         * @return unmodifiable map of the number of hunts generated for each species
+         */
+        public Map<EnumSpecies, Integer> getSpeciesCounts(){
+            return speciesCounts;
+        }
+
+        /**
+         * Gets the amount of real time the simulation took.
+         *
+         * @return the amount of real time the simulation took, in milliseconds
+         */
+        public long getElapsedMillis(){
+            return elapsedMillis;
+        }
+
+    }
+
+}
@@ -0,0 +1,141 @@
+package jw.landon.pixelhunt.implementation.hunts;
+
+import jw.landon.pixelhunt.api.hunts.Hunt;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A bounded ring buffer of hunts planned ahead of time for a board, shared between the thread planning
+ * hunts and the server thread taking them.
+ *
+ * <p>The buffer has an epoch that is incremented whenever it is cleared, so hunts planned from a configuration
+ * that has since changed can be turned away when they are offered.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+class PlannedQueue {
+
+    /** The planned hunts, from the head onwards. */
+    private Hunt[] hunts;
+    /** The index of the next hunt to take. */
+    private int head;
+    /** The number of planned hunts. */
+    private int size;
+    /** Incremented whenever the buffer is cleared. */
+    private long epoch;
+    /** If work to top up the buffer has been submitted and hasn't finished. */
+    private boolean topUpPending;
+
+    /**
+     * Constructor for the planned queue.
+     *
+     * @param capacity the largest number of hunts that can be planned
+     */
+    PlannedQueue(int capacity){
+        hunts = new Hunt[Math.max(1, capacity)];
+    }
+
+    /**
+     * Adds a hunt to the end of the buffer, if there is room and the buffer hasn't been cleared since it was planned.
+     *
+     * @param hunt  the hunt to add
+     * @param epoch the epoch of the buffer when the hunt started being planned
+     * @return true if the hunt was added, false if it was turned away
+     */
+    synchronized boolean offer(Hunt hunt, long epoch){
+        if(epoch != this.epoch || size == hunts.length){
+            return false;
+        }
+        hunts[(head + size) % hunts.length] = hunt;
+        size++;
+        return true;
+    }
+
+    /**
+     * Takes the hunt at the head of the buffer.
+     *
+     * @return the hunt at the head of the buffer, or null if the buffer is empty
+     */
+    synchronized Hunt poll(){
+        if(size == 0){
+            return null;
+        }
+        Hunt hunt = hunts[head];
+        hunts[head] = null;
+        head = (head + 1) % hunts.length;
+        size--;
+        return hunt;
+    }
+
+    /**
+     * Removes every planned hunt and starts a new epoch, optionally changing the capacity.
+     *
+     * @param capacity the largest number of hunts that can be planned from now on
+     */
+    synchronized void clear(int capacity){
+        if(capacity != hunts.length){
+            hunts = new Hunt[Math.max(1, capacity)];
+        }
+        else{
+            Arrays.fill(hunts, null);
+        }
+        head = 0;
+        size = 0;
+        epoch++;
+    }
+
+    /**
+     * Gets the current epoch of the buffer.
+     *
+     * @return the current epoch of the buffer
+     */
+    synchronized long getEpoch(){
+        return epoch;
+    }
+
+    /**
+     * Checks if the buffer has room for more hunts.
+     *
+     * @return true if the buffer isn't full, false if it is
+     */
+    synchronized boolean hasRoom(){
+        return size < hunts.length;
+    }
+
+    /**
+     * Marks a top up as pending, if one isn't already.
+     *
+     * @return true if a top up should be submitted, false if one is already pending
+     */
+    synchronized boolean markTopUpPending(){
+        if(topUpPending){
+            return false;
+        }
+        topUpPending = true;
+        return true;
+    }
+
+    /**
+     * Marks the pending top up as finished.
+     */
+    synchronized void clearTopUpPending(){
+        topUpPending = false;
+    }
+
+    /**
+     * Gets the planned hunts in the order they will be taken.
+     *
+     * @return a copy of the planned hunts
+     */
+    synchronized List<Hunt> toList(){
+        List<Hunt> planned = new ArrayList<>(size);
+        for(int i = 0; i < size; i++){
+            planned.add(hunts[(head + i) % hunts.length]);
+        }
+        return planned;
+    }
+
+}
@@ -0,0 +1,189 @@
+package jw.landon.pixelhunt.implementation.hunts;
+
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.rewards.CallbackReward;
+import jw.landon.pixelhunt.api.hunts.rewards.CurrencyReward;
+import jw.landon.pixelhunt.api.hunts.rewards.ItemReward;
+import jw.landon.pixelhunt.api.hunts.rewards.Reward;
+import jw.landon.pixelhunt.implementation.config.HuntTier;
+import jw.landon.pixelhunt.implementation.config.RewardEntry;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.item.ItemType;
+import org.spongepowered.api.item.inventory.ItemStack;
+import org.spongepowered.api.item.inventory.ItemStackSnapshot;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.service.economy.Currency;
+import org.spongepowered.api.service.economy.EconomyService;
+
+import java.util.*;
+
+/**
+ * The rewards that may be rolled for hunts in a tier.
+ *
+ * <p>Item templates, currencies and the description format are looked up once when the table is built, rather
+ * than every time a reward is rolled. Entries that can't be resolved, such as an unknown item or a currency
+ * without an economy service, are logged and left out of the table.</p>
+ *
+ * <p>Tables must be built on the server thread, as resolving entries uses the item registry and economy service.
+ * Once built, rolling only samples from what was resolved, so a table can be rolled from any thread.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+class RewardTable {
+
+    /** The name of the tier the table was built from. */
+    private String tierName;
+    /** The entries that may be rolled, resolved against the registry and economy service. */
+    private List<ResolvedEntry> entries = new ArrayList<>();
+    /** The format of reward descriptions, with placeholders for the reward's name and amount. */
+    private String descriptionFormat;
+    /** The plugin that command rewards are run by. */
+    private PluginContainer container;
+
+    /**
+     * Constructor for the reward table, resolving every entry in a tier. Must be called from the server thread.
+     *
+     * @param tier              the tier to build the table from
+     * @param descriptionFormat the format of reward descriptions, with placeholders for the reward's name and amount
+     */
+    RewardTable(HuntTier tier, String descriptionFormat){
+        this.tierName = tier.getName();
+        this.descriptionFormat = descriptionFormat;
+        this.container = PixelHunt.getContainer();
+        for(RewardEntry entry : tier.getRewards().values()){
+            if(entry.getAmounts().isEmpty()){
+                warnUnresolved(entry, "it has no amounts");
+                continue;
+            }
+            switch(entry.getType()){
+                case ITEMS:
+                    resolveItem(entry);
+                    break;
+                case CURRENCY:
+                    resolveCurrency(entry);
+                    break;
+                case COMMANDS:
+                    entries.add(new ResolvedEntry(entry, null, null));
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Resolves the item type of an item entry and adds it to the table.
+     *
+     * @param entry the item entry
+     */
+    private void resolveItem(RewardEntry entry){
+        Optional<ItemType> maybeItem = entry.getTarget()
+                .flatMap((itemId) -> Sponge.getRegistry().getType(ItemType.class, itemId));
+        if(maybeItem.isPresent()){
+            ItemStackSnapshot template = ItemStack.builder().itemType(maybeItem.get()).quantity(1).build().createSnapshot();
+            entries.add(new ResolvedEntry(entry, template, null));
+        }
+        else{
+            warnUnresolved(entry, "item '" + entry.getTarget().orElse("") + "' does not exist");
+        }
+    }
+
+    /**
+     * Resolves the currency of a currency entry and adds it to the table.
+     *
+     * @param entry the currency entry
+     */
+    private void resolveCurrency(RewardEntry entry){
+        if(!PixelHunt.getEconomyService().isPresent()){
+            warnUnresolved(entry, "there is no economy service");
+            return;
+        }
+        EconomyService economyService = PixelHunt.getEconomyService().get();
+        if(!entry.getTarget().isPresent()){
+            entries.add(new ResolvedEntry(entry, null, economyService.getDefaultCurrency()));
+            return;
+        }
+
+        String currencyName = entry.getTarget().get();
+        Optional<Currency> maybeCurrency = PixelHunt.getEconomyCache().findCurrency(currencyName);
+        if(maybeCurrency.isPresent()){
+            entries.add(new ResolvedEntry(entry, null, maybeCurrency.get()));
+        }
+        else{
+            warnUnresolved(entry, "currency '" + currencyName + "' does not exist");
+        }
+    }
+
+    /**
+     * Logs a reward entry that is left out of the table.
+     *
+     * @param entry  the reward entry
+     * @param reason the reason the entry is left out
+     */
+    private void warnUnresolved(RewardEntry entry, String reason){
+        PixelHunt.getLogger().warn("PixelHunt is skipping reward '{}' in tier {} because {}.",
+                entry.getKey(), tierName, reason);
+    }
+
+    /**
+     * Rolls a random reward from the table. Safe to call from any thread, as long as the random number generator
+     * isn't shared between threads.
+     *
+     * @param random the random number generator to roll with
+     * @return a random reward, or empty if the table has no entries
+     */
+    Optional<Reward> roll(Random random){
+        if(entries.isEmpty()){
+            return Optional.empty();
+        }
+        ResolvedEntry resolved = entries.get(random.nextInt(entries.size()));
+        List<Integer> amounts = resolved.entry.getAmounts();
+        int amount = amounts.get(random.nextInt(amounts.size()));
+
+        String description = descriptionFormat
+                .replace("{reward}", resolved.entry.getName())
+                .replace("{reward-amount}", String.valueOf(amount));
+
+        switch(resolved.entry.getType()){
+            case ITEMS:
+                return Optional.of(new ItemReward(resolved.itemTemplate, amount, description));
+            case CURRENCY:
+                return Optional.of(new CurrencyReward(amount, resolved.currency, description));
+            default:
+                List<String> commands = resolved.entry.getCommands();
+                return Optional.of(new CallbackReward((player) -> {
+                    for(String command : commands){
+                        Sponge.getCommandManager().process(Sponge.getServer().getConsole(),
+                                command.replace("{player}", player.getName()));
+                    }
+                }, description, container, false));
+        }
+    }
+
+    /**
+     * A reward entry with its item type or currency resolved.
+     */
+    private static class ResolvedEntry {
+
+        /** The reward entry. */
+        private final RewardEntry entry;
+        /** The item template of an item entry, null otherwise. */
+        private final ItemStackSnapshot itemTemplate;
+        /** The currency of a currency entry, null otherwise. */
+        private final Currency currency;
+
+        /**
+         * Constructor for the resolved entry.
+         *
+         * @param entry        the reward entry
+         * @param itemTemplate the item template of an item entry, null otherwise
+         * @param currency     the currency of a currency entry, null otherwise
+         */
+        private ResolvedEntry(RewardEntry entry, ItemStackSnapshot itemTemplate, Currency currency){
+            this.entry = entry;
+            this.itemTemplate = itemTemplate;
+            this.currency = currency;
+        }
+
+    }
+
+}
@@ -0,0 +1,235 @@
+package jw.landon.pixelhunt.implementation.hunts;
+
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import jw.landon.pixelhunt.implementation.config.ConfigDiff;
+import jw.landon.pixelhunt.implementation.config.ConfigListener;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import jw.landon.pixelhunt.implementation.executors.ExecutorPool;
+import ninja.leaping.configurate.commented.CommentedConfigurationNode;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plans the next hunts of every registered board ahead of time on the compute pool, so a slot opening only
+ * has to take a hunt that is already generated.
+ *
+ * <p>Each board has a {@link PlannedQueue} holding up to General.Planner.Size hunts. Taking a hunt submits
+ * work to top the queue back up. Hunts are planned with the planner's own {@link HuntGenerator}, which is
+ * only used while holding its lock, so the server's generator is never touched off the server thread.
+ * The generator's reward tables are compiled on the server thread, so the compute pool only samples from
+ * them. When the tiers, excluded Pokemon or hunt board messages change, every queue is cleared and planned
+ * again. Hunts planned with a different duration than the one currently configured are thrown away when taken.</p>
+ *
+ * <p>Boards that aren't registered, such as the private boards of simulations, are never planned for, and
+ * a board's queue is dropped when it is removed from the registry.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class RotationPlanner implements ConfigListener {
+
+    /** The generator used to plan hunts. Only used while holding its lock. */
+    private final HuntGenerator generator = new HuntGenerator();
+    /** The planned hunts of each board being planned for. */
+    private final Map<HuntBoard, PlannedQueue> queues = new ConcurrentHashMap<>();
+    /** If hunts are planned ahead of time. */
+    private volatile boolean enabled;
+    /** The number of hunts planned for each board. */
+    private volatile int capacity;
+
+    /**
+     * Starts planning hunts for every registered board, if enabled in configuration.
+     * Must be called from the server thread.
+     */
+    public void start(){
+        loadSettings();
+        synchronized(generator){
+            generator.compileRewardTables();
+        }
+        if(enabled){
+            PixelHunt.getHuntAPI().getHuntBoardRegistry().forEachHuntBoard((huntBoard) -> requestTopUp(getQueue(huntBoard)));
+        }
+    }
+
+    /**
+     * Builds the planner's species and tier lookups now, rather than when the first hunt is planned.
+     */
+    public void compileTiers(){
+        synchronized(generator){
+            generator.compileTiers();
+        }
+    }
+
+    /**
+     * Reads the planner's settings from configuration.
+     */
+    private void loadSettings(){
+        CommentedConfigurationNode plannerNode = ConfigManager.getConfigNode("General", "Planner");
+        enabled = plannerNode.getNode("Enabled").getBoolean(true);
+        capacity = Math.max(1, plannerNode.getNode("Size").getInt(8));
+    }
+
+    /**
+     * Takes the next planned hunt of a board. Must be called from the server thread.
+     *
+     * @param huntBoard       the board to take a hunt for
+     * @param durationMinutes the duration hunts on the board should have, in minutes
+     * @return the next planned hunt, or empty if none are ready or the board isn't planned for
+     */
+    public Optional<Hunt> poll(HuntBoard huntBoard, long durationMinutes){
+        if(!enabled || !isRegistered(huntBoard)){
+            return Optional.empty();
+        }
+        PlannedQueue queue = getQueue(huntBoard);
+        Hunt hunt = queue.poll();
+        if(hunt != null && hunt.getHuntDuration(TimeUnit.MINUTES) != durationMinutes){
+            // The duration was changed, so everything planned with the old one is thrown away.
+            queue.clear(capacity);
+            hunt = null;
+        }
+        requestTopUp(queue);
+        return Optional.ofNullable(hunt);
+    }
+
+    /**
+     * Stops planning hunts for a board, dropping the hunts planned for it.
+     *
+     * @param huntBoard the board
+     */
+    public void evict(HuntBoard huntBoard){
+        PlannedQueue queue = queues.remove(huntBoard);
+        if(queue != null){
+            // Stops a top up that is running for the board from adding to the dropped queue.
+            queue.clear(capacity);
+        }
+    }
+
+    /**
+     * Gets the hunts planned for a board, in the order they will be used.
+     *
+     * @param huntBoard the board
+     * @return a copy of the hunts planned for the board, empty if the board isn't planned for
+     */
+    public List<Hunt> getPlanned(HuntBoard huntBoard){
+        PlannedQueue queue = queues.get(huntBoard);
+        return (queue != null) ? queue.toList() : new ArrayList<>();
+    }
+
+    /**
+     * Checks if a board is the board registered under its name.
+     *
+     * @param huntBoard the board
+     * @return true if the board is registered, false if it isn't
+     */
+    private boolean isRegistered(HuntBoard huntBoard){
+        return PixelHunt.getHuntAPI().getHuntBoardRegistry()
+                .getHuntBoard(huntBoard.getHuntBoardName())
+                .map((registered) -> registered == huntBoard)
+                .orElse(false);
+    }
+
+    /**
+     * Gets the planned queue of a board, creating it if the board hasn't been planned for yet.
+     *
+     * @param huntBoard the board
+     * @return the planned queue of the board
+     */
+    private PlannedQueue getQueue(HuntBoard huntBoard){
+        return queues.computeIfAbsent(huntBoard, (board) -> new PlannedQueue(capacity));
+    }
+
+    /**
+     * Submits work to the compute pool to fill a queue, if it isn't already pending.
+     * If the pool is too busy, the queue is topped up the next time a hunt is taken.
+     *
+     * @param queue the queue to fill
+     */
+    private void requestTopUp(PlannedQueue queue){
+        if(!queue.hasRoom() || !queue.markTopUpPending()){
+            return;
+        }
+        long durationMinutes = ConfigManager.getConfigNode("General", "Hunt-Duration-Minutes").getLong(60);
+        try{
+            PixelHunt.getExecutors().get(ExecutorPool.COMPUTE).execute(() -> topUp(queue, durationMinutes));
+        }
+        catch(RejectedExecutionException e){
+            queue.clearTopUpPending();
+        }
+    }
+
+    /**
+     * Plans hunts until a queue is full, or the queue is cleared while planning.
+     *
+     * @param queue           the queue to fill
+     * @param durationMinutes the duration to give planned hunts, in minutes
+     */
+    private void topUp(PlannedQueue queue, long durationMinutes){
+        try{
+            synchronized(generator){
+                if(!generator.isCompiled()){
+                    return;
+                }
+                while(queue.hasRoom()){
+                    long epoch = queue.getEpoch();
+                    if(!queue.offer(generator.generate(durationMinutes, TimeUnit.MINUTES), epoch)){
+                        break;
+                    }
+                }
+            }
+        }
+        catch(RuntimeException e){
+            PixelHunt.getLogger().error("PixelHunt could not plan upcoming hunts.", e);
+        }
+        finally{
+            queue.clearTopUpPending();
+        }
+    }
+
+    /**
+     * Compiles the planner's reward tables again and plans every board again, dropping everything already planned,
+     * such as when the economy service changes. Must be called from the server thread.
+     */
+    public void replan(){
+        synchronized(generator){
+            generator.invalidateRewardTables();
+            generator.compileRewardTables();
+            for(PlannedQueue queue : queues.values()){
+                queue.clear(capacity);
+            }
+        }
+        if(enabled){
+            queues.values().forEach(this::requestTopUp);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onConfigChanged(ConfigDiff diff){
+        boolean wasEnabled = enabled;
+        int oldCapacity = capacity;
+        loadSettings();
+        boolean generationChanged = !diff.getChangedTiers().isEmpty() || diff.hasExclusionChanges()
+                || diff.hasMessageChanges("Messages.Hunt-Board");
+        if(!generationChanged && wasEnabled == enabled && oldCapacity == capacity){
+            return;
+        }
+
+        // Configuration changes are applied on the server thread, so the generator's reward tables are compiled
+        // here. Queues are cleared while holding its lock, so a running top up can't add hunts from the old tables.
+        synchronized(generator){
+            generator.onConfigChanged(diff);
+            for(PlannedQueue queue : queues.values()){
+                queue.clear(capacity);
+            }
+        }
+        if(enabled){
+            queues.values().forEach(this::requestTopUp);
+        }
+    }
+
+}
@@ -0,0 +1,215 @@
+package jw.landon.pixelhunt.implementation.idle;
+
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import jw.landon.pixelhunt.implementation.config.ConfigDiff;
+import jw.landon.pixelhunt.implementation.config.ConfigListener;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import jw.landon.pixelhunt.implementation.hunts.BaseHuntBoard;
+import jw.landon.pixelhunt.implementation.permissions.EligibilityCache;
+import jw.landon.pixelhunt.implementation.scheduling.WorkPriority;
+import ninja.leaping.configurate.commented.CommentedConfigurationNode;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.network.ClientConnectionEvent;
+import org.spongepowered.api.event.permission.SubjectDataUpdateEvent;
+
+import java.util.UUID;
+
+/**
+ * Suspends hunt boards while no online player is eligible for them, and catches them up when an eligible
+ * player is online again.
+ *
+ * <p>A player is eligible for a board if it has no permission or they hold it, as checked through the
+ * {@link EligibilityCache}. Boards are checked again whenever a player joins or leaves, and the tick after any
+ * subject's permissions change. While a board is suspended, it stops expiring and refilling hunts. Whether
+ * deadlines are frozen or fast forwarded when boards resume is set by General.Idle.Fast-Forward in
+ * configuration. The server is idle when every board is suspended, which other work that only players would
+ * see can check through {@link #isIdle()} to skip itself.</p>
+ *
+ * <p>Idle suspension is off unless General.Idle.Enabled is set in configuration.</p>
+ *
+ * <p>Must only be used from the server thread.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class IdleMonitor implements ConfigListener {
+
+    /** If every board is suspended. */
+    private boolean idle;
+
+    /**
+     * Suspends the boards no online player is eligible for, as the server starts.
+     */
+    public void start(){
+        if(isEnabled()){
+            update(null);
+        }
+    }
+
+    /**
+     * Checks if the server is idle, with every board suspended because no online player is eligible for it.
+     *
+     * @return true if the server is idle, false if it isn't
+     */
+    public boolean isIdle(){
+        return idle;
+    }
+
+    /**
+     * Suspends every board that no online player is eligible for, and resumes every suspended board that
+     * an online player is eligible for.
+     *
+     * @param leavingUUID the UUID of a player that is leaving and shouldn't be counted, or null if there is none
+     */
+    private void update(UUID leavingUUID){
+        boolean fastForward = getIdleNode().getNode("Fast-Forward").getBoolean(true);
+        int numBoards = 0;
+        int numSuspended = 0;
+        for(HuntBoard huntBoard : PixelHunt.getHuntAPI().getHuntBoardRegistry().getHuntBoards()){
+            if(!(huntBoard instanceof BaseHuntBoard)){
+                continue;
+            }
+            BaseHuntBoard baseBoard = (BaseHuntBoard) huntBoard;
+            numBoards++;
+            if(hasEligiblePlayer(huntBoard, leavingUUID)){
+                if(baseBoard.isSuspended()){
+                    baseBoard.resume(fastForward);
+                    PixelHunt.getLogger().debug("Resuming hunt board " + huntBoard.getHuntBoardName() + ".");
+                }
+            }
+            else{
+                if(!baseBoard.isSuspended()){
+                    baseBoard.suspend();
+                    PixelHunt.getLogger().debug("Suspending hunt board " + huntBoard.getHuntBoardName()
+                            + ", as no online player is eligible for it.");
+                }
+                numSuspended++;
+            }
+        }
+        idle = numBoards > 0 && numSuspended == numBoards;
+    }
+
+    /**
+     * Checks if any online player is eligible for a board.
+     *
+     * @param huntBoard   the board
+     * @param leavingUUID the UUID of a player that is leaving and shouldn't be counted, or null if there is none
+     * @return true if an online player is eligible for the board, false if none are
+     */
+    private boolean hasEligiblePlayer(HuntBoard huntBoard, UUID leavingUUID){
+        EligibilityCache eligibilityCache = PixelHunt.getEligibilityCache();
+        int permissionIndex = eligibilityCache.getPermissionIndex(huntBoard);
+        for(Player player : Sponge.getServer().getOnlinePlayers()){
+            if(player.getUniqueId().equals(leavingUUID)){
+                continue;
+            }
+            if(eligibilityCache.isEligible(player, permissionIndex)){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Resumes every suspended board.
+     */
+    private void resumeAll(){
+        idle = false;
+        boolean fastForward = getIdleNode().getNode("Fast-Forward").getBoolean(true);
+        PixelHunt.getHuntAPI().getHuntBoardRegistry().forEachHuntBoard((huntBoard) -> {
+            if(huntBoard instanceof BaseHuntBoard){
+                ((BaseHuntBoard) huntBoard).resume(fastForward);
+            }
+        });
+        PixelHunt.getLogger().debug("Idle suspension is disabled, resuming hunt boards.");
+    }
+
+    /**
+     * Resumes the boards a joining player is eligible for. Runs before other listeners so boards are caught up
+     * before anything is shown to the player.
+     *
+     * @param event the event called when a player joins the server
+     */
+    @Listener(order = Order.FIRST)
+    public void onJoin(ClientConnectionEvent.Join event){
+        if(isEnabled()){
+            update(null);
+        }
+    }
+
+    /**
+     * Suspends the boards no player is eligible for once a player leaves the server.
+     *
+     * @param event the event called when a player leaves the server
+     */
+    @Listener
+    public void onDisconnect(ClientConnectionEvent.Disconnect event){
+        // The leaving player is still counted as online while the event is handled.
+        if(isEnabled()){
+            update(event.getTargetEntity().getUniqueId());
+        }
+    }
+
+    /**
+     * Checks boards again on the next tick when any subject's permissions change, as players may have gained
+     * or lost the permission of a board. The event may be called off the server thread.
+     *
+     * @param event the event called when a subject's permissions change
+     */
+    @Listener
+    public void onSubjectDataUpdate(SubjectDataUpdateEvent event){
+        PixelHunt.getTickScheduler().submit(WorkPriority.NORMAL, () -> {
+            if(isEnabled()){
+                update(null);
+            }
+        });
+    }
+
+    /**
+     * Gets the configuration node for idle mode.
+     *
+     * @return the General.Idle configuration node
+     */
+    private CommentedConfigurationNode getIdleNode(){
+        return ConfigManager.getConfigNode("General", "Idle");
+    }
+
+    /**
+     * Checks if idle mode is enabled in configuration.
+     *
+     * @return true if idle mode is enabled, false if it isn't
+     */
+    private boolean isEnabled(){
+        return getIdleNode().getNode("Enabled").getBoolean(false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onConfigChanged(ConfigDiff diff){
+        if(isEnabled()){
+            update(null);
+        }
+        else if(hasSuspendedBoard()){
+            resumeAll();
+        }
+    }
+
+    /**
+     * Checks if any registered board is suspended.
+     *
+     * @return true if a board is suspended, false if none are
+     */
+    private boolean hasSuspendedBoard(){
+        for(HuntBoard huntBoard : PixelHunt.getHuntAPI().getHuntBoardRegistry().getHuntBoards()){
+            if(huntBoard instanceof BaseHuntBoard && ((BaseHuntBoard) huntBoard).isSuspended()){
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
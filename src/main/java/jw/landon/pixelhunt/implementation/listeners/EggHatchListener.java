@@ -0,0 +1,40 @@
+package jw.landon.pixelhunt.implementation.listeners;
+
+import com.pixelmonmod.pixelmon.api.events.EggHatchEvent;
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.CompletionSource;
+import jw.landon.pixelhunt.implementation.completion.CompletionDispatcher;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.spongepowered.api.entity.living.player.Player;
+
+/**
+ * Listens for an egg hatching, passing the hatched Pokemon to the {@link CompletionDispatcher} to see if
+ * it completes any active hunts that can be completed by hatching.
+ *
+ * <p>Only subscribed to Pixelmon's event bus by the dispatcher, while an active hunt can be completed by hatching.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class EggHatchListener {
+
+    /**
+     * Listens for an egg hatching to see if the Pokemon completes any active hunts.
+     * Eggs hatched while their owner is offline are ignored.
+     *
+     * @param event the event called when an egg hatches
+     */
+    @SubscribeEvent
+    public void onHatch(EggHatchEvent event){
+        Pokemon pokemon = event.getPokemon();
+        EntityPlayerMP owner = pokemon.getOwnerPlayer();
+        if(owner == null){
+            return;
+        }
+        PixelHunt.getCompletionDispatcher().dispatch(CompletionSource.HATCH, (Player) owner,
+                pokemon.getSpecies(), pokemon.getNature());
+    }
+
+}
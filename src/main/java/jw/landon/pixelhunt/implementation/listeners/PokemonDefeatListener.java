@@ -0,0 +1,38 @@
+package jw.landon.pixelhunt.implementation.listeners;
+
+import com.pixelmonmod.pixelmon.api.events.BeatWildPixelmonEvent;
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import com.pixelmonmod.pixelmon.battles.controller.participants.PixelmonWrapper;
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.CompletionSource;
+import jw.landon.pixelhunt.implementation.completion.CompletionDispatcher;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.spongepowered.api.entity.living.player.Player;
+
+/**
+ * Listens for a player defeating wild Pokemon, passing each defeated Pokemon to the {@link CompletionDispatcher}
+ * to see if it completes any active hunts that can be completed by defeating.
+ *
+ * <p>Only subscribed to Pixelmon's event bus by the dispatcher, while an active hunt can be completed by defeating.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class PokemonDefeatListener {
+
+    /**
+     * Listens for a player defeating wild Pokemon to see if any of them complete active hunts.
+     *
+     * @param event the event called when a player defeats wild pokemon in battle
+     */
+    @SubscribeEvent
+    public void onDefeat(BeatWildPixelmonEvent event){
+        Player player = (Player) event.player;
+        for(PixelmonWrapper wrapper : event.wpp.allPokemon){
+            Pokemon pokemon = wrapper.pokemon;
+            PixelHunt.getCompletionDispatcher().dispatch(CompletionSource.DEFEAT, player,
+                    pokemon.getSpecies(), pokemon.getNature());
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package jw.landon.pixelhunt.implementation.listeners;
+
+import com.pixelmonmod.pixelmon.api.events.EvolveEvent;
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.CompletionSource;
+import jw.landon.pixelhunt.implementation.completion.CompletionDispatcher;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.spongepowered.api.entity.living.player.Player;
+
+/**
+ * Listens for a Pokemon evolving, passing the evolved Pokemon to the {@link CompletionDispatcher} to see if
+ * it completes any active hunts that can be completed by evolving.
+ *
+ * <p>Only subscribed to Pixelmon's event bus by the dispatcher, while an active hunt can be completed by evolving.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class PokemonEvolveListener {
+
+    /**
+     * Listens for a Pokemon evolving to see if the species it evolved into completes any active hunts.
+     *
+     * @param event the event called after a pokemon has evolved
+     */
+    @SubscribeEvent
+    public void onEvolve(EvolveEvent.PostEvolve event){
+        Pokemon pokemon = event.pokemon.getPokemonData();
+        PixelHunt.getCompletionDispatcher().dispatch(CompletionSource.EVOLVE, (Player) event.player,
+                pokemon.getSpecies(), pokemon.getNature());
+    }
+
+}
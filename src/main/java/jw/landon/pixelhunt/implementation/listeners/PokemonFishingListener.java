@@ -0,0 +1,41 @@
+package jw.landon.pixelhunt.implementation.listeners;
+
+import com.pixelmonmod.pixelmon.api.events.FishingEvent;
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import com.pixelmonmod.pixelmon.entities.pixelmon.EntityPixelmon;
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.CompletionSource;
+import jw.landon.pixelhunt.implementation.completion.CompletionDispatcher;
+import net.minecraft.entity.Entity;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.spongepowered.api.entity.living.player.Player;
+
+/**
+ * Listens for a player reeling in a Pokemon, passing it to the {@link CompletionDispatcher} to see if
+ * it completes any active hunts that can be completed by fishing.
+ *
+ * <p>Only subscribed to Pixelmon's event bus by the dispatcher, while an active hunt can be completed by fishing.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class PokemonFishingListener {
+
+    /**
+     * Listens for a player reeling in a Pokemon to see if it completes any active hunts.
+     * Reeling in anything that isn't a Pokemon is ignored.
+     *
+     * @param event the event called when a player reels in their fishing rod
+     */
+    @SubscribeEvent
+    public void onReel(FishingEvent.Reel event){
+        Entity entity = event.optEntity.orElse(null);
+        if(!(entity instanceof EntityPixelmon)){
+            return;
+        }
+        Pokemon pokemon = ((EntityPixelmon) entity).getPokemonData();
+        PixelHunt.getCompletionDispatcher().dispatch(CompletionSource.FISH, (Player) event.player,
+                pokemon.getSpecies(), pokemon.getNature());
+    }
+
+}
@@ -0,0 +1,152 @@
+package jw.landon.pixelhunt.implementation.locale;
+
+import com.pixelmonmod.pixelmon.enums.EnumNature;
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import jw.landon.pixelhunt.PixelHunt;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The names of every species and nature in a language, resolved once and indexed by ordinal.
+ *
+ * <p>Names are read from Pixelmon's language file for the locale. Names missing from the file, and locales
+ * without a language file, use the names in the server's language. Locales without a language file all share
+ * the same instance, so anything keyed by names grows with the languages in use rather than the locales
+ * players report.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class LocaleNames {
+
+    /** The path of Pixelmon's language file for a locale. */
+    private static final String LANG_PATH = "/assets/pixelmon/lang/%s.lang";
+    /** The largest number of locales remembered, beyond which new locales use the server's language. */
+    private static final int MAX_LOCALES = 64;
+    /** The names in the server's language. */
+    private static final LocaleNames SERVER = new LocaleNames("server", new HashMap<>());
+    /** The names of each locale that has been looked up. */
+    private static Map<Locale, LocaleNames> byLocale = new ConcurrentHashMap<>();
+
+    /** The name of the language the names are in. */
+    private final String language;
+    /** The name of each species, indexed by ordinal. */
+    private final String[] speciesNames;
+    /** The name of each nature, indexed by ordinal. */
+    private final String[] natureNames;
+
+    /**
+     * Constructor for the locale names, resolving every species and nature.
+     *
+     * @param language     the name of the language the names are in
+     * @param translations the translations from the language file, by translation key
+     */
+    private LocaleNames(String language, Map<String, String> translations){
+        this.language = language;
+        EnumSpecies[] species = EnumSpecies.values();
+        speciesNames = new String[species.length];
+        for(int i = 0; i < species.length; i++){
+            String name = translations.get(species[i].getUnlocalizedName());
+            speciesNames[i] = (name != null) ? name : species[i].getLocalizedName();
+        }
+        EnumNature[] natures = EnumNature.values();
+        natureNames = new String[natures.length];
+        for(int i = 0; i < natures.length; i++){
+            String name = translations.get("enum.nature." + natures[i].name());
+            natureNames[i] = (name != null) ? name : natures[i].getLocalizedName();
+        }
+    }
+
+    /**
+     * Gets the names in the server's language.
+     *
+     * @return the names in the server's language
+     */
+    public static LocaleNames server(){
+        return SERVER;
+    }
+
+    /**
+     * Gets the names in a locale's language, reading its language file the first time the locale is used.
+     *
+     * @param locale the locale
+     * @return the names in the locale's language, or the server's language if there is no language file for it
+     * @throws NullPointerException if the locale is null
+     */
+    public static LocaleNames of(Locale locale){
+        Objects.requireNonNull(locale, "locale must not be null");
+        LocaleNames names = byLocale.get(locale);
+        if(names != null){
+            return names;
+        }
+        if(byLocale.size() >= MAX_LOCALES){
+            return SERVER;
+        }
+        return byLocale.computeIfAbsent(locale, LocaleNames::load);
+    }
+
+    /**
+     * Reads the language file for a locale.
+     *
+     * @param locale the locale
+     * @return the names in the locale's language, or the server's language if there is no language file for it
+     */
+    private static LocaleNames load(Locale locale){
+        String language = locale.toString().toLowerCase(Locale.ROOT);
+        for(LocaleNames names : byLocale.values()){
+            if(names.language.equals(language)){
+                return names;
+            }
+        }
+
+        InputStream stream = EnumSpecies.class.getResourceAsStream(String.format(LANG_PATH, language));
+        if(stream == null){
+            return SERVER;
+        }
+        Map<String, String> translations = new HashMap<>();
+        try(BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))){
+            String line;
+            while((line = reader.readLine()) != null){
+                int separator = line.indexOf('=');
+                if(separator > 0 && (line.startsWith("pixelmon.") || line.startsWith("enum.nature."))){
+                    translations.put(line.substring(0, separator), line.substring(separator + 1).trim());
+                }
+            }
+        }
+        catch(IOException e){
+            PixelHunt.getLogger().warn("PixelHunt could not read the language file for " + language + ".", e);
+            return SERVER;
+        }
+        return new LocaleNames(language, translations);
+    }
+
+    /**
+     * Gets the name of a species.
+     *
+     * @param species the species
+     * @return the name of the species
+     */
+    public String getSpeciesName(EnumSpecies species){
+        return speciesNames[species.ordinal()];
+    }
+
+    /**
+     * Gets the name of a nature.
+     *
+     * @param nature the nature
+     * @return the name of the nature
+     */
+    public String getNatureName(EnumNature nature){
+        return natureNames[nature.ordinal()];
+    }
+
+}
@@ -0,0 +1,196 @@
+package jw.landon.pixelhunt.implementation.permissions;
+
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.network.ClientConnectionEvent;
+import org.spongepowered.api.event.permission.SubjectDataUpdateEvent;
+import org.spongepowered.api.event.service.ChangeServiceProviderEvent;
+import org.spongepowered.api.service.permission.PermissionService;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches which permission-scoped {@link HuntBoard hunt boards} each player is eligible for, so capture matching
+ * and rendering test a bit instead of asking the permission service.
+ *
+ * <p>Every board permission is given an index the first time it is seen, and indices are kept for as long as the
+ * plugin runs, so boards sharing a permission share an index. Each player has a bitset of the permissions that
+ * have been resolved for them, and a bitset of the permissions they hold. A permission is only checked with the
+ * permission service the first time it is needed for a player, after which it is a bit test.</p>
+ *
+ * <p>A player's bits are dropped when they join or leave. As a change to a group can change the permissions of any
+ * number of players, every player's bits are dropped when any subject's permissions change, or when the permission
+ * service changes, and are resolved again as they are needed.</p>
+ *
+ * <p>Safe to use from any thread.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class EligibilityCache {
+
+    /** The value returned by {@link #getPermissionIndex} for boards without a permission. */
+    public static final int NO_PERMISSION = -1;
+
+    /** The index of each board permission that has been seen, by permission. Indices are never reused. */
+    private final Map<String, Integer> permissionIndices = new ConcurrentHashMap<>();
+    /** The permission of each index, indexed by permission index. */
+    private final List<String> permissions = new ArrayList<>();
+    /** The resolved permissions of each player, by player UUID. */
+    private final Map<UUID, PlayerEligibility> eligibilities = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the index of a board's permission, giving the permission an index if it hasn't been seen before.
+     *
+     * @param huntBoard the board
+     * @return the index of the board's permission, or {@link #NO_PERMISSION} if the board doesn't have one
+     * @throws NullPointerException if the board is null
+     */
+    public int getPermissionIndex(HuntBoard huntBoard){
+        Objects.requireNonNull(huntBoard, "hunt board must not be null");
+        Optional<String> permission = huntBoard.getPermission();
+        if(!permission.isPresent()){
+            return NO_PERMISSION;
+        }
+        Integer index = permissionIndices.get(permission.get());
+        if(index != null){
+            return index;
+        }
+        synchronized(permissions){
+            return permissionIndices.computeIfAbsent(permission.get(), (key) -> {
+                permissions.add(key);
+                return permissions.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * Checks if a player can complete and view the hunts of a board.
+     *
+     * @param player    the player
+     * @param huntBoard the board
+     * @return true if the board has no permission or the player holds it, false otherwise
+     * @throws NullPointerException if the player is null
+     * @throws NullPointerException if the board is null
+     */
+    public boolean isEligible(Player player, HuntBoard huntBoard){
+        Objects.requireNonNull(player, "player must not be null");
+        return isEligible(player, getPermissionIndex(huntBoard));
+    }
+
+    /**
+     * Checks if a player holds a board permission, by the permission's index.
+     *
+     * @param player          the player
+     * @param permissionIndex the index of the permission, from {@link #getPermissionIndex}
+     * @return true if the index is {@link #NO_PERMISSION} or the player holds the permission, false otherwise
+     */
+    public boolean isEligible(Player player, int permissionIndex){
+        if(permissionIndex == NO_PERMISSION){
+            return true;
+        }
+        PlayerEligibility eligibility = eligibilities.computeIfAbsent(player.getUniqueId(),
+                (uuid) -> new PlayerEligibility());
+        return eligibility.isEligible(player, permissionIndex);
+    }
+
+    /**
+     * Gets the permission with an index.
+     *
+     * @param permissionIndex the index of the permission
+     * @return the permission
+     */
+    private String getPermission(int permissionIndex){
+        synchronized(permissions){
+            return permissions.get(permissionIndex);
+        }
+    }
+
+    /**
+     * Drops the resolved permissions of every player.
+     */
+    public void invalidateAll(){
+        eligibilities.clear();
+    }
+
+    /**
+     * Drops the resolved permissions of a player.
+     *
+     * @param uuid the UUID of the player
+     */
+    public void invalidate(UUID uuid){
+        eligibilities.remove(uuid);
+    }
+
+    /**
+     * Drops the resolved permissions of players when they join, in case they changed while they were offline.
+     *
+     * @param event the event called when a player joins the server
+     */
+    @Listener
+    public void onJoin(ClientConnectionEvent.Join event){
+        invalidate(event.getTargetEntity().getUniqueId());
+    }
+
+    /**
+     * Drops the resolved permissions of players when they leave.
+     *
+     * @param event the event called when a player leaves the server
+     */
+    @Listener
+    public void onDisconnect(ClientConnectionEvent.Disconnect event){
+        invalidate(event.getTargetEntity().getUniqueId());
+    }
+
+    /**
+     * Drops the resolved permissions of every player when any subject's permissions change.
+     *
+     * @param event the event called when a subject's permissions change
+     */
+    @Listener
+    public void onSubjectDataUpdate(SubjectDataUpdateEvent event){
+        invalidateAll();
+    }
+
+    /**
+     * Drops the resolved permissions of every player when the permission service changes.
+     *
+     * @param event the event fired when a service provider changes
+     */
+    @Listener
+    public void onChangePermissionService(ChangeServiceProviderEvent event){
+        if(event.getService().equals(PermissionService.class)){
+            invalidateAll();
+        }
+    }
+
+    /**
+     * The permissions resolved for a player.
+     */
+    private class PlayerEligibility {
+
+        /** The permissions that have been checked for the player, by permission index. */
+        private final BitSet resolved = new BitSet();
+        /** The permissions the player holds, by permission index. Only valid for resolved permissions. */
+        private final BitSet granted = new BitSet();
+
+        /**
+         * Checks if the player holds a permission, asking the permission service if it hasn't been resolved.
+         *
+         * @param player          the player
+         * @param permissionIndex the index of the permission
+         * @return true if the player holds the permission, false if they don't
+         */
+        private synchronized boolean isEligible(Player player, int permissionIndex){
+            if(!resolved.get(permissionIndex)){
+                granted.set(permissionIndex, player.hasPermission(getPermission(permissionIndex)));
+                resolved.set(permissionIndex);
+            }
+            return granted.get(permissionIndex);
+        }
+
+    }
+
+}
@@ -0,0 +1,195 @@
+package jw.landon.pixelhunt.implementation.placeholders;
+
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import jw.landon.pixelhunt.api.placeholders.PlaceholderService;
+import jw.landon.pixelhunt.implementation.completion.CompletionCounter;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import jw.landon.pixelhunt.implementation.scheduling.WorkPriority;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.network.ClientConnectionEvent;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation for {@link PlaceholderService}.
+ *
+ * <p>Values for every registered hunt board are kept in a {@link BoardSnapshot}, checked every tick on the
+ * server thread and only taken again when the board's version changes or a second ticks over. Snapshots of
+ * boards that are no longer registered are dropped. Placeholder names are parsed the first time they are seen
+ * and remembered, so a lookup is a pair of map lookups followed by an array read, and does not allocate.</p>
+ *
+ * <p>Completion counts only cover completions since the player joined, and are dropped when they leave.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class BasePlaceholderService implements PlaceholderService {
+
+    /** The maximum number of placeholder names remembered, so unknown names can't grow the map forever. */
+    private static final int MAX_RESOLVED = 1024;
+    /** Ready made values for small completion counts, so looking them up does not allocate. */
+    private static final Optional<String>[] COUNT_VALUES = createCountValues(256);
+
+    /** The placeholders resolved from each name seen. */
+    private Map<String, Placeholder> resolved = new ConcurrentHashMap<>();
+    /** The latest snapshot of each registered hunt board, by lower case board name. */
+    private Map<String, BoardSnapshot> snapshots = new ConcurrentHashMap<>();
+    /** The lower case name of the configured hunt board. */
+    private volatile String defaultBoardName = "pixelmon hunts";
+    /** If the service is checking for changes every tick. */
+    private boolean running;
+
+    /**
+     * Starts checking for changes to the registered hunt boards every tick.
+     */
+    public void start(){
+        if(!running){
+            running = true;
+            PixelHunt.getTickScheduler().submit(WorkPriority.LOW, this::tick);
+        }
+    }
+
+    /**
+     * Stops checking for changes to the registered hunt boards.
+     */
+    public void stop(){
+        running = false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<String> getValue(String placeholder){
+        return lookup(placeholder, defaultBoardName, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<String> getValue(String placeholder, UUID playerUUID){
+        Objects.requireNonNull(playerUUID, "player uuid must not be null");
+        return lookup(placeholder, defaultBoardName, playerUUID);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<String> getValue(String placeholder, String huntBoardName){
+        Objects.requireNonNull(huntBoardName, "hunt board name must not be null");
+        return lookup(placeholder, huntBoardName.toLowerCase(Locale.ROOT), null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<String> getValue(String placeholder, String huntBoardName, UUID playerUUID){
+        Objects.requireNonNull(huntBoardName, "hunt board name must not be null");
+        Objects.requireNonNull(playerUUID, "player uuid must not be null");
+        return lookup(placeholder, huntBoardName.toLowerCase(Locale.ROOT), playerUUID);
+    }
+
+    /**
+     * Gets the value of a placeholder from the latest snapshot of a board.
+     *
+     * @param placeholder the placeholder to get the value of
+     * @param boardKey    the lower case name of the board to get the value for
+     * @param playerUUID  the UUID of the player to get the value for, or null if there is no player
+     * @return the value of the placeholder, or empty if it isn't a PixelHunt placeholder, has no value,
+     *         or no board is registered with the name
+     */
+    private Optional<String> lookup(String placeholder, String boardKey, UUID playerUUID){
+        Objects.requireNonNull(placeholder, "placeholder must not be null");
+        Placeholder resolvedPlaceholder = resolved.get(placeholder);
+        if(resolvedPlaceholder == null){
+            resolvedPlaceholder = Placeholder.parse(placeholder);
+            if(resolved.size() < MAX_RESOLVED){
+                resolved.put(placeholder, resolvedPlaceholder);
+            }
+        }
+
+        BoardSnapshot current = snapshots.get(boardKey);
+        if(current == null){
+            return Optional.empty();
+        }
+        switch(resolvedPlaceholder.getType()){
+            case SLOT:
+                return current.getSlotValue(resolvedPlaceholder.getSlot(), resolvedPlaceholder.getField());
+            case ACTIVE_HUNTS:
+                return current.getActiveHunts();
+            case NEXT_EXPIRY:
+                return current.getNextExpiry();
+            case NEXT_SPECIES:
+                return current.getNextSpecies();
+            case PLAYER_COMPLETIONS:
+                return (playerUUID != null) ? getCountValue(CompletionCounter.get(playerUUID)) : Optional.empty();
+            default:
+                return Optional.empty();
+        }
+    }
+
+    /**
+     * Takes a new snapshot of each registered hunt board whose current one is out of date, and drops the
+     * snapshots of boards that are no longer registered, then schedules itself for the next tick.
+     */
+    private void tick(){
+        if(!running){
+            return;
+        }
+        defaultBoardName = ConfigManager.getConfigNode("General", "Hunt-Board-Name").getString("Pixelmon Hunts")
+                .toLowerCase(Locale.ROOT);
+        Set<HuntBoard> huntBoards = PixelHunt.getHuntAPI().getHuntBoardRegistry().getHuntBoards();
+        long now = PixelHunt.getHuntClock().millis();
+        for(HuntBoard huntBoard : huntBoards){
+            String boardKey = huntBoard.getHuntBoardName().toLowerCase(Locale.ROOT);
+            BoardSnapshot snapshot = snapshots.get(boardKey);
+            if(snapshot == null || !snapshot.isCurrent(huntBoard, now)){
+                snapshots.put(boardKey, BoardSnapshot.of(huntBoard, now));
+            }
+        }
+        if(snapshots.size() > huntBoards.size()){
+            snapshots.keySet().removeIf((boardKey) -> huntBoards.stream()
+                    .noneMatch((huntBoard) -> huntBoard.getHuntBoardName().equalsIgnoreCase(boardKey)));
+        }
+        PixelHunt.getTickScheduler().schedule(WorkPriority.LOW, 50, TimeUnit.MILLISECONDS, this::tick);
+    }
+
+    /**
+     * Drops the completion count of players when they leave.
+     *
+     * @param event the event called when a player leaves the server
+     */
+    @Listener
+    public void onDisconnect(ClientConnectionEvent.Disconnect event){
+        CompletionCounter.remove(event.getTargetEntity().getUniqueId());
+    }
+
+    /**
+     * Gets the value for a completion count, using a ready made value if there is one.
+     *
+     * @param count the completion count
+     * @return the value for the completion count
+     */
+    private static Optional<String> getCountValue(int count){
+        return (count < COUNT_VALUES.length) ? COUNT_VALUES[count] : Optional.of(String.valueOf(count));
+    }
+
+    /**
+     * Creates ready made values for completion counts from 0.
+     *
+     * @param size the number of values to create
+     * @return the values for each completion count, indexed by count
+     */
+    @SuppressWarnings("unchecked")
+    private static Optional<String>[] createCountValues(int size){
+        Optional<String>[] values = new Optional[size];
+        for(int i = 0; i < size; i++){
+            values[i] = Optional.of(String.valueOf(i));
+        }
+        return values;
+    }
+
+}
@@ -0,0 +1,220 @@
+package jw.landon.pixelhunt.implementation.placeholders;
+
+import com.pixelmonmod.pixelmon.enums.EnumNature;
+import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import jw.landon.pixelhunt.api.hunts.HuntBoardSnapshot;
+import jw.landon.pixelhunt.implementation.hunts.BaseHuntBoard;
+
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable snapshot of the placeholder values for a hunt board, taken on the server thread so that
+ * values can be read from any thread without touching the board.
+ *
+ * <p>Values are stored as ready made optionals, so looking one up does not allocate. A snapshot stays
+ * current until the board's version changes or a countdown on the board ticks over to the next second.
+ * While a board is suspended its countdowns are frozen, so its expiry values read {@code Suspended} instead.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+class BoardSnapshot {
+
+    /** The fields kept for each slot, in order. */
+    private static final String[] SLOT_FIELDS = {"species", "natures", "expiry", "completions"};
+    /** The index of each field kept for each slot. */
+    static final int SPECIES = 0, NATURES = 1, EXPIRY = 2, COMPLETIONS = 3;
+    /** The value of expiry placeholders while a board is suspended. */
+    private static final Optional<String> SUSPENDED = Optional.of("Suspended");
+    /** The snapshot used when there is no board to take a snapshot of. */
+    static final BoardSnapshot EMPTY = new BoardSnapshot(null, -1, Long.MAX_VALUE, new Optional[0],
+            Optional.of("0"), Optional.empty(), Optional.empty());
+
+    /** The board the snapshot was taken of, or null if there was no board. */
+    private final HuntBoard huntBoard;
+    /** The version of the board the snapshot was taken of. */
+    private final long version;
+    /** The time a countdown will next show a different value, in epoch milliseconds. */
+    private final long nextChangeMillis;
+    /** The values of each slot, indexed by slot multiplied by the number of fields, plus the field. */
+    private final Optional<String>[] slotValues;
+    /** The number of active hunts on the board. */
+    private final Optional<String> activeHunts;
+    /** The time remaining on the hunt expiring soonest. */
+    private final Optional<String> nextExpiry;
+    /** The species hunted by the hunt expiring soonest. */
+    private final Optional<String> nextSpecies;
+
+    /**
+     * Constructor for the board snapshot.
+     *
+     * @param huntBoard        the board the snapshot was taken of, or null if there was no board
+     * @param version          the version of the board the snapshot was taken of
+     * @param nextChangeMillis the time a countdown will next show a different value, in epoch milliseconds
+     * @param slotValues       the values of each slot
+     * @param activeHunts      the number of active hunts on the board
+     * @param nextExpiry       the time remaining on the hunt expiring soonest
+     * @param nextSpecies      the species hunted by the hunt expiring soonest
+     */
+    private BoardSnapshot(HuntBoard huntBoard, long version, long nextChangeMillis, Optional<String>[] slotValues,
+                          Optional<String> activeHunts, Optional<String> nextExpiry, Optional<String> nextSpecies){
+        this.huntBoard = huntBoard;
+        this.version = version;
+        this.nextChangeMillis = nextChangeMillis;
+        this.slotValues = slotValues;
+        this.activeHunts = activeHunts;
+        this.nextExpiry = nextExpiry;
+        this.nextSpecies = nextSpecies;
+    }
+
+    /**
+     * Takes a snapshot of a board. Must be called from the server thread.
+     *
+     * @param huntBoard the board to take a snapshot of, or null if there is no board
+     * @param now       the current time, in epoch milliseconds
+     * @return the snapshot of the board
+     */
+    @SuppressWarnings("unchecked")
+    static BoardSnapshot of(HuntBoard huntBoard, long now){
+        if(huntBoard == null){
+            return EMPTY;
+        }
+        HuntBoardSnapshot boardSnapshot = huntBoard.getSnapshot();
+        int numSlots = boardSnapshot.getNumSlots();
+        boolean suspended = huntBoard instanceof BaseHuntBoard && ((BaseHuntBoard) huntBoard).isSuspended();
+        Optional<String>[] slotValues = new Optional[numSlots * SLOT_FIELDS.length];
+        long nextChangeMillis = Long.MAX_VALUE;
+        long soonestExpiry = Long.MAX_VALUE;
+        Hunt soonestHunt = null;
+        int active = 0;
+
+        for(int slot = 0; slot < numSlots; slot++){
+            int base = slot * SLOT_FIELDS.length;
+            Optional<Hunt> maybeHunt = boardSnapshot.getHunt(slot);
+            if(!maybeHunt.isPresent()){
+                for(int field = 0; field < SLOT_FIELDS.length; field++){
+                    slotValues[base + field] = Optional.empty();
+                }
+                continue;
+            }
+            Hunt hunt = maybeHunt.get();
+            long expiry = boardSnapshot.getExpiryMillis(slot);
+            long remaining = Math.max(0, expiry - now);
+            if(remaining > 0 && !suspended){
+                nextChangeMillis = Math.min(nextChangeMillis, now + (remaining % 1000) + 1);
+            }
+            if(expiry < soonestExpiry){
+                soonestExpiry = expiry;
+                soonestHunt = hunt;
+            }
+            active++;
+
+            StringJoiner natures = new StringJoiner(", ");
+            for(EnumNature nature : hunt.getHuntedNaturesView()){
+                natures.add(nature.name());
+            }
+            slotValues[base + SPECIES] = Optional.of(hunt.getHuntedSpecies().getLocalizedName());
+            slotValues[base + NATURES] = Optional.of(natures.toString());
+            slotValues[base + EXPIRY] = suspended ? SUSPENDED : Optional.of(formatRemaining(remaining));
+            slotValues[base + COMPLETIONS] = Optional.of(String.valueOf(huntBoard.getCompletionCount(hunt)));
+        }
+
+        // Completion counts don't change the board's version, so refresh at least every second while hunts are active.
+        if(active > 0 && !suspended){
+            nextChangeMillis = Math.min(nextChangeMillis, now + 1000);
+        }
+        return new BoardSnapshot(huntBoard, boardSnapshot.getVersion(), nextChangeMillis, slotValues,
+                Optional.of(String.valueOf(active)),
+                (soonestHunt == null) ? Optional.empty()
+                        : suspended ? SUSPENDED : Optional.of(formatRemaining(Math.max(0, soonestExpiry - now))),
+                (soonestHunt != null) ? Optional.of(soonestHunt.getHuntedSpecies().getLocalizedName()) : Optional.empty());
+    }
+
+    /**
+     * Checks if the snapshot is still current for a board.
+     *
+     * @param huntBoard the board to check against, or null if there is no board
+     * @param now       the current time, in epoch milliseconds
+     * @return true if the snapshot is still current, false if it should be taken again
+     */
+    boolean isCurrent(HuntBoard huntBoard, long now){
+        if(huntBoard != this.huntBoard){
+            return false;
+        }
+        return huntBoard == null || (huntBoard.getVersion() == version && now < nextChangeMillis);
+    }
+
+    /**
+     * Gets the value of a field for a slot.
+     *
+     * @param slot  the slot to get the value for, numbered from 0
+     * @param field the field to get the value of
+     * @return the value of the field, or empty if the slot doesn't exist or is empty
+     */
+    Optional<String> getSlotValue(int slot, int field){
+        int index = slot * SLOT_FIELDS.length + field;
+        return (index < slotValues.length) ? slotValues[index] : Optional.empty();
+    }
+
+    /**
+     * Gets the number of active hunts on the board.
+     *
+     * @return the number of active hunts on the board
+     */
+    Optional<String> getActiveHunts(){
+        return activeHunts;
+    }
+
+    /**
+     * Gets the time remaining on the hunt expiring soonest.
+     *
+     * @return the time remaining on the hunt expiring soonest, or empty if there are no active hunts
+     */
+    Optional<String> getNextExpiry(){
+        return nextExpiry;
+    }
+
+    /**
+     * Gets the species hunted by the hunt expiring soonest.
+     *
+     * @return the species hunted by the hunt expiring soonest, or empty if there are no active hunts
+     */
+    Optional<String> getNextSpecies(){
+        return nextSpecies;
+    }
+
+    /**
+     * Gets the index of a slot field from its name.
+     *
+     * @param name the name of the field
+     * @return the index of the field, or -1 if no field has the name
+     */
+    static int getSlotField(String name){
+        for(int i = 0; i < SLOT_FIELDS.length; i++){
+            if(SLOT_FIELDS[i].equals(name)){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Formats the time remaining on a hunt.
+     *
+     * @param remaining the time remaining, in milliseconds
+     * @return the formatted time remaining
+     */
+    private static String formatRemaining(long remaining){
+        long hours = TimeUnit.MILLISECONDS.toHours(remaining);
+        long minutes = TimeUnit.MILLISECONDS.toMinutes(remaining) % 60;
+        long seconds = TimeUnit.MILLISECONDS.toSeconds(remaining) % 60;
+        if(hours > 0){
+            return hours + "h " + minutes + "m " + seconds + "s";
+        }
+        return (minutes > 0) ? minutes + "m " + seconds + "s" : seconds + "s";
+    }
+
+}
@@ -0,0 +1,130 @@
+package jw.landon.pixelhunt.implementation.placeholders;
+
+import java.util.Locale;
+
+/**
+ * A placeholder resolved from its name, so the name only has to be parsed the first time it is seen.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+class Placeholder {
+
+    /** The prefix of every PixelHunt placeholder. */
+    private static final String PREFIX = "pixelhunt_";
+    /** The prefix of placeholders for a slot on the board. */
+    private static final String BOARD_PREFIX = "board_";
+    /** The placeholder returned for names that aren't PixelHunt placeholders. */
+    static final Placeholder UNKNOWN = new Placeholder(Type.UNKNOWN, -1, -1);
+
+    /** The type of the placeholder. */
+    private final Type type;
+    /** The slot of the placeholder, numbered from 0, or -1 if it isn't for a slot. */
+    private final int slot;
+    /** The field of the slot the placeholder is for, or -1 if it isn't for a slot. */
+    private final int field;
+
+    /**
+     * Constructor for the placeholder.
+     *
+     * @param type  the type of the placeholder
+     * @param slot  the slot of the placeholder, numbered from 0, or -1 if it isn't for a slot
+     * @param field the field of the slot the placeholder is for, or -1 if it isn't for a slot
+     */
+    private Placeholder(Type type, int slot, int field){
+        this.type = type;
+        this.slot = slot;
+        this.field = field;
+    }
+
+    /**
+     * Parses a placeholder from its name, with or without the surrounding percent signs.
+     *
+     * @param name the name of the placeholder
+     * @return the placeholder, or {@link #UNKNOWN} if the name isn't a PixelHunt placeholder
+     */
+    static Placeholder parse(String name){
+        String key = name.toLowerCase(Locale.ROOT);
+        if(key.length() > 1 && key.charAt(0) == '%' && key.charAt(key.length() - 1) == '%'){
+            key = key.substring(1, key.length() - 1);
+        }
+        if(!key.startsWith(PREFIX)){
+            return UNKNOWN;
+        }
+        key = key.substring(PREFIX.length());
+
+        switch(key){
+            case "active_hunts":
+                return new Placeholder(Type.ACTIVE_HUNTS, -1, -1);
+            case "next_expiry":
+                return new Placeholder(Type.NEXT_EXPIRY, -1, -1);
+            case "next_species":
+                return new Placeholder(Type.NEXT_SPECIES, -1, -1);
+            case "player_completions":
+                return new Placeholder(Type.PLAYER_COMPLETIONS, -1, -1);
+        }
+
+        if(!key.startsWith(BOARD_PREFIX)){
+            return UNKNOWN;
+        }
+        int separator = key.indexOf('_', BOARD_PREFIX.length());
+        if(separator == -1){
+            return UNKNOWN;
+        }
+        int slot;
+        try{
+            slot = Integer.parseInt(key.substring(BOARD_PREFIX.length(), separator)) - 1;
+        }
+        catch(NumberFormatException e){
+            return UNKNOWN;
+        }
+        int field = BoardSnapshot.getSlotField(key.substring(separator + 1));
+        return (slot >= 0 && field != -1) ? new Placeholder(Type.SLOT, slot, field) : UNKNOWN;
+    }
+
+    /**
+     * Gets the type of the placeholder.
+     *
+     * @return the type of the placeholder
+     */
+    Type getType(){
+        return type;
+    }
+
+    /**
+     * Gets the slot of the placeholder.
+     *
+     * @return the slot of the placeholder, numbered from 0, or -1 if it isn't for a slot
+     */
+    int getSlot(){
+        return slot;
+    }
+
+    /**
+     * Gets the field of the slot the placeholder is for.
+     *
+     * @return the field of the slot the placeholder is for, or -1 if it isn't for a slot
+     */
+    int getField(){
+        return field;
+    }
+
+    /**
+     * The types of placeholder.
+     */
+    enum Type {
+        /** A value for a slot on the board. */
+        SLOT,
+        /** The number of active hunts on the board. */
+        ACTIVE_HUNTS,
+        /** The time remaining on the hunt expiring soonest. */
+        NEXT_EXPIRY,
+        /** The species hunted by the hunt expiring soonest. */
+        NEXT_SPECIES,
+        /** The number of hunts a player has completed. */
+        PLAYER_COMPLETIONS,
+        /** A name that isn't a PixelHunt placeholder. */
+        UNKNOWN
+    }
+
+}
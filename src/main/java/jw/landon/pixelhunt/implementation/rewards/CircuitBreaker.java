@@ -0,0 +1,108 @@
+package jw.landon.pixelhunt.implementation.rewards;
+
+/**
+ * Stops rewards from a provider from being distributed after they repeatedly fail or run slowly.
+ *
+ * <p>The breaker starts closed, letting every reward through. After a number of consecutive failures
+ * it opens and rejects rewards until its open duration has passed. It then lets a single trial reward
+ * through, closing again if the trial succeeds and reopening if it fails.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class CircuitBreaker {
+
+    /**
+     * The states a circuit breaker can be in.
+     */
+    public enum State {
+        /** Rewards are distributed normally. */
+        CLOSED,
+        /** Rewards are rejected. */
+        OPEN,
+        /** A single trial reward is being distributed to see if the provider has recovered. */
+        HALF_OPEN
+    }
+
+    /** The number of consecutive failures before the breaker opens. */
+    private int failureThreshold;
+    /** The amount of time the breaker stays open before allowing a trial, in nanoseconds. */
+    private long openNanos;
+
+    /** The current state of the breaker. */
+    private State state = State.CLOSED;
+    /** The number of consecutive failures since the last success. */
+    private int consecutiveFailures;
+    /** The time the breaker last opened, in {@link System#nanoTime()} time. */
+    private long openedAt;
+
+    /**
+     * Constructor for the circuit breaker.
+     *
+     * @param failureThreshold the number of consecutive failures before the breaker opens
+     * @param openNanos        the amount of time the breaker stays open before allowing a trial, in nanoseconds
+     * @throws IllegalArgumentException if the failure threshold is below or equal to 0
+     */
+    public CircuitBreaker(int failureThreshold, long openNanos){
+        if(failureThreshold <= 0){
+            throw new IllegalArgumentException("failure threshold must be greater than 0");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openNanos;
+    }
+
+    /**
+     * Checks if a reward may be distributed, moving the breaker to half open if its open duration has passed.
+     *
+     * @return true if the reward may be distributed, false if it is rejected
+     */
+    public synchronized boolean tryAcquire(){
+        switch(state){
+            case CLOSED:
+                return true;
+            case OPEN:
+                if(System.nanoTime() - openedAt >= openNanos){
+                    state = State.HALF_OPEN;
+                    return true;
+                }
+                return false;
+            default:
+                // A trial is already in progress.
+                return false;
+        }
+    }
+
+    /**
+     * Records a reward that was distributed successfully, closing the breaker.
+     */
+    public synchronized void recordSuccess(){
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+    }
+
+    /**
+     * Records a reward that failed or ran slowly, opening the breaker if the threshold is reached
+     * or if the failure was a trial.
+     *
+     * @return true if the breaker opened because of this failure, false if it didn't
+     */
+    public synchronized boolean recordFailure(){
+        consecutiveFailures++;
+        if(state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)){
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the current state of the breaker.
+     *
+     * @return the current state of the breaker
+     */
+    public synchronized State getState(){
+        return state;
+    }
+
+}
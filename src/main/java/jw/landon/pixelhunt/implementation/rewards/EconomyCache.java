@@ -0,0 +1,171 @@
+package jw.landon.pixelhunt.implementation.rewards;
+
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.EventContext;
+import org.spongepowered.api.event.cause.EventContextKeys;
+import org.spongepowered.api.event.network.ClientConnectionEvent;
+import org.spongepowered.api.service.economy.Currency;
+import org.spongepowered.api.service.economy.EconomyService;
+import org.spongepowered.api.service.economy.account.UniqueAccount;
+
+import java.util.*;
+
+/**
+ * Caches the economy accounts of players and the currencies of the economy service, so paying out
+ * a currency reward doesn't have to look either of them up.
+ *
+ * <p>A player's account is looked up on the server thread when they join, as many economy services aren't safe
+ * to call from other threads, and dropped when they leave. At most General.Economy-Cache.Max-Accounts accounts
+ * are kept, with the least recently used dropped first. Players whose account isn't cached yet have it looked up
+ * when they are paid. Everything is dropped and the currencies are looked up again when the economy service
+ * changes.</p>
+ *
+ * <p>Every deposit made by the plugin shares one cause, as it never changes.</p>
+ *
+ * <p>The cache itself is safe to use from any thread, but the economy service is called from whichever thread
+ * asks for an uncached account, so accounts should only be asked for on the server thread.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class EconomyCache {
+
+    /** The cause of every deposit made by the plugin. */
+    private final Cause depositCause;
+    /** The cached account of each player, by player UUID, in least recently used order. */
+    private final Map<UUID, UniqueAccount> accounts;
+    /** The economy service accounts and currencies were looked up from. Null if there is no economy service. */
+    private volatile EconomyService economyService;
+    /** The currencies of the economy service, by lower case ID. Replaced when the economy service changes. */
+    private volatile Map<String, Currency> currencies = Collections.emptyMap();
+
+    /**
+     * Constructor for the economy cache, loading its settings from configuration.
+     */
+    public EconomyCache(){
+        depositCause = Cause.of(EventContext.builder().add(EventContextKeys.PLUGIN, PixelHunt.getContainer()).build(),
+                PixelHunt.getContainer());
+        int maxAccounts = Math.max(1, ConfigManager.getConfigNode("General", "Economy-Cache", "Max-Accounts").getInt(512));
+        accounts = Collections.synchronizedMap(new LinkedHashMap<UUID, UniqueAccount>(16, 0.75f, true){
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, UniqueAccount> eldest){
+                return size() > maxAccounts;
+            }
+        });
+    }
+
+    /**
+     * Drops every cached account and looks up the currencies of an economy service.
+     *
+     * @param economyService the new economy service, null if there is none
+     */
+    public void setEconomyService(EconomyService economyService){
+        synchronized(accounts){
+            this.economyService = economyService;
+            accounts.clear();
+        }
+        Map<String, Currency> updated = new HashMap<>();
+        if(economyService != null){
+            for(Currency currency : economyService.getCurrencies()){
+                updated.put(currency.getId().toLowerCase(Locale.ROOT), currency);
+            }
+        }
+        currencies = Collections.unmodifiableMap(updated);
+    }
+
+    /**
+     * Gets the account of a player, looking it up and caching it if it isn't cached.
+     *
+     * @param uuid the UUID of the player
+     * @return the account of the player, or empty if there is no economy service or the player has no account
+     */
+    public Optional<UniqueAccount> getAccount(UUID uuid){
+        EconomyService service = economyService;
+        if(service == null){
+            return Optional.empty();
+        }
+        UniqueAccount account = accounts.get(uuid);
+        if(account != null){
+            return Optional.of(account);
+        }
+        Optional<UniqueAccount> maybeAccount = service.getOrCreateAccount(uuid);
+        maybeAccount.ifPresent((lookedUp) -> cacheAccount(service, uuid, lookedUp));
+        return maybeAccount;
+    }
+
+    /**
+     * Caches an account, unless the economy service changed while it was being looked up.
+     *
+     * @param service the economy service the account was looked up from
+     * @param uuid    the UUID of the player
+     * @param account the account of the player
+     */
+    private void cacheAccount(EconomyService service, UUID uuid, UniqueAccount account){
+        synchronized(accounts){
+            if(service == economyService){
+                accounts.put(uuid, account);
+            }
+        }
+    }
+
+    /**
+     * Finds a currency of the economy service by its ID, its name, or its ID without a namespace.
+     *
+     * @param currencyName the ID or name of the currency
+     * @return the currency, or empty if the economy service has no such currency
+     */
+    public Optional<Currency> findCurrency(String currencyName){
+        Map<String, Currency> currencies = this.currencies;
+        String key = currencyName.toLowerCase(Locale.ROOT);
+        Currency currency = currencies.get(key);
+        if(currency != null){
+            return Optional.of(currency);
+        }
+        for(Currency candidate : currencies.values()){
+            if(candidate.getName().equalsIgnoreCase(currencyName) || candidate.getId().toLowerCase(Locale.ROOT).endsWith(":" + key)){
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the cause of every deposit made by the plugin.
+     *
+     * @return the cause of every deposit made by the plugin
+     */
+    public Cause getDepositCause(){
+        return depositCause;
+    }
+
+    /**
+     * Looks up the account of a player when they join, so it is cached before they are paid. If the lookup
+     * fails, the account is looked up when the player is first paid instead.
+     *
+     * @param event the event called when a player joins the server
+     */
+    @Listener
+    public void onJoin(ClientConnectionEvent.Join event){
+        UUID uuid = event.getTargetEntity().getUniqueId();
+        try{
+            getAccount(uuid);
+        }
+        catch(RuntimeException e){
+            PixelHunt.getLogger().warn("PixelHunt could not look up the economy account of " + uuid + ".", e);
+        }
+    }
+
+    /**
+     * Drops the account of a player when they leave.
+     *
+     * @param event the event called when a player leaves the server
+     */
+    @Listener
+    public void onDisconnect(ClientConnectionEvent.Disconnect event){
+        accounts.remove(event.getTargetEntity().getUniqueId());
+    }
+
+}
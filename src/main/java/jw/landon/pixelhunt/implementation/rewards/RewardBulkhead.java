@@ -0,0 +1,117 @@
+package jw.landon.pixelhunt.implementation.rewards;
+
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.rewards.Reward;
+import jw.landon.pixelhunt.implementation.executors.BackPressurePolicy;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Isolates the distribution of one provider's {@link Reward rewards} from every other provider's.
+ *
+ * <p>Async safe rewards from the provider run on the bulkhead's own bounded pool of threads, so a provider whose
+ * rewards hang can only exhaust its own threads and queue. The bulkhead also keeps counts of how
+ * distributions of the provider's rewards turned out.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class RewardBulkhead {
+
+    /** The ID of the reward provider the bulkhead isolates. */
+    private String providerId;
+    /** The pool running async safe rewards from the provider. */
+    private ExecutorService executor;
+
+    /** The number of rewards distributed successfully. */
+    private AtomicLong successes = new AtomicLong();
+    /** The number of rewards that failed, ran slowly or timed out. */
+    private AtomicLong failures = new AtomicLong();
+    /** The number of rewards rejected due to a full queue or an open circuit breaker. */
+    private AtomicLong rejections = new AtomicLong();
+
+    /**
+     * Constructor for the reward bulkhead.
+     *
+     * @param providerId the ID of the reward provider the bulkhead isolates, from {@link Reward#getProviderId()}
+     * @param threads    the number of threads to run async safe rewards on
+     * @param queueSize  the number of async safe rewards that may wait for a thread
+     */
+    public RewardBulkhead(String providerId, int threads, int queueSize){
+        this.providerId = providerId;
+        this.executor = PixelHunt.getExecutors().createPool("reward-" + providerId,
+                threads, queueSize, BackPressurePolicy.ABORT, true);
+    }
+
+    /**
+     * Submits an async safe reward distribution to the bulkhead's threads.
+     *
+     * @param distribution the distribution to run
+     * @return future for the distribution
+     * @throws RejectedExecutionException if the bulkhead's queue is full
+     */
+    public Future<?> submit(Runnable distribution){
+        return executor.submit(distribution);
+    }
+
+    /**
+     * Gets the ID of the reward provider the bulkhead isolates.
+     *
+     * @return the ID of the reward provider the bulkhead isolates
+     */
+    public String getProviderId(){
+        return providerId;
+    }
+
+    /**
+     * Records a reward that was distributed successfully.
+     */
+    public void recordSuccess(){
+        successes.incrementAndGet();
+    }
+
+    /**
+     * Records a reward that failed, ran slowly or timed out.
+     */
+    public void recordFailure(){
+        failures.incrementAndGet();
+    }
+
+    /**
+     * Records a reward that was rejected.
+     */
+    public void recordRejection(){
+        rejections.incrementAndGet();
+    }
+
+    /**
+     * Gets the number of rewards distributed successfully.
+     *
+     * @return the number of rewards distributed successfully
+     */
+    public long getSuccesses(){
+        return successes.get();
+    }
+
+    /**
+     * Gets the number of rewards that failed, ran slowly or timed out.
+     *
+     * @return the number of rewards that failed, ran slowly or timed out
+     */
+    public long getFailures(){
+        return failures.get();
+    }
+
+    /**
+     * Gets the number of rewards rejected due to a full queue or an open circuit breaker.
+     *
+     * @return the number of rewards rejected
+     */
+    public long getRejections(){
+        return rejections.get();
+    }
+
+}
@@ -0,0 +1,361 @@
+package jw.landon.pixelhunt.implementation.rewards;
+
+import com.pixelmonmod.pixelmon.enums.EnumNature;
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.api.hunts.rewards.CurrencyReward;
+import jw.landon.pixelhunt.api.hunts.rewards.ItemReward;
+import jw.landon.pixelhunt.api.hunts.rewards.Reward;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import jw.landon.pixelhunt.implementation.scheduling.WorkPriority;
+import ninja.leaping.configurate.commented.CommentedConfigurationNode;
+import org.spongepowered.api.entity.living.player.Player;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Distributes rewards so that a reward that throws, hangs or runs slowly cannot affect other rewards
+ * or the completion of a hunt.
+ *
+ * <ul>
+ *     <li>Every reward is run in isolation, with any exception it throws recorded instead of propagated.
+ *     Errors are left to propagate.</li>
+ *     <li>The plugin's own {@link CurrencyReward}s and {@link ItemReward}s are never dropped. They are paid
+ *     out on the server thread however long they take, as deposits into economies backed by a database often
+ *     run slowly, and if one throws it is retried on a later tick, up to a configured number of times.</li>
+ *     <li>Every other reward, such as a {@link jw.landon.pixelhunt.api.hunts.rewards.CallbackReward} supplied
+ *     by another plugin, is isolated by provider:
+ *     <ul>
+ *         <li>Each provider has its own {@link RewardBulkhead}, and async safe rewards run on the bulkhead's
+ *         threads with a time limit, so one plugin's rewards can't exhaust another's threads.</li>
+ *         <li>Each provider has its own {@link CircuitBreaker}, which stops its rewards from being
+ *         distributed for a time if they keep failing or running slowly.</li>
+ *     </ul>
+ *     </li>
+ * </ul>
+ *
+ * <p>Settings are loaded from the Reward-Execution section of the configuration.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class RewardExecutor {
+
+    /** Bulkheads for each reward provider. */
+    private Map<String, RewardBulkhead> bulkheads = new ConcurrentHashMap<>();
+    /** Circuit breakers for each reward provider. */
+    private Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    /** The number of threads each bulkhead runs async safe rewards on. */
+    private int bulkheadThreads;
+    /** The number of async safe rewards that may wait for a thread in each bulkhead. */
+    private int bulkheadQueueSize;
+    /** The amount of time an async safe reward may run before it is timed out, in milliseconds. */
+    private long asyncTimeoutMillis;
+    /** The amount of time a reward on the server thread may run before it counts as slow, in nanoseconds. */
+    private long slowRewardNanos;
+    /** The number of consecutive failures before a provider's circuit breaker opens. */
+    private int breakerFailureThreshold;
+    /** The amount of time a provider's circuit breaker stays open, in nanoseconds. */
+    private long breakerOpenNanos;
+    /** The number of times a failed first party reward is retried. */
+    private int firstPartyRetries;
+    /** The delay before a failed first party reward is first retried, doubled for every attempt, in milliseconds. */
+    private long firstPartyRetryMillis;
+
+    /**
+     * Constructor for the reward executor, loading settings from configuration.
+     */
+    public RewardExecutor(){
+        CommentedConfigurationNode executionNode = ConfigManager.getConfigNode("General", "Reward-Execution");
+        bulkheadThreads = Math.max(1, executionNode.getNode("Bulkhead-Threads").getInt(2));
+        bulkheadQueueSize = Math.max(1, executionNode.getNode("Bulkhead-Queue-Size").getInt(64));
+        asyncTimeoutMillis = executionNode.getNode("Async-Timeout-Millis").getLong(5000);
+        slowRewardNanos = TimeUnit.MILLISECONDS.toNanos(executionNode.getNode("Slow-Reward-Millis").getLong(50));
+        breakerFailureThreshold = Math.max(1, executionNode.getNode("Breaker-Failure-Threshold").getInt(5));
+        breakerOpenNanos = TimeUnit.SECONDS.toNanos(executionNode.getNode("Breaker-Open-Seconds").getLong(60));
+        firstPartyRetries = Math.max(0, executionNode.getNode("First-Party-Retries").getInt(3));
+        firstPartyRetryMillis = Math.max(50, executionNode.getNode("First-Party-Retry-Millis").getLong(1000));
+    }
+
+    /**
+     * Distributes all rewards for a hunt to a player. Each reward is isolated from the others,
+     * so every reward is attempted even if one fails. The amount of each reward that is delivered is recorded
+     * in the audit log.
+     *
+     * @param boardName the name of the hunt board the hunt was on
+     * @param hunt      the hunt the player completed
+     * @param player    the player to distribute rewards to
+     * @param nature    the nature of the Pokemon that completed the hunt
+     * @throws NullPointerException if the board name is null
+     * @throws NullPointerException if the hunt is null
+     * @throws NullPointerException if the player is null
+     */
+    public void distributeRewards(String boardName, Hunt hunt, Player player, EnumNature nature){
+        Objects.requireNonNull(hunt, "hunt must not be null");
+        distributeRewards(boardName, hunt, hunt.getRewardsView(), player, nature);
+    }
+
+    /**
+     * Distributes rewards for a hunt to a player, in place of the hunt's own rewards. Each reward is isolated
+     * from the others, so every reward is attempted even if one fails. Null rewards are skipped.
+     *
+     * @param boardName the name of the hunt board the hunt was on
+     * @param hunt      the hunt the player completed
+     * @param rewards   the rewards to distribute
+     * @param player    the player to distribute rewards to
+     * @param nature    the nature of the Pokemon that completed the hunt
+     * @throws NullPointerException if the board name is null
+     * @throws NullPointerException if the hunt is null
+     * @throws NullPointerException if the rewards are null
+     * @throws NullPointerException if the player is null
+     */
+    public void distributeRewards(String boardName, Hunt hunt, List<Reward> rewards, Player player, EnumNature nature){
+        Objects.requireNonNull(boardName, "board name must not be null");
+        Objects.requireNonNull(hunt, "hunt must not be null");
+        Objects.requireNonNull(rewards, "rewards must not be null");
+        Objects.requireNonNull(player, "player must not be null");
+        PayoutContext context = new PayoutContext(boardName, hunt, player, nature);
+        for(Reward reward : rewards){
+            if(reward != null){
+                distributeReward(reward, context);
+            }
+        }
+    }
+
+    /**
+     * Distributes a reward to a player, recording any failure instead of propagating it.
+     *
+     * @param reward  the reward to distribute
+     * @param context the completion the reward is for
+     */
+    private void distributeReward(Reward reward, PayoutContext context){
+        if(isFirstParty(reward)){
+            distributeFirstParty(reward, context, 0);
+            return;
+        }
+
+        Player player = context.player;
+        RewardBulkhead bulkhead = bulkheads.computeIfAbsent(reward.getProviderId(),
+                (providerId) -> new RewardBulkhead(providerId, bulkheadThreads, bulkheadQueueSize));
+        CircuitBreaker breaker = breakers.computeIfAbsent(reward.getProviderId(),
+                (providerId) -> new CircuitBreaker(breakerFailureThreshold, breakerOpenNanos));
+
+        if(!breaker.tryAcquire()){
+            bulkhead.recordRejection();
+            PixelHunt.getLogger().error("PixelHunt did not distribute reward '{}' to {} because rewards from {} " +
+                    "are failing.", reward.getDescription(), player.getName(), reward.getProviderId());
+            return;
+        }
+
+        if(reward.isAsyncSafe()){
+            distributeAsync(reward, context, bulkhead, breaker);
+        }
+        else{
+            distributeInline(reward, context, bulkhead, breaker);
+        }
+    }
+
+    /**
+     * Checks if a reward is one of the plugin's own, which are never dropped by a circuit breaker.
+     * Subclasses are treated as third party, as they may run code of their own.
+     *
+     * @param reward the reward
+     * @return true if the reward is a currency or item reward, false if it is any other reward
+     */
+    private static boolean isFirstParty(Reward reward){
+        return reward.getClass() == CurrencyReward.class || reward.getClass() == ItemReward.class;
+    }
+
+    /**
+     * Distributes one of the plugin's own rewards on the current thread. If it throws, it is retried on a later
+     * tick with the delay doubled each attempt, until the configured number of retries is used up.
+     *
+     * @param reward  the reward to distribute
+     * @param context the completion the reward is for
+     * @param attempt the number of times the reward has already been attempted
+     */
+    private void distributeFirstParty(Reward reward, PayoutContext context, int attempt){
+        Player player = context.player;
+        double delivered;
+        try{
+            delivered = reward.distribute(player);
+        }
+        catch(Exception e){
+            if(attempt >= firstPartyRetries){
+                PixelHunt.getLogger().error("PixelHunt could not distribute reward '{}' to {} after {} attempts.",
+                        reward.getDescription(), player.getName(), attempt + 1, e);
+                return;
+            }
+            long delay = firstPartyRetryMillis << Math.min(attempt, 16);
+            PixelHunt.getLogger().warn("PixelHunt could not distribute reward '{}' to {}, retrying in {}ms.",
+                    reward.getDescription(), player.getName(), delay, e);
+            PixelHunt.getTickScheduler().schedule(WorkPriority.NORMAL, delay, TimeUnit.MILLISECONDS,
+                    () -> distributeFirstParty(reward, context, attempt + 1));
+            return;
+        }
+        recordPayout(reward, context, delivered);
+    }
+
+    /**
+     * Distributes a reward on the current thread, timing it to detect slow rewards.
+     *
+     * @param reward   the reward to distribute
+     * @param context  the completion the reward is for
+     * @param bulkhead the bulkhead for the reward's provider
+     * @param breaker  the circuit breaker for the reward's provider
+     */
+    private void distributeInline(Reward reward, PayoutContext context, RewardBulkhead bulkhead,
+                                  CircuitBreaker breaker){
+        Player player = context.player;
+        long startTime = System.nanoTime();
+        double delivered;
+        try{
+            delivered = reward.distribute(player);
+        }
+        catch(Exception e){
+            recordFailure(reward, player, bulkhead, breaker, "it threw an exception", e);
+            return;
+        }
+
+        long elapsed = System.nanoTime() - startTime;
+        recordPayout(reward, context, delivered);
+        if(elapsed > slowRewardNanos){
+            recordFailure(reward, player, bulkhead, breaker,
+                    "it took " + TimeUnit.NANOSECONDS.toMillis(elapsed) + "ms", null);
+        }
+        else{
+            bulkhead.recordSuccess();
+            breaker.recordSuccess();
+        }
+    }
+
+    /**
+     * Distributes a reward on its bulkhead's threads, timing it out if it runs too long.
+     *
+     * @param reward   the reward to distribute
+     * @param context  the completion the reward is for
+     * @param bulkhead the bulkhead for the reward's provider
+     * @param breaker  the circuit breaker for the reward's provider
+     */
+    private void distributeAsync(Reward reward, PayoutContext context, RewardBulkhead bulkhead,
+                                 CircuitBreaker breaker){
+        Player player = context.player;
+        // Set by whichever of the distribution or the timeout finishes first, so the outcome is only recorded once.
+        AtomicBoolean settled = new AtomicBoolean();
+        Future<?> future;
+        try{
+            future = bulkhead.submit(() -> {
+                try{
+                    recordPayout(reward, context, reward.distribute(player));
+                    if(settled.compareAndSet(false, true)){
+                        bulkhead.recordSuccess();
+                        breaker.recordSuccess();
+                    }
+                }
+                catch(Exception e){
+                    if(settled.compareAndSet(false, true)){
+                        recordFailure(reward, player, bulkhead, breaker, "it threw an exception", e);
+                    }
+                }
+            });
+        }
+        catch(RejectedExecutionException e){
+            bulkhead.recordRejection();
+            recordFailure(reward, player, bulkhead, breaker, "too many rewards from its provider are waiting", null);
+            return;
+        }
+
+        PixelHunt.getExecutors().getScheduler().schedule(() -> {
+            if(settled.compareAndSet(false, true)){
+                future.cancel(true);
+                recordFailure(reward, player, bulkhead, breaker,
+                        "it did not finish within " + asyncTimeoutMillis + "ms", null);
+            }
+        }, asyncTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Records the amount of a reward that was delivered in the audit log. Nothing is recorded if nothing
+     * was delivered.
+     *
+     * @param reward    the reward that was paid out
+     * @param context   the completion the reward was for
+     * @param delivered the amount of the reward that was delivered
+     */
+    private void recordPayout(Reward reward, PayoutContext context, double delivered){
+        if(delivered > 0){
+            PixelHunt.getAuditLog().recordPayout(context.player.getUniqueId(), context.boardName,
+                    context.hunt, context.nature, reward, delivered);
+        }
+    }
+
+    /**
+     * Records a reward that failed, logging the failure and counting it against the reward's provider.
+     *
+     * @param reward   the reward that failed
+     * @param player   the player the reward was for
+     * @param bulkhead the bulkhead for the reward's provider
+     * @param breaker  the circuit breaker for the reward's provider
+     * @param reason   the reason the reward failed
+     * @param cause    the exception that caused the failure, or null if there wasn't one
+     */
+    private void recordFailure(Reward reward, Player player, RewardBulkhead bulkhead, CircuitBreaker breaker,
+                               String reason, Exception cause){
+        bulkhead.recordFailure();
+        PixelHunt.getLogger().error("PixelHunt could not distribute reward '{}' to {} because {}.",
+                reward.getDescription(), player.getName(), reason, cause);
+        if(breaker.recordFailure()){
+            PixelHunt.getLogger().warn("Rewards from {} keep failing and will not be distributed for {} seconds.",
+                    reward.getProviderId(), TimeUnit.NANOSECONDS.toSeconds(breakerOpenNanos));
+        }
+    }
+
+    /**
+     * Gets the bulkheads for each reward provider whose rewards have been distributed.
+     *
+     * @return the bulkheads for each reward provider whose rewards have been distributed
+     */
+    public Collection<RewardBulkhead> getBulkheads(){
+        return bulkheads.values();
+    }
+
+    /**
+     * The completion a set of rewards is being paid out for.
+     */
+    private static class PayoutContext {
+
+        /** The name of the hunt board the hunt was on. */
+        private final String boardName;
+        /** The hunt that was completed. */
+        private final Hunt hunt;
+        /** The player that completed the hunt. */
+        private final Player player;
+        /** The nature of the Pokemon that completed the hunt. */
+        private final EnumNature nature;
+
+        /**
+         * Constructor for the payout context.
+         *
+         * @param boardName the name of the hunt board the hunt was on
+         * @param hunt      the hunt that was completed
+         * @param player    the player that completed the hunt
+         * @param nature    the nature of the Pokemon that completed the hunt
+         */
+        private PayoutContext(String boardName, Hunt hunt, Player player, EnumNature nature){
+            this.boardName = boardName;
+            this.hunt = hunt;
+            this.player = player;
+            this.nature = nature;
+        }
+
+    }
+
+}
@@ -0,0 +1,35 @@
+package jw.landon.pixelhunt.implementation.scheduling;
+
+/**
+ * Source of time for everything that depends on how long hunts have been active.
+ *
+ * <p>Time is given both as epoch milliseconds, for start and expiry times shown to players, and as
+ * monotonic nanoseconds, for delays in the {@link TickScheduler}. Both advance together, and neither
+ * goes backwards when the system clock is changed.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public interface HuntClock {
+
+    /**
+     * Gets the current time, in epoch milliseconds.
+     *
+     * @return the current time, in epoch milliseconds
+     */
+    long millis();
+
+    /**
+     * Gets the current time, in monotonic nanoseconds. Only meaningful when compared to other values
+     * from the same clock.
+     *
+     * @return the current time, in monotonic nanoseconds
+     */
+    long nanos();
+
+    /**
+     * Called by the tick scheduler at the start of every tick. Clocks that cache the time update it here.
+     */
+    void tick();
+
+}
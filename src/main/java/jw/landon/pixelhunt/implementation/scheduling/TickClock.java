@@ -0,0 +1,51 @@
+package jw.landon.pixelhunt.implementation.scheduling;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link HuntClock} used on a running server, which reads the system's monotonic clock once per tick.
+ *
+ * <p>Epoch time is taken from the system clock once when the clock is created, and advanced from then on
+ * by the monotonic clock, so changes to the system clock do not shorten or extend hunts. As the time is
+ * only updated once per tick, every read within a tick sees the same time.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class TickClock implements HuntClock {
+
+    /** The system time when the clock was created, in epoch milliseconds. */
+    private final long startMillis;
+    /** The monotonic time when the clock was created, in {@link System#nanoTime()} time. */
+    private final long startNanos;
+    /** The monotonic time at the start of the current tick, in {@link System#nanoTime()} time. */
+    private volatile long nanos;
+
+    /**
+     * Constructor for the tick clock, starting at the current system time.
+     */
+    public TickClock(){
+        startMillis = System.currentTimeMillis();
+        startNanos = System.nanoTime();
+        nanos = startNanos;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long millis(){
+        return startMillis + TimeUnit.NANOSECONDS.toMillis(nanos - startNanos);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long nanos(){
+        return nanos;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void tick(){
+        nanos = System.nanoTime();
+    }
+
+}
@@ -0,0 +1,317 @@
+package jw.landon.pixelhunt.implementation.scheduling;
+
+import jw.landon.pixelhunt.PixelHunt;
+import org.spongepowered.api.scheduler.Task;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cooperative scheduler that runs units of work on the server thread within a time budget per tick.
+ *
+ * <p>The scheduler is driven by a single synchronous task that runs every tick. Each tick, work is run
+ * in order of {@link WorkPriority} until the budget is spent, and any remaining work is carried over to
+ * the next tick. At least one unit of work is run every tick so the scheduler always makes progress.</p>
+ *
+ * <p>Delays are measured with a {@link HuntClock}, so a scheduler given a {@link VirtualClock} can be driven
+ * through simulated time with {@link #runDueWork()} instead of being started. The tick budget is always
+ * measured in real time.</p>
+ *
+ * <p>Work may be submitted from any thread, but is always run on the server thread.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class TickScheduler {
+
+    /** The number of ticks between reports of budget overruns, one minute at 20 ticks per second. */
+    private static final int REPORT_INTERVAL_TICKS = 1200;
+
+    /** Work waiting to be run this tick, indexed by priority. Only accessed on the server thread. */
+    private Queue<WorkUnit>[] ready;
+    /** Work waiting for its delay to pass, ordered by the time it is due. Only accessed on the server thread. */
+    private PriorityQueue<WorkUnit> delayed = new PriorityQueue<>();
+    /** Work submitted since the last tick, waiting to be sorted into the ready or delayed queues. */
+    private Queue<WorkUnit> incoming = new ConcurrentLinkedQueue<>();
+    /** Sequence used to run work of the same priority in the order it was submitted. */
+    private AtomicLong sequence = new AtomicLong();
+    /** The clock delays are measured with. */
+    private final HuntClock clock;
+    /** The maximum amount of time to spend running work each tick, in nanoseconds. */
+    private volatile long budgetNanos;
+    /** The task running the scheduler every tick. Null if the scheduler is not started. */
+    private Task task;
+
+    /** The number of ticks the scheduler has run. */
+    private long ticks;
+    /** The number of ticks that went over budget since the last report. */
+    private int overruns;
+    /** The largest amount of time spent in a tick since the last report, in nanoseconds. */
+    private long worstTickNanos;
+
+    /**
+     * Constructor for the tick scheduler.
+     *
+     * @param budget the maximum amount of time to spend running work each tick
+     * @param unit   the unit of time for the budget
+     * @param clock  the clock to measure delays with
+     * @throws IllegalArgumentException if the budget is below or equal to 0
+     * @throws NullPointerException     if the unit is null
+     * @throws NullPointerException     if the clock is null
+     */
+    @SuppressWarnings("unchecked")
+    public TickScheduler(long budget, TimeUnit unit, HuntClock clock){
+        setBudget(budget, unit);
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+        ready = new Queue[WorkPriority.values().length];
+        for(int i = 0; i < ready.length; i++){
+            ready[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * Starts running the scheduler every tick.
+     */
+    public void start(){
+        if(task == null){
+            task = Task.builder()
+                    .execute(this::tick)
+                    .intervalTicks(1)
+                    .name(PixelHunt.PLUGIN_ID + "-tick-scheduler")
+                    .submit(PixelHunt.getInstance());
+        }
+    }
+
+    /**
+     * Stops running the scheduler. Any remaining work is kept, and will run if the scheduler is started again.
+     */
+    public void stop(){
+        if(task != null){
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Runs all work that is currently due, regardless of the budget.
+     * This is used to flush remaining work when the server is stopping, and to drive simulations.
+     */
+    public void runDueWork(){
+        clock.tick();
+        collectDueWork(clock.nanos());
+        for(Queue<WorkUnit> queue : ready){
+            while(!queue.isEmpty()){
+                run(queue.poll());
+            }
+        }
+    }
+
+    /**
+     * Sets the maximum amount of time to spend running work each tick.
+     *
+     * @param budget the maximum amount of time to spend running work each tick
+     * @param unit   the unit of time for the budget
+     * @throws IllegalArgumentException if the budget is below or equal to 0
+     * @throws NullPointerException     if the unit is null
+     */
+    public void setBudget(long budget, TimeUnit unit){
+        Objects.requireNonNull(unit, "time unit must not be null");
+        if(budget <= 0){
+            throw new IllegalArgumentException("budget must be greater than 0");
+        }
+        this.budgetNanos = unit.toNanos(budget);
+    }
+
+    /**
+     * Submits work to be run on the next tick that has budget for it.
+     *
+     * @param priority the priority of the work
+     * @param work     the work to run
+     * @throws NullPointerException if the priority is null
+     * @throws NullPointerException if the work is null
+     */
+    public void submit(WorkPriority priority, Runnable work){
+        schedule(priority, 0, TimeUnit.NANOSECONDS, work);
+    }
+
+    /**
+     * Submits work to be run once a delay has passed, on the first tick after that which has budget for it.
+     *
+     * @param priority the priority of the work
+     * @param delay    the amount of time to wait before running the work
+     * @param unit     the unit of time for the delay
+     * @param work     the work to run
+     * @throws NullPointerException if the priority is null
+     * @throws NullPointerException if the unit is null
+     * @throws NullPointerException if the work is null
+     */
+    public void schedule(WorkPriority priority, long delay, TimeUnit unit, Runnable work){
+        Objects.requireNonNull(priority, "priority must not be null");
+        Objects.requireNonNull(unit, "time unit must not be null");
+        Objects.requireNonNull(work, "work must not be null");
+        long dueTime = clock.nanos() + unit.toNanos(Math.max(0, delay));
+        incoming.add(new WorkUnit(priority, dueTime, sequence.getAndIncrement(), work));
+    }
+
+    /**
+     * Gets the number of units of work that are due but haven't been run yet.
+     * Only accurate when called from the server thread.
+     *
+     * @return the number of units of work that are due but haven't been run yet
+     */
+    public int getBacklog(){
+        int backlog = 0;
+        for(Queue<WorkUnit> queue : ready){
+            backlog += queue.size();
+        }
+        return backlog;
+    }
+
+    /**
+     * Gets the number of units of work waiting for their delay to pass.
+     * Only accurate when called from the server thread.
+     *
+     * @return the number of units of work waiting for their delay to pass
+     */
+    public int getDelayedCount(){
+        return delayed.size();
+    }
+
+    /**
+     * Gets the time the next unit of work waiting for its delay is due. Must be called from the server thread.
+     *
+     * @return the time the next unit of work is due in the clock's nanoseconds, or {@link Long#MAX_VALUE}
+     *         if no work is waiting
+     */
+    public long getNextDueTime(){
+        WorkUnit unit;
+        while((unit = incoming.poll()) != null){
+            delayed.add(unit);
+        }
+        return delayed.isEmpty() ? Long.MAX_VALUE : delayed.peek().dueTime;
+    }
+
+    /**
+     * Gets the clock delays are measured with.
+     *
+     * @return the clock delays are measured with
+     */
+    public HuntClock getClock(){
+        return clock;
+    }
+
+    /**
+     * Runs due work until the budget for this tick is spent.
+     */
+    private void tick(){
+        clock.tick();
+        long startTime = System.nanoTime();
+        collectDueWork(clock.nanos());
+
+        long elapsed = 0;
+        boolean ranWork = false;
+        for(Queue<WorkUnit> queue : ready){
+            while(!queue.isEmpty() && (!ranWork || elapsed < budgetNanos)){
+                run(queue.poll());
+                ranWork = true;
+                elapsed = System.nanoTime() - startTime;
+            }
+        }
+
+        if(elapsed > budgetNanos){
+            overruns++;
+        }
+        worstTickNanos = Math.max(worstTickNanos, elapsed);
+        if(++ticks % REPORT_INTERVAL_TICKS == 0){
+            report();
+        }
+    }
+
+    /**
+     * Moves newly submitted work into the delayed queue, then moves any work that is due into the ready queues.
+     *
+     * @param now the current time, in the clock's nanoseconds
+     */
+    private void collectDueWork(long now){
+        WorkUnit unit;
+        while((unit = incoming.poll()) != null){
+            delayed.add(unit);
+        }
+        while(!delayed.isEmpty() && delayed.peek().dueTime - now <= 0){
+            unit = delayed.poll();
+            ready[unit.priority.ordinal()].add(unit);
+        }
+    }
+
+    /**
+     * Runs a unit of work, logging any exception it throws so it does not affect other work.
+     *
+     * @param unit the unit of work to run
+     */
+    private void run(WorkUnit unit){
+        try{
+            unit.work.run();
+        }
+        catch(Exception e){
+            PixelHunt.getLogger().error("PixelHunt scheduled work threw an exception.", e);
+        }
+    }
+
+    /**
+     * Logs a warning if any ticks went over budget since the last report, then resets the overrun stats.
+     */
+    private void report(){
+        if(overruns > 0){
+            PixelHunt.getLogger().warn("PixelHunt went over its {}ms tick budget {} times in the last {} ticks " +
+                            "(worst tick {}ms). {} units of work are waiting to run.",
+                    TimeUnit.NANOSECONDS.toMillis(budgetNanos), overruns, REPORT_INTERVAL_TICKS,
+                    TimeUnit.NANOSECONDS.toMillis(worstTickNanos), getBacklog());
+        }
+        overruns = 0;
+        worstTickNanos = 0;
+    }
+
+    /**
+     * A unit of work submitted to the scheduler.
+     */
+    private static class WorkUnit implements Comparable<WorkUnit> {
+
+        /** The priority of the work. */
+        private final WorkPriority priority;
+        /** The time the work is due to run, in the clock's nanoseconds. */
+        private final long dueTime;
+        /** The order the work was submitted in. */
+        private final long sequence;
+        /** The work to run. */
+        private final Runnable work;
+
+        /**
+         * Constructor for the unit of work.
+         *
+         * @param priority the priority of the work
+         * @param dueTime  the time the work is due to run
+         * @param sequence the order the work was submitted in
+         * @param work     the work to run
+         */
+        private WorkUnit(WorkPriority priority, long dueTime, long sequence, Runnable work){
+            this.priority = priority;
+            this.dueTime = dueTime;
+            this.sequence = sequence;
+            this.work = work;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int compareTo(WorkUnit other){
+            int compare = Long.compare(dueTime - other.dueTime, 0);
+            return (compare != 0) ? compare : Long.compare(sequence, other.sequence);
+        }
+
+    }
+
+}
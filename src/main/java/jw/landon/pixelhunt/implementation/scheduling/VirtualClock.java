@@ -0,0 +1,75 @@
+package jw.landon.pixelhunt.implementation.scheduling;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link HuntClock} that only moves when it is advanced, used to simulate hunt boards faster than real time.
+ *
+ * <p>The clock is expected to be advanced by a single thread.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class VirtualClock implements HuntClock {
+
+    /** The time the clock started at, in epoch milliseconds. */
+    private final long startMillis;
+    /** The amount of time the clock has been advanced by, in nanoseconds. */
+    private volatile long nanos;
+
+    /**
+     * Constructor for the virtual clock.
+     *
+     * @param startMillis the time the clock starts at, in epoch milliseconds
+     */
+    public VirtualClock(long startMillis){
+        this.startMillis = startMillis;
+    }
+
+    /**
+     * Moves the clock forward.
+     *
+     * @param amount the amount of time to move forward by
+     * @param unit   the unit of time for the amount
+     * @throws IllegalArgumentException if the amount is below 0
+     * @throws NullPointerException     if the unit is null
+     */
+    public void advance(long amount, TimeUnit unit){
+        Objects.requireNonNull(unit, "time unit must not be null");
+        if(amount < 0){
+            throw new IllegalArgumentException("amount must be greater than or equal to 0");
+        }
+        nanos += unit.toNanos(amount);
+    }
+
+    /**
+     * Moves the clock forward to a time, if it hasn't already passed.
+     *
+     * @param targetNanos the time to move forward to, in the clock's nanoseconds
+     */
+    public void advanceTo(long targetNanos){
+        if(targetNanos > nanos){
+            nanos = targetNanos;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long millis(){
+        return startMillis + TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long nanos(){
+        return nanos;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void tick(){
+        // Virtual time only moves when advanced.
+    }
+
+}
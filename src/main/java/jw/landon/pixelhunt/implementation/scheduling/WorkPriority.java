@@ -0,0 +1,19 @@
+package jw.landon.pixelhunt.implementation.scheduling;
+
+/**
+ * The priority of a unit of work submitted to the {@link TickScheduler}.
+ * Work of a higher priority is always run before work of a lower priority within a tick.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public enum WorkPriority {
+
+    /** Work that affects what players can complete, such as expiring hunts. */
+    HIGH,
+    /** Work that keeps boards up to date, such as refilling slots or announcing hunts. */
+    NORMAL,
+    /** Work that can be put off without players noticing, such as saving or flushing stats. */
+    LOW
+
+}
@@ -0,0 +1,218 @@
+package jw.landon.pixelhunt.implementation.startup;
+
+import jw.landon.pixelhunt.PixelHunt;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The stages of the plugin's startup, with the stages each one depends on.
+ *
+ * <p>Once started, every stage runs on the given executor as soon as the stages it depends on have finished,
+ * so stages that don't depend on each other run in parallel. Stages can only depend on stages added before
+ * them, so the graph can never have a cycle. Work that everything else needs can be run on the calling
+ * thread with {@link #runInline} before the graph is started, so it is still timed with the other stages.</p>
+ *
+ * <p>A stage that throws is logged, and every stage that depends on it is skipped. Joining the graph waits
+ * for every stage, then logs how long each one took, so it can be seen where the plugin adds to boot time.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class StartupGraph {
+
+    /** The stages of the graph, by name, in the order they were added. */
+    private Map<String, Stage> stages = new LinkedHashMap<>();
+    /** The time the graph was created, in nanoseconds. */
+    private long createdAt = System.nanoTime();
+    /** Completes once every stage has finished, failed or been skipped. Null if the graph hasn't started. */
+    private CompletableFuture<Void> completion;
+
+    /**
+     * Runs work on the calling thread straight away, timing it as a stage.
+     * Other stages may depend on it, and it is logged with them when the graph is joined.
+     *
+     * @param name the name of the stage
+     * @param work the work to run
+     * @throws NullPointerException     if the name is null
+     * @throws NullPointerException     if the work is null
+     * @throws IllegalArgumentException if a stage already exists with the name
+     * @throws IllegalStateException    if the graph has already started
+     */
+    public synchronized void runInline(String name, Runnable work){
+        Stage stage = createStage(name, work, new String[0]);
+        stage.future = new CompletableFuture<>();
+        try{
+            stage.run();
+            stage.future.complete(null);
+        }
+        catch(RuntimeException e){
+            stage.future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Adds a stage to the graph, to be run once the graph has started and its dependencies have finished.
+     *
+     * @param name         the name of the stage
+     * @param work         the work to run
+     * @param dependencies the names of stages that must finish before this stage runs
+     * @throws NullPointerException     if the name is null
+     * @throws NullPointerException     if the work is null
+     * @throws IllegalArgumentException if a stage already exists with the name
+     * @throws IllegalArgumentException if a dependency hasn't been added
+     * @throws IllegalStateException    if the graph has already started
+     */
+    public synchronized void addStage(String name, Runnable work, String... dependencies){
+        createStage(name, work, dependencies);
+    }
+
+    /**
+     * Creates a stage and adds it to the graph.
+     *
+     * @param name         the name of the stage
+     * @param work         the work to run
+     * @param dependencies the names of stages that must finish before this stage runs
+     * @return the new stage
+     */
+    private Stage createStage(String name, Runnable work, String[] dependencies){
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(work, "work must not be null");
+        if(completion != null){
+            throw new IllegalStateException("startup graph has already started");
+        }
+        if(stages.containsKey(name)){
+            throw new IllegalArgumentException("stage already exists with name " + name);
+        }
+        List<Stage> resolved = new ArrayList<>();
+        for(String dependency : dependencies){
+            Stage stage = stages.get(dependency);
+            if(stage == null){
+                throw new IllegalArgumentException("stage " + name + " depends on unknown stage " + dependency);
+            }
+            resolved.add(stage);
+        }
+        Stage stage = new Stage(name, work, resolved);
+        stages.put(name, stage);
+        return stage;
+    }
+
+    /**
+     * Starts running every stage that hasn't run, each as soon as its dependencies have finished.
+     *
+     * @param executor the executor to run stages on
+     * @throws NullPointerException  if the executor is null
+     * @throws IllegalStateException if the graph has already started
+     */
+    public synchronized void start(Executor executor){
+        Objects.requireNonNull(executor, "executor must not be null");
+        if(completion != null){
+            throw new IllegalStateException("startup graph has already started");
+        }
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for(Stage stage : stages.values()){
+            if(stage.future == null){
+                CompletableFuture<?>[] dependencies = new CompletableFuture<?>[stage.dependencies.size()];
+                for(int i = 0; i < dependencies.length; i++){
+                    dependencies[i] = stage.dependencies.get(i).future;
+                }
+                stage.future = CompletableFuture.allOf(dependencies).thenRunAsync(stage::run, executor);
+            }
+            futures.add(stage.future);
+        }
+        // Failures are reported per stage when joining, so they are dropped here.
+        completion = CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .handle((result, failure) -> null);
+    }
+
+    /**
+     * Waits for every stage to finish, then logs how long each stage took and any stage that failed or was skipped.
+     *
+     * @throws IllegalStateException if the graph hasn't started
+     */
+    public void join(){
+        CompletableFuture<Void> completion;
+        synchronized(this){
+            completion = this.completion;
+        }
+        if(completion == null){
+            throw new IllegalStateException("startup graph hasn't started");
+        }
+        completion.join();
+
+        long totalNanos = 0;
+        for(Stage stage : stages.values()){
+            if(stage.failure != null){
+                PixelHunt.getLogger().error("PixelHunt startup stage " + stage.name + " failed.", stage.failure);
+            }
+            else if(stage.future.isCompletedExceptionally()){
+                PixelHunt.getLogger().error("PixelHunt startup stage {} was skipped as a stage it depends on failed.",
+                        stage.name);
+            }
+            else{
+                PixelHunt.getLogger().info("PixelHunt startup stage {} took {}ms.",
+                        stage.name, TimeUnit.NANOSECONDS.toMillis(stage.elapsedNanos));
+                totalNanos += stage.elapsedNanos;
+            }
+        }
+        PixelHunt.getLogger().info("PixelHunt started up in {}ms, with {}ms of work across {} stages.",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - createdAt),
+                TimeUnit.NANOSECONDS.toMillis(totalNanos), stages.size());
+    }
+
+    /**
+     * A stage of startup.
+     */
+    private static class Stage {
+
+        /** The name of the stage. */
+        private final String name;
+        /** The work to run. */
+        private final Runnable work;
+        /** The stages that must finish before this stage runs. */
+        private final List<Stage> dependencies;
+        /** Completes when the stage has finished. Null if the stage hasn't been scheduled. */
+        private volatile CompletableFuture<Void> future;
+        /** The time taken to run the stage, in nanoseconds. */
+        private volatile long elapsedNanos;
+        /** The exception thrown by the stage, null if it hasn't thrown. */
+        private volatile Throwable failure;
+
+        /**
+         * Constructor for the stage.
+         *
+         * @param name         the name of the stage
+         * @param work         the work to run
+         * @param dependencies the stages that must finish before this stage runs
+         */
+        private Stage(String name, Runnable work, List<Stage> dependencies){
+            this.name = name;
+            this.work = work;
+            this.dependencies = dependencies;
+        }
+
+        /**
+         * Runs the stage's work, timing it and recording anything it throws.
+         *
+         * @throws CompletionException if the work throws, so stages depending on it are skipped
+         */
+        private void run(){
+            long start = System.nanoTime();
+            try{
+                work.run();
+            }
+            catch(RuntimeException | Error e){
+                failure = e;
+                throw new CompletionException(e);
+            }
+            finally{
+                elapsedNanos = System.nanoTime() - start;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,59 @@
+package jw.landon.pixelhunt.implementation.status;
+
+/**
+ * A serialized JSON response and the entity tag identifying its content.
+ * Documents are immutable, so they can be served from any thread while a newer one is being built.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+class StatusDocument {
+
+    /** The UTF-8 encoded JSON body. */
+    private final byte[] body;
+    /** The quoted entity tag of the body. */
+    private final String entityTag;
+
+    /**
+     * Constructor for the status document.
+     *
+     * @param body      the UTF-8 encoded JSON body, which must not be modified afterwards
+     * @param entityTag the quoted entity tag of the body
+     */
+    StatusDocument(byte[] body, String entityTag){
+        this.body = body;
+        this.entityTag = entityTag;
+    }
+
+    /**
+     * Gets the UTF-8 encoded JSON body. The array must not be modified.
+     *
+     * @return the UTF-8 encoded JSON body
+     */
+    byte[] getBody(){
+        return body;
+    }
+
+    /**
+     * Gets the quoted entity tag of the body.
+     *
+     * @return the quoted entity tag of the body
+     */
+    String getEntityTag(){
+        return entityTag;
+    }
+
+    /**
+     * Checks if an If-None-Match header matches the document, meaning the client already has it.
+     *
+     * @param ifNoneMatch the value of the If-None-Match header, or null if there isn't one
+     * @return true if the client already has the document, false if it should be sent
+     */
+    boolean matches(String ifNoneMatch){
+        if(ifNoneMatch == null){
+            return false;
+        }
+        return ifNoneMatch.trim().equals("*") || ifNoneMatch.contains(entityTag);
+    }
+
+}
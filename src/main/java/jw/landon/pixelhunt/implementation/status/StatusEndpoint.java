@@ -0,0 +1,327 @@
+package jw.landon.pixelhunt.implementation.status;
+
+import com.google.gson.stream.JsonWriter;
+import com.pixelmonmod.pixelmon.enums.EnumNature;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import jw.landon.pixelhunt.api.hunts.HuntBoardSnapshot;
+import jw.landon.pixelhunt.api.hunts.rewards.Reward;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import jw.landon.pixelhunt.implementation.executors.BackPressurePolicy;
+import jw.landon.pixelhunt.implementation.hunts.BaseHuntBoard;
+import jw.landon.pixelhunt.implementation.rewards.RewardBulkhead;
+import jw.landon.pixelhunt.implementation.scheduling.WorkPriority;
+import ninja.leaping.configurate.commented.CommentedConfigurationNode;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.text.serializer.TextSerializers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An optional HTTP endpoint bound to the loopback address, serving hunt boards and metrics as JSON for
+ * dashboards and bots running on the same machine.
+ *
+ * <p>Responses are serialized on the server thread into a reused buffer, only when a board's version changes
+ * or the metrics change, and published as immutable {@link StatusDocument}s. Requests are served from the
+ * endpoint's own thread by writing out the latest document, so they never touch the server thread or the
+ * boards. Every response carries an entity tag, and requests with a matching If-None-Match header are
+ * answered with 304 Not Modified and no body.</p>
+ *
+ * <ul>
+ *     <li>/boards : every registered board and if it is suspended, with the slot, species, natures, rewards,
+ *     start time and expiry time of each active hunt. Times are in epoch milliseconds, and expiry times are null
+ *     while the board is suspended.</li>
+ *     <li>/metrics : ticks per second, online players, idle mode, scheduler backlog and reward outcomes.</li>
+ * </ul>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class StatusEndpoint {
+
+    /** How often board versions are checked for changes, in milliseconds. */
+    private static final long BOARD_CHECK_MILLIS = 50;
+    /** How often metrics are gathered, in milliseconds. */
+    private static final long METRICS_MILLIS = 1000;
+
+    /** The HTTP server, or null if the endpoint isn't running. */
+    private HttpServer server;
+    /** If the endpoint is publishing documents. */
+    private boolean running;
+    /** The buffer documents are serialized into, reused for every document. */
+    private ByteArrayOutputStream buffer = new ByteArrayOutputStream(8192);
+    /** A prefix for entity tags that differs between server starts, so tags from a previous run never match. */
+    private String tagPrefix = Long.toHexString(System.currentTimeMillis());
+    /** The number of documents published, used to give each a unique entity tag. */
+    private long generation;
+    /** The latest boards document, or null if none has been published. */
+    private volatile StatusDocument boardsDocument;
+    /** The latest metrics document, or null if none has been published. */
+    private volatile StatusDocument metricsDocument;
+    /** The snapshots of the boards in the latest boards document, in registry order. */
+    private HuntBoardSnapshot[] publishedSnapshots = new HuntBoardSnapshot[0];
+    /** The number of boards visited while checking for changes. */
+    private int visitedBoards;
+    /** If a board was found to have changed while checking for changes. */
+    private boolean boardsChanged;
+    /** The time metrics are next gathered, in nanoseconds. */
+    private long nextMetricsNanos;
+
+    /**
+     * Starts the endpoint if it is enabled in configuration. If the port can't be bound, the error is logged
+     * and the endpoint stays stopped.
+     */
+    public void start(){
+        CommentedConfigurationNode endpointNode = ConfigManager.getConfigNode("General", "Status-Endpoint");
+        if(running || !endpointNode.getNode("Enabled").getBoolean(false)){
+            return;
+        }
+        int port = endpointNode.getNode("Port").getInt(8765);
+        try{
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 16);
+        }
+        catch(IOException e){
+            PixelHunt.getLogger().error("PixelHunt could not start its status endpoint on port " + port + ".", e);
+            return;
+        }
+        server.createContext("/boards", (exchange) -> serve(exchange, boardsDocument));
+        server.createContext("/metrics", (exchange) -> serve(exchange, metricsDocument));
+        server.setExecutor(PixelHunt.getExecutors()
+                .createPool("status", 1, 64, BackPressurePolicy.CALLER_RUNS, false));
+        server.start();
+
+        running = true;
+        PixelHunt.getTickScheduler().submit(WorkPriority.LOW, this::tick);
+        PixelHunt.getLogger().info("PixelHunt status endpoint listening on localhost:{}.", port);
+    }
+
+    /**
+     * Stops the endpoint, closing any open connections.
+     */
+    public void stop(){
+        running = false;
+        if(server != null){
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    /**
+     * Sends a document in response to a request, or 304 Not Modified if the client already has it.
+     *
+     * @param exchange the request and response
+     * @param document the document to send, or null if none has been published yet
+     * @throws IOException if the response could not be sent
+     */
+    private void serve(HttpExchange exchange, StatusDocument document) throws IOException {
+        try{
+            String method = exchange.getRequestMethod();
+            if(!method.equals("GET") && !method.equals("HEAD")){
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            if(document == null){
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("ETag", document.getEntityTag());
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            if(document.matches(exchange.getRequestHeaders().getFirst("If-None-Match"))){
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            if(method.equals("HEAD")){
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, document.getBody().length);
+            exchange.getResponseBody().write(document.getBody());
+        }
+        finally{
+            exchange.close();
+        }
+    }
+
+    /**
+     * Publishes new documents if the boards or metrics have changed, then schedules itself again.
+     */
+    private void tick(){
+        if(!running){
+            return;
+        }
+        try{
+            if(haveBoardsChanged()){
+                publishBoards();
+            }
+            long now = System.nanoTime();
+            if(now - nextMetricsNanos >= 0){
+                nextMetricsNanos = now + TimeUnit.MILLISECONDS.toNanos(METRICS_MILLIS);
+                publishMetrics();
+            }
+        }
+        catch(IOException e){
+            PixelHunt.getLogger().error("PixelHunt could not serialize its status.", e);
+        }
+        PixelHunt.getTickScheduler().schedule(WorkPriority.LOW, BOARD_CHECK_MILLIS, TimeUnit.MILLISECONDS, this::tick);
+    }
+
+    /**
+     * Checks if any board has changed since the boards document was published, or boards were added or removed.
+     *
+     * @return true if the boards document needs to be published again, false if it is up to date
+     */
+    private boolean haveBoardsChanged(){
+        visitedBoards = 0;
+        boardsChanged = (boardsDocument == null);
+        PixelHunt.getHuntAPI().getHuntBoardRegistry().forEachHuntBoard((huntBoard) -> {
+            if(visitedBoards >= publishedSnapshots.length || publishedSnapshots[visitedBoards] != huntBoard.getSnapshot()){
+                boardsChanged = true;
+            }
+            visitedBoards++;
+        });
+        return boardsChanged || visitedBoards != publishedSnapshots.length;
+    }
+
+    /**
+     * Serializes every board and publishes it as the boards document.
+     *
+     * @throws IOException if the boards could not be serialized
+     */
+    private void publishBoards() throws IOException {
+        List<HuntBoard> boards = new ArrayList<>();
+        PixelHunt.getHuntAPI().getHuntBoardRegistry().forEachHuntBoard(boards::add);
+        HuntBoardSnapshot[] snapshots = new HuntBoardSnapshot[boards.size()];
+
+        buffer.reset();
+        JsonWriter writer = new JsonWriter(new OutputStreamWriter(buffer, StandardCharsets.UTF_8));
+        writer.beginObject();
+        writer.name("boards").beginArray();
+        for(int i = 0; i < boards.size(); i++){
+            HuntBoard huntBoard = boards.get(i);
+            snapshots[i] = huntBoard.getSnapshot();
+            writeBoard(writer, huntBoard, snapshots[i]);
+        }
+        writer.endArray();
+        writer.endObject();
+        writer.close();
+
+        publishedSnapshots = snapshots;
+        boardsDocument = new StatusDocument(buffer.toByteArray(), nextEntityTag());
+    }
+
+    /**
+     * Writes a board and its active hunts.
+     *
+     * @param writer    the writer to write to
+     * @param huntBoard the board
+     * @param snapshot  the snapshot of the board to take hunts from
+     * @throws IOException if the board could not be written
+     */
+    private void writeBoard(JsonWriter writer, HuntBoard huntBoard, HuntBoardSnapshot snapshot) throws IOException {
+        writer.beginObject();
+        writer.name("name").value(snapshot.getHuntBoardName());
+        Optional<String> worldScope = huntBoard.getWorldScope();
+        writer.name("world");
+        if(worldScope.isPresent()){
+            writer.value(worldScope.get());
+        }
+        else{
+            writer.nullValue();
+        }
+        writer.name("version").value(snapshot.getVersion());
+        writer.name("slots").value(snapshot.getNumSlots());
+        writer.name("sharedCompletion").value(huntBoard.isSharedCompletion());
+        boolean suspended = huntBoard instanceof BaseHuntBoard && ((BaseHuntBoard) huntBoard).isSuspended();
+        writer.name("suspended").value(suspended);
+        writer.name("hunts").beginArray();
+        for(int slot = 0; slot < snapshot.getNumSlots(); slot++){
+            Optional<Hunt> maybeHunt = snapshot.getHunt(slot);
+            if(!maybeHunt.isPresent()){
+                continue;
+            }
+            Hunt hunt = maybeHunt.get();
+            writer.beginObject();
+            writer.name("slot").value(slot);
+            writer.name("species").value(hunt.getHuntedSpecies().getPokemonName());
+            writer.name("natures").beginArray();
+            for(EnumNature nature : hunt.getHuntedNaturesView()){
+                writer.value(nature.name());
+            }
+            writer.endArray();
+            writer.name("rewards").beginArray();
+            for(Reward reward : hunt.getRewardsView()){
+                writer.value(TextSerializers.FORMATTING_CODE.stripCodes(reward.getDescription()));
+            }
+            writer.endArray();
+            writer.name("startTime").value(snapshot.getStartTime(slot).map((time) -> time.toEpochMilli()).orElse(0L));
+            writer.name("expiryTime");
+            if(suspended){
+                writer.nullValue();
+            }
+            else{
+                writer.value(snapshot.getExpiryMillis(slot));
+            }
+            writer.endObject();
+        }
+        writer.endArray();
+        writer.endObject();
+    }
+
+    /**
+     * Gathers and serializes metrics, publishing them as the metrics document if they differ from the last.
+     *
+     * @throws IOException if the metrics could not be serialized
+     */
+    private void publishMetrics() throws IOException {
+        buffer.reset();
+        JsonWriter writer = new JsonWriter(new OutputStreamWriter(buffer, StandardCharsets.UTF_8));
+        writer.beginObject();
+        writer.name("ticksPerSecond").value(Math.round(Sponge.getServer().getTicksPerSecond() * 100) / 100.0);
+        writer.name("onlinePlayers").value(Sponge.getServer().getOnlinePlayers().size());
+        writer.name("idle").value(PixelHunt.getIdleMonitor().isIdle());
+        writer.name("schedulerBacklog").value(PixelHunt.getTickScheduler().getBacklog());
+        writer.name("schedulerDelayed").value(PixelHunt.getTickScheduler().getDelayedCount());
+        writer.name("rewards").beginArray();
+        for(RewardBulkhead bulkhead : PixelHunt.getRewardExecutor().getBulkheads()){
+            writer.beginObject();
+            writer.name("provider").value(bulkhead.getProviderId());
+            writer.name("successes").value(bulkhead.getSuccesses());
+            writer.name("failures").value(bulkhead.getFailures());
+            writer.name("rejections").value(bulkhead.getRejections());
+            writer.endObject();
+        }
+        writer.endArray();
+        writer.endObject();
+        writer.close();
+
+        byte[] body = buffer.toByteArray();
+        StatusDocument current = metricsDocument;
+        if(current == null || !Arrays.equals(current.getBody(), body)){
+            metricsDocument = new StatusDocument(body, nextEntityTag());
+        }
+    }
+
+    /**
+     * Gets a new entity tag, unique to this server start.
+     *
+     * @return a new quoted entity tag
+     */
+    private String nextEntityTag(){
+        return "\"" + tagPrefix + "-" + (++generation) + "\"";
+    }
+
+}
@@ -0,0 +1,166 @@
+package jw.landon.pixelhunt.implementation.loadtest;
+
+import ninja.leaping.configurate.commented.CommentedConfigurationNode;
+
+/**
+ * The shape of the load generated by a {@link LoadTest}, read from the {@code Key=Value} arguments the harness
+ * is run with. Every key is optional, and falls back to a default when it is missing.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class LoadProfile {
+
+    /** The number of ticks to simulate. */
+    private int ticks;
+    /** The number of players capturing Pokemon. */
+    private int players;
+    /** The number of boards captures are checked against. */
+    private int boards;
+    /** The number of slots on each board. */
+    private int slots;
+    /** The duration of each hunt, in minutes of simulated time. */
+    private long huntDurationMinutes;
+    /** If hunts on the boards can be completed by every player. */
+    private boolean sharedCompletion;
+    /** The mean number of captures each tick, with arrivals following a Poisson distribution. */
+    private double capturesPerTick;
+    /** The chance a capture is of a species with an active hunt, rather than a random species. */
+    private double huntedSpeciesRate;
+    /** The chance a capture of a hunted species has one of the hunt's natures, rather than a random nature. */
+    private double huntedNatureRate;
+    /** The tick time the 99th percentile must stay under for the test to pass, in milliseconds. */
+    private double tickBudgetMillis;
+    /** The seed for random captures, or 0 for a random seed. */
+    private long seed;
+
+    /**
+     * Constructor for the load profile, loading it from a configuration node.
+     *
+     * @param loadTestNode the node holding the profile's settings
+     * @param defaultSlots the number of slots to use if none are set
+     */
+    public LoadProfile(CommentedConfigurationNode loadTestNode, int defaultSlots){
+        ticks = Math.max(1, loadTestNode.getNode("Ticks").getInt(1200));
+        players = Math.max(1, loadTestNode.getNode("Players").getInt(300));
+        boards = Math.max(1, loadTestNode.getNode("Boards").getInt(1));
+        slots = Math.max(1, loadTestNode.getNode("Slots").getInt(defaultSlots));
+        huntDurationMinutes = Math.max(1, loadTestNode.getNode("Hunt-Duration-Minutes").getLong(1));
+        sharedCompletion = loadTestNode.getNode("Shared-Completion").getBoolean(true);
+        capturesPerTick = Math.max(0, loadTestNode.getNode("Captures-Per-Tick").getDouble(15));
+        huntedSpeciesRate = clamp(loadTestNode.getNode("Hunted-Species-Rate").getDouble(0.3));
+        huntedNatureRate = clamp(loadTestNode.getNode("Hunted-Nature-Rate").getDouble(0.5));
+        tickBudgetMillis = Math.max(0, loadTestNode.getNode("Tick-Budget-Millis").getDouble(5));
+        seed = loadTestNode.getNode("Seed").getLong(0);
+    }
+
+    /**
+     * Clamps a rate between 0 and 1.
+     *
+     * @param rate the rate to clamp
+     * @return the rate clamped between 0 and 1
+     */
+    private static double clamp(double rate){
+        return Math.max(0, Math.min(1, rate));
+    }
+
+    /**
+     * Gets the number of ticks to simulate.
+     *
+     * @return the number of ticks to simulate
+     */
+    public int getTicks(){
+        return ticks;
+    }
+
+    /**
+     * Gets the number of players capturing Pokemon.
+     *
+     * @return the number of players capturing Pokemon
+     */
+    public int getPlayers(){
+        return players;
+    }
+
+    /**
+     * Gets the number of boards captures are checked against.
+     *
+     * @return the number of boards captures are checked against
+     */
+    public int getBoards(){
+        return boards;
+    }
+
+    /**
+     * Gets the number of slots on each board.
+     *
+     * @return the number of slots on each board
+     */
+    public int getSlots(){
+        return slots;
+    }
+
+    /**
+     * Gets the duration of each hunt.
+     *
+     * @return the duration of each hunt, in minutes of simulated time
+     */
+    public long getHuntDurationMinutes(){
+        return huntDurationMinutes;
+    }
+
+    /**
+     * Checks if hunts on the boards can be completed by every player.
+     *
+     * @return true if hunts can be completed by every player, false if they are removed on first completion
+     */
+    public boolean isSharedCompletion(){
+        return sharedCompletion;
+    }
+
+    /**
+     * Gets the mean number of captures each tick.
+     *
+     * @return the mean number of captures each tick
+     */
+    public double getCapturesPerTick(){
+        return capturesPerTick;
+    }
+
+    /**
+     * Gets the chance a capture is of a species with an active hunt.
+     *
+     * @return the chance a capture is of a species with an active hunt, between 0 and 1
+     */
+    public double getHuntedSpeciesRate(){
+        return huntedSpeciesRate;
+    }
+
+    /**
+     * Gets the chance a capture of a hunted species has one of the hunt's natures.
+     *
+     * @return the chance a capture of a hunted species has one of the hunt's natures, between 0 and 1
+     */
+    public double getHuntedNatureRate(){
+        return huntedNatureRate;
+    }
+
+    /**
+     * Gets the tick time the 99th percentile must stay under for the test to pass.
+     *
+     * @return the tick time budget, in milliseconds
+     */
+    public double getTickBudgetMillis(){
+        return tickBudgetMillis;
+    }
+
+    /**
+     * Gets the seed for random captures.
+     *
+     * @return the seed for random captures, or 0 for a random seed
+     */
+    public long getSeed(){
+        return seed;
+    }
+
+}
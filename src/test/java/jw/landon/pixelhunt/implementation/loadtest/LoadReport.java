@@ -0,0 +1,126 @@
+package jw.landon.pixelhunt.implementation.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * The result of a {@link LoadTest}: the latency and allocation of each simulated tick, the hunts completed,
+ * and the rewards paid out to the stand-in players.
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class LoadReport {
+
+    /** The time spent on each simulated tick, in nanoseconds, sorted. */
+    private final long[] sortedTickNanos;
+    /** The total bytes allocated across every simulated tick, or -1 if the JVM can't measure allocation. */
+    private final long allocatedBytes;
+    /** The number of captures generated. */
+    private final long captures;
+    /** The number of hunts completed. */
+    private final int completions;
+    /** The rewards paid out. */
+    private final RewardLedger ledger;
+    /** The tick time the 99th percentile must stay under for the test to pass, in nanoseconds. */
+    private final long budgetNanos;
+
+    /**
+     * Constructor for the load report.
+     *
+     * @param tickNanos      the time spent on each simulated tick, in nanoseconds
+     * @param allocatedBytes the total bytes allocated, or -1 if the JVM can't measure allocation
+     * @param captures       the number of captures generated
+     * @param completions    the number of hunts completed
+     * @param ledger         the rewards paid out
+     * @param budgetNanos    the tick time the 99th percentile must stay under, in nanoseconds
+     */
+    LoadReport(long[] tickNanos, long allocatedBytes, long captures, int completions, RewardLedger ledger,
+               long budgetNanos){
+        this.sortedTickNanos = tickNanos.clone();
+        Arrays.sort(sortedTickNanos);
+        this.allocatedBytes = allocatedBytes;
+        this.captures = captures;
+        this.completions = completions;
+        this.ledger = ledger;
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * Gets a percentile of the time spent on each simulated tick.
+     *
+     * @param percentile the percentile to get, between 0 and 100
+     * @return the time spent on a tick at the percentile, in nanoseconds
+     */
+    public long getPercentileNanos(double percentile){
+        if(sortedTickNanos.length == 0){
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sortedTickNanos.length) - 1;
+        return sortedTickNanos[Math.max(0, Math.min(sortedTickNanos.length - 1, index))];
+    }
+
+    /**
+     * Gets the number of simulated ticks.
+     *
+     * @return the number of simulated ticks
+     */
+    public int getTicks(){
+        return sortedTickNanos.length;
+    }
+
+    /**
+     * Gets the mean number of bytes allocated each simulated tick.
+     *
+     * @return the mean number of bytes allocated each tick, or -1 if the JVM can't measure allocation
+     */
+    public long getAllocatedBytesPerTick(){
+        return (allocatedBytes < 0 || sortedTickNanos.length == 0) ? -1 : allocatedBytes / sortedTickNanos.length;
+    }
+
+    /**
+     * Gets the number of captures generated.
+     *
+     * @return the number of captures generated
+     */
+    public long getCaptures(){
+        return captures;
+    }
+
+    /**
+     * Gets the number of hunts completed.
+     *
+     * @return the number of hunts completed
+     */
+    public int getCompletions(){
+        return completions;
+    }
+
+    /**
+     * Gets the quantity of each item given.
+     *
+     * @return the quantity of each item given, by item ID
+     */
+    public Map<String, Long> getItems(){
+        return ledger.getItems();
+    }
+
+    /**
+     * Gets the amount of each currency deposited.
+     *
+     * @return the amount of each currency deposited, by currency ID
+     */
+    public Map<String, Double> getCurrencies(){
+        return ledger.getCurrencies();
+    }
+
+    /**
+     * Checks if the 99th percentile tick time stayed within the budget.
+     *
+     * @return true if the 99th percentile tick time stayed within the budget, false if it didn't
+     */
+    public boolean isWithinBudget(){
+        return getPercentileNanos(99) <= budgetNanos;
+    }
+
+}
@@ -0,0 +1,546 @@
+package jw.landon.pixelhunt.implementation.loadtest;
+
+import com.pixelmonmod.pixelmon.enums.EnumNature;
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import jw.landon.pixelhunt.PixelHunt;
+import jw.landon.pixelhunt.api.hunts.CompletionSource;
+import jw.landon.pixelhunt.api.hunts.Hunt;
+import jw.landon.pixelhunt.api.hunts.HuntBoard;
+import jw.landon.pixelhunt.api.hunts.rewards.CurrencyReward;
+import jw.landon.pixelhunt.api.hunts.rewards.ItemReward;
+import jw.landon.pixelhunt.implementation.audit.AuditLog;
+import jw.landon.pixelhunt.implementation.completion.CompletionCounter;
+import jw.landon.pixelhunt.implementation.completion.CompletionDispatcher;
+import jw.landon.pixelhunt.implementation.config.ConfigManager;
+import jw.landon.pixelhunt.implementation.events.HuntEvents;
+import jw.landon.pixelhunt.implementation.executors.ManagedExecutors;
+import jw.landon.pixelhunt.implementation.hunts.BaseHunt;
+import jw.landon.pixelhunt.implementation.hunts.BaseHuntBoard;
+import jw.landon.pixelhunt.implementation.hunts.BaseHuntBoardRegistry;
+import jw.landon.pixelhunt.implementation.hunts.HuntGenerator;
+import jw.landon.pixelhunt.implementation.permissions.EligibilityCache;
+import jw.landon.pixelhunt.implementation.rewards.EconomyCache;
+import jw.landon.pixelhunt.implementation.rewards.RewardExecutor;
+import jw.landon.pixelhunt.implementation.scheduling.TickScheduler;
+import jw.landon.pixelhunt.implementation.scheduling.VirtualClock;
+import ninja.leaping.configurate.commented.CommentedConfigurationNode;
+import ninja.leaping.configurate.commented.SimpleCommentedConfigurationNode;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.item.ItemType;
+import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.api.item.inventory.ItemStack;
+import org.spongepowered.api.item.inventory.ItemStackSnapshot;
+import org.spongepowered.api.item.inventory.transaction.InventoryTransactionResult;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.service.economy.Currency;
+import org.spongepowered.api.service.economy.EconomyService;
+import org.spongepowered.api.service.economy.account.UniqueAccount;
+import org.spongepowered.api.service.economy.transaction.ResultType;
+import org.spongepowered.api.service.economy.transaction.TransactionResult;
+import org.spongepowered.api.world.World;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Offline harness generating a storm of captures against hunt boards, to measure the cost of captures on a tick
+ * without a server.
+ *
+ * <p>Captures are passed to a real {@link CompletionDispatcher}, which completes hunts, writes to a real
+ * {@link AuditLog} in a temporary directory, and pays rewards through a real {@link RewardExecutor}. Players,
+ * their world and inventory, and the economy service are {@link Stubs stand-ins}, which tally the rewards paid
+ * to them in a {@link RewardLedger}. Boards run on their own {@link TickScheduler} timed by a
+ * {@link VirtualClock}, so hunts expire and are refilled in simulated time.</p>
+ *
+ * <p>Each simulated tick advances the virtual clock by a tick, runs expiries and refills that are due, and
+ * refreshes the dispatcher as its own tick would on a server, then generates captures for the tick. Captures take
+ * the same path through {@link CompletionDispatcher#dispatch} as the capture listener's. The time and memory
+ * allocated for each simulated tick are recorded for the report. Players are drawn from a fixed pool, so the plugin's per-player state only grows to the pool's size.</p>
+ *
+ * <p>Run with the loadTest Gradle task, giving the profile as {@code Key=Value} arguments, such as
+ * {@code gradlew loadTest -PloadTestArgs="Ticks=1200 Players=300"}. The process exits with status 1 if the
+ * 99th percentile tick time is over the budget.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+public class LoadTest {
+
+    /** The length of a tick, in milliseconds. */
+    private static final long TICK_MILLIS = 50;
+    /** The mean number of captures above which arrivals are drawn from a normal approximation. */
+    private static final double POISSON_LIMIT = 30;
+    /** The thread bean used to measure allocation. */
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    /** The shape of the load to generate. */
+    private LoadProfile profile;
+    /** The clock the boards are timed with. */
+    private VirtualClock clock;
+    /** The scheduler running expiry and refilling for the boards. */
+    private TickScheduler scheduler;
+    /** The registry of boards captures are checked against. */
+    private BaseHuntBoardRegistry registry = new BaseHuntBoardRegistry();
+    /** The dispatcher completing hunts from captures. */
+    private CompletionDispatcher dispatcher = new CompletionDispatcher(registry);
+    /** The executors running rewards and audit writes, shut down once the test finishes. */
+    private ManagedExecutors executors;
+    /** The audit log completions and payouts are written to. */
+    private AuditLog auditLog;
+    /** The temporary directory the audit log is written to. */
+    private Path auditDir;
+    /** The boards captures are checked against. */
+    private HuntBoard[] boards;
+    /** The world every player is in. */
+    private World world;
+    /** The players capturing Pokemon. */
+    private Player[] players;
+    /** Every species, cached as values() copies the array. */
+    private EnumSpecies[] allSpecies = EnumSpecies.values();
+    /** Every nature, cached as values() copies the array. */
+    private EnumNature[] allNatures = EnumNature.values();
+    /** The random source for captures. */
+    private Random random;
+    /** The tallied rewards. */
+    private RewardLedger ledger = new RewardLedger();
+    /** The time spent on each simulated tick, in nanoseconds. */
+    private long[] tickNanos;
+    /** The total bytes allocated across every simulated tick, or -1 if the JVM can't measure allocation. */
+    private long allocatedBytes;
+    /** The number of captures generated. */
+    private long captures;
+    /** The number of ticks simulated so far. */
+    private int tick;
+    /** If the test is running. */
+    private boolean running;
+
+    /**
+     * Runs a load test with the profile given as {@code Key=Value} arguments, and prints the report.
+     *
+     * @param args the settings of the profile, such as {@code Ticks=1200}
+     * @throws IOException if the audit log's directory could not be created
+     */
+    public static void main(String[] args) throws IOException {
+        CommentedConfigurationNode profileNode = SimpleCommentedConfigurationNode.root();
+        for(String arg : args){
+            int separator = arg.indexOf('=');
+            if(separator == -1){
+                throw new IllegalArgumentException("arguments must be given as Key=Value: " + arg);
+            }
+            profileNode.getNode(arg.substring(0, separator)).setValue(arg.substring(separator + 1));
+        }
+
+        LoadReport report = new LoadTest(new LoadProfile(profileNode, 4)).run();
+        printReport(report);
+        System.exit(report.isWithinBudget() ? 0 : 1);
+    }
+
+    /**
+     * Constructor for the load test.
+     *
+     * @param profile the shape of the load to generate
+     * @throws NullPointerException if the profile is null
+     */
+    public LoadTest(LoadProfile profile){
+        this.profile = Objects.requireNonNull(profile, "profile must not be null");
+        this.random = (profile.getSeed() != 0) ? new Random(profile.getSeed()) : new Random();
+        this.tickNanos = new long[profile.getTicks()];
+        this.allocatedBytes = isAllocationMeasurable() ? 0 : -1;
+    }
+
+    /**
+     * Installs the stand-ins, creates the boards and players, then simulates every tick of the profile.
+     * If a tick throws, the test finishes early with the ticks run so far.
+     *
+     * @return the report of the test
+     * @throws IOException           if the audit log's directory could not be created
+     * @throws IllegalStateException if the test is already running
+     */
+    public LoadReport run() throws IOException {
+        if(running){
+            throw new IllegalStateException("load test is already running");
+        }
+        running = true;
+        try{
+            install();
+            createBoards();
+            createPlayers();
+            for(; tick < tickNanos.length; tick++){
+                try{
+                    simulateTick();
+                }
+                catch(RuntimeException e){
+                    PixelHunt.getLogger().error("PixelHunt load test stopped after " + tick + " ticks.", e);
+                    break;
+                }
+            }
+        }
+        finally{
+            running = false;
+            uninstall();
+        }
+        return new LoadReport(Arrays.copyOf(tickNanos, tick), allocatedBytes, captures, countCompletions(), ledger,
+                (long) (profile.getTickBudgetMillis() * TimeUnit.MILLISECONDS.toNanos(1)));
+    }
+
+    /**
+     * Installs configuration, the plugin's services and the stand-ins for Sponge into the static fields
+     * the plugin reads them from.
+     *
+     * @throws IOException if the audit log's directory could not be created
+     */
+    private void install() throws IOException {
+        Stubs.setStatic(ConfigManager.class, "configNode", createConfig());
+        PluginContainer container = Stubs.stub(PluginContainer.class, Stubs.answers().on("getId", (args) -> PixelHunt.PLUGIN_ID));
+        Stubs.setStatic(PixelHunt.class, "container", container);
+        CauseStackManager.StackFrame frame = Stubs.stub(CauseStackManager.StackFrame.class);
+        CauseStackManager causeStackManager = Stubs.stub(CauseStackManager.class,
+                Stubs.answers().on("pushCauseFrame", (args) -> frame));
+        if(Stubs.setStatics(Sponge.class, CauseStackManager.class, causeStackManager) == 0){
+            throw new IllegalStateException("could not install a cause stack manager into Sponge");
+        }
+
+        clock = new VirtualClock(System.currentTimeMillis());
+        scheduler = new TickScheduler(1, TimeUnit.MILLISECONDS, clock);
+        executors = new ManagedExecutors();
+        auditDir = Files.createTempDirectory("pixelhunt-loadtest");
+        auditLog = new AuditLog(auditDir);
+        Stubs.setStatic(PixelHunt.class, "executors", executors);
+        Stubs.setStatic(PixelHunt.class, "tickScheduler", scheduler);
+        Stubs.setStatic(PixelHunt.class, "auditLog", auditLog);
+        Stubs.setStatic(PixelHunt.class, "eligibilityCache", new EligibilityCache());
+        Stubs.setStatic(PixelHunt.class, "huntEvents", new HuntEvents());
+        Stubs.setStatic(PixelHunt.class, "rewardExecutor", new RewardExecutor());
+        auditLog.open();
+
+        EconomyService economyService = createEconomyService();
+        EconomyCache economyCache = new EconomyCache();
+        economyCache.setEconomyService(economyService);
+        Stubs.setStatic(PixelHunt.class, "economyService", economyService);
+        Stubs.setStatic(PixelHunt.class, "economyCache", economyCache);
+    }
+
+    /**
+     * Waits for rewards still being paid out, then closes the audit log and deletes its directory.
+     */
+    private void uninstall(){
+        if(executors != null){
+            executors.shutdown();
+        }
+        if(auditLog != null){
+            auditLog.close();
+        }
+        if(auditDir != null){
+            try{
+                Files.walk(auditDir).sorted(Comparator.reverseOrder()).forEach((path) -> path.toFile().delete());
+            }
+            catch(IOException e){
+                PixelHunt.getLogger().warn("PixelHunt load test could not delete {}.", auditDir);
+            }
+        }
+    }
+
+    /**
+     * Creates the configuration the plugin's services are read from. Hunt events are only posted to tracked
+     * listeners, of which there are none, so nothing is posted to Sponge's event manager.
+     *
+     * @return the configuration
+     */
+    private CommentedConfigurationNode createConfig(){
+        CommentedConfigurationNode config = SimpleCommentedConfigurationNode.root();
+        config.getNode("General", "Hunt-Duration-Minutes").setValue(profile.getHuntDurationMinutes());
+        config.getNode("General", "Events", "Only-Tracked-Listeners").setValue(true);
+        return config;
+    }
+
+    /**
+     * Creates a stand-in economy service, whose accounts tally deposits in the ledger.
+     *
+     * @return the economy service
+     */
+    private EconomyService createEconomyService(){
+        Currency currency = Stubs.stub(Currency.class, Stubs.answers()
+                .on("getId", (args) -> "loadtest:coin")
+                .on("getName", (args) -> "Coin"));
+        TransactionResult success = Stubs.stub(TransactionResult.class, Stubs.answers().on("getResult", (args) -> ResultType.SUCCESS));
+        Map<UUID, UniqueAccount> accounts = new ConcurrentHashMap<>();
+        Function<UUID, UniqueAccount> createAccount = (uuid) -> Stubs.stub(UniqueAccount.class, Stubs.answers()
+                .on("getUniqueId", (args) -> uuid)
+                .on("deposit", (args) -> {
+                    ledger.recordDeposit(((Currency) args[0]).getId(), ((BigDecimal) args[1]).doubleValue());
+                    return success;
+                }));
+        return Stubs.stub(EconomyService.class, Stubs.answers()
+                .on("getDefaultCurrency", (args) -> currency)
+                .on("getCurrencies", (args) -> Collections.singleton(currency))
+                .on("getOrCreateAccount", (args) -> Optional.of(accounts.computeIfAbsent((UUID) args[0], createAccount))));
+    }
+
+    /**
+     * Creates the boards, each filled by a generator rolling a currency and an item reward for every hunt.
+     */
+    private void createBoards(){
+        world = Stubs.stub(World.class, Stubs.answers()
+                .on("getUniqueId", (args) -> new UUID(0, 1))
+                .on("getName", (args) -> "world"));
+        registry.loadWorld(world);
+
+        HuntGenerator generator = new LoadTestGenerator(new Random(random.nextLong()),
+                PixelHunt.getEconomyService().get().getDefaultCurrency(), createItemTemplate());
+        boards = new HuntBoard[profile.getBoards()];
+        for(int i = 0; i < boards.length; i++){
+            BaseHuntBoard huntBoard = new BaseHuntBoard("Load Test " + (i + 1), profile.getSlots(),
+                    profile.isSharedCompletion(), scheduler);
+            huntBoard.setHuntGenerator(generator);
+            huntBoard.fillHunts();
+            registry.addHuntBoard(huntBoard);
+            boards[i] = huntBoard;
+        }
+    }
+
+    /**
+     * Creates a stand-in for the item given by item rewards, which stacks to 64.
+     *
+     * @return the item template
+     */
+    private ItemStackSnapshot createItemTemplate(){
+        ItemType itemType = Stubs.stub(ItemType.class, Stubs.answers()
+                .on("getId", (args) -> "loadtest:token")
+                .on("getMaxStackQuantity", (args) -> 64));
+        return Stubs.stub(ItemStackSnapshot.class, Stubs.answers()
+                .on("getType", (args) -> itemType)
+                .on("getQuantity", (args) -> 1)
+                .on("createStack", (args) -> {
+                    int[] quantity = {1};
+                    return Stubs.stub(ItemStack.class, Stubs.answers()
+                            .on("getType", (stackArgs) -> itemType)
+                            .on("getQuantity", (stackArgs) -> quantity[0])
+                            .on("setQuantity", (stackArgs) -> quantity[0] = (int) stackArgs[0]));
+                }));
+    }
+
+    /**
+     * Creates the fixed pool of players capturing Pokemon. Each player has a stable UUID, so repeated runs with
+     * the same seed see the same players, and an inventory that takes every item offered to it.
+     *
+     * @throws IllegalStateException if Sponge's player has no inventory accessor
+     */
+    private void createPlayers(){
+        Class<? extends Inventory> inventoryType;
+        try{
+            inventoryType = Player.class.getMethod("getInventory").getReturnType().asSubclass(Inventory.class);
+        }
+        catch(NoSuchMethodException e){
+            throw new IllegalStateException("player has no inventory", e);
+        }
+        Inventory inventory = Stubs.stub(inventoryType, Stubs.answers().on("offer", (args) -> {
+            ItemStack stack = (ItemStack) args[0];
+            ledger.recordItems(stack.getType().getId(), stack.getQuantity());
+            return InventoryTransactionResult.successNoTransactions();
+        }));
+
+        players = new Player[profile.getPlayers()];
+        for(int i = 0; i < players.length; i++){
+            UUID uuid = new UUID(0x10AD7E57L, i);
+            String name = "LoadTest" + i;
+            players[i] = Stubs.stub(Player.class, Stubs.answers()
+                    .on("getUniqueId", (args) -> uuid)
+                    .on("getName", (args) -> name)
+                    .on("getWorld", (args) -> world)
+                    .on("getInventory", (args) -> inventory)
+                    .on("hasPermission", (args) -> true));
+        }
+    }
+
+    /**
+     * Advances the virtual clock by a tick, runs due expiries and refills, and refreshes the dispatcher as its own
+     * tick would on a server, then generates the tick's captures, recording the time and memory spent.
+     */
+    private void simulateTick(){
+        long allocatedBefore = getAllocatedBytes();
+        long startTime = System.nanoTime();
+
+        clock.advance(TICK_MILLIS, TimeUnit.MILLISECONDS);
+        scheduler.runDueWork();
+        dispatcher.refresh();
+        int arrivals = nextArrivals();
+        for(int i = 0; i < arrivals; i++){
+            capture();
+        }
+
+        tickNanos[tick] = System.nanoTime() - startTime;
+        if(allocatedBytes >= 0){
+            allocatedBytes += getAllocatedBytes() - allocatedBefore;
+        }
+        captures += arrivals;
+    }
+
+    /**
+     * Generates a capture by a random player, following the profile's species and nature rates,
+     * and passes it to the dispatcher.
+     */
+    private void capture(){
+        Player player = players[random.nextInt(players.length)];
+        EnumSpecies species = allSpecies[random.nextInt(allSpecies.length)];
+        EnumNature nature = allNatures[random.nextInt(allNatures.length)];
+
+        if(random.nextDouble() < profile.getHuntedSpeciesRate()){
+            List<Hunt> activeHunts = boards[random.nextInt(boards.length)].getSnapshot().getActiveHunts();
+            if(!activeHunts.isEmpty()){
+                Hunt hunt = activeHunts.get(random.nextInt(activeHunts.size()));
+                species = hunt.getHuntedSpecies();
+                List<EnumNature> huntedNatures = hunt.getHuntedNaturesView();
+                if(!huntedNatures.isEmpty() && random.nextDouble() < profile.getHuntedNatureRate()){
+                    nature = huntedNatures.get(random.nextInt(huntedNatures.size()));
+                }
+            }
+        }
+
+        dispatcher.dispatch(CompletionSource.CAPTURE, player, species, nature);
+    }
+
+    /**
+     * Counts the hunts completed by every player in the pool.
+     *
+     * @return the number of hunts completed
+     */
+    private int countCompletions(){
+        int completions = 0;
+        if(players != null){
+            for(Player player : players){
+                completions += CompletionCounter.get(player.getUniqueId());
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * Draws the number of captures arriving this tick from a Poisson distribution with the profile's mean.
+     * Large means use a normal approximation.
+     *
+     * @return the number of captures arriving this tick
+     */
+    private int nextArrivals(){
+        double mean = profile.getCapturesPerTick();
+        if(mean > POISSON_LIMIT){
+            return (int) Math.max(0, Math.round(mean + Math.sqrt(mean) * random.nextGaussian()));
+        }
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        int arrivals = 0;
+        while(product > limit){
+            product *= random.nextDouble();
+            arrivals++;
+        }
+        return arrivals;
+    }
+
+    /**
+     * Checks if the JVM can measure the memory allocated by a thread.
+     *
+     * @return true if allocation can be measured, false if it can't
+     */
+    private static boolean isAllocationMeasurable(){
+        return THREADS instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) THREADS).isThreadAllocatedMemorySupported();
+    }
+
+    /**
+     * Gets the total memory allocated by the current thread.
+     *
+     * @return the total bytes allocated by the current thread, or 0 if it can't be measured
+     */
+    private long getAllocatedBytes(){
+        if(allocatedBytes < 0){
+            return 0;
+        }
+        return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Prints the report of a finished load test.
+     *
+     * @param report the report of the load test
+     */
+    private static void printReport(LoadReport report){
+        System.out.println("Load test " + (report.isWithinBudget() ? "passed" : "failed") + ": "
+                + report.getCaptures() + " captures, " + report.getCompletions() + " completions over "
+                + report.getTicks() + " ticks.");
+        System.out.println("Tick time p50 " + formatNanos(report.getPercentileNanos(50))
+                + " p90 " + formatNanos(report.getPercentileNanos(90))
+                + " p99 " + formatNanos(report.getPercentileNanos(99))
+                + " max " + formatNanos(report.getPercentileNanos(100)));
+        long allocated = report.getAllocatedBytesPerTick();
+        System.out.println("Allocated per tick: " + ((allocated >= 0) ? allocated + " bytes" : "not measurable"));
+        for(Map.Entry<String, Long> item : report.getItems().entrySet()){
+            System.out.println("Gave " + item.getValue() + " " + item.getKey());
+        }
+        for(Map.Entry<String, Double> currency : report.getCurrencies().entrySet()){
+            System.out.println("Deposited " + currency.getValue() + " " + currency.getKey());
+        }
+    }
+
+    /**
+     * Formats a duration in milliseconds with three decimal places.
+     *
+     * @param nanos the duration, in nanoseconds
+     * @return the formatted duration
+     */
+    private static String formatNanos(long nanos){
+        return String.format("%.3fms", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * Generates hunts of random species, rewarding a random amount of currency and a random number of items.
+     */
+    private static class LoadTestGenerator extends HuntGenerator {
+
+        /** The random source for hunts. */
+        private final Random random;
+        /** The currency given by currency rewards. */
+        private final Currency currency;
+        /** The item given by item rewards. */
+        private final ItemStackSnapshot itemTemplate;
+        /** Every species, cached as values() copies the array. */
+        private final EnumSpecies[] allSpecies = EnumSpecies.values();
+
+        /**
+         * Constructor for the load test generator.
+         *
+         * @param random       the random source for hunts
+         * @param currency     the currency given by currency rewards
+         * @param itemTemplate the item given by item rewards
+         */
+        private LoadTestGenerator(Random random, Currency currency, ItemStackSnapshot itemTemplate){
+            this.random = random;
+            this.currency = currency;
+            this.itemTemplate = itemTemplate;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Hunt generate(long duration, TimeUnit unit){
+            double amount = 100 + random.nextInt(900);
+            int quantity = 1 + random.nextInt(128);
+            return BaseHunt.builder()
+                    .setSpecies(allSpecies[random.nextInt(allSpecies.length)])
+                    .setRewards(new CurrencyReward(amount, currency, "&6" + amount + " coins"),
+                            new ItemReward(itemTemplate, quantity, "&b" + quantity + " tokens"))
+                    .setHuntDuration(duration, unit)
+                    .setCompletionSources(CompletionSource.CAPTURE)
+                    .build();
+        }
+
+    }
+
+}
@@ -0,0 +1,62 @@
+package jw.landon.pixelhunt.implementation.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tallies the rewards paid out to the stand-in players of a load test, as items are offered to their
+ * inventories and currency is deposited into their accounts.
+ *
+ * <p>Rewards are paid out on the server thread and on the reward executor's threads, so the ledger may be
+ * written from any thread.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+class RewardLedger {
+
+    /** The quantity of each item given, by item ID. */
+    private Map<String, Long> items = new ConcurrentHashMap<>();
+    /** The amount of each currency deposited, by currency ID. */
+    private Map<String, Double> currencies = new ConcurrentHashMap<>();
+
+    /**
+     * Tallies items offered to a player's inventory.
+     *
+     * @param itemId   the ID of the item
+     * @param quantity the quantity offered
+     */
+    void recordItems(String itemId, long quantity){
+        items.merge(itemId, quantity, Long::sum);
+    }
+
+    /**
+     * Tallies currency deposited into a player's account.
+     *
+     * @param currencyId the ID of the currency
+     * @param amount     the amount deposited
+     */
+    void recordDeposit(String currencyId, double amount){
+        currencies.merge(currencyId, amount, Double::sum);
+    }
+
+    /**
+     * Gets the quantity of each item given.
+     *
+     * @return the quantity of each item given, by item ID
+     */
+    Map<String, Long> getItems(){
+        return new TreeMap<>(items);
+    }
+
+    /**
+     * Gets the amount of each currency deposited.
+     *
+     * @return the amount of each currency deposited, by currency ID
+     */
+    Map<String, Double> getCurrencies(){
+        return new TreeMap<>(currencies);
+    }
+
+}
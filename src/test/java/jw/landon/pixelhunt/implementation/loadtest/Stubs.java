@@ -0,0 +1,192 @@
+package jw.landon.pixelhunt.implementation.loadtest;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Builds stand-ins for Sponge's interfaces, and installs them into static fields, so the load test can drive
+ * the plugin's real classes without a server.
+ *
+ * <p>A stub answers each method from the answers it was given by method name. Any other method answers
+ * with the stub itself if the stub is of the return type, as builders and cause frames do, or with an empty
+ * or zero value otherwise.</p>
+ *
+ * @author landonjw
+ * @since  2.0.0
+ */
+class Stubs {
+
+    /**
+     * Creates a stub of an interface.
+     *
+     * @param type    the interface to stub
+     * @param answers the answer of each method, by method name, called with the method's arguments
+     * @param <T>     the type of the interface
+     * @return the stub
+     */
+    static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers){
+        Object[] self = new Object[1];
+        self[0] = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if(answer != null){
+                return answer.apply((args != null) ? args : new Object[0]);
+            }
+            switch(method.getName()){
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return type.getSimpleName() + " stub";
+                default:
+                    return getDefaultAnswer(method.getReturnType(), self[0]);
+            }
+        });
+        return type.cast(self[0]);
+    }
+
+    /**
+     * Creates an empty set of answers, to be filled with {@link Answers#on}.
+     *
+     * @return the empty answers
+     */
+    static Answers answers(){
+        return new Answers();
+    }
+
+    /**
+     * Creates a stub of an interface that answers every method with a default value.
+     *
+     * @param type the interface to stub
+     * @param <T>  the type of the interface
+     * @return the stub
+     */
+    static <T> T stub(Class<T> type){
+        return stub(type, Collections.emptyMap());
+    }
+
+    /**
+     * Gets the answer for a method without an answer of its own.
+     *
+     * @param returnType the return type of the method
+     * @param self       the stub the method was called on
+     * @return the stub if it is of the return type, or an empty or zero value of the return type
+     */
+    private static Object getDefaultAnswer(Class<?> returnType, Object self){
+        if(returnType == void.class){
+            return null;
+        }
+        if(returnType.isInstance(self)){
+            return self;
+        }
+        if(returnType == boolean.class){
+            return false;
+        }
+        if(returnType == int.class){
+            return 0;
+        }
+        if(returnType == short.class){
+            return (short) 0;
+        }
+        if(returnType == byte.class){
+            return (byte) 0;
+        }
+        if(returnType == long.class){
+            return 0L;
+        }
+        if(returnType == double.class){
+            return 0D;
+        }
+        if(returnType == float.class){
+            return 0F;
+        }
+        if(returnType == char.class){
+            return '\0';
+        }
+        if(returnType == Optional.class){
+            return Optional.empty();
+        }
+        if(returnType == List.class || returnType == Collection.class){
+            return Collections.emptyList();
+        }
+        if(returnType == Set.class){
+            return Collections.emptySet();
+        }
+        if(returnType == Map.class){
+            return Collections.emptyMap();
+        }
+        if(returnType == String.class){
+            return "";
+        }
+        return null;
+    }
+
+    /**
+     * Sets a static field of a class, by name.
+     *
+     * @param owner the class declaring the field
+     * @param name  the name of the field
+     * @param value the value to set
+     * @throws IllegalStateException if the field can't be set
+     */
+    static void setStatic(Class<?> owner, String name, Object value){
+        try{
+            Field field = owner.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(null, value);
+        }
+        catch(ReflectiveOperationException e){
+            throw new IllegalStateException("could not set " + owner.getSimpleName() + "." + name, e);
+        }
+    }
+
+    /**
+     * Sets every static field of a class that holds a type, so a static getter returns the value whatever
+     * the field is named.
+     *
+     * @param owner the class declaring the fields
+     * @param type  the type of the fields to set
+     * @param value the value to set
+     * @return the number of fields set
+     * @throws IllegalStateException if a field can't be set
+     */
+    static int setStatics(Class<?> owner, Class<?> type, Object value){
+        int set = 0;
+        for(Field field : owner.getDeclaredFields()){
+            if(Modifier.isStatic(field.getModifiers()) && field.getType() == type){
+                setStatic(owner, field.getName(), value);
+                set++;
+            }
+        }
+        return set;
+    }
+
+    /**
+     * The answers of a stub's methods, by method name.
+     */
+    static class Answers extends HashMap<String, Function<Object[], Object>> {
+
+        /**
+         * Adds the answer of a method.
+         *
+         * @param methodName the name of the method
+         * @param answer     the answer of the method, called with the method's arguments
+         * @return the answers
+         */
+        Answers on(String methodName, Function<Object[], Object> answer){
+            put(methodName, answer);
+            return this;
+        }
+
+    }
+
+}